@@ -0,0 +1,93 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.common.HttpMethod;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AbstractMethod#applyAuth(RequestBuilder)} for each locally computed {@link AuthMethod},
+ * and building the form-encoded request from RequestBuilder parameters or a {@link FormBodyWriter}.
+ * Network auth is excluded since it exchanges tokens over HTTP. The request is form-encoded with
+ * typical SMS parameters so that query parameter and signature auth have realistic input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplyAuthBenchmark {
+
+    @Param({
+            "NoAuthMethod", "ApiKeyHeaderAuthMethod", "ApiKeyQueryParamsAuthMethod",
+            "SignatureAuthMethod", "JWTAuthMethod"
+    })
+    String authType;
+
+    DynamicEndpoint<Object, String> endpoint;
+
+    @Setup
+    public void setup() {
+        AuthMethod authMethod = OutboundFixtures.authMethodFor(authType);
+        endpoint = DynamicEndpoint.<Object, String> builder(String.class)
+                .wrapper(OutboundFixtures.wrapper(authMethod))
+                .requestMethod(HttpMethod.POST).urlFormEncodedContentType(true)
+                .authMethod(authMethod.getClass())
+                .pathGetter((de, req) -> de.getHttpWrapper().getHttpConfig().getRestBaseUri() + "/sms/json")
+                .build();
+    }
+
+    static RequestBuilder parameterisedRequest() {
+        return RequestBuilder.post(TestUtils.TEST_BASE_URI + "/sms/json")
+                .addParameter("from", OutboundFixtures.FROM)
+                .addParameter("to", OutboundFixtures.TO)
+                .addParameter("type", "text")
+                .addParameter("text", "Your verification code is 123456.")
+                .addParameter("client-ref", "campaign-2025-06-01");
+    }
+
+    @Benchmark
+    public RequestBuilder applyAuth() {
+        return endpoint.applyAuth(parameterisedRequest());
+    }
+
+    /**
+     * Auth parameters added to the RequestBuilder, which then encodes the body as a {@code UrlEncodedFormEntity}.
+     */
+    @Benchmark
+    public HttpUriRequest applyAuthAndBuildParameters() {
+        return endpoint.applyAuth(parameterisedRequest()).build();
+    }
+
+    /**
+     * Auth parameters added to a {@link FormBodyWriter}, which encodes the body directly.
+     */
+    @Benchmark
+    public HttpUriRequest applyAuthAndBuildFormBody() {
+        FormBodyWriter formBody = new FormBodyWriter()
+                .add("from", OutboundFixtures.FROM)
+                .add("to", OutboundFixtures.TO)
+                .add("type", "text")
+                .add("text", "Your verification code is 123456.")
+                .add("client-ref", "campaign-2025-06-01");
+        return endpoint.applyAuth(RequestBuilder.post(TestUtils.TEST_BASE_URI + "/sms/json"), formBody).build();
+    }
+}
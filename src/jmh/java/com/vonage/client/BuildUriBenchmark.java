@@ -0,0 +1,58 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.openjdk.jmh.annotations.*;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DynamicEndpoint#buildUri(String, Map)}, which is used for redirect URLs
+ * and GET requests with query parameters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildUriBenchmark {
+    Map<String, Object> params;
+
+    @Setup
+    public void setup() {
+        params = new LinkedHashMap<>();
+        params.put("status", "completed");
+        params.put("date_start", "2025-06-01T00:00:00Z");
+        params.put("date_end", "2025-06-02T00:00:00Z");
+        params.put("page_size", 100);
+        params.put("record_index", 200);
+        params.put("order", "asc");
+        params.put("conversation_uuid", "CON-f972836a-550f-45fa-956c-12a2ab5b7d22");
+    }
+
+    @Benchmark
+    public URI buildUriNoParams() {
+        return DynamicEndpoint.buildUri(TestUtils.TEST_BASE_URI + "/v1/calls", new LinkedHashMap<>());
+    }
+
+    @Benchmark
+    public URI buildUriWithParams() {
+        return DynamicEndpoint.buildUri(TestUtils.TEST_BASE_URI + "/v1/calls", params);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Jsonable#toJson()} for representative outbound request bodies.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonableBenchmark {
+
+    @Param({"SmsTextRequest", "WhatsappTemplateRequest", "Call", "Ncco"})
+    String requestType;
+
+    Jsonable jsonable;
+
+    @Setup
+    public void setup() {
+        jsonable = "Ncco".equals(requestType) ? OutboundFixtures.ivrNcco() :
+                (Jsonable) OutboundFixtures.requestFor(requestType);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return jsonable.toJson();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the outbound HTTP request for representative request types, both the endpoint's
+ * {@link DynamicEndpoint#makeRequest(Object)} alone and the full request including auth and headers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MakeRequestBenchmark {
+
+    @Param({"SmsTextRequest", "WhatsappTemplateRequest", "Call", "CreateSessionRequest"})
+    String requestType;
+
+    DynamicEndpoint<Object, ?> endpoint;
+    Object request;
+
+    @Setup
+    public void setup() {
+        endpoint = OutboundFixtures.endpointFor(requestType, OutboundFixtures.wrapper());
+        request = OutboundFixtures.requestFor(requestType);
+    }
+
+    @Benchmark
+    public RequestBuilder makeRequest() {
+        return endpoint.makeRequest(request);
+    }
+
+    @Benchmark
+    public HttpUriRequest createFullHttpRequest() {
+        return endpoint.createFullHttpRequest(request);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.messages.MessageRequest;
+import com.vonage.client.messages.MessageTemplate;
+import com.vonage.client.messages.PreparedMessage;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.messages.whatsapp.Locale;
+import com.vonage.client.messages.whatsapp.Policy;
+import com.vonage.client.messages.whatsapp.WhatsappTemplateRequest;
+import org.openjdk.jmh.annotations.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building and serialising a message per recipient with rendering a {@link MessageTemplate}.
+ * Both variants change the recipient, client reference and one personalised value on each invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTemplateBenchmark {
+
+    @Param({"SmsTextRequest", "WhatsappTemplateRequest"})
+    String requestType;
+
+    MessageTemplate template;
+    Map<String, String> parameters;
+    long recipient = 447700900000L;
+
+    @Setup
+    public void setup() throws Exception {
+        template = MessageTemplate.of(build(requestType, "{{name}}", OutboundFixtures.TO, "campaign"));
+        parameters = new HashMap<>();
+        parameters.put("name", "Alex");
+        String expected = build(requestType, "Alex", OutboundFixtures.TO, "ref").toJson();
+        String actual = template.prepare(OutboundFixtures.TO, "ref", parameters).toString();
+        ObjectMapper mapper = Jsonable.createDefaultObjectMapper();
+        if (!mapper.readTree(expected).equals(mapper.readTree(actual))) {
+            throw new IllegalStateException("Template did not render the same request as the builder.");
+        }
+    }
+
+    static MessageRequest build(String requestType, String name, String to, String clientRef) {
+        if ("SmsTextRequest".equals(requestType)) {
+            return SmsTextRequest.builder().from(OutboundFixtures.FROM).to(to)
+                    .text("Hi " + name + ", your verification code is 123456. It expires in 10 minutes.")
+                    .clientRef(clientRef).build();
+        }
+        return WhatsappTemplateRequest.builder().from(OutboundFixtures.FROM).to(to)
+                .name("appointment_reminder").locale(Locale.ENGLISH_UK).policy(Policy.DETERMINISTIC)
+                .parameters(Arrays.asList(name, "Tuesday 3rd June", "14:30", "Dr. Smith"))
+                .clientRef(clientRef).build();
+    }
+
+    @Benchmark
+    public String buildAndSerialise() {
+        String to = Long.toString(++recipient);
+        return build(requestType, "Alex", to, to).toJson();
+    }
+
+    @Benchmark
+    public PreparedMessage prepare() {
+        String to = Long.toString(++recipient);
+        return template.prepare(to, to, parameters);
+    }
+}
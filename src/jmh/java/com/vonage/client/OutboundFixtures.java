@@ -0,0 +1,153 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.auth.*;
+import com.vonage.client.auth.hashutils.HashType;
+import com.vonage.client.common.HttpMethod;
+import com.vonage.client.messages.MessageResponse;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.messages.whatsapp.Locale;
+import com.vonage.client.messages.whatsapp.Policy;
+import com.vonage.client.messages.whatsapp.WhatsappTemplateRequest;
+import com.vonage.client.video.ArchiveMode;
+import com.vonage.client.video.CreateSessionRequest;
+import com.vonage.client.video.CreateSessionResponse;
+import com.vonage.client.video.MediaMode;
+import com.vonage.client.voice.Call;
+import com.vonage.client.voice.CallEvent;
+import com.vonage.client.voice.PhoneEndpoint;
+import com.vonage.client.voice.TextToSpeechLanguage;
+import com.vonage.client.voice.ncco.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Representative outbound requests and endpoints shared by the request path benchmarks.
+ * The endpoints mirror the configuration of the corresponding client endpoints.
+ */
+final class OutboundFixtures {
+    static final String TO = "447700900000", FROM = "447700900001";
+
+    private OutboundFixtures() {}
+
+    static JWTAuthMethod jwtAuthMethod() {
+        try {
+            byte[] key = new TestUtils().loadKey("test/keys/application_key");
+            return new JWTAuthMethod(TestUtils.APPLICATION_ID_STR, key);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static HttpWrapper wrapper(AuthMethod... authMethods) {
+        return new HttpWrapper(TestUtils.TEST_HTTP_CONFIG, authMethods);
+    }
+
+    static HttpWrapper wrapper() {
+        return wrapper(jwtAuthMethod(), new ApiKeyHeaderAuthMethod(TestUtils.API_KEY, TestUtils.API_SECRET));
+    }
+
+    static SmsTextRequest smsText() {
+        return SmsTextRequest.builder().from(FROM).to(TO)
+                .text("Your verification code is 123456. It expires in 10 minutes.")
+                .clientRef("campaign-2025-06-01").build();
+    }
+
+    static WhatsappTemplateRequest whatsappTemplate() {
+        return WhatsappTemplateRequest.builder().from(FROM).to(TO)
+                .name("appointment_reminder").locale(Locale.ENGLISH_UK).policy(Policy.DETERMINISTIC)
+                .parameters(Arrays.asList("Alex", "Tuesday 3rd June", "14:30", "Dr. Smith"))
+                .clientRef("campaign-2025-06-01").build();
+    }
+
+    static Ncco ivrNcco() {
+        return new Ncco(
+                TalkAction.builder("Welcome to Vonage. Press 1 for sales or 2 for support.")
+                        .language(TextToSpeechLanguage.UNITED_KINGDOM_ENGLISH).style(2).premium(true).build(),
+                InputAction.builder()
+                        .dtmf(DtmfSettings.builder().maxDigits(1).timeOut(5).build())
+                        .speech(SpeechSettings.builder().context("sales", "support").maxDuration(10).build())
+                        .eventUrl("https://example.com/webhooks/input").build(),
+                RecordAction.builder().format(RecordingFormat.MP3).channels(2).beepStart(true)
+                        .eventUrl("https://example.com/webhooks/recording").build(),
+                ConnectAction.builder(com.vonage.client.voice.ncco.PhoneEndpoint.builder(TO).build())
+                        .from(FROM).limit(3600).build()
+        );
+    }
+
+    static Call call() {
+        return Call.builder().from(FROM).to(new PhoneEndpoint(TO))
+                .ncco(ivrNcco().getActions()).build();
+    }
+
+    static CreateSessionRequest createSession() {
+        return CreateSessionRequest.builder().mediaMode(MediaMode.ROUTED)
+                .archiveMode(ArchiveMode.ALWAYS).location("127.0.0.1").build();
+    }
+
+    static <T, R> DynamicEndpoint<T, R> jsonEndpoint(HttpWrapper wrapper, String path, Class<R> responseType,
+                                                     Class<? extends AuthMethod> primary,
+                                                     Class<? extends AuthMethod>... others) {
+        return DynamicEndpoint.<T, R> builder(responseType).wrapper(wrapper)
+                .requestMethod(HttpMethod.POST).authMethod(primary, others)
+                .pathGetter((de, req) -> de.getHttpWrapper().getHttpConfig().getApiBaseUri() + path)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static DynamicEndpoint<Object, ?> endpointFor(String requestType, HttpWrapper wrapper) {
+        switch (requestType) {
+            case "SmsTextRequest": case "WhatsappTemplateRequest":
+                return jsonEndpoint(wrapper, "/v1/messages", MessageResponse.class,
+                        JWTAuthMethod.class, ApiKeyHeaderAuthMethod.class
+                );
+            case "Call":
+                return jsonEndpoint(wrapper, "/v1/calls", CallEvent.class, JWTAuthMethod.class);
+            case "CreateSessionRequest":
+                return jsonEndpoint(wrapper, "/session/create", CreateSessionResponse[].class,
+                        JWTAuthMethod.class, ApiKeyHeaderAuthMethod.class
+                );
+            default:
+                throw new IllegalArgumentException(requestType);
+        }
+    }
+
+    static Object requestFor(String requestType) {
+        switch (requestType) {
+            case "SmsTextRequest": return smsText();
+            case "WhatsappTemplateRequest": return whatsappTemplate();
+            case "Call": return call();
+            case "CreateSessionRequest": return createSession();
+            default: throw new IllegalArgumentException(requestType);
+        }
+    }
+
+    static AuthMethod authMethodFor(String authType) {
+        switch (authType) {
+            case "NoAuthMethod": return new NoAuthMethod();
+            case "ApiKeyHeaderAuthMethod": return new ApiKeyHeaderAuthMethod(TestUtils.API_KEY, TestUtils.API_SECRET);
+            case "ApiKeyQueryParamsAuthMethod":
+                return new ApiKeyQueryParamsAuthMethod(TestUtils.API_KEY, TestUtils.API_SECRET);
+            case "SignatureAuthMethod":
+                return new SignatureAuthMethod(TestUtils.API_KEY, TestUtils.SIGNATURE_SECRET, HashType.HMAC_SHA256);
+            case "JWTAuthMethod": return jwtAuthMethod();
+            default: throw new IllegalArgumentException(authType);
+        }
+    }
+}
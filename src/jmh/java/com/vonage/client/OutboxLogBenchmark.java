@@ -0,0 +1,69 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures durably appending a serialised message to an {@link OutboxLog} and acknowledging it, from
+ * concurrent threads whose appends share a group-committed sync.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class OutboxLogBenchmark {
+
+    @Param({"true", "false"})
+    boolean fsync;
+
+    Path directory;
+    OutboxLog log;
+    byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("outbox-benchmark");
+        log = OutboxLog.builder(directory).fsync(fsync).build();
+        payload = OutboundFixtures.smsText().toJson().getBytes(StandardCharsets.UTF_8);
+        if (!log.acknowledge(log.append(null, payload), "ok") || log.getPendingCount() != 0) {
+            throw new IllegalStateException("Outbox log did not acknowledge the appended payload.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean appendAndAcknowledge() throws IOException {
+        return log.acknowledge(log.append(null, payload), "ok");
+    }
+}
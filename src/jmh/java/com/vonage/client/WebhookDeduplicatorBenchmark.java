@@ -0,0 +1,62 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures concurrent {@link WebhookDeduplicator} checks at a steady state where the filter is full and
+ * roughly half of the keys checked are redeliveries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class WebhookDeduplicatorBenchmark {
+    static final int KEYS = 200_000;
+
+    @Param({"exact", "probabilistic"})
+    String mode;
+
+    WebhookDeduplicator<String> dedup;
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        WebhookDeduplicator.Builder<String> builder = WebhookDeduplicator.<String> builder(Function.identity())
+                .maxEntries(KEYS / 2);
+        if ("probabilistic".equals(mode)) {
+            builder.falsePositiveRate(0.01);
+        }
+        dedup = builder.build();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = UUID.randomUUID() + "|delivered";
+        }
+    }
+
+    @Benchmark
+    public boolean isDuplicate() {
+        return dedup.isDuplicateKey(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+}
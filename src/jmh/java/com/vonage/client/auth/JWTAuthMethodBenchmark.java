@@ -0,0 +1,50 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.client.TestUtils;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures RS256 token generation by {@link JWTAuthMethod}, which happens on every JWT-authenticated request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JWTAuthMethodBenchmark {
+    JWTAuthMethod authMethod;
+
+    @Setup
+    public void setup() throws Exception {
+        authMethod = new JWTAuthMethod(TestUtils.APPLICATION_ID_STR,
+                new TestUtils().loadKey("test/keys/application_key")
+        );
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authMethod.generateToken();
+    }
+
+    @Benchmark
+    public String getHeaderValue() {
+        return authMethod.getHeaderValue();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.client.auth.hashutils.HashType;
+import org.openjdk.jmh.annotations.*;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RequestSignatureVerifier} with the static
+ * {@link RequestSigning#verifyRequestSignature(InputStream, String, Map, String)} for a typical
+ * inbound SMS webhook, sent both as form parameters and as a JSON body.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSignatureVerifierBenchmark {
+    private static final String SECRET = "ac3f8d3ba2c2e69fb1e0a6fde5c6af26";
+
+    @Param({"MD5", "HMAC_SHA256"})
+    HashType hashType;
+
+    long now;
+    Map<String, String[]> formParams;
+    byte[] jsonBody;
+    RequestSignatureVerifier verifier;
+
+    @Setup
+    public void setup() {
+        long timestamp = System.currentTimeMillis() / 1000;
+        now = timestamp * 1000;
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("msisdn", "447700900000");
+        params.put("to", "447700900001");
+        params.put("messageId", "0A0000000123ABCD1");
+        params.put("text", "Hello from Vonage! Reply STOP to opt out & save 20% = great deal");
+        params.put("type", "text");
+        params.put("keyword", "HELLO");
+        params.put("api-key", "a1b2c3d4");
+        params.put("message-timestamp", "2020-01-01 12:00:00");
+        params.putAll(RequestSigning.constructSignatureForRequestParameters(params, SECRET, timestamp, hashType));
+
+        formParams = new HashMap<>();
+        params.forEach((k, v) -> formParams.put(k, new String[]{v}));
+        StringBuilder json = new StringBuilder("{");
+        params.forEach((k, v) -> json.append('"').append(k).append("\":\"").append(v).append("\","));
+        json.setCharAt(json.length() - 1, '}');
+        jsonBody = json.toString().getBytes(StandardCharsets.UTF_8);
+        verifier = new RequestSignatureVerifier(SECRET, hashType);
+    }
+
+    @Benchmark
+    public boolean staticForm() {
+        return RequestSigning.verifyRequestSignature(null, null, formParams, SECRET, now, hashType);
+    }
+
+    @Benchmark
+    public boolean verifierForm() {
+        return verifier.verify(null, null, formParams, now);
+    }
+
+    @Benchmark
+    public boolean staticJson() {
+        return RequestSigning.verifyRequestSignature(RequestSigning.APPLICATION_JSON,
+                new ByteArrayInputStream(jsonBody), formParams, SECRET, now, hashType
+        );
+    }
+
+    @Benchmark
+    public boolean verifierJson() {
+        return verifier.verify(new ByteArrayInputStream(jsonBody), RequestSigning.APPLICATION_JSON, formParams, now);
+    }
+}
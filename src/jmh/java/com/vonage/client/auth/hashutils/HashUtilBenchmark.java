@@ -0,0 +1,54 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth.hashutils;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures signature hashing throughput for each {@link HashType}, as used by signed SMS requests
+ * and inbound webhook verification.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashUtilBenchmark {
+    private static final String SECRET = "ac3f8d3ba2c2e69fb1e0a6fde5c6af26";
+
+    @Param
+    HashType hashType;
+
+    String input;
+
+    @Setup
+    public void setup() {
+        input = "&api-key=a1b2c3d4&from=Vonage&text=Hello%20from%20Vonage&timestamp=1700000000&to=447700900000";
+    }
+
+    @Benchmark
+    public String calculateWithSecret() throws Exception {
+        return HashUtil.calculate(input, SECRET, hashType);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String calculateWithSecretContended() throws Exception {
+        return HashUtil.calculate(input, SECRET, hashType);
+    }
+}
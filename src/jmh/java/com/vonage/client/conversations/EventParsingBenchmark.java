@@ -0,0 +1,104 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.conversations;
+
+import com.vonage.client.Jsonable;
+import org.openjdk.jmh.annotations.*;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures polymorphic deserialization of the {@link Event} hierarchy, both as single events
+ * and as pages of mixed event types in a {@link ListEventsResponse}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventParsingBenchmark {
+    static final String[] BODIES = {
+        "\"type\": \"audio:dtmf\", \"body\": {\"digit\": \"5\", \"dtmf_seq\": 3, \"channel\": {\"type\": \"app\"}}",
+        "\"type\": \"message\", \"body\": {\"message_type\": \"text\", \"text\": \"Hello, is anyone there?\"}",
+        "\"type\": \"member:joined\", \"body\": {\"user\": {\"id\": \"USR-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\"}}",
+        "\"type\": \"rtc:status\", \"body\": {\"status\": \"completed\", \"duration\": \"96\", " +
+                "\"start_time\": \"2025-02-03T12:14:25.000Z\", \"end_time\": \"2025-02-03T12:16:01.000Z\", " +
+                "\"price_currency\": \"EUR\", \"price\": \"0.0232\", \"mos\": 4}",
+        "\"type\": \"custom:order_placed\", \"body\": {\"order_id\": 1234, \"items\": [\"a\", \"b\"]}",
+        "\"type\": \"audio:speaking:on\", \"body\": {\"rtc_id\": \"aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\"}"
+    };
+
+    static String event(int id, String typeAndBody) {
+        return "{\"id\": " + id + ", " + typeAndBody + ", \"from\": \"MEM-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\", " +
+                "\"timestamp\": \"2025-02-03T12:14:25.000Z\", \"_embedded\": {" +
+                "\"from_user\": {\"id\": \"USR-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\", \"name\": \"alice\"}, " +
+                "\"from_member\": {\"id\": \"MEM-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\"}}, " +
+                "\"_links\": {\"self\": {\"href\": \"https://api.nexmo.com/v1/conversations/" +
+                "CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab/events/" + id + "\"}}}";
+    }
+
+    static String eventsPage(int pageSize) {
+        StringJoiner events = new StringJoiner(",\n", "[\n", "\n]");
+        for (int i = 0; i < pageSize; i++) {
+            events.add(event(i + 1, BODIES[i % BODIES.length]));
+        }
+        return "{\"page_size\": " + pageSize + ", \"_links\": {\"self\": {\"href\": " +
+                "\"https://api.nexmo.com/v1/conversations/CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab/events\"}}, " +
+                "\"_embedded\": {\"events\": " + events + "}}";
+    }
+
+    @State(Scope.Benchmark)
+    public static class SingleEvent {
+        @Param({"0", "1", "2", "3", "4", "5"})
+        int eventIndex;
+
+        String json;
+
+        @Setup
+        public void setup() {
+            json = event(1, BODIES[eventIndex]);
+            if (Jsonable.<Event> fromJson(json).getType() == null) {
+                throw new IllegalStateException("Fixture did not parse as expected.");
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EventsPage {
+        @Param({"10", "100", "1000"})
+        int pageSize;
+
+        String json;
+
+        @Setup
+        public void setup() {
+            json = eventsPage(pageSize);
+            if (Jsonable.fromJson(json, ListEventsResponse.class).getEvents().size() != pageSize) {
+                throw new IllegalStateException("Fixture did not parse as expected.");
+            }
+        }
+    }
+
+    @Benchmark
+    public Event parseEvent(SingleEvent state) {
+        return Jsonable.fromJson(state.json);
+    }
+
+    @Benchmark
+    public ListEventsResponse parsePage(EventsPage state) {
+        return Jsonable.fromJson(state.json, ListEventsResponse.class);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import org.openjdk.jmh.annotations.*;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures registering a message with {@link MessageTracker} and completing it from its status webhook,
+ * with a steady backlog of in-flight messages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTrackerBenchmark {
+    static final int MESSAGES = 1 << 16;
+
+    @Param({"100000", "1000000"})
+    int inFlight;
+
+    MessageTracker tracker;
+    UUID[] uuids;
+    MessageStatus[] statuses;
+    int next;
+
+    @Setup
+    public void setup() {
+        tracker = MessageTracker.builder().maxInFlight(inFlight * 2).ttl(Duration.ofDays(1)).build();
+        for (int i = 0; i < inFlight; i++) {
+            tracker.track(UUID.randomUUID(), Channel.WHATSAPP);
+        }
+        uuids = new UUID[MESSAGES];
+        statuses = new MessageStatus[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            uuids[i] = UUID.randomUUID();
+            statuses[i] = MessageStatus.fromJson("{\"message_uuid\":\"" + uuids[i] +
+                    "\",\"status\":\"delivered\",\"channel\":\"sms\"}");
+        }
+        tracker.track(uuids[0], Channel.SMS);
+        if (!tracker.onStatus(statuses[0])) {
+            throw new IllegalStateException("Tracker did not match the status to its tracked message.");
+        }
+    }
+
+    @Benchmark
+    public boolean trackAndComplete() {
+        int i = next++ & (MESSAGES - 1);
+        tracker.track(uuids[i], Channel.SMS);
+        return tracker.onStatus(statuses[i]);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import org.openjdk.jmh.annotations.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of inbound message and message status webhooks, as received by an application's callback URLs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessagesWebhookBenchmark {
+    static final String
+        INBOUND_SMS = """
+            {
+              "channel": "sms",
+              "message_uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "to": "447700900000",
+              "from": "447700900001",
+              "timestamp": "2025-02-03T12:14:25Z",
+              "text": "Hello From Vonage!",
+              "message_type": "text",
+              "usage": {"currency": "EUR", "price": "0.0333"},
+              "sms": {"num_messages": "2", "count_total": "2", "keyword": "HELLO"}
+            }""",
+        INBOUND_WHATSAPP = """
+            {
+              "channel": "whatsapp",
+              "message_uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "to": "447700900000",
+              "from": "447700900001",
+              "timestamp": "2025-02-03T12:14:25Z",
+              "message_type": "image",
+              "client_ref": "abc123",
+              "image": {"url": "https://example.com/image.jpg", "caption": "Check out this image"},
+              "context_status": "available",
+              "context": {
+                "message_uuid": "bbbbbbbb-cccc-4ddd-8eee-0123456789ab",
+                "message_from": "447700900000",
+                "referral": {
+                  "body": "Check out our new product offering",
+                  "headline": "New Products!",
+                  "source_id": "212731241638144",
+                  "source_type": "post",
+                  "source_url": "https://fb.me/2ZulEu42P",
+                  "media_type": "image",
+                  "image_url": "https://example.com/image.jpg",
+                  "thumbnail_url": "https://example.com/thumbnail.jpg",
+                  "ctwa_clid": "1234567890"
+                }
+              },
+              "profile": {"name": "Jane Smith"},
+              "provider_message": "Some provider-specific data",
+              "whatsapp": {"referral": {"source_id": "212731241638144"}}
+            }""",
+        STATUS_DELIVERED = """
+            {
+              "message_uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "to": "447700900000",
+              "from": "447700900001",
+              "timestamp": "2025-02-03T12:14:25Z",
+              "status": "delivered",
+              "channel": "sms",
+              "client_ref": "abc123",
+              "usage": {"currency": "EUR", "price": "0.0333"},
+              "sms": {"count_total": "2"},
+              "destination": {"network_code": "12345"}
+            }""",
+        STATUS_REJECTED = """
+            {
+              "message_uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "to": "447700900000",
+              "from": "447700900001",
+              "timestamp": "2025-02-03T12:14:25Z",
+              "status": "rejected",
+              "channel": "whatsapp",
+              "client_ref": "abc123",
+              "error": {
+                "type": "https://developer.nexmo.com/api-errors/messages-olympus#1000",
+                "title": "1000",
+                "detail": "Throttled - You have exceeded the submission capacity allowed on this account.",
+                "instance": "bf0ca0bf927b3b52e3cb03217e1a1ddf"
+              },
+              "workflow": {"workflow_id": "3TcNjguHxr2vcCRxDtNPDcs5YzHp", "items_number": "1", "items_total": "2"},
+              "usage": {"currency": "EUR", "price": "0.0333"},
+              "whatsapp": {"conversation": {"id": "1234567890", "origin": {"type": "marketing"}}}
+            }""";
+
+    @Param({"sms", "whatsapp"})
+    String channel;
+
+    String inbound, status;
+    byte[] inboundBytes, statusBytes;
+
+    @Setup
+    public void setup() {
+        boolean sms = "sms".equals(channel);
+        inbound = sms ? INBOUND_SMS : INBOUND_WHATSAPP;
+        status = sms ? STATUS_DELIVERED : STATUS_REJECTED;
+        inboundBytes = inbound.getBytes(StandardCharsets.UTF_8);
+        statusBytes = status.getBytes(StandardCharsets.UTF_8);
+        if (InboundMessage.fromJson(inbound).getMessageUuid() == null ||
+                MessageStatus.fromJson(status).getStatus() == null) {
+            throw new IllegalStateException("Fixture did not parse as expected.");
+        }
+    }
+
+    @Benchmark
+    public InboundMessage inboundMessage() {
+        return InboundMessage.fromJson(inbound);
+    }
+
+    @Benchmark
+    public MessageStatus messageStatus() {
+        return MessageStatus.fromJson(status);
+    }
+
+    @Benchmark
+    public InboundMessage inboundMessageFromBytes() {
+        return MessageWebhookDispatcher.parseInboundMessage(ByteBuffer.wrap(inboundBytes));
+    }
+
+    @Benchmark
+    public MessageStatus messageStatusFromBytes() {
+        return MessageWebhookDispatcher.parseMessageStatus(ByteBuffer.wrap(statusBytes));
+    }
+}
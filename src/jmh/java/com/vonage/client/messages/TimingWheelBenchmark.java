@@ -0,0 +1,92 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scheduling and cancelling on {@link TimingWheel} and {@link HierarchicalTimingWheel} against a
+ * {@link ScheduledThreadPoolExecutor}, with a large backlog of pending entries. This is the pattern
+ * {@link FailoverMessageSender} follows when a status arrives before the deadline, and
+ * {@link ScheduledMessageSender} follows when a scheduled message is cancelled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimingWheelBenchmark {
+    static final Runnable NOOP = () -> {};
+
+    @Param({"100000", "1000000"})
+    int pending;
+
+    long clock;
+    int next;
+    TimingWheel wheel;
+    HierarchicalTimingWheel<Runnable> hierarchicalWheel;
+    ScheduledThreadPoolExecutor executor;
+
+    @Setup
+    public void setup() {
+        wheel = new TimingWheel(100, TimeUnit.MILLISECONDS, 4096, () -> clock);
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        hierarchicalWheel = new HierarchicalTimingWheel<>(0);
+        for (int i = 0; i < pending; i++) {
+            wheel.schedule(NOOP, 1, TimeUnit.DAYS);
+            executor.schedule(NOOP, 1, TimeUnit.DAYS);
+            // Spread over 30 days of 100ms ticks.
+            hierarchicalWheel.add(NOOP, 1 + i % 25_920_000);
+        }
+        if (wheel.pending() != pending || executor.getQueue().size() != pending ||
+                hierarchicalWheel.size() != pending) {
+            throw new IllegalStateException("Not every timer was scheduled during setup.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        wheel.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean timingWheel() {
+        boolean cancelled = wheel.schedule(NOOP, 2, TimeUnit.MINUTES).cancel();
+        if ((++next & 1023) == 0) {
+            // Let the wheel absorb the additions and cancellations, as its worker would.
+            clock += TimeUnit.MILLISECONDS.toNanos(100);
+            wheel.advance();
+        }
+        return cancelled;
+    }
+
+    @Benchmark
+    public boolean hierarchicalWheel() {
+        return hierarchicalWheel.cancel(hierarchicalWheel.add(NOOP, (++next & 0xFFFFF) * 25L));
+    }
+
+    @Benchmark
+    public boolean scheduledExecutor() {
+        ScheduledFuture<?> future = executor.schedule(NOOP, 2, TimeUnit.MINUTES);
+        return future.cancel(false);
+    }
+}
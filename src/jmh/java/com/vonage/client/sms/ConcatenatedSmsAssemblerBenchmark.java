@@ -0,0 +1,72 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures concurrent {@link ConcatenatedSmsAssembler} throughput, per part offered, with each thread
+ * reassembling its own senders' two-part messages so that about 1,000 messages per thread are pending.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ConcatenatedSmsAssemblerBenchmark {
+    static final int MESSAGES = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final ConcatenatedSmsAssembler assembler = ConcatenatedSmsAssembler.builder().build();
+        final AtomicInteger threads = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Parts {
+        MessageEvent[] parts;
+        int next;
+
+        @Setup
+        public void setup(Shared shared) {
+            int thread = shared.threads.getAndIncrement();
+            parts = new MessageEvent[MESSAGES * 2];
+            for (int m = 0; m < MESSAGES; m++) {
+                String msisdn = String.format("44770%03d%04d", thread, m);
+                // Second parts first, so that every message is pending for half of each cycle.
+                parts[m] = part(msisdn, m, 2, "world");
+                parts[MESSAGES + m] = part(msisdn, m, 1, "Hello ");
+            }
+        }
+
+        static MessageEvent part(String msisdn, int ref, int part, String text) {
+            return MessageEvent.fromJson("{\"msisdn\":\"" + msisdn + "\",\"to\":\"447700900000\",\"text\":\"" +
+                    text + "\",\"concat\":\"true\",\"concat-ref\":\"" + (ref & 0xFF) +
+                    "\",\"concat-total\":\"2\",\"concat-part\":\"" + part + "\"}"
+            );
+        }
+    }
+
+    @Benchmark
+    public MessageEvent offer(Shared shared, Parts parts) {
+        MessageEvent part = parts.parts[parts.next];
+        parts.next = (parts.next + 1) % parts.parts.length;
+        return shared.assembler.offer(part);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SmsTextAnalysis} segment counting on typical campaign texts: a short GSM-7 message,
+ * a concatenated GSM-7 message with extension characters and a concatenated message requiring UCS-2,
+ * which is scanned twice (once to find the unsupported character, then to count UCS-2 segments).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SmsTextAnalysisBenchmark {
+
+    @Param({"short", "concatenated", "unicode"})
+    String text;
+
+    String body;
+
+    @Setup
+    public void setup() {
+        int expectedSegments;
+        switch (text) {
+            case "short":
+                body = "Your verification code is 123456. It expires in 10 minutes.";
+                expectedSegments = 1;
+                break;
+            case "concatenated":
+                body = "Hi Alex, your order #48213 has shipped! Total paid: €42.50 [incl. VAT]. " +
+                        "Track it at https://example.com/t/48213 or reply HELP for assistance. " +
+                        "Delivery is expected on Tuesday between 09:00 and 13:00 {local time}. " +
+                        "Reply STOP to opt out of future updates.";
+                expectedSegments = 2;
+                break;
+            default:
+                body = "Здравствуйте, Алексей! Ваш заказ №48213 отправлен. Сумма: 42,50 €. " +
+                        "Ожидаемая дата доставки: вторник, с 09:00 до 13:00. Ответьте STOP для отписки.";
+                expectedSegments = 3;
+        }
+        if (SmsTextAnalysis.countSegments(body) != expectedSegments) {
+            throw new IllegalStateException("Unexpected segment count for " + text + " text.");
+        }
+    }
+
+    @Benchmark
+    public int countSegments() {
+        return SmsTextAnalysis.countSegments(body);
+    }
+
+    @Benchmark
+    public SmsTextAnalysis analyse() {
+        return SmsTextAnalysis.of(body);
+    }
+}
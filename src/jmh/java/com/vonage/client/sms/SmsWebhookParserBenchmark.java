@@ -0,0 +1,110 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.auth.RequestSignatureVerifier;
+import com.vonage.client.auth.RequestSigning;
+import com.vonage.client.auth.hashutils.HashType;
+import org.openjdk.jmh.annotations.*;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing an inbound SMS webhook with {@link SmsWebhookParser}, from a form body and from a
+ * parameter map, against Jackson deserialisation of the equivalent JSON payload.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SmsWebhookParserBenchmark {
+    static final String SECRET = "abcde";
+
+    final SmsWebhookParser parser = new SmsWebhookParser(),
+            verifyingParser = new SmsWebhookParser(new RequestSignatureVerifier(SECRET));
+
+    Map<String, String[]> parameterMap;
+    byte[] formBody, signedFormBody;
+    String json;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("msisdn", "447700900001");
+        params.put("to", "447700900000");
+        params.put("messageId", "0A0000000123ABCD1");
+        params.put("text", "Hello world, this is a reply to your message.");
+        params.put("type", "text");
+        params.put("keyword", "HELLO");
+        params.put("message-timestamp", "2020-01-01 12:00:00");
+        params.put("nonce", "aaaaaaaa-bbbb-cccc-dddd-0123456789ab");
+
+        parameterMap = new LinkedHashMap<>();
+        StringBuilder jsonBuilder = new StringBuilder("{");
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            parameterMap.put(entry.getKey(), new String[]{entry.getValue()});
+            if (jsonBuilder.length() > 1) jsonBuilder.append(',');
+            jsonBuilder.append('"').append(entry.getKey()).append("\":\"").append(entry.getValue()).append('"');
+        }
+        json = jsonBuilder.append('}').toString();
+        formBody = encode(params);
+
+        Map<String, String> signed = new LinkedHashMap<>(params);
+        signed.putAll(RequestSigning.getSignatureForRequestParameters(params, SECRET, HashType.MD5));
+        signedFormBody = encode(signed);
+
+        if (!"HELLO".equals(parser.parseInboundSms(formBody).getKeyword()) ||
+                !"HELLO".equals(verifyingParser.parseInboundSms(signedFormBody).getKeyword()) ||
+                !"HELLO".equals(MessageEvent.fromJson(json).getKeyword())) {
+            throw new IllegalStateException("Fixture did not parse as expected.");
+        }
+    }
+
+    static byte[] encode(Map<String, String> params) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            if (sb.length() > 0) sb.append('&');
+            sb.append(URLEncoder.encode(entry.getKey(), "UTF-8")).append('=')
+                    .append(URLEncoder.encode(entry.getValue(), "UTF-8"));
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MessageEvent parseFormBody() {
+        return parser.parseInboundSms(formBody);
+    }
+
+    @Benchmark
+    public MessageEvent parseParameterMap() {
+        return parser.parseInboundSms(parameterMap);
+    }
+
+    @Benchmark
+    public MessageEvent parseAndVerifyFormBody() {
+        return verifyingParser.parseInboundSms(signedFormBody);
+    }
+
+    @Benchmark
+    public MessageEvent jacksonJson() {
+        return MessageEvent.fromJson(json);
+    }
+}
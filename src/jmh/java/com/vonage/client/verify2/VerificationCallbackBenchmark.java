@@ -0,0 +1,76 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.verify2;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of Verify v2 event and summary callbacks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerificationCallbackBenchmark {
+    static final String
+        EVENT = """
+            {
+              "request_id": "c11236f4-00bf-4b89-84ba-88b25df97315",
+              "triggered_at": "2025-02-03T12:14:25.000Z",
+              "type": "event",
+              "channel": "sms",
+              "status": "completed",
+              "finalized_at": "2025-02-03T12:14:57.000Z",
+              "client_ref": "my-personal-reference"
+            }""",
+        SUMMARY = """
+            {
+              "request_id": "c11236f4-00bf-4b89-84ba-88b25df97315",
+              "submitted_at": "2025-02-03T12:14:25.000Z",
+              "status": "completed",
+              "type": "summary",
+              "channel_timeout": 300,
+              "workflow": [
+                {"channel": "whatsapp", "initiated_at": "2025-02-03T12:14:25.000Z", "status": "expired"},
+                {"channel": "sms", "initiated_at": "2025-02-03T12:19:25.000Z", "status": "expired"},
+                {"channel": "voice", "initiated_at": "2025-02-03T12:24:25.000Z", "status": "completed"}
+              ],
+              "price": "0.10000000",
+              "client_ref": "my-personal-reference",
+              "finalized_at": "2025-02-03T12:24:57.000Z"
+            }""";
+
+    @Param({"event", "summary"})
+    String callbackType;
+
+    String callback;
+
+    @Setup
+    public void setup() {
+        callback = "event".equals(callbackType) ? EVENT : SUMMARY;
+        if (VerificationCallback.fromJson(callback).getRequestId() == null) {
+            throw new IllegalStateException("Fixture did not parse as expected.");
+        }
+    }
+
+    @Benchmark
+    public VerificationCallback verificationCallback() {
+        return VerificationCallback.fromJson(callback);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import com.vonage.client.Jsonable;
+import org.openjdk.jmh.annotations.*;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deserialization of {@link CallInfoPage} responses from {@link VoiceClient#listCalls} of varying size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallInfoPageBenchmark {
+
+    static String callInfo(int index) {
+        String uuid = String.format("1452dad1-b27b-4e71-a90f-%012x", index);
+        return "{\"uuid\": \"" + uuid + "\", \"status\": \"completed\", \"direction\": \"outbound\", " +
+                "\"rate\": \"0.02400000\", \"price\": \"0.00280000\", \"duration\": \"" + (index % 600) + "\", " +
+                "\"network\": \"23410\", \"conversation_uuid\": \"CON-879067dc-0370-44af-98bf-b6d11beb4229\", " +
+                "\"start_time\": \"2025-02-03T12:14:25.000Z\", \"end_time\": \"2025-02-03T12:16:01.000Z\", " +
+                "\"to\": {\"type\": \"phone\", \"number\": \"447700900549\"}, " +
+                "\"from\": {\"type\": \"phone\", \"number\": \"447700900236\"}, " +
+                "\"_links\": {\"self\": {\"href\": \"/v1/calls/" + uuid + "\"}}}";
+    }
+
+    static String callInfoPage(int pageSize) {
+        StringJoiner calls = new StringJoiner(",\n", "[\n", "\n]");
+        for (int i = 0; i < pageSize; i++) {
+            calls.add(callInfo(i));
+        }
+        return "{\"page_size\": " + pageSize + ", \"record_index\": 0, \"count\": " + pageSize + ", " +
+                "\"_links\": {\"self\": {\"href\": \"/v1/calls?page_size=" + pageSize + "&record_index=0\"}, " +
+                "\"first\": {\"href\": \"/v1/calls?page_size=" + pageSize + "\"}, " +
+                "\"last\": {\"href\": \"/v1/calls?page_size=" + pageSize + "\"}}, " +
+                "\"_embedded\": {\"calls\": " + calls + "}}";
+    }
+
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    String json;
+
+    @Setup
+    public void setup() {
+        json = callInfoPage(pageSize);
+        if (parse().getCallInfos().size() != pageSize) {
+            throw new IllegalStateException("Fixture did not parse as expected.");
+        }
+    }
+
+    @Benchmark
+    public CallInfoPage parse() {
+        return Jsonable.fromJson(json, CallInfoPage.class);
+    }
+}
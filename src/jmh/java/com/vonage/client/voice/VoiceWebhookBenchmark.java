@@ -0,0 +1,118 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of Voice API answer and event webhooks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoiceWebhookBenchmark {
+    static final String
+        ANSWER = """
+            {
+              "to": "447700900000",
+              "from": "447700900001",
+              "endpoint_type": "phone",
+              "conversation_uuid": "CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "region_url": "https://api-us-3.vonage.com",
+              "from_user": "Alice",
+              "SipHeader_User-to-User": "342342ef34;encoding=hex"
+            }""",
+        EVENT_STARTED = """
+            {
+              "uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "conversation_uuid": "CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "from": "447700900001",
+              "to": "447700900000",
+              "status": "started",
+              "direction": "outbound",
+              "timestamp": "2025-02-03T12:14:25.000Z"
+            }""",
+        EVENT_COMPLETED = """
+            {
+              "uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "conversation_uuid": "CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "from": "447700900001",
+              "to": "447700900000",
+              "status": "completed",
+              "direction": "outbound",
+              "disconnected_by": "user",
+              "timestamp": "2025-02-03T12:16:01.000Z",
+              "start_time": "2025-02-03T12:14:25.000Z",
+              "end_time": "2025-02-03T12:16:01.000Z",
+              "duration": "96",
+              "rate": "0.01450000",
+              "price": "0.02320000",
+              "network": "23410"
+            }""",
+        EVENT_INPUT = """
+            {
+              "uuid": "aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "conversation_uuid": "CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",
+              "from": "447700900001",
+              "to": "447700900000",
+              "timestamp": "2025-02-03T12:15:10.000Z",
+              "dtmf": {"digits": "1234", "timed_out": true},
+              "speech": {
+                "timeout_reason": "end_on_silence_timeout",
+                "recording_url": "https://api-us.nexmo.com/v1/files/eeeeeeee-ffff-4000-8111-0123456789ab",
+                "results": [
+                  {"confidence": "0.9405097", "text": "I would like to speak to sales please"},
+                  {"confidence": "0.70543784", "text": "I would like to speak to sail's please"},
+                  {"confidence": "0.5916474", "text": "I would like to speak to sails please"}
+                ]
+              }
+            }""";
+
+    @State(Scope.Benchmark)
+    public static class Event {
+        @Param({"started", "completed", "input"})
+        String eventType;
+
+        String json;
+
+        @Setup
+        public void setup() {
+            json = switch (eventType) {
+                case "started" -> EVENT_STARTED;
+                case "completed" -> EVENT_COMPLETED;
+                case "input" -> EVENT_INPUT;
+                default -> throw new IllegalArgumentException(eventType);
+            };
+            if (EventWebhook.fromJson(json).getCallUuid() == null) {
+                throw new IllegalStateException("Fixture did not parse as expected.");
+            }
+        }
+    }
+
+    @Benchmark
+    public EventWebhook eventWebhook(Event state) {
+        return EventWebhook.fromJson(state.json);
+    }
+
+    @Benchmark
+    public AnswerWebhook answerWebhook() {
+        return AnswerWebhook.fromJson(ANSWER);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice.ncco;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.Jsonable;
+import com.vonage.client.voice.TextToSpeechLanguage;
+import org.openjdk.jmh.annotations.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building and serialising an answer NCCO per call, either via a String or streamed directly,
+ * with writing an {@link NccoTemplate}.
+ * Both variants change the caller's name and the number to connect to on each invocation, and write the
+ * UTF-8 encoded NCCO to a reused stream, as an answer webhook would write it to the response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NccoTemplateBenchmark {
+    NccoTemplate template;
+    Map<String, Object> values;
+    ByteArrayOutputStream out;
+    long agent = 447700900000L;
+
+    @Setup
+    public void setup() throws Exception {
+        template = NccoTemplate.builder(build("{{name}}", "447700900000"))
+                .field("/3/endpoint/0/number", "agent").build();
+        values = new HashMap<>();
+        values.put("name", "Alex");
+        values.put("agent", "447700900123");
+        out = new ByteArrayOutputStream(2048);
+        ObjectMapper mapper = Jsonable.createDefaultObjectMapper();
+        if (!mapper.readTree(build("Alex", "447700900123").toJson()).equals(mapper.readTree(template.render(values)))) {
+            throw new IllegalStateException("Template did not render the same NCCO as the builders.");
+        }
+    }
+
+    static Ncco build(String name, String agent) {
+        return new Ncco(
+                TalkAction.builder("Hello " + name + ", thanks for calling. Press 1 for sales or 2 for support.")
+                        .language(TextToSpeechLanguage.UNITED_KINGDOM_ENGLISH).style(2).premium(true).build(),
+                InputAction.builder()
+                        .dtmf(DtmfSettings.builder().maxDigits(1).timeOut(5).build())
+                        .speech(SpeechSettings.builder().context("sales", "support").maxDuration(10).build())
+                        .eventUrl("https://example.com/webhooks/input").build(),
+                RecordAction.builder().format(RecordingFormat.MP3).channels(2).beepStart(true)
+                        .eventUrl("https://example.com/webhooks/recording").build(),
+                ConnectAction.builder(PhoneEndpoint.builder(agent).build())
+                        .from("447700900001").limit(3600).build()
+        );
+    }
+
+    @Benchmark
+    public int buildAndSerialise() throws IOException {
+        out.reset();
+        out.write(build("Alex", Long.toString(++agent)).toJson().getBytes(StandardCharsets.UTF_8));
+        return out.size();
+    }
+
+    @Benchmark
+    public int buildAndWrite() throws IOException {
+        out.reset();
+        build("Alex", Long.toString(++agent)).writeTo(out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeTemplate() throws IOException {
+        out.reset();
+        values.put("agent", Long.toString(++agent));
+        template.writeTo(values, out);
+        return out.size();
+    }
+}
@@ -87,7 +87,8 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
     }
 
     HttpUriRequest createFullHttpRequest(REQ request) throws VonageClientException {
-        RequestBuilder rqb = applyAuth(makeRequest(request));
+        RequestBuilder rqb = makeRequest(request);
+        applyAuth(rqb, makeFormBody(request));
         httpWrapper.getHttpConfig().getCustomHeaders().forEach(rqb::setHeader);
         return rqb.setHeader(HttpHeaders.USER_AGENT, httpWrapper.getUserAgent())
                 .setCharset(StandardCharsets.UTF_8).build();
@@ -105,6 +106,33 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
      */
     @Override
     public RES execute(REQ request) throws VonageApiResponseException, VonageResponseParseException {
+        return postProcessParsedResponse(execute(request, this::parseResponse, true));
+    }
+
+    /**
+     * Parses an HTTP response, as used by {@link #execute(Object, ResponseParser, boolean)}.
+     *
+     * @param <X> The result type.
+     */
+    interface ResponseParser<X> {
+        X parse(CloseableHttpResponse response) throws IOException;
+    }
+
+    /**
+     * Executes the REST call represented by this endpoint, using the provided parser for the response.
+     *
+     * @param request The request object representing input to the REST call to be made.
+     * @param parser Constructs the result from the HTTP response.
+     * @param closeResponse Whether to close the response once parsed. If {@code false}, the parser's result
+     * takes ownership of the response when parsing succeeds, and is responsible for closing it.
+     *
+     * @return The parsed result.
+     *
+     * @throws VonageResponseParseException if there was a problem parsing the HTTP response.
+     * @throws VonageMethodFailedException if there was a problem executing the HTTP request.
+     */
+    <X> X execute(REQ request, ResponseParser<X> parser, boolean closeResponse)
+            throws VonageApiResponseException, VonageResponseParseException {
         final HttpUriRequest httpRequest = createFullHttpRequest(request);
 
         if (shouldLog()) {
@@ -119,7 +147,9 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
             LOGGER.log(LOG_LEVEL, "--- REQUEST BODY ---\n" + request);
         }
 
-        try (final CloseableHttpResponse response = httpWrapper.getHttpClient().execute(httpRequest)) {
+        try {
+            final CloseableHttpResponse response = httpWrapper.getHttpClient().execute(httpRequest);
+            boolean retained = false;
             try {
                 if (shouldLog()) {
                     LOGGER.log(LOG_LEVEL, "Response " + response.getStatusLine());
@@ -133,17 +163,22 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
                     }
                 }
 
-                final RES responseBody = parseResponse(response);
+                final X responseBody = parser.parse(response);
                 if (responseBody != null && shouldLog()) {
                     LOGGER.log(LOG_LEVEL, "--- RESPONSE BODY ---\n" + responseBody);
                 }
-
-                return postProcessParsedResponse(responseBody);
+                retained = !closeResponse;
+                return responseBody;
             }
             catch (IOException iox) {
                 LOGGER.log(Level.WARNING, "Failed to parse response", iox);
                 throw new VonageResponseParseException(iox);
             }
+            finally {
+                if (!retained) {
+                    response.close();
+                }
+            }
         }
         catch (IOException iox) {
             LOGGER.log(Level.WARNING, "Failed to execute HTTP request", iox);
@@ -163,13 +198,37 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
      * @throws VonageClientException If no appropriate {@link AuthMethod} is available.
      */
     final RequestBuilder applyAuth(RequestBuilder request) throws VonageClientException {
+        return applyAuth(request, null);
+    }
+
+    /**
+     * Apply an appropriate authentication method to the provided {@link RequestBuilder} and, if present, its
+     * form-encoded body. Authentication parameters are added to the body rather than to the RequestBuilder,
+     * and the body is then set as the request's entity.
+     *
+     * @param request A RequestBuilder which has not yet had authentication information applied.
+     * @param formBody The request body from {@link #makeFormBody(Object)}, or {@code null} if not applicable.
+     *
+     * @return The RequestBuilder with appropriate authentication information applied.
+     *
+     * @throws VonageClientException If no appropriate {@link AuthMethod} is available.
+     */
+    final RequestBuilder applyAuth(RequestBuilder request, FormBodyWriter formBody) throws VonageClientException {
         AuthMethod am = getAuthMethod();
         if (am instanceof HeaderAuthMethod) {
             request.setHeader("Authorization", ((HeaderAuthMethod) am).getHeaderValue());
         }
         if (am instanceof QueryParamsAuthMethod) {
-            RequestQueryParams qp = am instanceof ApiKeyQueryParamsAuthMethod ? null : normalRequestParams(request);
-            ((QueryParamsAuthMethod) am).getAuthParams(qp).forEach(request::addParameter);
+            if (formBody != null) {
+                ((QueryParamsAuthMethod) am).applyAuthParams(formBody);
+            }
+            else {
+                RequestQueryParams qp = am instanceof ApiKeyQueryParamsAuthMethod ? null : normalRequestParams(request);
+                ((QueryParamsAuthMethod) am).getAuthParams(qp).forEach(request::addParameter);
+            }
+        }
+        if (formBody != null) {
+            request.setEntity(formBody.toEntity());
         }
         return request;
     }
@@ -206,6 +265,21 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
      */
     protected abstract RequestBuilder makeRequest(REQ request);
 
+    /**
+     * Construct the {@code application/x-www-form-urlencoded} body for the provided request, for endpoints
+     * which send their parameters in the body rather than adding them to the {@link RequestBuilder} returned
+     * from {@link #makeRequest(Object)}. The body is encoded after authentication has been applied.
+     *
+     * @param request A request object representing input to the REST call to be made.
+     *
+     * @return The request body, or {@code null} (the default) if the request has no form-encoded body.
+     *
+     * @since 9.14.0
+     */
+    FormBodyWriter makeFormBody(REQ request) {
+        return null;
+    }
+
     /**
      * Construct a response object representing the contents of the HTTP response returned from the Vonage API.
      *
@@ -0,0 +1,469 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Base class for outboxes, which record requests in a durable {@link OutboxLog} before sending them from a
+ * pool of background threads. If the process stops before a request has been sent, it is sent when the
+ * outbox is next opened on the same directory. Each request's idempotency key (usually its client reference)
+ * prevents the same request being added twice while it is still held in the log.
+ * <p>
+ * Failed sends are retried with exponential backoff, unless the API rejected the request with a client
+ * error (a 4xx status other than 429), in which case it is reported as failed and not retried. A request which
+ * still fails after the {@linkplain Builder#maxAttempts(int) maximum number of attempts} is also reported as
+ * failed, so that it does not hold a sender thread (and its place in the log) indefinitely. Requests are
+ * sent at least once: if the process stops after a request has been sent but before it was acknowledged in
+ * the log, it will be sent again.
+ *
+ * @param <Q> The request type.
+ * @param <R> The response type.
+ *
+ * @since 9.14.0
+ */
+public abstract class AbstractOutbox<Q, R> implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(AbstractOutbox.class.getName());
+	private static final AtomicInteger INSTANCE_NUMBER = new AtomicInteger();
+
+	private final OutboxLog log;
+	private final BlockingQueue<OutboxLog.Entry> queue = new LinkedBlockingQueue<>();
+	private final ExecutorService senders;
+	private final int senderCount, maxAttempts;
+	private final long initialBackoffNanos, maxBackoffNanos;
+	private final BiConsumer<OutboxLog.Entry, ? super R> sentListener;
+	private final BiConsumer<OutboxLog.Entry, RuntimeException> failureListener;
+	private final AtomicLong sentCount = new AtomicLong(), failedCount = new AtomicLong(),
+			retryCount = new AtomicLong();
+	private volatile boolean closed;
+
+	/**
+	 * Opens the log, recovering any requests left pending from a previous run. Sending starts once the
+	 * builder has finished constructing the outbox.
+	 *
+	 * @param builder The builder with the outbox's properties.
+	 *
+	 * @throws IOException If the log could not be opened.
+	 */
+	protected AbstractOutbox(Builder<R, ?, ?> builder) throws IOException {
+		OutboxLog.Builder logBuilder = OutboxLog.builder(builder.directory).fsync(builder.fsync);
+		if (builder.segmentSize > 0) {
+			logBuilder.segmentSize(builder.segmentSize);
+		}
+		log = logBuilder.build();
+		initialBackoffNanos = builder.initialBackoff.toNanos();
+		maxBackoffNanos = Math.max(initialBackoffNanos, builder.maxBackoff.toNanos());
+		maxAttempts = builder.maxAttempts;
+		sentListener = builder.sentListener;
+		failureListener = builder.failureListener;
+		queue.addAll(log.getPendingEntries());
+
+		final String prefix = "vonage-outbox-" + INSTANCE_NUMBER.incrementAndGet() + '-';
+		final AtomicInteger threadNumber = new AtomicInteger();
+		senderCount = builder.senders;
+		senders = Executors.newFixedThreadPool(senderCount, runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private void start() {
+		for (int i = 0; i < senderCount; i++) {
+			senders.execute(this::drain);
+		}
+	}
+
+	/**
+	 * Serialises a request for storage in the log.
+	 *
+	 * @param request The request.
+	 * @return The encoded request, which will be passed to {@link #send(byte[])}.
+	 */
+	protected abstract byte[] encode(Q request);
+
+	/**
+	 * Obtains the request's idempotency key.
+	 *
+	 * @param request The request.
+	 * @return The key, or {@code null} if the request should never be treated as a duplicate.
+	 */
+	protected abstract String idempotencyKey(Q request);
+
+	/**
+	 * Sends a request which was previously {@linkplain #encode(Object) encoded}.
+	 *
+	 * @param payload The encoded request.
+	 * @return The API response.
+	 */
+	protected abstract R send(byte[] payload);
+
+	/**
+	 * Summarises the response for the log, typically as the identifiers of the sent messages.
+	 *
+	 * @param response The API response.
+	 * @return The result to record.
+	 */
+	protected abstract String describe(R response);
+
+	/**
+	 * Determines whether a failed send should be retried. By default, API errors are retried only for
+	 * rate limiting (429) and server errors (5xx); all other failures, such as network errors, are retried.
+	 *
+	 * @param ex The exception thrown by {@link #send(byte[])}.
+	 * @return {@code true} to retry the request, {@code false} to report it as failed.
+	 */
+	protected boolean isRetryable(RuntimeException ex) {
+		if (ex instanceof VonageApiResponseException) {
+			int status = ((VonageApiResponseException) ex).getStatusCode();
+			return status == 429 || status >= 500 || status == 0;
+		}
+		return true;
+	}
+
+	/**
+	 * Durably records a request and queues it for sending.
+	 *
+	 * @param request The request to send.
+	 *
+	 * @return {@code true} if the request was added, {@code false} if a request with the same idempotency key
+	 * is already held in the outbox.
+	 *
+	 * @throws IOException If the request could not be written to the log.
+	 * @throws IllegalStateException If the outbox has been closed.
+	 */
+	public boolean submit(Q request) throws IOException {
+		return submitAll(Collections.singletonList(request)) == 1;
+	}
+
+	/**
+	 * Durably records a batch of requests and queues them for sending. This is more efficient than calling
+	 * {@link #submit(Object)} for each request, since the whole batch is synced to disk at once.
+	 *
+	 * @param requests The requests to send.
+	 *
+	 * @return The number of requests added, excluding those with duplicate idempotency keys.
+	 *
+	 * @throws IOException If the requests could not be written to the log. Requests before the failed one
+	 * may have been recorded, and will be sent.
+	 * @throws IllegalStateException If the outbox has been closed.
+	 */
+	public int submitAll(Collection<? extends Q> requests) throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Outbox has been closed.");
+		}
+		List<OutboxLog.Entry> added = new ArrayList<>(requests.size());
+		try {
+			for (Q request : requests) {
+				Objects.requireNonNull(request, "Request cannot be null.");
+				OutboxLog.Entry entry = log.write(idempotencyKey(request), encode(request));
+				if (entry != null) added.add(entry);
+			}
+			log.sync();
+		}
+		finally {
+			queue.addAll(added);
+		}
+		return added.size();
+	}
+
+	private void drain() {
+		try {
+			while (!closed) {
+				process(queue.take());
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void process(OutboxLog.Entry entry) throws InterruptedException {
+		long backoff = initialBackoffNanos;
+		for (int attempt = 1; !closed; attempt++) {
+			R response;
+			try {
+				response = send(entry.getPayload());
+			}
+			catch (RuntimeException ex) {
+				if (attempt >= maxAttempts || !isRetryable(ex)) {
+					failedCount.incrementAndGet();
+					if (failureListener != null) {
+						notifyListener(entry, () -> failureListener.accept(entry, ex));
+					}
+					acknowledge(entry, "failed: " + ex.getMessage());
+					return;
+				}
+				retryCount.incrementAndGet();
+				LOGGER.log(Level.FINE, "Retrying outbox entry " + entry.getSequence(), ex);
+				TimeUnit.NANOSECONDS.sleep(backoff);
+				backoff = Math.min(maxBackoffNanos, backoff * 2);
+				continue;
+			}
+			// Nothing after a successful send may cause it to be retried, or the request would be sent twice.
+			// Listeners run before the entry is acknowledged, so that they have run once it is no longer pending.
+			sentCount.incrementAndGet();
+			if (sentListener != null) {
+				notifyListener(entry, () -> sentListener.accept(entry, response));
+			}
+			String result = "sent";
+			try {
+				result = describe(response);
+			}
+			catch (RuntimeException ex) {
+				LOGGER.log(Level.WARNING, "Failed to describe response for outbox entry " + entry.getSequence(), ex);
+			}
+			acknowledge(entry, result);
+			return;
+		}
+	}
+
+	private void notifyListener(OutboxLog.Entry entry, Runnable action) {
+		try {
+			action.run();
+		}
+		catch (RuntimeException ex) {
+			LOGGER.log(Level.WARNING, "Listener failed for outbox entry " + entry.getSequence(), ex);
+		}
+	}
+
+	private void acknowledge(OutboxLog.Entry entry, String result) {
+		try {
+			log.acknowledge(entry, result);
+		}
+		catch (IOException ex) {
+			// The entry stays pending, so will be sent again when the outbox is reopened.
+			LOGGER.log(Level.WARNING, "Failed to acknowledge outbox entry " + entry.getSequence(), ex);
+		}
+	}
+
+	/**
+	 * Number of requests which have been recorded but not yet sent or rejected.
+	 *
+	 * @return The pending request count.
+	 */
+	public int getPendingCount() {
+		return log.getPendingCount();
+	}
+
+	/**
+	 * Number of requests sent successfully since the outbox was opened.
+	 *
+	 * @return The sent count.
+	 */
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	/**
+	 * Number of requests which the API rejected, or which failed on every attempt, since the outbox was opened.
+	 *
+	 * @return The failed count.
+	 */
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	/**
+	 * Number of failed attempts which were retried since the outbox was opened.
+	 *
+	 * @return The retry count.
+	 */
+	public long getRetryCount() {
+		return retryCount.get();
+	}
+
+	/**
+	 * Stops the sender threads and closes the log. Requests which have not been sent remain in the log,
+	 * and will be sent when the outbox is reopened.
+	 *
+	 * @throws IOException If the log could not be closed cleanly.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		senders.shutdownNow();
+		try {
+			senders.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		log.close();
+	}
+
+	/**
+	 * Base builder for outboxes.
+	 *
+	 * @param <R> The response type.
+	 * @param <O> The outbox type.
+	 * @param <B> The builder type.
+	 */
+	@SuppressWarnings("unchecked")
+	public abstract static class Builder<R, O extends AbstractOutbox<?, R>, B extends Builder<R, O, B>> {
+		private final Path directory;
+		private int senders = 4, segmentSize, maxAttempts = 10;
+		private boolean fsync = true;
+		private Duration initialBackoff = Duration.ofMillis(500), maxBackoff = Duration.ofSeconds(30);
+		private BiConsumer<OutboxLog.Entry, ? super R> sentListener;
+		private BiConsumer<OutboxLog.Entry, RuntimeException> failureListener;
+
+		/**
+		 * Creates the builder.
+		 *
+		 * @param directory The directory for the outbox's log.
+		 */
+		protected Builder(Path directory) {
+			this.directory = Objects.requireNonNull(directory, "Directory cannot be null.");
+		}
+
+		/**
+		 * (OPTIONAL) Number of threads sending requests concurrently. The default is 4.
+		 *
+		 * @param senders The number of sender threads, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public B senders(int senders) {
+			if (senders < 1) {
+				throw new IllegalArgumentException("Number of senders must be positive.");
+			}
+			this.senders = senders;
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Whether submitting waits for requests to be synced to disk.
+		 *
+		 * @param fsync {@code false} to skip syncing.
+		 *
+		 * @return This builder.
+		 * @see OutboxLog.Builder#fsync(boolean)
+		 */
+		public B fsync(boolean fsync) {
+			this.fsync = fsync;
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Size of each log segment file.
+		 *
+		 * @param segmentSize The segment size in bytes.
+		 *
+		 * @return This builder.
+		 * @see OutboxLog.Builder#segmentSize(int)
+		 */
+		public B segmentSize(int segmentSize) {
+			if (segmentSize < 4096) {
+				throw new IllegalArgumentException("Segment size must be at least 4096 bytes.");
+			}
+			this.segmentSize = segmentSize;
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Delays between retries of a failed request, which double after each attempt from the
+		 * initial delay up to the maximum. The defaults are 500 milliseconds and 30 seconds.
+		 *
+		 * @param initial Delay before the first retry.
+		 * @param max Longest delay between retries.
+		 *
+		 * @return This builder.
+		 */
+		public B retryBackoff(Duration initial, Duration max) {
+			if (initial.isNegative() || max.isNegative()) {
+				throw new IllegalArgumentException("Backoff cannot be negative.");
+			}
+			initialBackoff = initial;
+			maxBackoff = max;
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Maximum number of times to try sending a request, including the first attempt, before
+		 * reporting it as failed. The count starts again if the outbox is reopened before the request is
+		 * sent. The default is 10, which with the default backoff gives up after about two minutes.
+		 *
+		 * @param maxAttempts The number of attempts, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public B maxAttempts(int maxAttempts) {
+			if (maxAttempts < 1) {
+				throw new IllegalArgumentException("Maximum attempts must be positive.");
+			}
+			this.maxAttempts = maxAttempts;
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Called on a sender thread after each request has been sent, before it is acknowledged in
+		 * the log. Exceptions thrown by the listener are logged, and do not cause the request to be sent again.
+		 *
+		 * @param listener Receives the log entry and the API response.
+		 *
+		 * @return This builder.
+		 */
+		public B onSent(BiConsumer<OutboxLog.Entry, ? super R> listener) {
+			sentListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+			return (B) this;
+		}
+
+		/**
+		 * (OPTIONAL) Called on a sender thread when the API rejects a request, or it fails on every attempt.
+		 * The request will not be retried.
+		 *
+		 * @param listener Receives the log entry and the exception.
+		 *
+		 * @return This builder.
+		 */
+		public B onFailure(BiConsumer<OutboxLog.Entry, RuntimeException> listener) {
+			failureListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+			return (B) this;
+		}
+
+		/**
+		 * Constructs the outbox with this builder's properties.
+		 *
+		 * @return A new outbox instance.
+		 *
+		 * @throws IOException If the log could not be opened.
+		 */
+		protected abstract O create() throws IOException;
+
+		/**
+		 * Opens the outbox and starts sending any requests left from a previous run.
+		 *
+		 * @return A new outbox instance.
+		 *
+		 * @throws IOException If the log could not be opened.
+		 */
+		public final O build() throws IOException {
+			O outbox = create();
+			((AbstractOutbox<?, R>) outbox).start();
+			return outbox;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+/**
+ * Indicates that a class used for request retrieves only part of the resource, which is sent as an
+ * HTTP {@code Range} header (e.g. for resuming or splitting large downloads).
+ *
+ * @since 9.14.0
+ */
+public interface ByteRangeRequest {
+
+	/**
+	 * Offset of the first byte to retrieve.
+	 *
+	 * @return The zero-based start of the range.
+	 */
+	long getFirstBytePosition();
+
+	/**
+	 * Offset of the last byte to retrieve, inclusive.
+	 *
+	 * @return The zero-based end of the range, or a negative value to retrieve up to the end of the resource.
+	 */
+	long getLastBytePosition();
+
+	/**
+	 * The value of the {@code Range} header for this request.
+	 *
+	 * @return The byte range as a header value.
+	 */
+	default String getRangeHeader() {
+		long last = getLastBytePosition();
+		return "bytes=" + getFirstBytePosition() + '-' + (last >= 0 ? String.valueOf(last) : "");
+	}
+}
@@ -17,6 +17,7 @@ package com.vonage.client;
 
 import com.vonage.client.auth.AuthMethod;
 import com.vonage.client.common.HttpMethod;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.RequestBuilder;
@@ -24,7 +25,9 @@ import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.*;
 import java.util.function.BiFunction;
@@ -139,7 +142,7 @@ public class DynamicEndpoint<T, R> extends AbstractMethod<T, R> {
 		}
 
 		public Builder<T, R> urlFormEncodedContentType(boolean formEncoded) {
-			return contentTypeHeader(formEncoded ? "application/x-www-form-urlencoded" : null);
+			return contentTypeHeader(formEncoded ? FormBodyWriter.CONTENT_TYPE.getMimeType() : null);
 		}
 
 		public Builder<T, R> contentTypeHeader(String contentType) {
@@ -191,6 +194,16 @@ public class DynamicEndpoint<T, R> extends AbstractMethod<T, R> {
 		}
 	}
 
+	/**
+	 * Whether the request's parameters are sent as a form-encoded body, which is the case for POST and PUT
+	 * requests with a form-encoded content type.
+	 */
+	private boolean isFormBody(T requestBody) {
+		return requestBody instanceof QueryParamsRequest &&
+				(requestMethod == HttpMethod.POST || requestMethod == HttpMethod.PUT) &&
+				FormBodyWriter.CONTENT_TYPE.getMimeType().equals(contentType);
+	}
+
 	private static void applyQueryParams(Map<String, ?> params, RequestBuilder rqb) {
 		params.forEach((k, v) -> {
 			Consumer<Object> logic = obj -> rqb.addParameter(k, String.valueOf(obj));
@@ -229,7 +242,10 @@ public class DynamicEndpoint<T, R> extends AbstractMethod<T, R> {
 		if (accept != null) {
 			rqb.setHeader("Accept", accept);
 		}
-		if (requestBody instanceof QueryParamsRequest) {
+		if (requestBody instanceof ByteRangeRequest) {
+			rqb.setHeader("Range", ((ByteRangeRequest) requestBody).getRangeHeader());
+		}
+		if (requestBody instanceof QueryParamsRequest && !isFormBody(requestBody)) {
 			applyQueryParams(((QueryParamsRequest) requestBody).makeParams(), rqb);
 		}
 		if (requestBody instanceof Jsonable) {
@@ -246,6 +262,45 @@ public class DynamicEndpoint<T, R> extends AbstractMethod<T, R> {
 		return rqb.setUri(pathGetter.apply(this, requestBody));
 	}
 
+	@Override
+	final FormBodyWriter makeFormBody(T requestBody) {
+		if (!isFormBody(requestBody)) {
+			return null;
+		}
+		Map<String, ?> params = ((QueryParamsRequest) requestBody).makeParams();
+		return new FormBodyWriter(params.size() + 4).addAll(params);
+	}
+
+	/**
+	 * Executes the request, returning the body of a successful response as a stream which is read from the
+	 * connection on demand, rather than reading it into memory. This is suited to large binary responses.
+	 * Error responses are handled in the same way as {@link #execute(Object)}.
+	 *
+	 * @param request The request object.
+	 *
+	 * @return The response body. This must be closed to release the connection; closing it before the end
+	 * of the body is reached aborts the download.
+	 *
+	 * @throws VonageApiResponseException If the response status code is not 2xx.
+	 * @throws VonageMethodFailedException If there was a problem executing the HTTP request.
+	 * @since 9.14.0
+	 */
+	public final ResponseBodyInputStream executeAsStream(T request) throws VonageApiResponseException {
+		return execute(request, response -> {
+			int statusCode = response.getStatusLine().getStatusCode();
+			logger.fine(() -> "Response status: " + statusCode);
+			if (statusCode < 200 || statusCode >= 300) {
+				parseResponseFailure(response);
+				throw new VonageApiResponseException("Unexpected response status: " + statusCode);
+			}
+			HttpEntity entity = response.getEntity();
+			InputStream content = entity != null ? entity.getContent() : null;
+			return new ResponseBodyInputStream(
+					content != null ? content : new ByteArrayInputStream(new byte[0]), response
+			);
+		}, false);
+	}
+
 	@Override
 	protected final R parseResponse(HttpResponse response) throws IOException {
 		StatusLine statusLine = response.getStatusLine();
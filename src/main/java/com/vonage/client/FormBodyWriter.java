@@ -0,0 +1,267 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.auth.RequestQueryParams;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Builds an {@code application/x-www-form-urlencoded} request body. Parameters are kept sorted by name
+ * as they are added, which is the canonical order used for request signatures, so that
+ * {@linkplain com.vonage.client.auth.QueryParamsAuthMethod authentication parameters} can be computed
+ * from and added to the body directly. The body is then encoded in a single pass into a per-thread
+ * buffer. Custom {@link com.vonage.client.auth.QueryParamsAuthMethod} implementations receive an instance
+ * of this class in {@link com.vonage.client.auth.QueryParamsAuthMethod#applyAuthParams(FormBodyWriter)}.
+ * Instances are not thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class FormBodyWriter {
+	static final ContentType CONTENT_TYPE = ContentType.create(
+			"application/x-www-form-urlencoded", StandardCharsets.UTF_8
+	);
+
+	private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
+	private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Characters which are written as-is, matching {@code URLEncodedUtils}: letters, digits and {@code -._*}.
+	 */
+	private static final boolean[] SAFE = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) SAFE[c] = true;
+		for (char c = 'A'; c <= 'Z'; c++) SAFE[c] = true;
+		for (char c = '0'; c <= '9'; c++) SAFE[c] = true;
+		SAFE['-'] = SAFE['.'] = SAFE['_'] = SAFE['*'] = true;
+	}
+
+	private String[] names, values;
+	private int size;
+
+	/**
+	 * Creates an empty form body.
+	 */
+	public FormBodyWriter() {
+		this(12);
+	}
+
+	/**
+	 * Creates an empty form body.
+	 *
+	 * @param initialCapacity Expected number of parameters.
+	 */
+	public FormBodyWriter(int initialCapacity) {
+		names = new String[Math.max(initialCapacity, 4)];
+		values = new String[names.length];
+	}
+
+	/**
+	 * Adds a parameter in its sorted position, after any existing parameters with the same name.
+	 *
+	 * @param name The parameter name.
+	 * @param value The parameter value, which will be converted to a string.
+	 *
+	 * @return This writer, for method chaining.
+	 */
+	public FormBodyWriter add(String name, Object value) {
+		if (size == names.length) {
+			names = Arrays.copyOf(names, size << 1);
+			values = Arrays.copyOf(values, size << 1);
+		}
+		int index = size;
+		while (index > 0 && names[index - 1].compareTo(name) > 0) {
+			index--;
+		}
+		System.arraycopy(names, index, names, index + 1, size - index);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		names[index] = name;
+		values[index] = String.valueOf(value);
+		size++;
+		return this;
+	}
+
+	/**
+	 * Adds all parameters from a request. Array and {@linkplain Iterable} values are added as repeated
+	 * parameters, one for each element.
+	 *
+	 * @param params The parameters, as returned from {@link QueryParamsRequest#makeParams()}.
+	 *
+	 * @return This writer, for method chaining.
+	 */
+	public FormBodyWriter addAll(Map<String, ?> params) {
+		for (Map.Entry<String, ?> entry : params.entrySet()) {
+			String name = entry.getKey();
+			Object value = entry.getValue();
+			if (value instanceof Object[]) {
+				for (Object nested : (Object[]) value) {
+					add(name, nested);
+				}
+			}
+			else if (value instanceof Iterable<?>) {
+				for (Object nested : (Iterable<?>) value) {
+					add(name, nested);
+				}
+			}
+			else {
+				add(name, value);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Number of parameters in the body.
+	 *
+	 * @return The parameter count.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Name of the parameter at the given position, in canonical (sorted) order.
+	 *
+	 * @param index The parameter's position.
+	 *
+	 * @return The parameter name.
+	 */
+	public String getName(int index) {
+		checkIndex(index);
+		return names[index];
+	}
+
+	/**
+	 * Value of the parameter at the given position, in canonical (sorted) order.
+	 *
+	 * @param index The parameter's position.
+	 *
+	 * @return The parameter value.
+	 */
+	public String getValue(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * Copies the parameters, for auth methods which do not work with form bodies directly.
+	 *
+	 * @return The parameters, in canonical order.
+	 */
+	public RequestQueryParams toRequestQueryParams() {
+		RequestQueryParams params = new RequestQueryParams();
+		params.ensureCapacity(size);
+		for (int i = 0; i < size; i++) {
+			params.add(new AbstractMap.SimpleEntry<>(names[i], values[i]));
+		}
+		return params;
+	}
+
+	/**
+	 * Encodes the parameters as UTF-8, in canonical order.
+	 *
+	 * @return The encoded body.
+	 */
+	public byte[] toByteArray() {
+		int bound = size;
+		for (int i = 0; i < size; i++) {
+			// Each UTF-16 char encodes to at most 3 UTF-8 bytes, each of which may be escaped as 3 bytes.
+			bound += 9 * (names[i].length() + values[i].length());
+		}
+		byte[] buffer = BUFFER.get();
+		if (buffer.length < bound) {
+			buffer = new byte[Math.max(bound, buffer.length << 1)];
+			if (buffer.length <= MAX_POOLED_BUFFER_SIZE) {
+				BUFFER.set(buffer);
+			}
+		}
+		int position = 0;
+		for (int i = 0; i < size; i++) {
+			if (i > 0) buffer[position++] = '&';
+			position = encode(names[i], buffer, position);
+			buffer[position++] = '=';
+			position = encode(values[i], buffer, position);
+		}
+		return Arrays.copyOf(buffer, position);
+	}
+
+	ByteArrayEntity toEntity() {
+		return new ByteArrayEntity(toByteArray(), CONTENT_TYPE);
+	}
+
+	private static int encode(String str, byte[] buffer, int position) {
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c < 0x80) {
+				if (SAFE[c]) {
+					buffer[position++] = (byte) c;
+				}
+				else if (c == ' ') {
+					buffer[position++] = '+';
+				}
+				else {
+					position = escape(c, buffer, position);
+				}
+			}
+			else if (c < 0x800) {
+				position = escape(0xC0 | (c >> 6), buffer, position);
+				position = escape(0x80 | (c & 0x3F), buffer, position);
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < str.length() &&
+					Character.isLowSurrogate(str.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, str.charAt(++i));
+				position = escape(0xF0 | (cp >> 18), buffer, position);
+				position = escape(0x80 | ((cp >> 12) & 0x3F), buffer, position);
+				position = escape(0x80 | ((cp >> 6) & 0x3F), buffer, position);
+				position = escape(0x80 | (cp & 0x3F), buffer, position);
+			}
+			else if (Character.isSurrogate(c)) {
+				// Unpaired surrogates are replaced, as by String.getBytes.
+				position = escape('?', buffer, position);
+			}
+			else {
+				position = escape(0xE0 | (c >> 12), buffer, position);
+				position = escape(0x80 | ((c >> 6) & 0x3F), buffer, position);
+				position = escape(0x80 | (c & 0x3F), buffer, position);
+			}
+		}
+		return position;
+	}
+
+	private static int escape(int b, byte[] buffer, int position) {
+		buffer[position] = '%';
+		buffer[position + 1] = HEX[(b >> 4) & 0xF];
+		buffer[position + 2] = HEX[b & 0xF];
+		return position + 3;
+	}
+
+	@Override
+	public String toString() {
+		return new String(toByteArray(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,616 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON document which is serialised once and then rendered repeatedly with different variable values,
+ * without going through Jackson each time. This is useful when sending the same request body many times
+ * with only a few values changed, e.g. the recipient of a message or a name in a greeting.
+ * <p>
+ * Variables are declared in two ways:
+ * <ul>
+ *     <li>As {@code {{name}}} placeholders anywhere within string values of the prototype, for example
+ *     {@code "Hello {{firstName}}, your code is {{code}}"}.</li>
+ *     <li>As whole field values, identified by a JSON Pointer (e.g. {@code /to}) via
+ *     {@link Builder#field(String, String)} or {@link Builder#optionalField(String, String)}.</li>
+ * </ul>
+ * To include a literal {@code {{name}}} in the output, such as a WhatsApp template's {@code {{1}}}
+ * parameter, prefix it with a backslash: {@code \{{1}}} is rendered as {@code {{1}}}.
+ * Variable values are always rendered as JSON strings, escaped as necessary. The invariant parts of the
+ * document are held as pre-encoded UTF-8 byte segments, so rendering is a matter of concatenation.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class JsonTemplate {
+	private static final Pattern PLACEHOLDER = Pattern.compile("(\\\\?)(\\{\\{[A-Za-z0-9_.\\-]+}})");
+	private static final byte[] SENTINEL = "\\u0000".getBytes(StandardCharsets.US_ASCII), NULL = {'n','u','l','l'};
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int INLINE = 0, FIELD = 1, OPTIONAL_FIELD = 2;
+	// Whether an optional field is preceded by a comma: never (first member of its object), always (after a
+	// member which is always rendered), or only if one of the optional fields before it was rendered.
+	private static final int SEPARATOR_NONE = 0, SEPARATOR_ALWAYS = 1, SEPARATOR_IF_FILLED = 2;
+	private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+	private static final ThreadLocal<Output> BUFFER = new ThreadLocal<>();
+
+	private final List<String> variableNames;
+	private final byte[][] literals, prefixes;
+	private final int[] slotVariables, slotKinds, separators;
+	private final int literalSize;
+
+	private JsonTemplate(Builder builder) {
+		ObjectMapper mapper = Jsonable.createDefaultObjectMapper()
+				.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+		try {
+			String json = builder.prototype.toJson();
+			if (json.contains("\\u0000")) {
+				throw new IllegalArgumentException("Prototype cannot contain NUL characters.");
+			}
+			JsonNode tree = mapper.readTree(json);
+			List<String> names = new ArrayList<>();
+			List<Integer> variables = new ArrayList<>(), kinds = new ArrayList<>();
+			Map<Integer, byte[]> fieldKeys = new HashMap<>();
+
+			for (Map.Entry<String, FieldSlot> entry : builder.fields.entrySet()) {
+				JsonPointer pointer = JsonPointer.compile(entry.getKey());
+				JsonNode parent = tree.at(pointer.head());
+				String property = pointer.last().getMatchingProperty();
+				if (!(parent instanceof ObjectNode)) {
+					throw new IllegalArgumentException("No object to hold field '"+entry.getKey()+"'.");
+				}
+				ObjectNode parentObject = (ObjectNode) parent;
+				if (!entry.getValue().optional && !parentObject.has(property)) {
+					throw new IllegalArgumentException("Prototype has no field at '"+entry.getKey()+"'.");
+				}
+				int slot = variables.size();
+				variables.add(variableIndex(names, entry.getValue().variable));
+				kinds.add(entry.getValue().optional ? OPTIONAL_FIELD : FIELD);
+				if (entry.getValue().optional) {
+					// Optional fields are moved to the end of their object, so that omitting them only
+					// requires dropping the key and any separator before it, not the one after.
+					parentObject.remove(property);
+					fieldKeys.put(slot, mapper.writeValueAsBytes(property));
+				}
+				parentObject.put(property, sentinel(slot));
+			}
+			tree = replacePlaceholders(tree, names, variables, kinds);
+
+			byte[] serialised = mapper.writeValueAsBytes(tree);
+			int slotCount = variables.size();
+			literals = new byte[slotCount + 1][];
+			prefixes = new byte[slotCount][];
+			slotVariables = new int[slotCount];
+			slotKinds = new int[slotCount];
+			separators = new int[slotCount];
+			int start = 0, size = 0;
+			for (int s = 0; s < slotCount; s++) {
+				int open = indexOf(serialised, SENTINEL, start), digits = open + SENTINEL.length;
+				int close = indexOf(serialised, SENTINEL, digits);
+				int slot = Integer.parseInt(new String(serialised, digits, close - digits, StandardCharsets.US_ASCII));
+				int kind = slotKinds[s] = kinds.get(slot), end = open, next = close + SENTINEL.length;
+				slotVariables[s] = variables.get(slot);
+				if (kind != INLINE) {
+					end--;
+					next++;
+				}
+				if (kind == OPTIONAL_FIELD) {
+					byte[] key = fieldKeys.get(slot);
+					int keyStart = end - key.length - 1;
+					prefixes[s] = Arrays.copyOfRange(serialised, keyStart, end);
+					if (keyStart > start && serialised[keyStart - 1] == ',') {
+						// The separator is written at render time, since the preceding member may be omitted.
+						keyStart--;
+						separators[s] = keyStart > start || slotKinds[s - 1] != OPTIONAL_FIELD ?
+								SEPARATOR_ALWAYS : SEPARATOR_IF_FILLED;
+					}
+					end = keyStart;
+				}
+				size += (literals[s] = Arrays.copyOfRange(serialised, start, end)).length;
+				start = next;
+			}
+			size += (literals[slotCount] = Arrays.copyOfRange(serialised, start, serialised.length)).length;
+			literalSize = size;
+			variableNames = Collections.unmodifiableList(names);
+		}
+		catch (IOException ex) {
+			throw new VonageUnexpectedException("Failed to compile JSON template.", ex);
+		}
+	}
+
+	private static String sentinel(int slot) {
+		return "\u0000" + slot + "\u0000";
+	}
+
+	private static int variableIndex(List<String> names, String name) {
+		int index = names.indexOf(name);
+		if (index < 0) {
+			names.add(name);
+			index = names.size() - 1;
+		}
+		return index;
+	}
+
+	private static JsonNode replacePlaceholders(JsonNode node, List<String> names,
+												List<Integer> variables, List<Integer> kinds) {
+		if (node instanceof ObjectNode) {
+			ObjectNode object = (ObjectNode) node;
+			List<String> keys = new ArrayList<>();
+			object.fieldNames().forEachRemaining(keys::add);
+			for (String key : keys) {
+				object.set(key, replacePlaceholders(object.get(key), names, variables, kinds));
+			}
+		}
+		else if (node instanceof ArrayNode) {
+			ArrayNode array = (ArrayNode) node;
+			for (int i = 0; i < array.size(); i++) {
+				array.set(i, replacePlaceholders(array.get(i), names, variables, kinds));
+			}
+		}
+		else if (node.isTextual()) {
+			Matcher matcher = PLACEHOLDER.matcher(node.textValue());
+			if (matcher.find()) {
+				StringBuffer replaced = new StringBuffer();
+				do {
+					String placeholder = matcher.group(2);
+					if (!matcher.group(1).isEmpty()) {
+						matcher.appendReplacement(replaced, Matcher.quoteReplacement(placeholder));
+						continue;
+					}
+					int slot = variables.size();
+					variables.add(variableIndex(names, placeholder.substring(2, placeholder.length() - 2)));
+					kinds.add(INLINE);
+					matcher.appendReplacement(replaced, sentinel(slot));
+				}
+				while (matcher.find());
+				return TextNode.valueOf(matcher.appendTail(replaced).toString());
+			}
+		}
+		return node;
+	}
+
+	private static int indexOf(byte[] array, byte[] target, int from) {
+		outer: for (int i = from; i <= array.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (array[i + j] != target[j]) continue outer;
+			}
+			return i;
+		}
+		throw new IllegalStateException("Template slot marker not found.");
+	}
+
+	/**
+	 * Names of the variables in this template, in order of first appearance.
+	 *
+	 * @return The variable names, as an immutable list.
+	 */
+	public List<String> getVariableNames() {
+		return variableNames;
+	}
+
+	/**
+	 * Renders the template with the given variable values.
+	 *
+	 * @param values Variable values, keyed by name. Values are converted using {@code toString()}.
+	 * Only {@linkplain Builder#optionalField(String, String) optional fields} may be absent or {@code null};
+	 * for {@linkplain Builder#field(String, String) required fields}, a {@code null} value is rendered as
+	 * JSON {@code null}.
+	 *
+	 * @return The UTF-8 encoded JSON document.
+	 * @throws IllegalArgumentException If a placeholder variable is missing.
+	 */
+	public byte[] render(Map<String, ?> values) {
+		return render(values::get);
+	}
+
+	/**
+	 * Renders the template, obtaining each variable's value from the given function.
+	 *
+	 * @param values Function which returns the value of the named variable, or {@code null} if absent.
+	 *
+	 * @return The UTF-8 encoded JSON document.
+	 * @throws IllegalArgumentException If a placeholder variable is missing.
+	 * @see #render(Map)
+	 */
+	public byte[] render(Function<String, ?> values) {
+		String[] resolved = new String[variableNames.size()];
+		int estimate = resolve(values, resolved);
+		Output out = new Output(estimate + (estimate >> 3));
+		render(resolved, out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Looks up the value of each variable.
+	 *
+	 * @return An estimate of the rendered size.
+	 */
+	private int resolve(Function<String, ?> values, String[] resolved) {
+		int estimate = literalSize;
+		for (int v = 0; v < resolved.length; v++) {
+			Object value = values.apply(variableNames.get(v));
+			if (value != null) {
+				estimate += (resolved[v] = value.toString()).length() + 2;
+			}
+		}
+		return estimate;
+	}
+
+	private boolean separated(int slot, boolean filled) {
+		return separators[slot] == SEPARATOR_ALWAYS || (separators[slot] == SEPARATOR_IF_FILLED && filled);
+	}
+
+	private void render(String[] resolved, Output out) {
+		boolean filled = false;
+		for (int s = 0; s < slotVariables.length; s++) {
+			out.write(literals[s]);
+			String value = resolved[slotVariables[s]];
+			switch (slotKinds[s]) {
+				case INLINE:
+					if (value == null) {
+						throw new IllegalArgumentException(
+								"No value for variable '"+variableNames.get(slotVariables[s])+"'."
+						);
+					}
+					out.writeEscaped(value);
+					break;
+				case OPTIONAL_FIELD:
+					boolean separated = separated(s, filled);
+					filled = separated || value != null;
+					if (value == null) break;
+					if (separated) out.write(',');
+					out.write(prefixes[s]);
+				default:
+					if (value == null) {
+						out.write(NULL);
+					}
+					else {
+						out.write('"');
+						out.writeEscaped(value);
+						out.write('"');
+					}
+			}
+		}
+		out.write(literals[slotVariables.length]);
+	}
+
+	/**
+	 * Calculates the number of bytes that rendering the template with the given values would produce,
+	 * for example to set the {@code Content-Length} of a response before calling
+	 * {@link #writeTo(Map, OutputStream)}. The template is not rendered.
+	 *
+	 * @param values Variable values, keyed by name.
+	 *
+	 * @return The length of the rendered UTF-8 encoded JSON, in bytes.
+	 * @throws IllegalArgumentException If a placeholder variable is missing.
+	 */
+	public int computeSize(Map<String, ?> values) {
+		return computeSize(values::get);
+	}
+
+	/**
+	 * Calculates the number of bytes that rendering the template would produce, obtaining each variable's
+	 * value from the given function.
+	 *
+	 * @param values Function which returns the value of the named variable, or {@code null} if absent.
+	 *
+	 * @return The length of the rendered UTF-8 encoded JSON, in bytes.
+	 * @throws IllegalArgumentException If a placeholder variable is missing.
+	 * @see #computeSize(Map)
+	 */
+	public int computeSize(Function<String, ?> values) {
+		String[] resolved = new String[variableNames.size()];
+		resolve(values, resolved);
+		int size = literalSize;
+		boolean filled = false;
+		for (int s = 0; s < slotVariables.length; s++) {
+			String value = resolved[slotVariables[s]];
+			switch (slotKinds[s]) {
+				case INLINE:
+					if (value == null) {
+						throw new IllegalArgumentException(
+								"No value for variable '"+variableNames.get(slotVariables[s])+"'."
+						);
+					}
+					size += Output.escapedLength(value);
+					break;
+				case OPTIONAL_FIELD:
+					boolean separated = separated(s, filled);
+					filled = separated || value != null;
+					if (value == null) break;
+					size += prefixes[s].length + (separated ? 1 : 0);
+				default:
+					size += value == null ? NULL.length : Output.escapedLength(value) + 2;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Renders the template to the given stream.
+	 *
+	 * @param values Variable values, keyed by name.
+	 * @param destination The stream to write the UTF-8 encoded JSON to. It will not be closed.
+	 *
+	 * @throws IOException If writing to the stream fails.
+	 * @see #render(Map)
+	 */
+	public void writeTo(Map<String, ?> values, OutputStream destination) throws IOException {
+		writeTo(values::get, destination);
+	}
+
+	/**
+	 * Renders the template to the given stream, obtaining each variable's value from the given function.
+	 * The document is rendered into a per-thread buffer which is reused between calls, so this does not
+	 * allocate a new array for each document as {@link #render(Function)} does.
+	 *
+	 * @param values Function which returns the value of the named variable, or {@code null} if absent.
+	 * @param destination The stream to write the UTF-8 encoded JSON to. It will not be closed.
+	 *
+	 * @throws IOException If writing to the stream fails.
+	 * @throws IllegalArgumentException If a placeholder variable is missing, in which case nothing is written.
+	 * @see #render(Function)
+	 */
+	public void writeTo(Function<String, ?> values, OutputStream destination) throws IOException {
+		String[] resolved = new String[variableNames.size()];
+		int estimate = resolve(values, resolved);
+		// The buffer is removed while in use, in case the destination renders another template.
+		Output out = BUFFER.get();
+		if (out == null) {
+			out = new Output(Math.max(estimate + (estimate >> 3), 1024));
+		}
+		else {
+			BUFFER.remove();
+		}
+		try {
+			render(resolved, out);
+			out.writeTo(destination);
+		}
+		finally {
+			if (out.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+				out.reset();
+				BUFFER.set(out);
+			}
+		}
+	}
+
+	/**
+	 * Minimal growable byte buffer with JSON string escaping.
+	 */
+	static final class Output {
+		private byte[] buf;
+		private int count;
+
+		Output(int capacity) {
+			buf = new byte[Math.max(capacity, 16)];
+		}
+
+		private void ensureCapacity(int extra) {
+			if (count + extra > buf.length) {
+				buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + extra));
+			}
+		}
+
+		void write(int b) {
+			ensureCapacity(1);
+			buf[count++] = (byte) b;
+		}
+
+		void write(byte[] bytes) {
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buf, count, bytes.length);
+			count += bytes.length;
+		}
+
+		/**
+		 * Writes the contents of a JSON string literal (without surrounding quotes) in UTF-8.
+		 */
+		void writeEscaped(CharSequence value) {
+			final int length = value.length();
+			ensureCapacity(length);
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+					if (count == buf.length) ensureCapacity(length - i);
+					buf[count++] = (byte) c;
+				}
+				else if (c < 0x80) {
+					ensureCapacity(6);
+					buf[count++] = '\\';
+					switch (c) {
+						case '"': case '\\': buf[count++] = (byte) c; break;
+						case '\n': buf[count++] = 'n'; break;
+						case '\r': buf[count++] = 'r'; break;
+						case '\t': buf[count++] = 't'; break;
+						case '\b': buf[count++] = 'b'; break;
+						case '\f': buf[count++] = 'f'; break;
+						default:
+							buf[count++] = 'u';
+							buf[count++] = '0';
+							buf[count++] = '0';
+							buf[count++] = HEX[c >> 4];
+							buf[count++] = HEX[c & 0xF];
+					}
+				}
+				else if (c < 0x800) {
+					ensureCapacity(2);
+					buf[count++] = (byte) (0xC0 | (c >> 6));
+					buf[count++] = (byte) (0x80 | (c & 0x3F));
+				}
+				else if (Character.isHighSurrogate(c) && i + 1 < length &&
+						Character.isLowSurrogate(value.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, value.charAt(++i));
+					ensureCapacity(4);
+					buf[count++] = (byte) (0xF0 | (cp >> 18));
+					buf[count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+					buf[count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+					buf[count++] = (byte) (0x80 | (cp & 0x3F));
+				}
+				else {
+					// Unpaired surrogates cannot be encoded, so are replaced as String.getBytes would.
+					char bmp = Character.isSurrogate(c) ? '?' : c;
+					ensureCapacity(3);
+					if (bmp == '?') {
+						buf[count++] = '?';
+						continue;
+					}
+					buf[count++] = (byte) (0xE0 | (bmp >> 12));
+					buf[count++] = (byte) (0x80 | ((bmp >> 6) & 0x3F));
+					buf[count++] = (byte) (0x80 | (bmp & 0x3F));
+				}
+			}
+		}
+
+		/**
+		 * Calculates the number of bytes that {@link #writeEscaped(CharSequence)} would write.
+		 */
+		static int escapedLength(CharSequence value) {
+			final int length = value.length();
+			int size = 0;
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+					size++;
+				}
+				else if (c < 0x80) {
+					switch (c) {
+						case '"': case '\\': case '\n': case '\r': case '\t': case '\b': case '\f':
+							size += 2;
+							break;
+						default:
+							size += 6;
+					}
+				}
+				else if (c < 0x800) {
+					size += 2;
+				}
+				else if (Character.isHighSurrogate(c) && i + 1 < length &&
+						Character.isLowSurrogate(value.charAt(i + 1))) {
+					i++;
+					size += 4;
+				}
+				else {
+					size += Character.isSurrogate(c) ? 1 : 3;
+				}
+			}
+			return size;
+		}
+
+		int capacity() {
+			return buf.length;
+		}
+
+		void reset() {
+			count = 0;
+		}
+
+		void writeTo(OutputStream destination) throws IOException {
+			destination.write(buf, 0, count);
+		}
+
+		byte[] toByteArray() {
+			return count == buf.length ? buf : Arrays.copyOf(buf, count);
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param prototype (REQUIRED) The object to serialise as the template. String values may contain
+	 * {@code {{name}}} placeholders.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(Jsonable prototype) {
+		return new Builder(prototype);
+	}
+
+	private static final class FieldSlot {
+		final String variable;
+		final boolean optional;
+
+		FieldSlot(String variable, boolean optional) {
+			this.variable = Objects.requireNonNull(variable, "Variable name cannot be null.");
+			this.optional = optional;
+		}
+	}
+
+	/**
+	 * Builder for declaring whole-field variables.
+	 */
+	public static final class Builder {
+		private final Jsonable prototype;
+		private final Map<String, FieldSlot> fields = new LinkedHashMap<>();
+
+		private Builder(Jsonable prototype) {
+			this.prototype = Objects.requireNonNull(prototype, "Prototype cannot be null.");
+		}
+
+		/**
+		 * Replaces the value of an existing field in the prototype with a variable.
+		 *
+		 * @param pointer JSON Pointer to the field, e.g. {@code /to} or {@code /whatsapp/locale}.
+		 * @param variable Name of the variable to substitute.
+		 *
+		 * @return This builder.
+		 */
+		public Builder field(String pointer, String variable) {
+			fields.put(pointer, new FieldSlot(variable, false));
+			return this;
+		}
+
+		/**
+		 * Declares a field which is set from a variable, and omitted entirely when the variable's value
+		 * is {@code null}. The field need not be present in the prototype, but its parent object must be.
+		 * Note that the field will be moved to the end of its parent object.
+		 *
+		 * @param pointer JSON Pointer to the field, e.g. {@code /client_ref}.
+		 * @param variable Name of the variable to substitute.
+		 *
+		 * @return This builder.
+		 */
+		public Builder optionalField(String pointer, String variable) {
+			fields.put(pointer, new FieldSlot(variable, true));
+			return this;
+		}
+
+		/**
+		 * Serialises the prototype and compiles the template.
+		 *
+		 * @return A new JsonTemplate.
+		 * @throws IllegalArgumentException If a field pointer does not match the prototype.
+		 */
+		public JsonTemplate build() {
+			return new JsonTemplate(this);
+		}
+	}
+}
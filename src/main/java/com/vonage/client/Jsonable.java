@@ -22,8 +22,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
 
 /**
  * Indicates that a class can be serialized to and parsed from JSON.
@@ -52,15 +56,49 @@ public interface Jsonable {
 	 * @return The JSON string representing this class's marked properties.
 	 */
 	default String toJson() {
-		try {
-			ObjectMapper mapper = this instanceof JsonableBaseObject ?
-					((JsonableBaseObject) this).createJsonObjectMapper() : createDefaultObjectMapper();
+		return JsonWriter.toJson(this);
+	}
 
-			return mapper.writeValueAsString(this);
-		}
-		catch (JsonProcessingException jpe) {
-			throw new VonageUnexpectedException("Failed to produce JSON from "+getClass().getSimpleName()+" object.", jpe);
-		}
+	/**
+	 * Serialises this class as UTF-8 encoded JSON directly to the given stream, without first producing a
+	 * String as {@link #toJson()} does. The stream is neither flushed nor closed.
+	 *
+	 * @param destination The stream to write to.
+	 *
+	 * @throws IOException If writing to the stream fails.
+	 * @throws VonageUnexpectedException If this object could not be serialised.
+	 * @since 9.14.0
+	 */
+	default void writeTo(OutputStream destination) throws IOException {
+		JsonWriter.writeTo(this, Objects.requireNonNull(destination, "Destination cannot be null."));
+	}
+
+	/**
+	 * Serialises this class as UTF-8 encoded JSON directly to the given channel. The channel must be in
+	 * blocking mode, and is not closed.
+	 *
+	 * @param destination The channel to write to.
+	 *
+	 * @throws IOException If writing to the channel fails.
+	 * @throws VonageUnexpectedException If this object could not be serialised.
+	 * @see #writeTo(OutputStream)
+	 * @since 9.14.0
+	 */
+	default void writeTo(WritableByteChannel destination) throws IOException {
+		writeTo(Channels.newOutputStream(Objects.requireNonNull(destination, "Destination cannot be null.")));
+	}
+
+	/**
+	 * Calculates the number of bytes that {@link #writeTo(OutputStream)} would write, for example to set
+	 * the {@code Content-Length} of a response before streaming it. The JSON is generated but discarded
+	 * as it is produced, so this does not buffer the serialised object.
+	 *
+	 * @return The length of this object's UTF-8 encoded JSON, in bytes.
+	 * @throws VonageUnexpectedException If this object could not be serialised.
+	 * @since 9.14.0
+	 */
+	default long computeJsonSize() {
+		return JsonWriter.computeSize(this);
 	}
 
 	/**
@@ -0,0 +1,567 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Durable, append-only log of outgoing requests, used by {@link AbstractOutbox} to survive process crashes.
+ * Each entry is appended to a memory-mapped segment file and acknowledged once it has been sent; on reopening,
+ * every entry which was not acknowledged is available from {@link #getPendingEntries()}. Segments are deleted
+ * from the oldest once they contain only acknowledged entries. So that a few long-pending entries do not keep
+ * every later segment on disk, the oldest segment is compacted when it is mostly acknowledged, or when the log
+ * holds considerably more segments than its pending entries need: its pending entries are appended again (with
+ * their original sequence numbers) to the newest segment, and the old segment is deleted. Disk usage is
+ * therefore proportional to the size of the pending entries, rather than to the age of the oldest one.
+ * <p>
+ * Appends from concurrent threads share a single {@code fsync} (group commit), so throughput scales with the
+ * number of appending threads rather than being limited by the disk's sync latency. Acknowledgements are not
+ * synced individually; they become durable with the next append, or when the operating system flushes the
+ * page cache, so after a power failure a few recently acknowledged entries may be pending again.
+ * <p>
+ * Entries may have an idempotency key, such as a client reference. Appending an entry whose key matches one
+ * still held in the log (whether pending or acknowledged) has no effect.
+ * <p>
+ * Record format: {@code [length:int][type:byte][sequence:long][payload][crc32:int]}, where the length covers
+ * the type, sequence and payload, and the checksum covers the same bytes. A torn or corrupt record marks the end
+ * of the log, so anything after it in the same segment is discarded on recovery.
+ *
+ * @since 9.14.0
+ */
+public final class OutboxLog implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(OutboxLog.class.getName());
+	private static final String SUFFIX = ".log";
+	private static final byte APPEND = 1, ACK = 2;
+	private static final int HEADER = 4 + 1 + 8, OVERHEAD = HEADER + 4;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final boolean fsync;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+	private final SortedMap<Long, Entry> pending = new TreeMap<>();
+	private final Map<String, Long> keys = new HashMap<>();
+	private final CRC32 crc = new CRC32();
+	private final Object syncLock = new Object();
+	private Segment active;
+	private long nextSequence = 1, lastSegmentId, writeCount, durableCount, pendingBytes;
+	private boolean syncing, closed;
+
+	private OutboxLog(Builder builder) throws IOException {
+		directory = Files.createDirectories(builder.directory);
+		segmentSize = builder.segmentSize;
+		fsync = builder.fsync;
+		recover();
+	}
+
+	private void recover() throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+			stream.forEach(files::add);
+		}
+		Collections.sort(files);
+		for (Path file : files) {
+			String name = file.getFileName().toString();
+			try {
+				lastSegmentId = Math.max(lastSegmentId, Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+			}
+			catch (NumberFormatException ex) {
+				// Not named by this class, but still read in name order.
+			}
+			Segment segment = new Segment(file, Math.max(segmentSize, (int) Files.size(file)));
+			segments.add(segment);
+			segment.position = scan(segment);
+		}
+		if (segments.isEmpty()) {
+			active = newSegment();
+		}
+		else {
+			active = segments.getLast();
+			// Clear anything after the last valid record, so that stale bytes are never mistaken for records.
+			ByteBuffer tail = active.buffer.duplicate();
+			tail.position(active.position);
+			while (tail.hasRemaining()) tail.put((byte) 0);
+			active.buffer.force();
+		}
+		reclaimSegments();
+	}
+
+	private int scan(Segment segment) {
+		ByteBuffer buffer = segment.buffer.duplicate();
+		int position = 0;
+		while (position + OVERHEAD <= buffer.capacity()) {
+			int length = buffer.getInt(position);
+			if (length < HEADER - 4 || position + 4 + length + 4 > buffer.capacity()) break;
+			crc.reset();
+			for (int i = position + 4; i < position + 4 + length; i++) {
+				crc.update(buffer.get(i));
+			}
+			if ((int) crc.getValue() != buffer.getInt(position + 4 + length)) break;
+			byte type = buffer.get(position + 4);
+			long sequence = buffer.getLong(position + 5);
+			nextSequence = Math.max(nextSequence, sequence + 1);
+			if (type == APPEND) {
+				int keyLength = buffer.getShort(position + HEADER) & 0xFFFF;
+				byte[] key = new byte[keyLength], payload = new byte[length - (HEADER - 4) - 2 - keyLength];
+				buffer.position(position + HEADER + 2);
+				buffer.get(key).get(payload);
+				Entry entry = new Entry(sequence, keyLength > 0 ? new String(key, StandardCharsets.UTF_8) : null,
+						payload, length + 8, segment
+				);
+				// A compacted entry may also still be in an older segment, if the log was not reopened since.
+				Entry previous = pending.get(sequence);
+				if (previous != null) unindex(previous);
+				index(entry);
+			}
+			else if (type == ACK) {
+				Entry entry = pending.get(sequence);
+				if (entry != null) unindex(entry);
+			}
+			position += length + 8;
+		}
+		return position;
+	}
+
+	private void index(Entry entry) {
+		pending.put(entry.sequence, entry);
+		entry.segment.unacknowledged++;
+		entry.segment.pendingBytes += entry.size;
+		pendingBytes += entry.size;
+		if (entry.key != null) {
+			keys.put(entry.key, entry.sequence);
+			entry.segment.keys.add(entry.key);
+		}
+	}
+
+	private void unindex(Entry entry) {
+		pending.remove(entry.sequence);
+		entry.segment.unacknowledged--;
+		entry.segment.pendingBytes -= entry.size;
+		pendingBytes -= entry.size;
+	}
+
+	private Segment newSegment() throws IOException {
+		// Named after the first sequence number it may contain, unless a segment was started since that
+		// number was allocated, e.g. when acknowledgements or compaction fill a segment.
+		lastSegmentId = Math.max(nextSequence, lastSegmentId + 1);
+		Segment segment = new Segment(directory.resolve(String.format("%020d%s", lastSegmentId, SUFFIX)), segmentSize);
+		segments.add(segment);
+		return segment;
+	}
+
+	/**
+	 * Deletes the oldest segments while they contain only acknowledged entries, compacting them if they hold
+	 * few pending entries or the log holds more than twice as many segments as its pending entries need.
+	 * Only the oldest segment is ever deleted, since acknowledgements of entries in older segments may be
+	 * recorded in any later one.
+	 */
+	private void reclaimSegments() throws IOException {
+		for (int limit = segments.size(); limit > 0 && segments.size() > 1; limit--) {
+			Segment oldest = segments.getFirst();
+			if (oldest.unacknowledged > 0) {
+				if (oldest.pendingBytes > segmentSize / 4 && segments.size() <= 2 + 2 * (pendingBytes / segmentSize)) {
+					return;
+				}
+				compact(oldest);
+			}
+			segments.removeFirst();
+			for (String key : oldest.keys) {
+				Long sequence = keys.get(key);
+				if (sequence != null && !pending.containsKey(sequence)) {
+					keys.remove(key);
+				}
+			}
+			oldest.delete();
+		}
+	}
+
+	/**
+	 * Appends the segment's pending entries to the newest segment, and makes them durable.
+	 */
+	private void compact(Segment segment) throws IOException {
+		List<Entry> moved = new ArrayList<>(segment.unacknowledged);
+		for (Entry entry : pending.values()) {
+			if (entry.segment == segment) moved.add(entry);
+		}
+		for (Entry entry : moved) {
+			unindex(entry);
+			writeRecord(APPEND, entry.sequence,
+					entry.key != null ? entry.key.getBytes(StandardCharsets.UTF_8) : new byte[0], entry.payload
+			);
+			entry.segment = active;
+			index(entry);
+		}
+		if (fsync) active.buffer.force();
+	}
+
+	/**
+	 * Appends a record to the active segment, starting a new one if it is full.
+	 *
+	 * @return The size of the record in bytes.
+	 */
+	private int writeRecord(byte type, long sequence, byte[] key, byte[] payload) throws IOException {
+		int length = HEADER - 4 + (type == APPEND ? 2 + key.length : 0) + payload.length;
+		if (length + 8 > active.buffer.capacity() - active.position) {
+			if (length + 8 > segmentSize) {
+				throw new IllegalArgumentException("Entry of " + payload.length + " bytes exceeds the segment size.");
+			}
+			// Everything in the old segment must be durable before later records are synced in the new one.
+			if (fsync) active.buffer.force();
+			active = newSegment();
+		}
+		ByteBuffer buffer = active.buffer.duplicate();
+		buffer.position(active.position + 4);
+		buffer.put(type).putLong(sequence);
+		if (type == APPEND) {
+			buffer.putShort((short) key.length).put(key);
+		}
+		buffer.put(payload);
+		crc.reset();
+		ByteBuffer checksummed = active.buffer.duplicate();
+		checksummed.position(active.position + 4).limit(active.position + 4 + length);
+		updateChecksum(checksummed);
+		buffer.putInt((int) crc.getValue());
+		// The length is written last, so a partially written record is never seen as complete.
+		active.buffer.putInt(active.position, length);
+		active.position += length + 8;
+		writeCount++;
+		return length + 8;
+	}
+
+	private void updateChecksum(ByteBuffer buffer) {
+		while (buffer.hasRemaining()) {
+			crc.update(buffer.get());
+		}
+	}
+
+	/**
+	 * Appends an entry without waiting for it to be synced to disk.
+	 *
+	 * @return The new entry, or {@code null} if the key is a duplicate.
+	 */
+	synchronized Entry write(String key, byte[] payload) throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Outbox log has been closed.");
+		}
+		if (key != null && keys.containsKey(key)) return null;
+		byte[] keyBytes = key != null ? key.getBytes(StandardCharsets.UTF_8) : new byte[0];
+		if (keyBytes.length > 0xFFFF) {
+			throw new IllegalArgumentException("Key is too long.");
+		}
+		long sequence = nextSequence++;
+		Segment previous = active;
+		int size = writeRecord(APPEND, sequence, keyBytes, payload);
+		Entry entry = new Entry(sequence, key, payload, size, active);
+		index(entry);
+		if (active != previous) {
+			reclaimSegments();
+		}
+		return entry;
+	}
+
+	/**
+	 * Waits until everything written so far is on disk, syncing it if no other thread is already doing so.
+	 */
+	void sync() throws IOException {
+		if (!fsync) return;
+		long target;
+		synchronized (this) {
+			target = writeCount;
+		}
+		while (true) {
+			synchronized (syncLock) {
+				while (syncing && durableCount < target) {
+					try {
+						syncLock.wait();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new InterruptedIOException("Interrupted while waiting for the outbox log to sync.");
+					}
+				}
+				if (durableCount >= target) return;
+				syncing = true;
+			}
+			long upTo = target;
+			try {
+				MappedByteBuffer buffer;
+				synchronized (this) {
+					upTo = writeCount;
+					buffer = active.buffer;
+				}
+				buffer.force();
+			}
+			catch (RuntimeException ex) {
+				upTo = -1;
+				throw new IOException("Failed to sync outbox log.", ex);
+			}
+			finally {
+				synchronized (syncLock) {
+					syncing = false;
+					durableCount = Math.max(durableCount, upTo);
+					syncLock.notifyAll();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Durably appends an entry to the log. When multiple threads append concurrently, their entries are
+	 * synced to disk together.
+	 *
+	 * @param key Idempotency key for the entry, or {@code null} if the entry should always be appended.
+	 * @param payload The entry's content, which is not copied so must not be modified afterwards.
+	 *
+	 * @return The new entry, or {@code null} if an entry with the same key is already held in the log.
+	 *
+	 * @throws IOException If the entry could not be written or synced.
+	 * @throws IllegalArgumentException If the entry is too large to fit in a segment.
+	 */
+	public Entry append(String key, byte[] payload) throws IOException {
+		Entry entry = write(key, Objects.requireNonNull(payload, "Payload cannot be null."));
+		if (entry != null) sync();
+		return entry;
+	}
+
+	/**
+	 * Marks an entry as processed, so that it is no longer pending on recovery.
+	 *
+	 * @param entry The entry, as returned from {@link #append(String, byte[])} or {@link #getPendingEntries()}.
+	 * @param result Description of the outcome, such as the identifier assigned to a sent message. This is
+	 * recorded for diagnostic purposes only, and may be {@code null}.
+	 *
+	 * @return {@code true} if the entry was pending, {@code false} if it had already been acknowledged.
+	 *
+	 * @throws IOException If the acknowledgement could not be written.
+	 */
+	public synchronized boolean acknowledge(Entry entry, String result) throws IOException {
+		Entry current = closed ? null : pending.get(entry.sequence);
+		if (current == null) return false;
+		unindex(current);
+		writeRecord(ACK, entry.sequence, null,
+				result != null ? result.getBytes(StandardCharsets.UTF_8) : new byte[0]
+		);
+		reclaimSegments();
+		return true;
+	}
+
+	/**
+	 * Entries which have been appended but not acknowledged, in the order they were appended. After reopening,
+	 * these are the entries which were outstanding when the log was last used.
+	 *
+	 * @return A snapshot of the pending entries.
+	 */
+	public synchronized List<Entry> getPendingEntries() {
+		return new ArrayList<>(pending.values());
+	}
+
+	/**
+	 * Number of entries which have been appended but not acknowledged.
+	 *
+	 * @return The pending entry count.
+	 */
+	public synchronized int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Number of segment files currently held on disk.
+	 *
+	 * @return The segment count.
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * Syncs and closes the log. Pending entries remain on disk, to be recovered when the log is reopened.
+	 *
+	 * @throws IOException If the final sync fails.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		try {
+			active.buffer.force();
+		}
+		finally {
+			for (Segment segment : segments) {
+				segment.channel.close();
+			}
+		}
+	}
+
+	/**
+	 * A single request in the log.
+	 */
+	public static final class Entry {
+		private final long sequence;
+		private final String key;
+		private final byte[] payload;
+		private final int size;
+		private Segment segment;
+
+		private Entry(long sequence, String key, byte[] payload, int size, Segment segment) {
+			this.sequence = sequence;
+			this.key = key;
+			this.payload = payload;
+			this.size = size;
+			this.segment = segment;
+		}
+
+		/**
+		 * Position of the entry in the log, which increases with every entry appended.
+		 *
+		 * @return The entry's sequence number.
+		 */
+		public long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * The idempotency key given when the entry was appended.
+		 *
+		 * @return The key, or {@code null} if there isn't one.
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * The entry's content. For efficiency, this is not a copy, so must not be modified.
+		 *
+		 * @return The payload.
+		 */
+		public byte[] getPayload() {
+			return payload;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "{sequence=" + sequence + ", key=" + key + '}';
+		}
+	}
+
+	/**
+	 * A memory-mapped, pre-allocated log file.
+	 */
+	private static final class Segment {
+		final Path file;
+		final FileChannel channel;
+		final MappedByteBuffer buffer;
+		final List<String> keys = new ArrayList<>();
+		int position, unacknowledged;
+		long pendingBytes;
+
+		Segment(Path file, int size) throws IOException {
+			this.file = file;
+			channel = FileChannel.open(file,
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+			);
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+
+		void delete() {
+			try {
+				channel.close();
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ex) {
+				// The mapping is only released on garbage collection, which prevents deletion on some platforms.
+				LOGGER.log(Level.FINE, "Could not delete outbox segment " + file, ex);
+			}
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param directory (REQUIRED) Directory to hold the log's segment files, which is created if it does not
+	 * exist. The directory should not be shared with anything else, including other logs.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(Path directory) {
+		return new Builder(directory);
+	}
+
+	/**
+	 * Builder for opening a log.
+	 */
+	public static final class Builder {
+		private final Path directory;
+		private int segmentSize = 64 * 1024 * 1024;
+		private boolean fsync = true;
+
+		private Builder(Path directory) {
+			this.directory = Objects.requireNonNull(directory, "Directory cannot be null.");
+		}
+
+		/**
+		 * (OPTIONAL) Size of each segment file, which is allocated in full when the segment is created.
+		 * Entries cannot be larger than this. The default is 64 MiB.
+		 *
+		 * @param segmentSize The segment size in bytes, which must be at least 4 KiB.
+		 *
+		 * @return This builder.
+		 */
+		public Builder segmentSize(int segmentSize) {
+			if (segmentSize < 4096) {
+				throw new IllegalArgumentException("Segment size must be at least 4096 bytes.");
+			}
+			this.segmentSize = segmentSize;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Whether appends wait for entries to be synced to disk. Without syncing, entries survive
+		 * a crash of the process, since they are held in the operating system's page cache, but may be lost
+		 * if the machine itself fails. The default is {@code true}.
+		 *
+		 * @param fsync {@code false} to skip syncing.
+		 *
+		 * @return This builder.
+		 */
+		public Builder fsync(boolean fsync) {
+			this.fsync = fsync;
+			return this;
+		}
+
+		/**
+		 * Opens the log, recovering any existing entries in the directory.
+		 *
+		 * @return A new OutboxLog instance.
+		 *
+		 * @throws IOException If the directory or its segment files could not be read or created.
+		 */
+		public OutboxLog build() throws IOException {
+			return new OutboxLog(this);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Body of a successful response which is read from the connection on demand, as returned by
+ * {@link DynamicEndpoint#executeAsStream(Object)}. Closing the stream closes the response, releasing
+ * the connection, or aborting it if the end of the body has not been reached.
+ *
+ * @since 9.14.0
+ */
+public final class ResponseBodyInputStream extends FilterInputStream {
+	private final CloseableHttpResponse response;
+
+	ResponseBodyInputStream(InputStream content, CloseableHttpResponse response) {
+		super(content);
+		this.response = response;
+	}
+
+	/**
+	 * The HTTP status code of the response, which is always 2xx.
+	 *
+	 * @return The status code.
+	 */
+	public int getStatusCode() {
+		return response.getStatusLine().getStatusCode();
+	}
+
+	/**
+	 * Retrieves a header from the response.
+	 *
+	 * @param name The header name (case-insensitive).
+	 *
+	 * @return The value of the first header with this name, or {@code null} if absent.
+	 */
+	public String getHeader(String name) {
+		Header header = response.getFirstHeader(name);
+		return header != null ? header.getValue() : null;
+	}
+
+	/**
+	 * Length of the response body, as declared by the server.
+	 *
+	 * @return The number of bytes in the body, or a negative value if unknown.
+	 */
+	public long getContentLength() {
+		HttpEntity entity = response.getEntity();
+		return entity != null ? entity.getContentLength() : -1;
+	}
+
+	@Override
+	public void close() throws IOException {
+		response.close();
+	}
+}
@@ -0,0 +1,493 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.sms.MessageEvent;
+import com.vonage.client.voice.EventWebhook;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Memory-bounded filter for detecting redelivered webhooks. Vonage retries webhooks which are not acknowledged
+ * promptly, so under load the same event may arrive several times; this filter allows the duplicates to be
+ * acknowledged without repeating downstream work.
+ * <p>
+ * Each webhook is reduced to a key (for example, message UUID and status) by the key function supplied to the
+ * builder, or one of the predefined ones such as {@link #forMessageStatuses()}. A key is remembered for the
+ * configured {@linkplain Builder#window(Duration) window} after it is first seen, subject to an upper bound on
+ * the number of keys held. When that bound is reached, older keys are forgotten to make room; in exact mode the
+ * bound applies to the total across all stripes, and the key evicted is the oldest of its stripe.
+ * <p>
+ * There are two storage modes:
+ * <ul>
+ *     <li><b>Exact</b> (the default): keys are held in a set of lock-striped, insertion-ordered maps, so there
+ *     are no false positives. Memory use is proportional to the number and length of keys.</li>
+ *     <li><b>Probabilistic</b>, enabled with {@link Builder#falsePositiveRate(double)}: keys are recorded in a
+ *     pair of rotating, lock-free Bloom filters of fixed size, which use around 10 bits per key for a 1% false
+ *     positive rate. A small fraction of first deliveries will be reported as duplicates, and keys are
+ *     remembered for between one and two windows, since filters can only be cleared as a whole.</li>
+ * </ul>
+ * Instances are thread-safe.
+ * <pre>{@code
+ *     WebhookDeduplicator<MessageStatus> dedup = WebhookDeduplicator.forMessageStatuses()
+ *             .window(Duration.ofMinutes(30)).maxEntries(1_000_000).build();
+ *
+ *     MessageStatus status = MessageStatus.fromJson(body);
+ *     if (!dedup.isDuplicate(status)) {
+ *         process(status);
+ *     }
+ * }</pre>
+ *
+ * @param <T> The webhook type.
+ * @since 9.14.0
+ */
+public final class WebhookDeduplicator<T> {
+	private final Function<? super T, String> keyFunction;
+	private final LongSupplier nanoTime;
+	private final long windowNanos;
+	private final int maxEntries;
+	private final AtomicInteger entries = new AtomicInteger();
+	private final Stripe[] stripes;
+	private final BloomGenerations bloom;
+	private final LongAdder duplicates = new LongAdder(), firstDeliveries = new LongAdder();
+
+	private WebhookDeduplicator(Builder<T> builder) {
+		keyFunction = builder.keyFunction;
+		nanoTime = builder.nanoTime;
+		windowNanos = builder.window.toNanos();
+		maxEntries = builder.maxEntries;
+		if (builder.falsePositiveRate > 0) {
+			stripes = null;
+			bloom = new BloomGenerations(builder.maxEntries, builder.falsePositiveRate, nanoTime.getAsLong());
+		}
+		else {
+			int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(builder.stripes, builder.maxEntries)));
+			int expected = (builder.maxEntries + stripeCount - 1) / stripeCount;
+			stripes = new Stripe[stripeCount];
+			for (int i = 0; i < stripeCount; i++) {
+				stripes[i] = new Stripe(expected, entries);
+			}
+			bloom = null;
+		}
+	}
+
+	/**
+	 * Records the webhook and determines whether it has been seen before.
+	 *
+	 * @param webhook The webhook to check.
+	 *
+	 * @return {@code true} if a webhook with the same key was seen within the window,
+	 * {@code false} if this is (as far as the filter can tell) its first delivery.
+	 */
+	public boolean isDuplicate(T webhook) {
+		return isDuplicateKey(Objects.requireNonNull(keyFunction.apply(webhook), "Webhook key cannot be null."));
+	}
+
+	/**
+	 * Records the key and determines whether it has been seen before. This is useful when the key is
+	 * available without parsing the webhook.
+	 *
+	 * @param key The key, as would be returned by this filter's key function.
+	 *
+	 * @return {@code true} if the key was seen within the window, {@code false} otherwise.
+	 */
+	public boolean isDuplicateKey(String key) {
+		long now = nanoTime.getAsLong();
+		boolean duplicate;
+		if (bloom != null) {
+			duplicate = bloom.testAndSet(hash(key), now, windowNanos);
+		}
+		else {
+			int h = key.hashCode(), index = (h ^ (h >>> 16)) & (stripes.length - 1);
+			Stripe stripe = stripes[index];
+			synchronized (stripe) {
+				duplicate = stripe.testAndSet(key, now, windowNanos);
+			}
+			if (!duplicate && entries.incrementAndGet() > maxEntries) {
+				evict(index);
+			}
+		}
+		(duplicate ? duplicates : firstDeliveries).increment();
+		return duplicate;
+	}
+
+	/**
+	 * Makes room after an insertion took the total over the bound. The inserting stripe gives up its eldest
+	 * key if it has any besides the new one; otherwise the next non-empty stripe does. Only one stripe lock
+	 * is held at a time, so concurrent inserts may briefly overshoot the bound by the number of callers.
+	 */
+	private void evict(int index) {
+		for (int i = 0; i < stripes.length; i++) {
+			Stripe stripe = stripes[(index + i) & (stripes.length - 1)];
+			synchronized (stripe) {
+				if (stripe.evictEldest(i == 0 ? 1 : 0)) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Number of webhooks reported as duplicates so far.
+	 *
+	 * @return The duplicate (hit) count.
+	 */
+	public long getDuplicateCount() {
+		return duplicates.sum();
+	}
+
+	/**
+	 * Number of webhooks reported as first deliveries so far.
+	 *
+	 * @return The first delivery (miss) count.
+	 */
+	public long getFirstDeliveryCount() {
+		return firstDeliveries.sum();
+	}
+
+	/**
+	 * Proportion of webhooks checked so far which were duplicates.
+	 *
+	 * @return The hit rate, between 0 and 1, or 0 if no webhooks have been checked.
+	 */
+	public double getDuplicateRate() {
+		long hits = duplicates.sum(), total = hits + firstDeliveries.sum();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Approximate number of keys currently remembered. In probabilistic mode, this is the number of keys
+	 * inserted into the current and previous filters.
+	 *
+	 * @return The number of keys held.
+	 */
+	public long size() {
+		if (bloom != null) {
+			return bloom.size();
+		}
+		long size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * 64-bit FNV-1a hash with a final avalanche step, so that both halves are usable as Bloom filter hashes.
+	 */
+	static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h = (h ^ key.charAt(i)) * 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		return h ^ (h >>> 33);
+	}
+
+	/**
+	 * Insertion-ordered map of keys to their expiry time. Since every key has the same lifetime, the eldest
+	 * entry is always the next to expire, so expiry only needs to look at the head of the map. Removals are
+	 * reflected in the count shared by all stripes; insertions are counted by the caller.
+	 */
+	private static final class Stripe extends LinkedHashMap<String, Long> {
+		private final AtomicInteger entries;
+
+		Stripe(int expectedSize, AtomicInteger entries) {
+			super(Math.min(expectedSize, 1024) * 4 / 3 + 1);
+			this.entries = entries;
+		}
+
+		boolean testAndSet(String key, long now, long windowNanos) {
+			Iterator<Long> expiries = values().iterator();
+			while (expiries.hasNext() && expiries.next() - now <= 0) {
+				expiries.remove();
+				entries.decrementAndGet();
+			}
+			if (containsKey(key)) {
+				return true;
+			}
+			put(key, now + windowNanos);
+			return false;
+		}
+
+		boolean evictEldest(int keep) {
+			if (size() <= keep) {
+				return false;
+			}
+			Iterator<Long> eldest = values().iterator();
+			eldest.next();
+			eldest.remove();
+			entries.decrementAndGet();
+			return true;
+		}
+	}
+
+	/**
+	 * Two Bloom filters, of which the current one receives new keys and the previous one is only consulted.
+	 * When the current filter is full or older than the window, it becomes the previous one.
+	 */
+	private static final class BloomGenerations {
+		private final int capacity, bits, hashes;
+		private volatile BloomFilter current, previous;
+
+		BloomGenerations(int capacity, double falsePositiveRate, long now) {
+			this.capacity = capacity;
+			double ln2 = Math.log(2);
+			long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+			bits = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+			hashes = Math.max(1, (int) Math.round((double) bits / capacity * ln2));
+			current = new BloomFilter(bits, now);
+			previous = new BloomFilter(bits, now);
+		}
+
+		boolean testAndSet(long hash, long now, long windowNanos) {
+			BloomFilter filter = current;
+			if (filter.inserted.sum() >= capacity || now - filter.created >= windowNanos) {
+				filter = rotate(filter, now, windowNanos);
+			}
+			boolean inPrevious = previous.mightContain(hash, hashes);
+			return !filter.set(hash, hashes) || inPrevious;
+		}
+
+		private synchronized BloomFilter rotate(BloomFilter expected, long now, long windowNanos) {
+			if (current == expected) {
+				// If the current filter has itself expired, nothing in it needs to be kept.
+				previous = now - expected.created < 2 * windowNanos ? expected : new BloomFilter(bits, now);
+				current = new BloomFilter(bits, now);
+			}
+			return current;
+		}
+
+		long size() {
+			return current.inserted.sum() + previous.inserted.sum();
+		}
+	}
+
+	private static final class BloomFilter {
+		private final AtomicLongArray words;
+		private final int bits;
+		final long created;
+		final LongAdder inserted = new LongAdder();
+
+		BloomFilter(int bits, long created) {
+			this.words = new AtomicLongArray((bits + 63) >>> 6);
+			this.bits = bits;
+			this.created = created;
+		}
+
+		private int index(long hash, int i) {
+			int combined = (int) hash + i * (int) (hash >>> 32);
+			return (combined & Integer.MAX_VALUE) % bits;
+		}
+
+		boolean mightContain(long hash, int hashes) {
+			for (int i = 0; i < hashes; i++) {
+				int bit = index(hash, i);
+				if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Sets the key's bits.
+		 *
+		 * @return {@code true} if any bit was previously unset, i.e. the key was definitely not present.
+		 */
+		boolean set(long hash, int hashes) {
+			boolean changed = false;
+			for (int i = 0; i < hashes; i++) {
+				int bit = index(hash, i), word = bit >>> 6;
+				long mask = 1L << bit, value;
+				while (((value = words.get(word)) & mask) == 0) {
+					if (words.compareAndSet(word, value, value | mask)) {
+						changed = true;
+						break;
+					}
+				}
+			}
+			if (changed) {
+				inserted.increment();
+			}
+			return changed;
+		}
+	}
+
+	/**
+	 * Creates a builder for a filter with a custom key function.
+	 *
+	 * @param keyFunction Function which derives the deduplication key of a webhook. Webhooks with equal keys are
+	 * considered duplicates.
+	 *
+	 * @return A new Builder.
+	 * @param <T> The webhook type.
+	 */
+	public static <T> Builder<T> builder(Function<? super T, String> keyFunction) {
+		return new Builder<>(keyFunction);
+	}
+
+	/**
+	 * Creates a builder for Messages API status webhooks, keyed by message UUID and status.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder<MessageStatus> forMessageStatuses() {
+		return builder(status -> status.getMessageUuid() + "|" + status.getStatus());
+	}
+
+	/**
+	 * Creates a builder for Messages API inbound message webhooks, keyed by message UUID.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder<InboundMessage> forInboundMessages() {
+		return builder(message -> String.valueOf(message.getMessageUuid()));
+	}
+
+	/**
+	 * Creates a builder for SMS API inbound message webhooks, keyed by message ID. Note that each part of a
+	 * concatenated message has its own ID.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder<MessageEvent> forInboundSms() {
+		return builder(MessageEvent::getMessageId);
+	}
+
+	/**
+	 * Creates a builder for Voice API event webhooks, keyed by call UUID (or recording UUID, for recording
+	 * events), status and timestamp.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder<EventWebhook> forVoiceEvents() {
+		return builder(event -> (event.getCallUuid() != null ? event.getCallUuid() : event.getRecordingUuid()) +
+				"|" + event.getStatus() + "|" + event.getTimestamp()
+		);
+	}
+
+	/**
+	 * Builder for configuring the filter's bounds and storage mode.
+	 *
+	 * @param <T> The webhook type.
+	 */
+	public static final class Builder<T> {
+		private final Function<? super T, String> keyFunction;
+		private Duration window = Duration.ofMinutes(10);
+		private int maxEntries = 100_000, stripes = 64;
+		private double falsePositiveRate;
+		private LongSupplier nanoTime = System::nanoTime;
+
+		private Builder(Function<? super T, String> keyFunction) {
+			this.keyFunction = Objects.requireNonNull(keyFunction, "Key function cannot be null.");
+		}
+
+		/**
+		 * How long a key is remembered after it is first seen. The default is 10 minutes.
+		 *
+		 * @param window The deduplication window, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T> window(Duration window) {
+			if (window == null || window.isNegative() || window.isZero()) {
+				throw new IllegalArgumentException("Window must be positive.");
+			}
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * Maximum number of keys to remember. The default is 100,000. In exact mode, this bounds the total
+		 * across all stripes, and beyond it the oldest key in the inserting stripe is evicted; in probabilistic
+		 * mode, it determines the size of the filters.
+		 *
+		 * @param maxEntries The maximum number of keys, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T> maxEntries(int maxEntries) {
+			if (maxEntries < 1) {
+				throw new IllegalArgumentException("Maximum entries must be positive.");
+			}
+			this.maxEntries = maxEntries;
+			return this;
+		}
+
+		/**
+		 * Number of independently locked partitions in exact mode, rounded down to a power of two.
+		 * More stripes reduce contention between threads. The default is 64.
+		 *
+		 * @param stripes The number of stripes, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T> stripes(int stripes) {
+			if (stripes < 1) {
+				throw new IllegalArgumentException("Stripes must be positive.");
+			}
+			this.stripes = stripes;
+			return this;
+		}
+
+		/**
+		 * Enables probabilistic mode, using Bloom filters sized for {@linkplain #maxEntries(int) maxEntries}
+		 * keys at the given false positive rate.
+		 *
+		 * @param falsePositiveRate Probability of a first delivery being reported as a duplicate,
+		 * between 0 and 1 (exclusive), e.g. {@code 0.001}.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T> falsePositiveRate(double falsePositiveRate) {
+			if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+				throw new IllegalArgumentException("False positive rate must be between 0 and 1.");
+			}
+			this.falsePositiveRate = falsePositiveRate;
+			return this;
+		}
+
+		Builder<T> nanoTime(LongSupplier nanoTime) {
+			this.nanoTime = nanoTime;
+			return this;
+		}
+
+		/**
+		 * Builds the filter.
+		 *
+		 * @return A new WebhookDeduplicator.
+		 */
+		public WebhookDeduplicator<T> build() {
+			return new WebhookDeduplicator<>(this);
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package com.vonage.client.auth;
 
+import com.vonage.client.FormBodyWriter;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -39,4 +40,9 @@ abstract class AbstractApiKeyQueryParamsAuthMethod extends AbstractAuthMethod im
         params.put("api_key", apiKey);
         return params;
     }
+
+    @Override
+    public void applyAuthParams(FormBodyWriter body) {
+        body.add("api_key", apiKey);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.vonage.client.auth;
 
+import com.vonage.client.FormBodyWriter;
 import java.util.Map;
 
 /**
@@ -48,6 +49,12 @@ public class ApiKeyQueryParamsAuthMethod extends AbstractApiKeyQueryParamsAuthMe
         return params;
     }
 
+    @Override
+    public void applyAuthParams(FormBodyWriter body) {
+        super.applyAuthParams(body);
+        body.add("api_secret", apiSecret);
+    }
+
     @Override
     public int getSortKey() {
         return SORT_KEY;
@@ -0,0 +1,373 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vonage.client.Jsonable;
+import com.vonage.client.VonageUnexpectedException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reusable, thread-safe verifier for HS256-signed webhook tokens, as sent by the Messages and Voice APIs
+ * when signed callbacks are enabled. This is a faster alternative to
+ * {@link com.vonage.client.messages.MessagesClient#verifySignature(String, String)} and
+ * {@link com.vonage.client.voice.VoiceClient#verifySignature(String, String)} intended to be created once
+ * and shared across request threads.
+ * <p>
+ * The HMAC key is initialised once and each thread works on its own copy of the {@link Mac}.
+ * Successfully verified tokens are remembered until the earlier of their expiry or the cache TTL, since
+ * Vonage resends the same token when retrying a webhook. When the configured limit is reached, the token
+ * which was cached first is forgotten to make room.
+ * The verifier can also check the token's {@code payload_hash} claim against the request body.
+ *
+ * @since 9.14.0
+ */
+public final class JwtSignatureVerifier {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final ObjectReader JSON_READER = Jsonable.createDefaultObjectMapper().reader();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+    private static final int BUFFER_SIZE = 8192;
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final SecretKeySpec key;
+    private final Mac prototypeMac;
+    private final ThreadLocal<Mac> mac;
+    private final ThreadLocal<MessageDigest> payloadDigest;
+    private final ConcurrentMap<String, VerifiedToken> verifiedTokens;
+    private final Queue<Map.Entry<String, VerifiedToken>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong nextSweepMillis = new AtomicLong(Long.MIN_VALUE);
+    private final int maxCacheSize;
+    private final long cacheTtlMillis;
+    private final Clock clock;
+
+    /**
+     * Claims retained from a successfully verified token.
+     */
+    private static final class VerifiedToken {
+        final long expiresAtMillis;
+        final byte[] payloadHash;
+
+        VerifiedToken(long expiresAtMillis, byte[] payloadHash) {
+            this.expiresAtMillis = expiresAtMillis;
+            this.payloadHash = payloadHash;
+        }
+    }
+
+    private JwtSignatureVerifier(Builder builder) {
+        if ((maxCacheSize = builder.maxCacheSize) < 0) {
+            throw new IllegalArgumentException("Maximum cache size cannot be negative.");
+        }
+        if ((cacheTtlMillis = builder.cacheTtl.toMillis()) < 0) {
+            throw new IllegalArgumentException("Cache TTL cannot be negative.");
+        }
+        clock = builder.clock;
+        try {
+            key = new SecretKeySpec(builder.secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+            prototypeMac = Mac.getInstance(ALGORITHM);
+            prototypeMac.init(key);
+        }
+        catch (GeneralSecurityException ex) {
+            throw new VonageUnexpectedException("Could not initialise " + ALGORITHM, ex);
+        }
+        mac = ThreadLocal.withInitial(this::newMac);
+        payloadDigest = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            }
+            catch (GeneralSecurityException ex) {
+                throw new VonageUnexpectedException(ex);
+            }
+        });
+        verifiedTokens = new ConcurrentHashMap<>(Math.min(maxCacheSize, 1024));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototypeMac.clone();
+        }
+        catch (CloneNotSupportedException ex) {
+            try {
+                Mac copy = Mac.getInstance(ALGORITHM);
+                copy.init(key);
+                return copy;
+            }
+            catch (GeneralSecurityException gse) {
+                throw new VonageUnexpectedException(gse);
+            }
+        }
+    }
+
+    /**
+     * Verifies that the token was signed with this verifier's secret and has not expired.
+     *
+     * @param jwt The JSON Web Token to verify, usually from the {@code Authorization} header.
+     *
+     * @return {@code true} if the token is valid, {@code false} otherwise.
+     */
+    public boolean verify(String jwt) {
+        return getVerifiedToken(jwt) != null;
+    }
+
+    /**
+     * Verifies the token as per {@link #verify(String)}, and additionally checks that its
+     * {@code payload_hash} claim matches the SHA-256 hash of the request body.
+     *
+     * @param jwt The JSON Web Token to verify, usually from the {@code Authorization} header.
+     * @param body The raw request body.
+     *
+     * @return {@code true} if the token is valid and matches the body, {@code false} otherwise.
+     */
+    public boolean verify(String jwt, byte[] body) {
+        VerifiedToken token = getVerifiedToken(jwt);
+        if (token == null || token.payloadHash == null) return false;
+        MessageDigest md = payloadDigest.get();
+        md.reset();
+        return matchesHash(token, md.digest(Objects.requireNonNull(body, "Body cannot be null.")));
+    }
+
+    /**
+     * Verifies the token as per {@link #verify(String)}, and additionally checks that its
+     * {@code payload_hash} claim matches the SHA-256 hash of the request body. The body is hashed as it
+     * is read, in fixed-size chunks, so it never needs to be held in memory. The stream is only read, to
+     * the end, if the token is valid and has a {@code payload_hash} claim; it is never closed.
+     *
+     * @param jwt The JSON Web Token to verify, usually from the {@code Authorization} header.
+     * @param body The request body stream.
+     *
+     * @return {@code true} if the token is valid and matches the body, {@code false} otherwise.
+     * @throws VonageUnexpectedException If the body could not be read.
+     */
+    public boolean verify(String jwt, InputStream body) {
+        Objects.requireNonNull(body, "Body cannot be null.");
+        VerifiedToken token = getVerifiedToken(jwt);
+        if (token == null || token.payloadHash == null) return false;
+        MessageDigest md = payloadDigest.get();
+        md.reset();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            for (int read; (read = body.read(buffer)) != -1;) {
+                md.update(buffer, 0, read);
+            }
+        }
+        catch (IOException ex) {
+            throw new VonageUnexpectedException("Could not read request body.", ex);
+        }
+        return matchesHash(token, md.digest());
+    }
+
+    private static boolean matchesHash(VerifiedToken token, byte[] digest) {
+        return MessageDigest.isEqual(digest, token.payloadHash);
+    }
+
+    /**
+     * Decodes the {@code payload_hash} claim once, when the token is verified, so that checking a body
+     * only needs a byte comparison.
+     *
+     * @param hex The hexadecimal claim value, in either case.
+     *
+     * @return The decoded bytes, or {@code null} if the value is not valid hexadecimal.
+     */
+    private static byte[] decodeHex(String hex) {
+        if ((hex.length() & 1) != 0) return null;
+        byte[] bytes = new byte[hex.length() >> 1];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i << 1), 16), low = Character.digit(hex.charAt((i << 1) + 1), 16);
+            if (high < 0 || low < 0) return null;
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * Number of verified tokens currently held in the cache.
+     *
+     * @return The cache size.
+     */
+    public int getCacheSize() {
+        return verifiedTokens.size();
+    }
+
+    boolean isCached(String jwt) {
+        return verifiedTokens.containsKey(jwt);
+    }
+
+    private VerifiedToken getVerifiedToken(String jwt) {
+        Objects.requireNonNull(jwt, "Token cannot be null.");
+        long now = clock.millis();
+        VerifiedToken cached = verifiedTokens.get(jwt);
+        if (cached != null) {
+            if (cached.expiresAtMillis > now) {
+                return cached;
+            }
+            verifiedTokens.remove(jwt, cached);
+        }
+        VerifiedToken verified = decodeAndVerify(jwt, now);
+        if (verified != null && maxCacheSize > 0 && verified.expiresAtMillis > now) {
+            cache(jwt, verified, now);
+        }
+        return verified;
+    }
+
+    /**
+     * Adds the token to the cache, first forgetting the earliest cached token if the cache is full.
+     * The insertion queue may still hold entries which have since expired and been removed, or been replaced
+     * after re-verification; these count towards the limit until they reach the head, so the map never holds
+     * more than the limit, and are only removed from the map if they are still the cached entry. Expired
+     * tokens are swept at most once per second, so a full cache of live tokens costs constant time.
+     */
+    private void cache(String jwt, VerifiedToken verified, long now) {
+        long nextSweep = nextSweepMillis.get();
+        if (now >= nextSweep && nextSweepMillis.compareAndSet(nextSweep, now + SWEEP_INTERVAL_MILLIS)) {
+            verifiedTokens.values().removeIf(token -> token.expiresAtMillis <= now);
+        }
+        if (verifiedTokens.put(jwt, verified) == null) {
+            insertionOrder.offer(new AbstractMap.SimpleImmutableEntry<>(jwt, verified));
+            if (queued.incrementAndGet() > maxCacheSize) {
+                Map.Entry<String, VerifiedToken> eldest = insertionOrder.poll();
+                if (eldest != null) {
+                    queued.decrementAndGet();
+                    verifiedTokens.remove(eldest.getKey(), eldest.getValue());
+                }
+            }
+        }
+    }
+
+    private VerifiedToken decodeAndVerify(String jwt, long now) {
+        int headerEnd = jwt.indexOf('.'), payloadEnd = jwt.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || payloadEnd < 0 || jwt.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+        try {
+            byte[] signingInput = jwt.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII);
+            byte[] expected = mac.get().doFinal(signingInput);
+            byte[] supplied = BASE64_DECODER.decode(jwt.substring(payloadEnd + 1));
+            if (!MessageDigest.isEqual(expected, supplied)) {
+                return null;
+            }
+
+            JsonNode header = JSON_READER.readTree(BASE64_DECODER.decode(jwt.substring(0, headerEnd)));
+            if (!"HS256".equals(header.path("alg").asText())) {
+                return null;
+            }
+
+            JsonNode claims = JSON_READER.readTree(BASE64_DECODER.decode(jwt.substring(headerEnd + 1, payloadEnd)));
+            long nowSeconds = now / 1000, expiresAt = now + cacheTtlMillis;
+            JsonNode exp = claims.get("exp"), nbf = claims.get("nbf"), iat = claims.get("iat");
+            if (exp != null) {
+                if (!exp.canConvertToLong() || exp.asLong() <= nowSeconds) return null;
+                expiresAt = Math.min(expiresAt, exp.asLong() * 1000);
+            }
+            if (nbf != null && (!nbf.canConvertToLong() || nbf.asLong() > nowSeconds)) {
+                return null;
+            }
+            if (iat != null && (!iat.canConvertToLong() || iat.asLong() > nowSeconds)) {
+                return null;
+            }
+            JsonNode payloadHash = claims.get("payload_hash");
+            return new VerifiedToken(expiresAt,
+                    payloadHash != null && payloadHash.isTextual() ? decodeHex(payloadHash.asText()) : null
+            );
+        }
+        catch (IllegalArgumentException | IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @param secret The symmetric signature secret (HS256) configured in the Vonage dashboard.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(String secret) {
+        return new Builder(secret);
+    }
+
+    /**
+     * Builder for configuring the verifier's token cache.
+     */
+    public static final class Builder {
+        private final String secret;
+        private int maxCacheSize = 10_000;
+        private Duration cacheTtl = Duration.ofMinutes(5);
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(String secret) {
+            this.secret = Objects.requireNonNull(secret, "Secret cannot be null.");
+        }
+
+        /**
+         * (OPTIONAL) Maximum number of verified tokens to remember. Once reached, the earliest cached token
+         * is forgotten for each new one. Set to 0 to disable caching. The default is 10000.
+         *
+         * @param maxCacheSize The cache size limit.
+         *
+         * @return This builder.
+         */
+        public Builder maxCacheSize(int maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) How long to remember a verified token for, unless it expires earlier.
+         * The default is 5 minutes.
+         *
+         * @param cacheTtl The maximum time to cache a verified token for.
+         *
+         * @return This builder.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = Objects.requireNonNull(cacheTtl, "Cache TTL cannot be null.");
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the verifier with this builder's properties.
+         *
+         * @return A new JwtSignatureVerifier instance.
+         */
+        public JwtSignatureVerifier build() {
+            return new JwtSignatureVerifier(this);
+        }
+    }
+}
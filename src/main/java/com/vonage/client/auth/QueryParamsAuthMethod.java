@@ -15,6 +15,7 @@
  */
 package com.vonage.client.auth;
 
+import com.vonage.client.FormBodyWriter;
 import java.util.Map;
 
 /**
@@ -32,4 +33,16 @@ public interface QueryParamsAuthMethod extends AuthMethod {
      * @return A new Map containing only the authentication parameters.
      */
     Map<String, String> getAuthParams(RequestQueryParams requestParams);
+
+    /**
+     * Adds the auth parameters to a form-encoded request body. The default implementation delegates to
+     * {@link #getAuthParams(RequestQueryParams)} with a copy of the body's parameters.
+     *
+     * @param body The request body, containing the existing request parameters.
+     *
+     * @since 9.14.0
+     */
+    default void applyAuthParams(FormBodyWriter body) {
+        getAuthParams(body.toRequestQueryParams()).forEach(body::add);
+    }
 }
@@ -17,6 +17,7 @@ package com.vonage.client.auth;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.FormBodyWriter;
 import com.vonage.client.VonageUnexpectedException;
 import com.vonage.client.auth.hashutils.HashType;
 import com.vonage.client.auth.hashutils.HashUtil;
@@ -63,7 +64,7 @@ public class RequestSigning {
     }
 
     private static String clean(String str) {
-        return str.replaceAll("[=&]", "_");
+        return str.indexOf('=') < 0 && str.indexOf('&') < 0 ? str : str.replace('=', '_').replace('&', '_');
     }
 
     static String generateParamsString(SortedMap<String, String> sortedParams) {
@@ -109,7 +110,8 @@ public class RequestSigning {
             hashed = "no signature";
         }
 
-        LOGGER.info("SECURITY-KEY-GENERATION -- String [ " + str + " ] Signature [ " + hashed + " ] ");
+        final String signature = hashed;
+        LOGGER.fine(() -> "SECURITY-KEY-GENERATION -- String [ " + str + " ] Signature [ " + signature + " ] ");
 
         Map<String, String> outputParams = new LinkedHashMap<>(4);
         outputParams.put(PARAM_TIMESTAMP, timestampStr);
@@ -117,6 +119,39 @@ public class RequestSigning {
         return outputParams;
     }
 
+    /**
+     * Signs a form-encoded request body, adding the timestamp and signature parameters to it. Since the
+     * body's parameters are already in canonical (sorted) order, the string to sign is built directly from
+     * them. As with a map, only the last value of a repeated parameter is signed.
+     *
+     * @param body The request body to sign.
+     * @param secretKey the pre-shared secret key held by the client.
+     * @param currentTimeSeconds the current time in seconds since 1970-01-01.
+     * @param hashType Hash type to be used to construct the signature.
+     */
+    static void signFormBody(FormBodyWriter body, String secretKey, long currentTimeSeconds, HashType hashType) {
+        body.add(PARAM_TIMESTAMP, Long.toString(currentTimeSeconds));
+        final int size = body.size();
+        StringBuilder sb = new StringBuilder(size * 24);
+        for (int i = 0; i < size; i++) {
+            String name = body.getName(i), value = body.getValue(i);
+            if ((i + 1 < size && name.equals(body.getName(i + 1))) ||
+                    PARAM_SIGNATURE.equals(name) || value.trim().isEmpty()) {
+                continue;
+            }
+            sb.append('&').append(clean(name)).append('=').append(clean(value));
+        }
+        String hashed;
+        try {
+            hashed = HashUtil.calculate(sb.toString(), secretKey, hashType);
+        }
+        catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "error...", ex);
+            hashed = "no signature";
+        }
+        body.add(PARAM_SIGNATURE, hashed);
+    }
+
     /**
      * Verifies the signature in an HttpServletRequest. Hashing strategy is MD5.
      *
@@ -128,6 +163,7 @@ public class RequestSigning {
      * @return true if the signature is correct for this request and secret key.
      *
      * @since 8.0.0
+     * @see RequestSignatureVerifier for a reusable alternative suited to high request volumes.
      */
     public static boolean verifyRequestSignature(InputStream inputStream,
                                                     String contentType,
@@ -185,7 +221,7 @@ public class RequestSigning {
                 for (Map.Entry<String, String> entry : params.entrySet()) {
                     String name = entry.getKey();
                     String value = entry.getValue();
-                    LOGGER.info(name + " = " + value);
+                    LOGGER.fine(() -> name + " = " + value);
                     sortedParams.put(name, value);
                 }
             }
@@ -197,7 +233,7 @@ public class RequestSigning {
             for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
                 String name = entry.getKey();
                 String value = entry.getValue()[0];
-                LOGGER.info(name + " = " + value);
+                LOGGER.fine(() -> name + " = " + value);
                 if (value == null || value.trim().isEmpty()) {
                     continue;
                 }
@@ -248,7 +284,8 @@ public class RequestSigning {
             return false;
         }
 
-        LOGGER.info("SECURITY-KEY-VERIFICATION -- String [ " + str + " ] Signature [ " + hashed +
+        final String signature = hashed;
+        LOGGER.fine(() -> "SECURITY-KEY-VERIFICATION -- String [ " + str + " ] Signature [ " + signature +
                 " ] SUPPLIED SIGNATURE [ " + suppliedSignature + " ] "
         );
 
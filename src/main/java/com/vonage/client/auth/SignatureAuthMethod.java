@@ -15,7 +15,9 @@
  */
 package com.vonage.client.auth;
 
+import com.vonage.client.FormBodyWriter;
 import com.vonage.client.auth.hashutils.HashType;
+import java.time.Instant;
 import java.util.Map;
 
 public class SignatureAuthMethod extends AbstractApiKeyQueryParamsAuthMethod {
@@ -46,4 +48,10 @@ public class SignatureAuthMethod extends AbstractApiKeyQueryParamsAuthMethod {
         outParams.putAll(RequestSigning.getSignatureForRequestParameters(inParams, sigSecret, hashType));
         return outParams;
     }
+
+    @Override
+    public void applyAuthParams(FormBodyWriter body) {
+        super.applyAuthParams(body);
+        RequestSigning.signFormBody(body, sigSecret, Instant.now().getEpochSecond(), hashType);
+    }
 }
@@ -25,6 +25,7 @@ import java.security.NoSuchAlgorithmException;
  */
 abstract class AbstractHasher {
     static final Charset ENCODING = StandardCharsets.UTF_8;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     /**
      * Calculates hash for string, assuming the string is UTF-8 encoded.
@@ -51,14 +52,20 @@ abstract class AbstractHasher {
         return calculate(input + (secretKey == null ? "" : secretKey));
     }
 
-    String buildHexString(byte[] digest) {
-        final StringBuilder hexString = new StringBuilder();
-        for (byte element : digest) {
-            int z = 0xFF & element;
-            if (z < 16)
-                hexString.append("0");
-            hexString.append(Integer.toHexString(z));
+    /**
+     * Encodes the digest as a lowercase hexadecimal string using a lookup table.
+     *
+     * @param digest The raw hash bytes.
+     *
+     * @return The hex string, two characters per byte.
+     */
+    static String buildHexString(byte[] digest) {
+        final char[] hex = new char[digest.length << 1];
+        for (int i = 0, j = 0; i < digest.length; i++) {
+            int z = 0xFF & digest[i];
+            hex[j++] = HEX_DIGITS[z >>> 4];
+            hex[j++] = HEX_DIGITS[z & 0x0F];
         }
-        return hexString.toString();
+        return new String(hex);
     }
 }
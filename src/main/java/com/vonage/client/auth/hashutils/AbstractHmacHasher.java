@@ -0,0 +1,87 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth.hashutils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Base class for HMAC hashers. Each thread keeps its own {@link Mac} instance, which stays initialised
+ * with the most recently used secret, so repeated calls with the same secret avoid the provider lookup
+ * and key setup.
+ *
+ * @since 9.14.0
+ */
+abstract class AbstractHmacHasher extends AbstractHasher {
+    private final String algorithm;
+    private final ThreadLocal<KeyedMac> keyedMac = new ThreadLocal<>();
+
+    /**
+     * Holds a Mac along with the secret it was last initialised with.
+     */
+    private static final class KeyedMac {
+        final Mac mac;
+        String secretKey;
+
+        KeyedMac(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    /**
+     * Creates a new hasher for the given algorithm.
+     *
+     * @param algorithm The standard JCA name of the HMAC algorithm, e.g. {@code HmacSHA256}.
+     */
+    AbstractHmacHasher(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Obtains this thread's Mac, initialised with the given secret.
+     *
+     * @param secretKey The key used for initialization of the algorithm.
+     *
+     * @return A ready-to-use Mac for the secret.
+     *
+     * @throws NoSuchAlgorithmException if the algorithm is not available.
+     * @throws InvalidKeyException if key is invalid.
+     */
+    Mac getMac(String secretKey) throws NoSuchAlgorithmException, InvalidKeyException {
+        KeyedMac cached = keyedMac.get();
+        if (cached == null) {
+            keyedMac.set(cached = new KeyedMac(Mac.getInstance(algorithm)));
+        }
+        if (cached.secretKey == null || !cached.secretKey.equals(secretKey)) {
+            cached.secretKey = null;
+            cached.mac.init(new SecretKeySpec(secretKey.getBytes(ENCODING), algorithm));
+            cached.secretKey = secretKey;
+        }
+        return cached.mac;
+    }
+
+    @Override
+    String calculate(String input, String secretKey) throws NoSuchAlgorithmException, InvalidKeyException {
+        return buildHexString(getMac(secretKey).doFinal(input.getBytes(ENCODING)));
+    }
+
+    @Override
+    String calculate(String input) throws NoSuchAlgorithmException, InvalidKeyException {
+        return calculate(input, input);
+    }
+}
@@ -15,47 +15,12 @@
  */
 package com.vonage.client.auth.hashutils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-
 /**
  * Contains utility methods that use HMAC MD-5 hashing. The class uses STANDARD JVM crypto Hmac SHA-512 algorithm.
  */
-class HmacMd5Hasher extends AbstractHasher {
-
-    /**
-     * Calculates HMAC MD-5 hash for string.
-     *
-     * @param input string which is going to be encoded into HMAC MD-5 format.
-     * @param secretKey The key used for initialization of the algorithm.
-
-     * @return HMAC MD-5 representation of the input string
-     * @throws NoSuchAlgorithmException if the HMAC MD-5 algorithm is not available.
-     */
-    @Override
-    String calculate(String input, String secretKey) throws NoSuchAlgorithmException, InvalidKeyException {
-        Mac sha1HMAC = Mac.getInstance("HmacMD5");
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(ENCODING), "HmacMD5");
-        sha1HMAC.init(keySpec);
-        byte[] digest = sha1HMAC.doFinal(input.getBytes(ENCODING));
-        return buildHexString(digest);
-    }
+class HmacMd5Hasher extends AbstractHmacHasher {
 
-    /**
-     * Calculates HMAC MD-5 hash for string.
-     * Secret key that is supplied here is the input itself.
-     *
-     * @param input string which is going to be encoded into HMAC MD-5 format.
-     *
-     * @return HMAC MD-5 representation of the input string.
-     *
-     * @throws NoSuchAlgorithmException if the HMAC MD-5 algorithm is not available.
-     * @throws InvalidKeyException if key is invalid.
-     */
-    @Override
-    String calculate(String input) throws NoSuchAlgorithmException, InvalidKeyException {
-        return calculate(input, input);
+    HmacMd5Hasher() {
+        super("HmacMD5");
     }
 }
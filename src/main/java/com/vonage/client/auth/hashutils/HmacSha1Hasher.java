@@ -15,15 +15,17 @@
  */
 package com.vonage.client.auth.hashutils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 
 /**
  * Contains utility methods that use HMAC SHA-1 hashing. The class uses STANDARD JVM crypto Hmac SHA-512 algorithm.
  */
-public class HmacSha1Hasher extends AbstractHasher {
+public class HmacSha1Hasher extends AbstractHmacHasher {
+
+    public HmacSha1Hasher() {
+        super("HmacSHA1");
+    }
 
     /**
      * Calculates HMAC SHA-1 hash for string.
@@ -38,11 +40,7 @@ public class HmacSha1Hasher extends AbstractHasher {
      */
     @Override
     public String calculate(String input, String secretKey) throws NoSuchAlgorithmException, InvalidKeyException {
-        Mac sha1HMAC = Mac.getInstance("HmacSHA1");
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(ENCODING), "HmacSHA1");
-        sha1HMAC.init(keySpec);
-        byte[] digest = sha1HMAC.doFinal(input.getBytes(ENCODING));
-        return buildHexString(digest);
+        return super.calculate(input, secretKey);
     }
 
     /**
@@ -58,6 +56,6 @@ public class HmacSha1Hasher extends AbstractHasher {
      */
     @Override
     public String calculate(String input) throws NoSuchAlgorithmException, InvalidKeyException {
-        return calculate(input, input);
+        return super.calculate(input);
     }
 }
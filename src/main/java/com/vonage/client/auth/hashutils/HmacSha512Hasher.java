@@ -15,48 +15,12 @@
  */
 package com.vonage.client.auth.hashutils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-
 /**
  * Contains utility methods that use HMAC SHA-512 hashing. The class uses STANDARD JVM crypto Hmac SHA-512 algorithm.
  */
-class HmacSha512Hasher extends AbstractHasher {
-
-    /**
-     * Calculates HMAC SHA-512 hash for string.
-     *
-     * @param input string which is going to be encoded into HMAC SHA-512 format.
-     * @param secretKey The key used for initialization of the algorithm.
-
-     * @return  HMAC SHA-512 representation of the input string.
-     *
-     * @throws NoSuchAlgorithmException if the HMAC SHA-512 algorithm is not available.
-     */
-    @Override
-    String calculate(String input, String secretKey) throws NoSuchAlgorithmException, InvalidKeyException {
-        Mac sha512HMAC = Mac.getInstance("HmacSHA512");
-        SecretKeySpec keySpec = new SecretKeySpec(secretKey.getBytes(ENCODING), "HmacSHA512");
-        sha512HMAC.init(keySpec);
-        byte[] digest = sha512HMAC.doFinal(input.getBytes(ENCODING));
-        return buildHexString(digest);
-    }
-
-    /**
-     * Calculates HMAC SHA-512 hash for string.
-     * Secret key that is supplied here is the input itself.
-     *
-     * @param input string which is going to be encoded into HMAC SHA-512 format.
+class HmacSha512Hasher extends AbstractHmacHasher {
 
-     * @return HMAC SHA-512 representation of the input string.
-     *
-     * @throws NoSuchAlgorithmException if the HMAC SHA-512 algorithm is not available.
-     * @throws InvalidKeyException if key is invalid
-     */
-    @Override
-    String calculate(String input) throws NoSuchAlgorithmException, InvalidKeyException {
-        return calculate(input, input);
+    HmacSha512Hasher() {
+        super("HmacSHA512");
     }
 }
@@ -22,6 +22,7 @@ import java.security.NoSuchAlgorithmException;
  * Contains utility methods that use MD5 hashing. The class uses STANDARD JVM MD5 algorithm.
  */
 class Md5Hasher extends AbstractHasher {
+    private final ThreadLocal<MessageDigest> messageDigest = new ThreadLocal<>();
 
     /**
      * Calculates MD5 hash for string.
@@ -34,8 +35,10 @@ class Md5Hasher extends AbstractHasher {
      */
     @Override
     String calculate(String input) throws NoSuchAlgorithmException {
-        MessageDigest md = MessageDigest.getInstance("MD5");
-        md.update(input.getBytes(ENCODING));
-        return buildHexString(md.digest());
+        MessageDigest md = messageDigest.get();
+        if (md == null) {
+            messageDigest.set(md = MessageDigest.getInstance("MD5"));
+        }
+        return buildHexString(md.digest(input.getBytes(ENCODING)));
     }
 }
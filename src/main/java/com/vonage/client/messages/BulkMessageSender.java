@@ -0,0 +1,316 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.VonageClientException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sends large batches of messages through {@link MessagesClient#sendMessage(MessageRequest)} concurrently,
+ * with an optional rate limit, reporting a {@link MessageSendOutcome} for every request. Inputs are consumed
+ * lazily, so at most {@linkplain Builder#concurrency(int) concurrency} requests and results are held in
+ * memory at any time, regardless of the size of the batch.
+ * <p>
+ * Results can be obtained either in input order ({@code sendInOrder}) or as soon as each request completes
+ * ({@code sendAsCompleted}). The latter gives the best throughput when response times vary, since a slow
+ * request does not hold up delivery of later results. In both cases, iterating the results is what drives
+ * sending, so abandoning the iteration stops further requests from being submitted.
+ * <p>
+ * Instances are thread-safe and may be reused for multiple batches, but the returned iterators and streams
+ * are intended for use by a single thread. Unless an executor is supplied, the sender uses its own pool of
+ * daemon threads, which are released when idle or when the sender is {@linkplain #close() closed}.
+ * <pre>{@code
+ *     try (BulkMessageSender sender = BulkMessageSender.builder(client.getMessagesClient())
+ *             .concurrency(16).maxRequestsPerSecond(30).build()) {
+ *         sender.sendAsCompleted(requests.iterator()).forEachRemaining(outcome -> {
+ *             if (!outcome.isSuccessful()) log(outcome.getIndex(), outcome.getException());
+ *         });
+ *     }
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class BulkMessageSender implements AutoCloseable {
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final MessagesClient client;
+	private final int concurrency;
+	private final RateLimiter rateLimiter;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+
+	private BulkMessageSender(Builder builder) {
+		client = builder.client;
+		concurrency = builder.concurrency;
+		rateLimiter = new RateLimiter(builder.maxRequestsPerSecond);
+		if ((ownsExecutor = builder.executor == null)) {
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(
+					concurrency, concurrency, 30, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), newThreadFactory()
+			);
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+		else {
+			executor = builder.executor;
+		}
+	}
+
+	private static ThreadFactory newThreadFactory() {
+		final String prefix = "vonage-bulk-send-" + POOL_NUMBER.incrementAndGet() + '-';
+		final AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private MessageSendOutcome send(long index, MessageRequest request) {
+		try {
+			rateLimiter.acquire();
+			return new MessageSendOutcome(index, request, client.sendMessage(request), null);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return new MessageSendOutcome(index, request, null,
+					new VonageClientException("Interrupted before the message was sent.", ex)
+			);
+		}
+		catch (RuntimeException ex) {
+			return new MessageSendOutcome(index, request, null, ex);
+		}
+	}
+
+	/**
+	 * Pulls requests from the input as capacity allows and hands back outcomes one at a time.
+	 */
+	private final class OutcomeIterator implements Iterator<MessageSendOutcome> {
+		private final Iterator<? extends MessageRequest> requests;
+		private final boolean ordered;
+		private final Deque<Future<MessageSendOutcome>> pending = new ArrayDeque<>();
+		private final BlockingQueue<Future<MessageSendOutcome>> completed = new LinkedBlockingQueue<>();
+		private int inFlight;
+		private long nextIndex;
+
+		OutcomeIterator(Iterator<? extends MessageRequest> requests, boolean ordered) {
+			this.requests = Objects.requireNonNull(requests, "Requests cannot be null.");
+			this.ordered = ordered;
+		}
+
+		private void submitAvailable() {
+			while (inFlight < concurrency && requests.hasNext()) {
+				final MessageRequest request = Objects.requireNonNull(requests.next(), "Request cannot be null.");
+				final long index = nextIndex++;
+				if (ordered) {
+					pending.add(executor.submit(() -> send(index, request)));
+				}
+				else {
+					// FutureTask captures anything thrown, including Errors, so every send posts a completion.
+					executor.execute(new FutureTask<MessageSendOutcome>(() -> send(index, request)) {
+						@Override
+						protected void done() {
+							completed.add(this);
+						}
+					});
+				}
+				inFlight++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			submitAvailable();
+			return inFlight > 0;
+		}
+
+		@Override
+		public MessageSendOutcome next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			try {
+				MessageSendOutcome outcome = ordered ? pending.peek().get() : completed.take().get();
+				if (ordered) {
+					pending.remove();
+				}
+				inFlight--;
+				return outcome;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new VonageClientException("Interrupted while waiting for message results.", ex);
+			}
+			catch (ExecutionException ex) {
+				throw new VonageClientException(ex.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Sends the requests, returning their outcomes in the same order as the input. Requests are only
+	 * read from the input iterator as the returned iterator is consumed.
+	 *
+	 * @param requests The messages to send.
+	 * @return A lazily evaluated iterator of results, in input order.
+	 */
+	public Iterator<MessageSendOutcome> sendInOrder(Iterator<? extends MessageRequest> requests) {
+		return new OutcomeIterator(requests, true);
+	}
+
+	/**
+	 * Sends the requests, returning their outcomes in the order in which they complete. Use
+	 * {@linkplain MessageSendOutcome#getIndex()} to correlate each outcome with its input.
+	 *
+	 * @param requests The messages to send.
+	 * @return A lazily evaluated iterator of results, in completion order.
+	 */
+	public Iterator<MessageSendOutcome> sendAsCompleted(Iterator<? extends MessageRequest> requests) {
+		return new OutcomeIterator(requests, false);
+	}
+
+	/**
+	 * Stream equivalent of {@link #sendInOrder(Iterator)}. Closing the returned stream closes the input.
+	 *
+	 * @param requests The messages to send.
+	 * @return A lazily evaluated sequential stream of results, in input order.
+	 */
+	public Stream<MessageSendOutcome> sendInOrder(Stream<? extends MessageRequest> requests) {
+		return toStream(sendInOrder(requests.iterator()), Spliterator.ORDERED).onClose(requests::close);
+	}
+
+	/**
+	 * Stream equivalent of {@link #sendAsCompleted(Iterator)}. Closing the returned stream closes the input.
+	 *
+	 * @param requests The messages to send.
+	 * @return A lazily evaluated sequential stream of results, in completion order.
+	 */
+	public Stream<MessageSendOutcome> sendAsCompleted(Stream<? extends MessageRequest> requests) {
+		return toStream(sendAsCompleted(requests.iterator()), 0).onClose(requests::close);
+	}
+
+	private static Stream<MessageSendOutcome> toStream(Iterator<MessageSendOutcome> outcomes, int characteristics) {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(outcomes, characteristics | Spliterator.NONNULL), false
+		);
+	}
+
+	/**
+	 * Sends all the requests and waits for them to complete.
+	 *
+	 * @param requests The messages to send.
+	 * @return The outcomes, in the same order as the input.
+	 */
+	public List<MessageSendOutcome> sendAll(Collection<? extends MessageRequest> requests) {
+		List<MessageSendOutcome> outcomes = new ArrayList<>(requests.size());
+		sendInOrder(requests.iterator()).forEachRemaining(outcomes::add);
+		return outcomes;
+	}
+
+	/**
+	 * Shuts down the sender's thread pool, interrupting any requests still waiting for a rate limit permit.
+	 * This has no effect if an executor was supplied via {@link Builder#executor(ExecutorService)}.
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param client (REQUIRED) The Messages client to send requests with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(MessagesClient client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the sender's concurrency and throughput.
+	 */
+	public static final class Builder {
+		private final MessagesClient client;
+		private int concurrency = 8;
+		private double maxRequestsPerSecond;
+		private ExecutorService executor;
+
+		private Builder(MessagesClient client) {
+			this.client = Objects.requireNonNull(client, "Messages client cannot be null.");
+		}
+
+		/**
+		 * (OPTIONAL) Maximum number of requests in flight at once. The default is 8.
+		 *
+		 * @param concurrency The maximum number of concurrent requests, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder concurrency(int concurrency) {
+			if (concurrency < 1) {
+				throw new IllegalArgumentException("Concurrency must be positive.");
+			}
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Limits the rate at which requests are sent, across all batches sent by this instance.
+		 * Requests are spaced evenly rather than sent in bursts. By default, there is no limit.
+		 *
+		 * @param maxRequestsPerSecond The maximum sustained rate, or 0 for no limit.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+			if (maxRequestsPerSecond < 0 || Double.isNaN(maxRequestsPerSecond)) {
+				throw new IllegalArgumentException("Rate limit cannot be negative.");
+			}
+			this.maxRequestsPerSecond = maxRequestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Executor to send requests on, instead of a dedicated thread pool. The number of
+		 * requests in flight is still bounded by {@linkplain #concurrency(int)}. The executor will not be
+		 * shut down when the sender is closed.
+		 *
+		 * @param executor The executor service to use.
+		 *
+		 * @return This builder.
+		 */
+		public Builder executor(ExecutorService executor) {
+			this.executor = Objects.requireNonNull(executor, "Executor cannot be null.");
+			return this;
+		}
+
+		/**
+		 * Builds the sender with this builder's properties.
+		 *
+		 * @return A new BulkMessageSender instance.
+		 */
+		public BulkMessageSender build() {
+			return new BulkMessageSender(this);
+		}
+	}
+}
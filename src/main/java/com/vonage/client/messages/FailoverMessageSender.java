@@ -0,0 +1,460 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers a message over a prioritised list of alternatives, such as RCS, then WhatsApp, then SMS. The first
+ * alternative is sent immediately; if its message does not reach the {@linkplain Builder#expectedStatus(
+ * MessageStatus.Status) expected status} within the {@linkplain Builder#deadline(Duration) deadline}, or is
+ * rejected, the next alternative is sent, and so on until one succeeds or all have been tried.
+ * <p>
+ * Progress is driven by the message status webhooks, which must be passed to {@link #onStatus(MessageStatus)}.
+ * Deadlines are tracked by a hashed timing wheel, so scheduling and cancelling them is O(1) and cheap enough
+ * to hold millions of pending failovers; the trade-off is that deadlines are only accurate to the
+ * {@linkplain Builder#timerResolution(Duration) timer resolution}.
+ * <p>
+ * Statuses are matched using the message UUID returned when the alternative is sent, so a status which
+ * arrives before the send call has returned is not recognised. This is rare in practice, and at worst
+ * results in the deadline applying as though the status had not been received.
+ * <pre>{@code
+ *     try (FailoverMessageSender sender = FailoverMessageSender.builder(client.getMessagesClient())
+ *             .deadline(Duration.ofMinutes(2)).build()) {
+ *         sender.send(Arrays.asList(rcsRequest, whatsappRequest, smsRequest))
+ *             .thenAccept(outcome -> log(outcome.isSuccessful(), outcome.getAttempts()));
+ *         // In the status webhook handler:
+ *         sender.onStatus(MessageStatus.fromJson(body));
+ *     }
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class FailoverMessageSender implements AutoCloseable {
+	private static final AtomicInteger INSTANCE_NUMBER = new AtomicInteger();
+
+	private final MessagesClient client;
+	private final MessageStatus.Status expectedStatus;
+	private final long deadlineNanos;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final TimingWheel timingWheel;
+	private final Map<UUID, Failover> awaitingStatus = new ConcurrentHashMap<>();
+	private final Set<Failover> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicLong failoverCount = new AtomicLong();
+	private volatile boolean closed;
+
+	private FailoverMessageSender(Builder builder) {
+		client = builder.client;
+		expectedStatus = builder.expectedStatus;
+		deadlineNanos = builder.deadline.toNanos();
+		final int instance = INSTANCE_NUMBER.incrementAndGet();
+		if ((ownsExecutor = builder.executor == null)) {
+			final String prefix = "vonage-failover-send-" + instance + '-';
+			final AtomicInteger threadNumber = new AtomicInteger();
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(
+					builder.concurrency, builder.concurrency, 30, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+			);
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+		else {
+			executor = builder.executor;
+		}
+		long tickNanos = builder.timerResolution.toNanos();
+		timingWheel = new TimingWheel("vonage-failover-timer-" + instance, tickNanos, TimeUnit.NANOSECONDS,
+				(int) Math.min(4096, Math.max(64, deadlineNanos / tickNanos + 1))
+		);
+	}
+
+	private static int rank(MessageStatus.Status status) {
+		if (status == null) return 0;
+		switch (status) {
+			case SUBMITTED: return 1;
+			case DELIVERED: return 2;
+			case READ: return 3;
+			default: return -1;
+		}
+	}
+
+	/**
+	 * Starts sending a message, trying each alternative in turn until one succeeds.
+	 *
+	 * @param alternatives The requests to try, in order of preference. These would usually be for the same
+	 * recipient on different channels, but this is not enforced.
+	 *
+	 * @return A future which completes once an alternative has succeeded or all have failed. It is
+	 * cancelled if this sender is closed first, and completes exceptionally if the executor rejects the
+	 * work or sending throws an {@link Error}.
+	 *
+	 * @throws IllegalStateException If this sender has been closed.
+	 */
+	public CompletableFuture<FailoverOutcome> send(List<? extends MessageRequest> alternatives) {
+		Objects.requireNonNull(alternatives, "Alternatives cannot be null.");
+		if (alternatives.isEmpty()) {
+			throw new IllegalArgumentException("At least one alternative is required.");
+		}
+		for (MessageRequest request : alternatives) {
+			Objects.requireNonNull(request, "Alternative cannot be null.");
+		}
+		if (closed) {
+			throw new IllegalStateException("Failover sender has been closed.");
+		}
+		Failover failover = new Failover(new ArrayList<>(alternatives));
+		pending.add(failover);
+		if (closed) {
+			// Closed after the check above, so close() may have missed this failover when cancelling.
+			pending.remove(failover);
+			failover.future.cancel(false);
+			return failover.future;
+		}
+		failover.dispatch(failover::sendNext);
+		return failover.future;
+	}
+
+	/**
+	 * Updates the failover which the status refers to, if any. This should be called for every message
+	 * status webhook received. Statuses for messages which were not sent by this instance, or for
+	 * alternatives which have already been superseded, are ignored, as are all statuses once this
+	 * sender has been closed.
+	 *
+	 * @param status The parsed message status.
+	 *
+	 * @return {@code true} if the status belonged to a pending failover, {@code false} if it was ignored.
+	 */
+	public boolean onStatus(MessageStatus status) {
+		UUID messageUuid = status != null ? status.getMessageUuid() : null;
+		if (messageUuid == null || closed) return false;
+		Failover failover = awaitingStatus.get(messageUuid);
+		return failover != null && failover.onStatus(messageUuid, status);
+	}
+
+	/**
+	 * Number of failovers which have started but not yet completed.
+	 *
+	 * @return The pending count.
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Number of times an alternative other than the first was sent, across all failovers.
+	 *
+	 * @return The total number of failovers to a subsequent alternative.
+	 */
+	public long getFailoverCount() {
+		return failoverCount.get();
+	}
+
+	/**
+	 * Stops the deadline timer, cancels pending failovers and shuts down the sender's thread pool.
+	 * An executor supplied via {@link Builder#executor(ExecutorService)} is not shut down.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		timingWheel.close();
+		if (ownsExecutor) {
+			executor.shutdownNow();
+		}
+		for (Failover failover : pending) {
+			failover.future.cancel(false);
+		}
+		pending.clear();
+		awaitingStatus.clear();
+	}
+
+	/**
+	 * State of a single message's progress through its alternatives.
+	 */
+	private final class Failover {
+		final List<MessageRequest> alternatives;
+		final List<FailoverOutcome.Attempt> attempts;
+		final CompletableFuture<FailoverOutcome> future = new CompletableFuture<>();
+		FailoverOutcome.Attempt current;
+		UUID currentUuid;
+		TimingWheel.Timeout timeout;
+
+		Failover(List<MessageRequest> alternatives) {
+			this.alternatives = alternatives;
+			attempts = new ArrayList<>(alternatives.size());
+		}
+
+		/**
+		 * Runs the task on the executor, unless this sender has been closed. If the executor rejects it
+		 * while the sender is still open, for example because a supplied executor was shut down, the
+		 * failover cannot make progress and fails.
+		 */
+		void dispatch(Runnable task) {
+			if (closed) return;
+			try {
+				executor.execute(task);
+			}
+			catch (RejectedExecutionException ex) {
+				if (!closed) {
+					fail(ex);
+				}
+			}
+		}
+
+		/**
+		 * Sends alternatives until one is accepted or none remain. Runs on the executor. Anything thrown
+		 * other than by the send call itself, which only fails that attempt, fails the whole failover so
+		 * that its future is never left incomplete.
+		 */
+		void sendNext() {
+			try {
+				sendAlternatives();
+			}
+			catch (Throwable ex) {
+				fail(ex);
+				if (ex instanceof Error) {
+					throw (Error) ex;
+				}
+			}
+		}
+
+		private void sendAlternatives() {
+			while (!closed && !future.isDone()) {
+				MessageRequest request;
+				FailoverOutcome.Attempt attempt;
+				synchronized (this) {
+					if (attempts.size() == alternatives.size()) {
+						complete(false);
+						return;
+					}
+					request = alternatives.get(attempts.size());
+					attempt = new FailoverOutcome.Attempt(request);
+					if (!attempts.isEmpty()) {
+						failoverCount.incrementAndGet();
+					}
+					attempts.add(attempt);
+					current = attempt;
+					currentUuid = null;
+				}
+				UUID messageUuid;
+				try {
+					MessageResponse response = client.sendMessage(request);
+					messageUuid = response != null ? response.getMessageUuid() : null;
+				}
+				catch (RuntimeException ex) {
+					synchronized (this) {
+						attempt.failed(ex);
+					}
+					continue;
+				}
+				synchronized (this) {
+					if (messageUuid == null) {
+						// No status could ever be matched to this attempt, so don't wait for one.
+						attempt.failed(new IllegalStateException("Response did not include a message UUID."));
+						continue;
+					}
+					attempt.accepted(messageUuid);
+					if (closed) continue;
+					currentUuid = messageUuid;
+					awaitingStatus.put(messageUuid, this);
+					try {
+						timeout = timingWheel.schedule(
+								() -> dispatch(() -> onTimeout(messageUuid)),
+								deadlineNanos, TimeUnit.NANOSECONDS
+						);
+					}
+					catch (IllegalStateException ex) {
+						// Closed concurrently.
+						awaitingStatus.remove(messageUuid);
+					}
+					return;
+				}
+			}
+		}
+
+		boolean onStatus(UUID messageUuid, MessageStatus status) {
+			boolean failover;
+			synchronized (this) {
+				if (!messageUuid.equals(currentUuid) || future.isDone()) return false;
+				current.status(status);
+				int rank = rank(status.getStatus());
+				if (rank >= rank(expectedStatus)) {
+					release();
+					complete(true);
+					return true;
+				}
+				if ((failover = rank < 0)) {
+					release();
+				}
+			}
+			if (failover) {
+				dispatch(this::sendNext);
+			}
+			return true;
+		}
+
+		void onTimeout(UUID messageUuid) {
+			synchronized (this) {
+				if (!messageUuid.equals(currentUuid) || future.isDone()) return;
+				current.timedOut();
+				release();
+			}
+			sendNext();
+		}
+
+		private void release() {
+			awaitingStatus.remove(currentUuid);
+			if (timeout != null) {
+				timeout.cancel();
+				timeout = null;
+			}
+			currentUuid = null;
+		}
+
+		private void complete(boolean successful) {
+			pending.remove(this);
+			future.complete(new FailoverOutcome(new ArrayList<>(attempts), successful));
+		}
+
+		private synchronized void fail(Throwable ex) {
+			if (currentUuid != null) {
+				release();
+			}
+			pending.remove(this);
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param client (REQUIRED) The Messages client to send requests with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(MessagesClient client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the failover conditions.
+	 */
+	public static final class Builder {
+		private final MessagesClient client;
+		private MessageStatus.Status expectedStatus = MessageStatus.Status.DELIVERED;
+		private Duration deadline = Duration.ofMinutes(5), timerResolution = Duration.ofMillis(100);
+		private int concurrency = 8;
+		private ExecutorService executor;
+
+		private Builder(MessagesClient client) {
+			this.client = Objects.requireNonNull(client, "Messages client cannot be null.");
+		}
+
+		/**
+		 * (OPTIONAL) How long to wait for each alternative to reach the expected status before trying the
+		 * next one. The default is 5 minutes.
+		 *
+		 * @param deadline The per-alternative deadline, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder deadline(Duration deadline) {
+			if (Objects.requireNonNull(deadline, "Deadline cannot be null.").isNegative() || deadline.isZero()) {
+				throw new IllegalArgumentException("Deadline must be positive.");
+			}
+			this.deadline = deadline;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) The status which counts as success. Later statuses also count, so with the default of
+		 * {@linkplain MessageStatus.Status#DELIVERED DELIVERED}, a {@linkplain MessageStatus.Status#READ READ}
+		 * status is also a success. {@linkplain MessageStatus.Status#REJECTED REJECTED} and
+		 * {@linkplain MessageStatus.Status#UNDELIVERABLE UNDELIVERABLE} always trigger failover immediately.
+		 *
+		 * @param expectedStatus One of SUBMITTED, DELIVERED or READ.
+		 *
+		 * @return This builder.
+		 */
+		public Builder expectedStatus(MessageStatus.Status expectedStatus) {
+			if (rank(Objects.requireNonNull(expectedStatus, "Expected status cannot be null.")) < 1) {
+				throw new IllegalArgumentException("Expected status must be SUBMITTED, DELIVERED or READ.");
+			}
+			this.expectedStatus = expectedStatus;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Granularity of deadline tracking. Coarser resolutions are cheaper, but deadlines may
+		 * fire up to this much later than requested. The default is 100 milliseconds.
+		 *
+		 * @param timerResolution The timer tick duration, which must be at least 1 millisecond.
+		 *
+		 * @return This builder.
+		 */
+		public Builder timerResolution(Duration timerResolution) {
+			if (Objects.requireNonNull(timerResolution, "Timer resolution cannot be null.").toMillis() < 1) {
+				throw new IllegalArgumentException("Timer resolution must be at least 1 millisecond.");
+			}
+			this.timerResolution = timerResolution;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Maximum number of send requests in flight at once. The default is 8.
+		 * This has no effect if an executor is supplied.
+		 *
+		 * @param concurrency The number of sending threads, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder concurrency(int concurrency) {
+			if (concurrency < 1) {
+				throw new IllegalArgumentException("Concurrency must be positive.");
+			}
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Executor to send requests on, instead of a dedicated thread pool.
+		 * The executor will not be shut down when the sender is closed.
+		 *
+		 * @param executor The executor service to use.
+		 *
+		 * @return This builder.
+		 */
+		public Builder executor(ExecutorService executor) {
+			this.executor = Objects.requireNonNull(executor, "Executor cannot be null.");
+			return this;
+		}
+
+		/**
+		 * Builds the sender with this builder's properties.
+		 *
+		 * @return A new FailoverMessageSender instance.
+		 */
+		public FailoverMessageSender build() {
+			return new FailoverMessageSender(this);
+		}
+	}
+}
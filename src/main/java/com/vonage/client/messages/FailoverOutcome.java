@@ -0,0 +1,154 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of sending a message through a {@link FailoverMessageSender}, recording every alternative
+ * that was tried, in order.
+ *
+ * @since 9.14.0
+ */
+public final class FailoverOutcome {
+	private final List<Attempt> attempts;
+	private final boolean successful;
+
+	FailoverOutcome(List<Attempt> attempts, boolean successful) {
+		this.attempts = Collections.unmodifiableList(attempts);
+		this.successful = successful;
+	}
+
+	/**
+	 * Whether one of the alternatives reached the expected status before its deadline.
+	 *
+	 * @return {@code true} if the last attempt succeeded, {@code false} if all alternatives were exhausted.
+	 */
+	public boolean isSuccessful() {
+		return successful;
+	}
+
+	/**
+	 * The alternatives which were tried, in the order they were sent. Alternatives after the successful
+	 * one are not included.
+	 *
+	 * @return The attempts made, never empty.
+	 */
+	public List<Attempt> getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * The attempt which reached the expected status.
+	 *
+	 * @return The successful attempt, or {@code null} if every alternative failed.
+	 */
+	public Attempt getSuccessfulAttempt() {
+		return successful ? attempts.get(attempts.size() - 1) : null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{successful=" + successful + ", attempts=" + attempts + '}';
+	}
+
+	/**
+	 * Details of a single alternative that was sent.
+	 */
+	public static final class Attempt {
+		private final MessageRequest request;
+		private UUID messageUuid;
+		private RuntimeException exception;
+		private MessageStatus lastStatus;
+		private boolean timedOut;
+
+		Attempt(MessageRequest request) {
+			this.request = request;
+		}
+
+		void accepted(UUID messageUuid) {
+			this.messageUuid = messageUuid;
+		}
+
+		void failed(RuntimeException exception) {
+			this.exception = exception;
+		}
+
+		void status(MessageStatus status) {
+			lastStatus = status;
+		}
+
+		void timedOut() {
+			timedOut = true;
+		}
+
+		/**
+		 * The message that was sent.
+		 *
+		 * @return The alternative's request.
+		 */
+		public MessageRequest getRequest() {
+			return request;
+		}
+
+		/**
+		 * Identifier assigned to the message by the API.
+		 *
+		 * @return The message UUID, or {@code null} if the request was not accepted.
+		 */
+		public UUID getMessageUuid() {
+			return messageUuid;
+		}
+
+		/**
+		 * The reason the request was not accepted.
+		 *
+		 * @return The exception thrown by {@link MessagesClient#sendMessage(MessageRequest)}, an
+		 * {@link IllegalStateException} if the response had no message UUID to track,
+		 * or {@code null} if the request was accepted.
+		 */
+		public RuntimeException getException() {
+			return exception;
+		}
+
+		/**
+		 * The most recent status received for this attempt's message.
+		 *
+		 * @return The last status webhook, or {@code null} if none was received.
+		 */
+		public MessageStatus getLastStatus() {
+			return lastStatus;
+		}
+
+		/**
+		 * Whether the deadline passed before the expected status was received.
+		 *
+		 * @return {@code true} if this attempt timed out.
+		 */
+		public boolean isTimedOut() {
+			return timedOut;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "{messageUuid=" + messageUuid +
+					", status=" + (lastStatus != null ? lastStatus.getStatus() : null) +
+					", timedOut=" + timedOut + ", exception=" + exception + '}';
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for items due at arbitrary points in the future, such as scheduled messages.
+ * Unlike {@link TimingWheel}, which is optimised for short timeouts, each level of the hierarchy covers a
+ * range 256 times larger than the one below, so four levels span 2<sup>32</sup> ticks (over 13 years with a
+ * 100 millisecond tick) and an item is only revisited when it cascades to a finer level, at most three times.
+ * Adding and cancelling an item are O(1).
+ * <p>
+ * Time is measured in ticks since the epoch (i.e. {@code epochMillis / tickMillis}). Instances are not
+ * thread-safe; callers must synchronise access.
+ *
+ * @param <T> The item type.
+ */
+final class HierarchicalTimingWheel<T> {
+	private static final int BITS = 8, SLOTS = 1 << BITS, MASK = SLOTS - 1, LEVELS = 4;
+
+	private final Node<T>[][] wheels;
+	private final int[] counts = new int[LEVELS];
+	private long currentTick;
+	private int size;
+
+	/**
+	 * Creates the wheel.
+	 *
+	 * @param currentTick The tick to start from.
+	 */
+	@SuppressWarnings("unchecked")
+	HierarchicalTimingWheel(long currentTick) {
+		this.currentTick = currentTick;
+		wheels = new Node[LEVELS][SLOTS];
+		for (Node<T>[] wheel : wheels) {
+			for (int i = 0; i < SLOTS; i++) {
+				wheel[i] = new Node<>(null, 0);
+			}
+		}
+	}
+
+	/**
+	 * Adds an item. Items due at or before the current tick are returned by the next call to
+	 * {@link #advance(long, Consumer)}.
+	 *
+	 * @param item The item.
+	 * @param dueTick The tick at which the item becomes due.
+	 *
+	 * @return Handle for cancelling the item.
+	 */
+	Node<T> add(T item, long dueTick) {
+		Node<T> node = new Node<>(item, dueTick);
+		place(node);
+		size++;
+		return node;
+	}
+
+	private void place(Node<T> node) {
+		long delta = Math.max(0, node.dueTick - currentTick);
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+			level++;
+		}
+		// Items beyond the top level's range are parked in its furthest slot, and re-placed when it cascades.
+		long tick = level == LEVELS - 1 && delta >= 1L << (BITS * LEVELS) ?
+				currentTick + ((long) MASK << (BITS * level)) : Math.max(node.dueTick, currentTick);
+		node.level = level;
+		counts[level]++;
+		wheels[level][(int) ((tick >>> (BITS * level)) & MASK)].append(node);
+	}
+
+	/**
+	 * Removes an item before it becomes due.
+	 *
+	 * @param node The handle returned by {@link #add(Object, long)}.
+	 *
+	 * @return {@code true} if the item was removed, {@code false} if it was already due or cancelled.
+	 */
+	boolean cancel(Node<T> node) {
+		if (node.prev == null) return false;
+		node.unlink();
+		counts[node.level]--;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Moves the wheel forward, passing every item which has become due to the consumer in due order
+	 * (items due in the same tick are passed in the order they were added).
+	 *
+	 * @param toTick The current tick.
+	 * @param due Receives the due items.
+	 *
+	 * @return The number of items which became due.
+	 */
+	int advance(long toTick, Consumer<? super T> due) {
+		int expired = expire(due);
+		while (currentTick < toTick) {
+			// When the finest levels are empty, nothing can happen until the next level above them cascades.
+			int empty = 0;
+			while (empty < LEVELS && counts[empty] == 0) {
+				empty++;
+			}
+			if (empty == LEVELS) {
+				currentTick = toTick;
+				break;
+			}
+			if (empty > 0) {
+				long skipTo = Math.min(toTick, ((currentTick >>> (BITS * empty)) + 1 << (BITS * empty)) - 1);
+				if (skipTo > currentTick) {
+					currentTick = skipTo;
+					continue;
+				}
+			}
+			currentTick++;
+			int top = 0;
+			while (top < LEVELS - 1 && (currentTick & ((1L << (BITS * (top + 1))) - 1)) == 0) {
+				top++;
+			}
+			// Cascade from the coarsest level down, so that items land in finer slots which cascade next.
+			for (int level = top; level > 0; level--) {
+				Node<T> head = wheels[level][(int) ((currentTick >>> (BITS * level)) & MASK)];
+				Node<T> node = head.next;
+				head.next = head.prev = head;
+				while (node != head) {
+					Node<T> next = node.next;
+					counts[level]--;
+					place(node);
+					node = next;
+				}
+			}
+			expired += expire(due);
+		}
+		return expired;
+	}
+
+	private int expire(Consumer<? super T> due) {
+		Node<T> head = wheels[0][(int) (currentTick & MASK)], node;
+		int expired = 0;
+		while ((node = head.next) != head) {
+			node.unlink();
+			counts[0]--;
+			size--;
+			expired++;
+			due.accept(node.item);
+		}
+		return expired;
+	}
+
+	/**
+	 * Number of items which are neither due nor cancelled.
+	 *
+	 * @return The item count.
+	 */
+	int size() {
+		return size;
+	}
+
+	long currentTick() {
+		return currentTick;
+	}
+
+	/**
+	 * Entry in a slot's circular, doubly linked list. Each slot has a sentinel node with no item.
+	 */
+	static final class Node<T> {
+		final T item;
+		final long dueTick;
+		int level;
+		Node<T> prev, next;
+
+		Node(T item, long dueTick) {
+			this.item = item;
+			this.dueTick = dueTick;
+			if (item == null) {
+				prev = next = this;
+			}
+		}
+
+		void append(Node<T> node) {
+			node.prev = prev;
+			node.next = this;
+			prev.next = node;
+			prev = node;
+		}
+
+		void unlink() {
+			prev.next = next;
+			next.prev = prev;
+			prev = next = null;
+		}
+	}
+}
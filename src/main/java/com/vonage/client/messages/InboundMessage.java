@@ -16,7 +16,6 @@
 package com.vonage.client.messages;
 
 import com.fasterxml.jackson.annotation.*;
-import com.vonage.client.Jsonable;
 import com.vonage.client.JsonableBaseObject;
 import com.vonage.client.common.UrlContainer;
 import com.vonage.client.common.MessageType;
@@ -39,6 +38,7 @@ import java.util.UUID;
  * @since 7.2.0
  */
 public class InboundMessage extends JsonableBaseObject {
+	static final WebhookReader<InboundMessage> READER = new WebhookReader<>(InboundMessage.class);
 
 	protected static class UrlWrapper extends JsonableBaseObject {
 		@JsonProperty("url") protected URI url;
@@ -481,6 +481,9 @@ public class InboundMessage extends JsonableBaseObject {
 	 */
 	@JsonCreator
 	public static InboundMessage fromJson(String json) {
-		return Jsonable.fromJson(json);
+		if (json == null || json.trim().isEmpty()) {
+			return new InboundMessage();
+		}
+		return READER.read(json);
 	}
 }
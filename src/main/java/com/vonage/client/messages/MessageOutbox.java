@@ -0,0 +1,96 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.AbstractOutbox;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Durable outbox for the Messages API. Requests are serialised to a local write-ahead log when
+ * {@linkplain #submit(Object) submitted} and sent in the background, so that sends interrupted by a crash
+ * or restart are completed when the outbox is next opened on the same directory. Requests are keyed by their
+ * {@linkplain MessageRequest#getClientRef() client reference}, so resubmitting a request with the same
+ * reference (for example, when replaying a campaign after a crash) does not send it twice, provided it is
+ * still held in the log.
+ * <pre>{@code
+ *     try (MessageOutbox outbox = MessageOutbox.builder(client.getMessagesClient(), Paths.get("outbox"))
+ *             .onSent((entry, response) -> log(entry.getKey(), response.getMessageUuid())).build()) {
+ *         outbox.submitAll(requests);
+ *     }
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class MessageOutbox extends AbstractOutbox<MessageRequest, MessageResponse> {
+	private final MessagesClient client;
+
+	private MessageOutbox(Builder builder) throws IOException {
+		super(builder);
+		client = builder.client;
+	}
+
+	@Override
+	protected byte[] encode(MessageRequest request) {
+		return request.toJson().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	protected String idempotencyKey(MessageRequest request) {
+		return request.getClientRef();
+	}
+
+	@Override
+	protected MessageResponse send(byte[] payload) {
+		return client.sendPreparedMessage(new PreparedMessage(payload));
+	}
+
+	@Override
+	protected String describe(MessageResponse response) {
+		return String.valueOf(response.getMessageUuid());
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param client (REQUIRED) The Messages client to send requests with.
+	 * @param directory (REQUIRED) Directory for the outbox's log, which must not be shared with anything else.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(MessagesClient client, Path directory) {
+		return new Builder(client, directory);
+	}
+
+	/**
+	 * Builder for configuring the outbox.
+	 */
+	public static final class Builder extends AbstractOutbox.Builder<MessageResponse, MessageOutbox, Builder> {
+		private final MessagesClient client;
+
+		private Builder(MessagesClient client, Path directory) {
+			super(directory);
+			this.client = Objects.requireNonNull(client, "Messages client cannot be null.");
+		}
+
+		@Override
+		protected MessageOutbox create() throws IOException {
+			return new MessageOutbox(this);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+/**
+ * Result of sending a single message as part of a {@link BulkMessageSender} batch. Exactly one of
+ * {@linkplain #getResponse()} and {@linkplain #getException()} is non-null.
+ *
+ * @since 9.14.0
+ */
+public final class MessageSendOutcome {
+	private final long index;
+	private final MessageRequest request;
+	private final MessageResponse response;
+	private final RuntimeException exception;
+
+	MessageSendOutcome(long index, MessageRequest request, MessageResponse response, RuntimeException exception) {
+		this.index = index;
+		this.request = request;
+		this.response = response;
+		this.exception = exception;
+	}
+
+	/**
+	 * Zero-based position of the request in the input sequence.
+	 *
+	 * @return The request's index.
+	 */
+	public long getIndex() {
+		return index;
+	}
+
+	/**
+	 * The message that was sent.
+	 *
+	 * @return The original request.
+	 */
+	public MessageRequest getRequest() {
+		return request;
+	}
+
+	/**
+	 * The response, if the message was accepted.
+	 *
+	 * @return The response, or {@code null} if sending failed.
+	 */
+	public MessageResponse getResponse() {
+		return response;
+	}
+
+	/**
+	 * The reason for failure, if the message was not accepted. This is usually a
+	 * {@link MessageResponseException}, but may be any other exception thrown by
+	 * {@link MessagesClient#sendMessage(MessageRequest)}, such as a network error.
+	 *
+	 * @return The exception, or {@code null} if the message was sent successfully.
+	 * @see #getResponseException()
+	 */
+	public RuntimeException getException() {
+		return exception;
+	}
+
+	/**
+	 * Convenience method for obtaining the API error response, if the failure was reported by the server.
+	 *
+	 * @return The exception as a MessageResponseException, or {@code null} if the message was sent
+	 * successfully or failed for another reason.
+	 */
+	public MessageResponseException getResponseException() {
+		return exception instanceof MessageResponseException ? (MessageResponseException) exception : null;
+	}
+
+	/**
+	 * Whether the message was accepted by the API.
+	 *
+	 * @return {@code true} if a response was received, {@code false} if sending failed.
+	 */
+	public boolean isSuccessful() {
+		return response != null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{index=" + index + ", " +
+				(isSuccessful() ? "response=" + response : "exception=" + exception) + '}';
+	}
+}
@@ -33,6 +33,7 @@ import java.util.UUID;
  * what service (channel) it was sent via, sender and recipient, message response ID, client reference etc.
  */
 public class MessageStatus extends JsonableBaseObject {
+	static final WebhookReader<MessageStatus> READER = new WebhookReader<>(MessageStatus.class);
 
 	public enum Status {
 		SUBMITTED,
@@ -471,6 +472,9 @@ public class MessageStatus extends JsonableBaseObject {
 	 */
 	@JsonCreator
 	public static MessageStatus fromJson(String json) {
-		return Jsonable.fromJson(json);
+		if (json == null || json.trim().isEmpty()) {
+			return new MessageStatus();
+		}
+		return READER.read(json);
 	}
 }
@@ -0,0 +1,117 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.JsonTemplate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Pre-serialised message request for sending the same content to many recipients. The prototype request is
+ * serialised once; each {@linkplain #prepare(String, String, Map) prepared} message then only splices in the
+ * recipient, client reference and any template variables, which is considerably cheaper than building and
+ * serialising a new {@link MessageRequest} for every recipient.
+ * <p>
+ * Variables are declared as {@code {{name}}} placeholders in the prototype's string values, such as
+ * the text of an SMS or the parameters of a WhatsApp template:
+ * <pre>{@code
+ *     MessageTemplate template = MessageTemplate.of(WhatsappTemplateRequest.builder()
+ *             .from("447700900001").to("447700900000").name("appointment_reminder")
+ *             .parameters(Arrays.asList("{{name}}", "{{date}}")).build()
+ *     );
+ *     PreparedMessage message = template.prepare("447700900123", "ref-1", params);
+ *     client.getMessagesClient().sendPreparedMessage(message);
+ * }</pre>
+ * Text which must contain a literal placeholder, such as {@code {{1}}} in the body of a WhatsApp template,
+ * is written with a leading backslash, i.e. {@code "\\{{1}}"} in Java source.
+ * <p>
+ * Since the recipient is spliced in as-is, it is not validated or normalised in the way that
+ * {@link MessageRequest.Builder#to(String)} is; callers should ensure it is in the format the channel expects.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class MessageTemplate {
+	// Not valid placeholder names, so cannot clash with the prototype's parameters.
+	static final String TO = "$to", CLIENT_REF = "$client_ref";
+
+	private final JsonTemplate template;
+	private final List<String> parameterNames;
+
+	private MessageTemplate(MessageRequest prototype) {
+		template = JsonTemplate.builder(prototype).field("/to", TO).optionalField("/client_ref", CLIENT_REF).build();
+		List<String> names = template.getVariableNames();
+		parameterNames = Collections.unmodifiableList(names.subList(2, names.size()));
+	}
+
+	/**
+	 * Compiles a template from a prototype request. The prototype's recipient and client reference are
+	 * placeholders which will be replaced, but must still be valid in order to build the request.
+	 *
+	 * @param prototype The message to use as the template.
+	 *
+	 * @return A new MessageTemplate.
+	 */
+	public static MessageTemplate of(MessageRequest prototype) {
+		return new MessageTemplate(Objects.requireNonNull(prototype, "Prototype cannot be null."));
+	}
+
+	/**
+	 * Names of the {@code {{name}}} placeholders in the prototype, in order of first appearance.
+	 *
+	 * @return The parameter names, as an immutable list.
+	 */
+	public List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * Renders the message for a recipient.
+	 *
+	 * @param to The recipient's number or ID.
+	 * @param clientRef The client reference, or {@code null} to omit it.
+	 * @param parameters Values for the template's placeholders, keyed by name.
+	 *
+	 * @return The serialised request.
+	 * @throws IllegalArgumentException If a placeholder has no value or the client reference is too long.
+	 */
+	public PreparedMessage prepare(String to, String clientRef, Map<String, ?> parameters) {
+		Objects.requireNonNull(to, "Recipient cannot be null.");
+		Objects.requireNonNull(parameters, "Parameters cannot be null.");
+		if (clientRef != null && clientRef.length() > 100) {
+			throw new IllegalArgumentException("Client reference cannot be longer than 100 characters.");
+		}
+		return new PreparedMessage(template.render(name ->
+				TO.equals(name) ? to : CLIENT_REF.equals(name) ? clientRef : parameters.get(name)
+		));
+	}
+
+	/**
+	 * Renders the message for a recipient, when the prototype has no placeholders.
+	 *
+	 * @param to The recipient's number or ID.
+	 * @param clientRef The client reference, or {@code null} to omit it.
+	 *
+	 * @return The serialised request.
+	 * @see #prepare(String, String, Map)
+	 */
+	public PreparedMessage prepare(String to, String clientRef) {
+		return prepare(to, clientRef, Collections.emptyMap());
+	}
+}
@@ -0,0 +1,604 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.messages.internal.LatencyHistogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Joins sent messages with their {@link MessageStatus} webhooks, recording how long each message took to be
+ * submitted and delivered, per {@link Channel}. Messages are registered when sent, using the UUID from the
+ * {@link MessageResponse}, and stop being tracked when a final status (delivered, read, rejected or
+ * undeliverable) is received, or when they expire.
+ * <p>
+ * Both registration and status updates take constant time. Memory is bounded by the
+ * {@linkplain Builder#maxInFlight(int) maximum number of in-flight messages}: entries are held in
+ * pre-allocated primitive arrays (65 to 100 bytes per message, with no per-message objects), and the oldest
+ * message is expired if a new one is registered when the tracker is full. Messages are also expired once their
+ * {@linkplain Builder#ttl(Duration) time to live} has passed without a final status. Expiry is performed
+ * as part of registering and updating messages, or on demand via {@link #expireStale()}.
+ * <p>
+ * Latencies are measured by this process, from registration until the status webhook is received, so
+ * include webhook delivery delays. Callers can be notified of completion through a
+ * {@linkplain Builder#completionListener(Consumer) listener} for all messages, or a future for individual
+ * messages via {@link #trackAndAwait(MessageRequest, MessageResponse)}.
+ * <pre>{@code
+ *     MessageTracker tracker = MessageTracker.builder().maxInFlight(2_000_000).ttl(Duration.ofHours(6)).build();
+ *
+ *     MessageResponse response = messagesClient.sendMessage(request);
+ *     tracker.track(request, response);
+ *
+ *     // In the status webhook endpoint:
+ *     tracker.onStatus(MessageStatus.fromJson(body));
+ *
+ *     long p99 = tracker.getDeliveryLatency(Channel.SMS).getValueAtPercentile(99);
+ * }</pre>
+ * Instances are thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class MessageTracker {
+	private static final Channel[] CHANNELS = Channel.values();
+	private static final byte SUBMITTED_FLAG = (byte) 0x80, CHANNEL_MASK = 0x7F;
+
+	private final Segment[] segments;
+	private final long ttlNanos;
+	private final LongSupplier nanoTime;
+	private final Consumer<? super MessageStatus> completionListener;
+	private final Consumer<? super UUID> expiryListener;
+	private final Map<UUID, CompletableFuture<MessageStatus>> awaiting = new ConcurrentHashMap<>();
+	private final LatencyHistogram[] submitLatencies, deliveryLatencies;
+	private final LongAdder tracked = new LongAdder(), delivered = new LongAdder(), failed = new LongAdder(),
+			expired = new LongAdder(), unmatched = new LongAdder();
+
+	private MessageTracker(Builder builder) {
+		ttlNanos = builder.ttl.toNanos();
+		nanoTime = builder.nanoTime;
+		completionListener = builder.completionListener;
+		expiryListener = builder.expiryListener;
+		int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(builder.segments, builder.maxInFlight)));
+		int capacity = (builder.maxInFlight + segmentCount - 1) / segmentCount;
+		segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment(capacity);
+		}
+		submitLatencies = new LatencyHistogram[CHANNELS.length];
+		deliveryLatencies = new LatencyHistogram[CHANNELS.length];
+		for (int i = 0; i < CHANNELS.length; i++) {
+			submitLatencies[i] = new LatencyHistogram();
+			deliveryLatencies[i] = new LatencyHistogram();
+		}
+	}
+
+	private static long hash(long msb, long lsb) {
+		long h = msb ^ Long.rotateLeft(lsb, 29);
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		return h ^ (h >>> 33);
+	}
+
+	private Segment segmentFor(long hash) {
+		return segments[(int) (hash >>> 48) & (segments.length - 1)];
+	}
+
+	/**
+	 * Starts tracking a message which has been sent.
+	 *
+	 * @param request The message request.
+	 * @param response The response to sending the request.
+	 */
+	public void track(MessageRequest request, MessageResponse response) {
+		track(response.getMessageUuid(), request.getChannel());
+	}
+
+	/**
+	 * Starts tracking a message which has been sent.
+	 *
+	 * @param messageUuid The message's UUID, as returned in the {@link MessageResponse}.
+	 * @param channel The channel the message was sent on.
+	 */
+	public void track(UUID messageUuid, Channel channel) {
+		Objects.requireNonNull(messageUuid, "Message UUID cannot be null.");
+		Objects.requireNonNull(channel, "Channel cannot be null.");
+		long msb = messageUuid.getMostSignificantBits(), lsb = messageUuid.getLeastSignificantBits();
+		long hash = hash(msb, lsb), now = nanoTime.getAsLong();
+		Segment segment = segmentFor(hash);
+		List<UUID> expiredKeys;
+		synchronized (segment) {
+			segment.put(msb, lsb, hash, now, (byte) (channel.ordinal() + 1), ttlNanos, notifyExpiry());
+			expiredKeys = segment.takeExpiredKeys();
+		}
+		tracked.increment();
+		onExpired(expiredKeys);
+	}
+
+	/**
+	 * Starts tracking a message which has been sent, returning a future which completes when its final status
+	 * is received. If the message expires first, the future completes exceptionally with a
+	 * {@link TimeoutException}.
+	 *
+	 * @param request The message request.
+	 * @param response The response to sending the request.
+	 *
+	 * @return A future for the message's final status.
+	 */
+	public CompletableFuture<MessageStatus> trackAndAwait(MessageRequest request, MessageResponse response) {
+		return trackAndAwait(response.getMessageUuid(), request.getChannel());
+	}
+
+	/**
+	 * Starts tracking a message which has been sent, returning a future which completes when its final status
+	 * is received. If the message expires first, the future completes exceptionally with a
+	 * {@link TimeoutException}.
+	 *
+	 * @param messageUuid The message's UUID, as returned in the {@link MessageResponse}.
+	 * @param channel The channel the message was sent on.
+	 *
+	 * @return A future for the message's final status.
+	 */
+	public CompletableFuture<MessageStatus> trackAndAwait(UUID messageUuid, Channel channel) {
+		CompletableFuture<MessageStatus> future = new CompletableFuture<>();
+		awaiting.put(Objects.requireNonNull(messageUuid, "Message UUID cannot be null."), future);
+		track(messageUuid, channel);
+		return future;
+	}
+
+	/**
+	 * Updates a tracked message from its status webhook. A {@linkplain MessageStatus.Status#SUBMITTED submitted}
+	 * status records the submission latency; a final status records the delivery latency (if delivered or
+	 * read), notifies any listener or future and stops tracking the message.
+	 *
+	 * @param status The parsed status webhook.
+	 *
+	 * @return {@code true} if the status was for a tracked message, {@code false} otherwise (for example,
+	 * if the message was never tracked, has expired or already has a final status).
+	 */
+	public boolean onStatus(MessageStatus status) {
+		UUID messageUuid = status.getMessageUuid();
+		MessageStatus.Status value = status.getStatus();
+		if (messageUuid == null || value == null) {
+			unmatched.increment();
+			return false;
+		}
+		long msb = messageUuid.getMostSignificantBits(), lsb = messageUuid.getLeastSignificantBits();
+		long hash = hash(msb, lsb), now = nanoTime.getAsLong(), sent;
+		boolean complete = value != MessageStatus.Status.SUBMITTED, firstSubmit = false;
+		int channel;
+		Segment segment = segmentFor(hash);
+		List<UUID> expiredKeys;
+		synchronized (segment) {
+			segment.expire(now, ttlNanos, notifyExpiry());
+			expiredKeys = segment.takeExpiredKeys();
+			int slot = segment.find(msb, lsb, hash);
+			if (slot < 0) {
+				channel = -1;
+				sent = 0;
+			}
+			else {
+				byte meta = segment.meta[slot];
+				channel = (meta & CHANNEL_MASK) - 1;
+				sent = segment.sent[slot];
+				if (complete) {
+					segment.remove(slot);
+				}
+				else if ((firstSubmit = (meta & SUBMITTED_FLAG) == 0)) {
+					segment.meta[slot] = (byte) (meta | SUBMITTED_FLAG);
+				}
+			}
+		}
+		onExpired(expiredKeys);
+		if (channel < 0) {
+			unmatched.increment();
+			return false;
+		}
+		if (firstSubmit) {
+			submitLatencies[channel].record(now - sent);
+		}
+		if (complete) {
+			if (value == MessageStatus.Status.DELIVERED || value == MessageStatus.Status.READ) {
+				deliveryLatencies[channel].record(now - sent);
+				delivered.increment();
+			}
+			else {
+				failed.increment();
+			}
+			if (!awaiting.isEmpty()) {
+				CompletableFuture<MessageStatus> future = awaiting.remove(messageUuid);
+				if (future != null) future.complete(status);
+			}
+			if (completionListener != null) {
+				completionListener.accept(status);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Expires all messages whose time to live has passed. This happens automatically as messages are tracked
+	 * and updated, but may be called periodically to ensure timely expiry notifications when traffic is low.
+	 */
+	public void expireStale() {
+		long now = nanoTime.getAsLong();
+		for (Segment segment : segments) {
+			List<UUID> expiredKeys;
+			synchronized (segment) {
+				segment.expire(now, ttlNanos, notifyExpiry());
+				expiredKeys = segment.takeExpiredKeys();
+			}
+			onExpired(expiredKeys);
+		}
+	}
+
+	private boolean notifyExpiry() {
+		return expiryListener != null || !awaiting.isEmpty();
+	}
+
+	private void onExpired(List<UUID> expiredKeys) {
+		if (expiredKeys == null) return;
+		for (UUID key : expiredKeys) {
+			CompletableFuture<MessageStatus> future = awaiting.remove(key);
+			if (future != null) {
+				future.completeExceptionally(new TimeoutException("No final status received for message "+key+"."));
+			}
+			if (expiryListener != null) {
+				expiryListener.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * Latency from sending to receiving the {@linkplain MessageStatus.Status#SUBMITTED submitted} status.
+	 *
+	 * @param channel The channel.
+	 *
+	 * @return The live histogram of submission latencies, in nanoseconds.
+	 */
+	public LatencyHistogram getSubmitLatency(Channel channel) {
+		return submitLatencies[channel.ordinal()];
+	}
+
+	/**
+	 * Latency from sending to receiving the {@linkplain MessageStatus.Status#DELIVERED delivered} (or read)
+	 * status.
+	 *
+	 * @param channel The channel.
+	 *
+	 * @return The live histogram of delivery latencies, in nanoseconds.
+	 */
+	public LatencyHistogram getDeliveryLatency(Channel channel) {
+		return deliveryLatencies[channel.ordinal()];
+	}
+
+	/**
+	 * Number of messages currently being tracked.
+	 *
+	 * @return The in-flight message count.
+	 */
+	public int getInFlightCount() {
+		int count = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				count += segment.size;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Number of messages registered for tracking so far.
+	 *
+	 * @return The tracked message count.
+	 */
+	public long getTrackedCount() {
+		return tracked.sum();
+	}
+
+	/**
+	 * Number of tracked messages which were delivered or read.
+	 *
+	 * @return The delivered message count.
+	 */
+	public long getDeliveredCount() {
+		return delivered.sum();
+	}
+
+	/**
+	 * Number of tracked messages which were rejected or undeliverable.
+	 *
+	 * @return The failed message count.
+	 */
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	/**
+	 * Number of messages which expired, or were evicted to make room, before receiving a final status.
+	 *
+	 * @return The expired message count.
+	 */
+	public long getExpiredCount() {
+		return expired.sum();
+	}
+
+	/**
+	 * Number of statuses received which did not match a tracked message.
+	 *
+	 * @return The unmatched status count.
+	 */
+	public long getUnmatchedCount() {
+		return unmatched.sum();
+	}
+
+	/**
+	 * Open-addressed hash table of in-flight messages with linear probing, plus a ring buffer of keys in
+	 * registration order. Since all messages have the same time to live, the ring's head is always the next
+	 * to expire; keys in the ring which have since completed are skipped. The ring has twice the table's
+	 * capacity, so when it fills up, compacting it frees at least half of it, keeping the amortised cost
+	 * of registration constant.
+	 */
+	private final class Segment {
+		final int capacity, mask;
+		final long[] msbs, lsbs, sent;
+		final byte[] meta;
+		final long[] ringMsbs, ringLsbs;
+		int size, ringHead, ringSize;
+		List<UUID> expiredKeys;
+
+		Segment(int capacity) {
+			this.capacity = capacity;
+			int tableSize = Integer.highestOneBit(Math.max(2, capacity + capacity / 3) * 2 - 1);
+			mask = tableSize - 1;
+			msbs = new long[tableSize];
+			lsbs = new long[tableSize];
+			sent = new long[tableSize];
+			meta = new byte[tableSize];
+			ringMsbs = new long[capacity * 2];
+			ringLsbs = new long[capacity * 2];
+		}
+
+		/**
+		 * Returns and clears the keys of messages expired by the last operation, if they were requested.
+		 */
+		List<UUID> takeExpiredKeys() {
+			List<UUID> keys = expiredKeys;
+			expiredKeys = null;
+			return keys;
+		}
+
+		int find(long msb, long lsb, long hash) {
+			for (int i = (int) hash & mask; meta[i] != 0; i = (i + 1) & mask) {
+				if (msbs[i] == msb && lsbs[i] == lsb) return i;
+			}
+			return -1;
+		}
+
+		void put(long msb, long lsb, long hash, long now, byte channel, long ttlNanos, boolean notify) {
+			expire(now, ttlNanos, notify);
+			int slot = find(msb, lsb, hash);
+			if (slot >= 0) {
+				sent[slot] = now;
+				meta[slot] = channel;
+				return;
+			}
+			while (size == capacity) {
+				popHead(notify);
+			}
+			if (ringSize == ringMsbs.length) {
+				compactRing();
+			}
+			int i = (int) hash & mask;
+			while (meta[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			msbs[i] = msb;
+			lsbs[i] = lsb;
+			sent[i] = now;
+			meta[i] = channel;
+			size++;
+			int tail = (ringHead + ringSize++) % ringMsbs.length;
+			ringMsbs[tail] = msb;
+			ringLsbs[tail] = lsb;
+		}
+
+		/**
+		 * Removes expired messages from the head of the ring.
+		 */
+		void expire(long now, long ttlNanos, boolean notify) {
+			while (ringSize > 0) {
+				long msb = ringMsbs[ringHead], lsb = ringLsbs[ringHead];
+				int slot = find(msb, lsb, hash(msb, lsb));
+				if (slot >= 0 && now - sent[slot] < ttlNanos) break;
+				popHead(notify);
+			}
+		}
+
+		/**
+		 * Removes the oldest key from the ring, expiring its message if still in flight.
+		 */
+		private void popHead(boolean notify) {
+			long msb = ringMsbs[ringHead], lsb = ringLsbs[ringHead];
+			int slot = find(msb, lsb, hash(msb, lsb));
+			if (slot >= 0) {
+				if (notify) {
+					if (expiredKeys == null) expiredKeys = new ArrayList<>();
+					expiredKeys.add(new UUID(msb, lsb));
+				}
+				remove(slot);
+				expired.increment();
+			}
+			ringHead = (ringHead + 1) % ringMsbs.length;
+			ringSize--;
+		}
+
+		/**
+		 * Discards keys of completed messages from the ring, preserving the order of the rest.
+		 */
+		private void compactRing() {
+			int length = ringMsbs.length, kept = 0;
+			for (int r = 0; r < ringSize; r++) {
+				int from = (ringHead + r) % length;
+				long msb = ringMsbs[from], lsb = ringLsbs[from];
+				if (find(msb, lsb, hash(msb, lsb)) >= 0) {
+					int to = (ringHead + kept++) % length;
+					ringMsbs[to] = msb;
+					ringLsbs[to] = lsb;
+				}
+			}
+			ringSize = kept;
+		}
+
+		/**
+		 * Removes the entry at the given slot, shifting later entries in its probe sequence back so that
+		 * no tombstones are needed.
+		 */
+		void remove(int slot) {
+			int gap = slot;
+			for (int i = (gap + 1) & mask; meta[i] != 0; i = (i + 1) & mask) {
+				int home = (int) hash(msbs[i], lsbs[i]) & mask;
+				// Move the entry into the gap if its home slot is not cyclically within (gap, i].
+				if (((i - home) & mask) >= ((i - gap) & mask)) {
+					msbs[gap] = msbs[i];
+					lsbs[gap] = lsbs[i];
+					sent[gap] = sent[i];
+					meta[gap] = meta[i];
+					gap = i;
+				}
+			}
+			meta[gap] = 0;
+			size--;
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for configuring the tracker's bounds and listeners.
+	 */
+	public static final class Builder {
+		private int maxInFlight = 1_000_000, segments = 16;
+		private Duration ttl = Duration.ofHours(1);
+		private Consumer<? super MessageStatus> completionListener;
+		private Consumer<? super UUID> expiryListener;
+		private LongSupplier nanoTime = System::nanoTime;
+
+		private Builder() {}
+
+		/**
+		 * Maximum number of messages to track at once. When exceeded, the oldest message is expired.
+		 * The default is 1,000,000. Memory for this many messages is allocated up-front. The limit is
+		 * divided evenly between {@linkplain #segments(int) segments}, so messages may start to be expired
+		 * shortly before it is reached overall.
+		 *
+		 * @param maxInFlight The maximum in-flight message count, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxInFlight(int maxInFlight) {
+			if (maxInFlight < 1) {
+				throw new IllegalArgumentException("Maximum in-flight messages must be positive.");
+			}
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		/**
+		 * How long to wait for a message's final status before expiring it. The default is one hour.
+		 *
+		 * @param ttl The time to live, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder ttl(Duration ttl) {
+			if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+				throw new IllegalArgumentException("Time to live must be positive.");
+			}
+			this.ttl = ttl;
+			return this;
+		}
+
+		/**
+		 * Number of independently locked partitions, rounded down to a power of two. The default is 16.
+		 *
+		 * @param segments The number of segments, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder segments(int segments) {
+			if (segments < 1) {
+				throw new IllegalArgumentException("Segments must be positive.");
+			}
+			this.segments = segments;
+			return this;
+		}
+
+		/**
+		 * Listener to invoke with the final status of every tracked message. It is called on the thread
+		 * which calls {@link #onStatus(MessageStatus)}.
+		 *
+		 * @param completionListener The listener.
+		 *
+		 * @return This builder.
+		 */
+		public Builder completionListener(Consumer<? super MessageStatus> completionListener) {
+			this.completionListener = Objects.requireNonNull(completionListener, "Listener cannot be null.");
+			return this;
+		}
+
+		/**
+		 * Listener to invoke with the UUID of every message which expires without a final status.
+		 *
+		 * @param expiryListener The listener.
+		 *
+		 * @return This builder.
+		 */
+		public Builder expiryListener(Consumer<? super UUID> expiryListener) {
+			this.expiryListener = Objects.requireNonNull(expiryListener, "Listener cannot be null.");
+			return this;
+		}
+
+		Builder nanoTime(LongSupplier nanoTime) {
+			this.nanoTime = nanoTime;
+			return this;
+		}
+
+		/**
+		 * Builds the tracker.
+		 *
+		 * @return A new MessageTracker.
+		 */
+		public MessageTracker build() {
+			return new MessageTracker(this);
+		}
+	}
+}
@@ -0,0 +1,586 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.common.MessageType;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses Messages API inbound message and status webhooks straight from the request body and routes them
+ * to handlers registered by {@link Channel}, {@link MessageType} (for inbound messages) or
+ * {@link MessageStatus.Status} (for statuses). Parsing uses a shared, pre-configured reader, so it is
+ * considerably cheaper than {@link InboundMessage#fromJson(String)} on a body read into a String.
+ * <p>
+ * Each webhook is delivered to the single most specific matching handler: one registered for both the
+ * channel and type (or status), then one registered for the channel, then the default handler. Webhooks
+ * with no matching handler are counted and otherwise ignored.
+ * <p>
+ * Handlers may instead be registered as <em>batch handlers</em>, which receive webhooks in lists of up to a
+ * given size. A batch is delivered on the thread which fills it, or after a maximum delay on the
+ * dispatcher's scheduler thread, so that a trickle of webhooks is not held indefinitely. This suits sinks
+ * with high per-call overhead, such as a database writer inserting statuses in bulk. Since webhooks in a
+ * batch have already been acknowledged by the time it is delivered, batch handlers are responsible for
+ * dealing with their own failures; any exception they throw is logged and the batch is discarded.
+ * <pre>{@code
+ *     MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+ *             .inboundHandler(Channel.WHATSAPP, MessageType.TEXT, this::onWhatsappText)
+ *             .inboundHandler(this::onOtherInbound)
+ *             .statusBatchHandler(500, Duration.ofMillis(250), statusRepository::insertAll)
+ *             .build();
+ *
+ *     // In the status webhook endpoint:
+ *     dispatcher.dispatchStatus(request.getInputStream());
+ * }</pre>
+ * Instances are thread-safe. Handlers are invoked on the dispatching thread (or the scheduler thread for
+ * timed batch flushes) and may be invoked concurrently, so must themselves be thread-safe.
+ * The dispatcher should be {@linkplain #close() closed} on shutdown to deliver any pending batches.
+ *
+ * @since 9.14.0
+ */
+public final class MessageWebhookDispatcher implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(MessageWebhookDispatcher.class.getName());
+	private static final AtomicInteger SCHEDULER_NUMBER = new AtomicInteger();
+	private static final int CHANNELS = Channel.values().length + 1,
+			MESSAGE_TYPES = MessageType.values().length + 1, STATUSES = MessageStatus.Status.values().length + 1;
+
+	private final Consumer<? super InboundMessage>[] inboundRoutes;
+	private final Consumer<? super MessageStatus>[] statusRoutes;
+	private final List<Batch<?>> batches;
+	private final ScheduledExecutorService scheduler;
+	private final boolean ownsScheduler;
+	private final LongAdder inboundCount = new LongAdder(), statusCount = new LongAdder(),
+			unhandledCount = new LongAdder();
+
+	private MessageWebhookDispatcher(Builder builder) {
+		boolean timed = false;
+		for (Batch<?> batch : builder.batches) {
+			timed |= batch.maxDelayNanos > 0;
+		}
+		if ((ownsScheduler = builder.scheduler == null && timed)) {
+			final String name = "vonage-webhook-flush-" + SCHEDULER_NUMBER.incrementAndGet();
+			ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+			pool.setRemoveOnCancelPolicy(true);
+			scheduler = pool;
+		}
+		else {
+			scheduler = builder.scheduler;
+		}
+		batches = Collections.unmodifiableList(new ArrayList<>(builder.batches));
+		for (Batch<?> batch : batches) {
+			batch.scheduler = scheduler;
+		}
+		inboundRoutes = routes(builder.inboundHandlers, MESSAGE_TYPES);
+		statusRoutes = routes(builder.statusHandlers, STATUSES);
+	}
+
+	/**
+	 * Flattens the registered handlers into a lookup table indexed by channel and type, with the most
+	 * specific handler for each combination resolved up-front.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Consumer<? super T>[] routes(Map<Integer, Consumer<? super T>> handlers, int types) {
+		Consumer<? super T>[] routes = new Consumer[CHANNELS * types];
+		Consumer<? super T> fallback = handlers.get(0);
+		for (int c = 0; c < CHANNELS; c++) {
+			Consumer<? super T> channelHandler = c > 0 ? handlers.getOrDefault(c * types, fallback) : fallback;
+			for (int t = 0; t < types; t++) {
+				routes[c * types + t] = c > 0 && t > 0 ?
+						handlers.getOrDefault(c * types + t, channelHandler) : channelHandler;
+			}
+		}
+		return routes;
+	}
+
+	private static int index(Enum<?> value) {
+		return value == null ? 0 : value.ordinal() + 1;
+	}
+
+	/**
+	 * Parses an inbound message webhook from a request body stream, without closing it.
+	 *
+	 * @param body The webhook's JSON request body.
+	 *
+	 * @return The parsed inbound message.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public static InboundMessage parseInboundMessage(InputStream body) {
+		return InboundMessage.READER.read(Objects.requireNonNull(body, "Body cannot be null."));
+	}
+
+	/**
+	 * Parses an inbound message webhook from the remaining bytes of a buffer.
+	 *
+	 * @param body The webhook's UTF-8 encoded JSON request body. Its position will be advanced to its limit.
+	 *
+	 * @return The parsed inbound message.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public static InboundMessage parseInboundMessage(ByteBuffer body) {
+		return InboundMessage.READER.read(Objects.requireNonNull(body, "Body cannot be null."));
+	}
+
+	/**
+	 * Parses a message status webhook from a request body stream, without closing it.
+	 *
+	 * @param body The webhook's JSON request body.
+	 *
+	 * @return The parsed message status.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public static MessageStatus parseMessageStatus(InputStream body) {
+		return MessageStatus.READER.read(Objects.requireNonNull(body, "Body cannot be null."));
+	}
+
+	/**
+	 * Parses a message status webhook from the remaining bytes of a buffer.
+	 *
+	 * @param body The webhook's UTF-8 encoded JSON request body. Its position will be advanced to its limit.
+	 *
+	 * @return The parsed message status.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public static MessageStatus parseMessageStatus(ByteBuffer body) {
+		return MessageStatus.READER.read(Objects.requireNonNull(body, "Body cannot be null."));
+	}
+
+	/**
+	 * Parses an inbound message webhook and dispatches it to the matching handler.
+	 *
+	 * @param body The webhook's JSON request body. It will not be closed.
+	 *
+	 * @return The parsed inbound message.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public InboundMessage dispatchInbound(InputStream body) {
+		return dispatch(parseInboundMessage(body));
+	}
+
+	/**
+	 * Parses an inbound message webhook and dispatches it to the matching handler.
+	 *
+	 * @param body The webhook's UTF-8 encoded JSON request body. Its position will be advanced to its limit.
+	 *
+	 * @return The parsed inbound message.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public InboundMessage dispatchInbound(ByteBuffer body) {
+		return dispatch(parseInboundMessage(body));
+	}
+
+	/**
+	 * Dispatches an already parsed inbound message to the matching handler.
+	 *
+	 * @param message The inbound message.
+	 *
+	 * @return The message, for convenience.
+	 */
+	public InboundMessage dispatch(InboundMessage message) {
+		inboundCount.increment();
+		route(inboundRoutes, index(message.getChannel()) * MESSAGE_TYPES + index(message.getMessageType()), message);
+		return message;
+	}
+
+	/**
+	 * Parses a message status webhook and dispatches it to the matching handler.
+	 *
+	 * @param body The webhook's JSON request body. It will not be closed.
+	 *
+	 * @return The parsed message status.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public MessageStatus dispatchStatus(InputStream body) {
+		return dispatch(parseMessageStatus(body));
+	}
+
+	/**
+	 * Parses a message status webhook and dispatches it to the matching handler.
+	 *
+	 * @param body The webhook's UTF-8 encoded JSON request body. Its position will be advanced to its limit.
+	 *
+	 * @return The parsed message status.
+	 * @throws com.vonage.client.VonageResponseParseException If the body could not be parsed.
+	 */
+	public MessageStatus dispatchStatus(ByteBuffer body) {
+		return dispatch(parseMessageStatus(body));
+	}
+
+	/**
+	 * Dispatches an already parsed message status to the matching handler.
+	 *
+	 * @param status The message status.
+	 *
+	 * @return The status, for convenience.
+	 */
+	public MessageStatus dispatch(MessageStatus status) {
+		statusCount.increment();
+		route(statusRoutes, index(status.getChannel()) * STATUSES + index(status.getStatus()), status);
+		return status;
+	}
+
+	private <T> void route(Consumer<? super T>[] routes, int index, T webhook) {
+		Consumer<? super T> handler = routes[index];
+		if (handler != null) {
+			handler.accept(webhook);
+		}
+		else {
+			unhandledCount.increment();
+		}
+	}
+
+	/**
+	 * Immediately delivers all pending batches to their batch handlers, on the calling thread.
+	 */
+	public void flush() {
+		for (Batch<?> batch : batches) {
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Number of inbound messages dispatched so far, including those with no matching handler.
+	 *
+	 * @return The total inbound message count.
+	 */
+	public long getInboundCount() {
+		return inboundCount.sum();
+	}
+
+	/**
+	 * Number of message statuses dispatched so far, including those with no matching handler.
+	 *
+	 * @return The total message status count.
+	 */
+	public long getStatusCount() {
+		return statusCount.sum();
+	}
+
+	/**
+	 * Number of webhooks dispatched so far which had no matching handler.
+	 *
+	 * @return The unhandled webhook count.
+	 */
+	public long getUnhandledCount() {
+		return unhandledCount.sum();
+	}
+
+	/**
+	 * Delivers any pending batches and stops the dispatcher's own scheduler thread, if it has one.
+	 * A scheduler supplied through the builder is not shut down.
+	 */
+	@Override
+	public void close() {
+		flush();
+		if (ownsScheduler) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Accumulates webhooks and hands them to a batch handler in groups.
+	 */
+	static final class Batch<T> implements Consumer<T> {
+		private final int size;
+		private final long maxDelayNanos;
+		private final Consumer<? super List<T>> handler;
+		private ScheduledExecutorService scheduler;
+		private List<T> pending;
+		private long generation;
+
+		Batch(int size, Duration maxDelay, Consumer<? super List<T>> handler) {
+			if (size < 1) {
+				throw new IllegalArgumentException("Batch size must be positive.");
+			}
+			if (maxDelay != null && maxDelay.isNegative()) {
+				throw new IllegalArgumentException("Maximum batch delay cannot be negative.");
+			}
+			this.size = size;
+			this.maxDelayNanos = maxDelay != null ? maxDelay.toNanos() : 0;
+			this.handler = Objects.requireNonNull(handler, "Batch handler cannot be null.");
+			pending = new ArrayList<>(size);
+		}
+
+		@Override
+		public void accept(T item) {
+			List<T> full = null;
+			synchronized (this) {
+				pending.add(item);
+				if (pending.size() >= size) {
+					full = swap();
+				}
+				else if (pending.size() == 1 && maxDelayNanos > 0) {
+					final long scheduledGeneration = generation;
+					scheduler.schedule(() -> flush(scheduledGeneration), maxDelayNanos, TimeUnit.NANOSECONDS);
+				}
+			}
+			if (full != null) {
+				deliver(full);
+			}
+		}
+
+		private List<T> swap() {
+			List<T> full = pending;
+			pending = new ArrayList<>(size);
+			generation++;
+			return full;
+		}
+
+		private void flush(long expectedGeneration) {
+			List<T> due;
+			synchronized (this) {
+				if (generation != expectedGeneration || pending.isEmpty()) return;
+				due = swap();
+			}
+			deliver(due);
+		}
+
+		void flush() {
+			List<T> due;
+			synchronized (this) {
+				if (pending.isEmpty()) return;
+				due = swap();
+			}
+			deliver(due);
+		}
+
+		private void deliver(List<T> batch) {
+			try {
+				handler.accept(Collections.unmodifiableList(batch));
+			}
+			catch (RuntimeException ex) {
+				LOGGER.log(Level.WARNING, "Webhook batch handler failed; discarding "+batch.size()+" items.", ex);
+			}
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for registering handlers. Registering a handler for the same combination more than once
+	 * replaces the previous one.
+	 */
+	public static final class Builder {
+		private final Map<Integer, Consumer<? super InboundMessage>> inboundHandlers = new HashMap<>();
+		private final Map<Integer, Consumer<? super MessageStatus>> statusHandlers = new HashMap<>();
+		private final List<Batch<?>> batches = new ArrayList<>();
+		private ScheduledExecutorService scheduler;
+
+		private Builder() {}
+
+		private static <T> Consumer<T> batch(int size, Duration maxDelay,
+											 Consumer<? super List<T>> handler, List<Batch<?>> batches) {
+			Batch<T> batch = new Batch<>(size, maxDelay, handler);
+			batches.add(batch);
+			return batch;
+		}
+
+		private Builder inbound(Channel channel, MessageType type, Consumer<? super InboundMessage> handler) {
+			inboundHandlers.put(
+					index(channel) * MESSAGE_TYPES + index(type),
+					Objects.requireNonNull(handler, "Handler cannot be null.")
+			);
+			return this;
+		}
+
+		private Builder status(Channel channel, MessageStatus.Status status, Consumer<? super MessageStatus> handler) {
+			statusHandlers.put(
+					index(channel) * STATUSES + index(status),
+					Objects.requireNonNull(handler, "Handler cannot be null.")
+			);
+			return this;
+		}
+
+		/**
+		 * Sets the default handler for inbound messages which do not match a more specific handler.
+		 *
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder inboundHandler(Consumer<? super InboundMessage> handler) {
+			return inbound(null, null, handler);
+		}
+
+		/**
+		 * Sets the handler for inbound messages on the given channel.
+		 *
+		 * @param channel The channel to handle.
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder inboundHandler(Channel channel, Consumer<? super InboundMessage> handler) {
+			return inbound(Objects.requireNonNull(channel, "Channel cannot be null."), null, handler);
+		}
+
+		/**
+		 * Sets the handler for inbound messages of the given type on the given channel.
+		 *
+		 * @param channel The channel to handle.
+		 * @param type The message type to handle.
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder inboundHandler(Channel channel, MessageType type, Consumer<? super InboundMessage> handler) {
+			return inbound(
+					Objects.requireNonNull(channel, "Channel cannot be null."),
+					Objects.requireNonNull(type, "Message type cannot be null."), handler
+			);
+		}
+
+		/**
+		 * Sets the default inbound message handler to a batch handler.
+		 *
+		 * @param batchSize Maximum number of messages per batch.
+		 * @param maxDelay Maximum time to hold a partially filled batch before delivering it,
+		 * or {@code null} to only deliver full batches (and pending ones on {@link #flush()}).
+		 * @param handler The batch handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder inboundBatchHandler(int batchSize, Duration maxDelay,
+										   Consumer<? super List<InboundMessage>> handler) {
+			return inboundHandler(batch(batchSize, maxDelay, handler, batches));
+		}
+
+		/**
+		 * Sets the inbound message handler for the given channel to a batch handler.
+		 *
+		 * @param channel The channel to handle.
+		 * @param batchSize Maximum number of messages per batch.
+		 * @param maxDelay Maximum time to hold a partially filled batch before delivering it, or {@code null}.
+		 * @param handler The batch handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder inboundBatchHandler(Channel channel, int batchSize, Duration maxDelay,
+										   Consumer<? super List<InboundMessage>> handler) {
+			return inboundHandler(channel, batch(batchSize, maxDelay, handler, batches));
+		}
+
+		/**
+		 * Sets the default handler for statuses which do not match a more specific handler.
+		 *
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder statusHandler(Consumer<? super MessageStatus> handler) {
+			return status(null, null, handler);
+		}
+
+		/**
+		 * Sets the handler for statuses of messages sent on the given channel.
+		 *
+		 * @param channel The channel to handle.
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder statusHandler(Channel channel, Consumer<? super MessageStatus> handler) {
+			return status(Objects.requireNonNull(channel, "Channel cannot be null."), null, handler);
+		}
+
+		/**
+		 * Sets the handler for a specific status of messages sent on the given channel.
+		 *
+		 * @param channel The channel to handle.
+		 * @param status The status to handle.
+		 * @param handler The handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder statusHandler(Channel channel, MessageStatus.Status status,
+									 Consumer<? super MessageStatus> handler) {
+			return status(
+					Objects.requireNonNull(channel, "Channel cannot be null."),
+					Objects.requireNonNull(status, "Status cannot be null."), handler
+			);
+		}
+
+		/**
+		 * Sets the default status handler to a batch handler.
+		 *
+		 * @param batchSize Maximum number of statuses per batch.
+		 * @param maxDelay Maximum time to hold a partially filled batch before delivering it,
+		 * or {@code null} to only deliver full batches (and pending ones on {@link #flush()}).
+		 * @param handler The batch handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder statusBatchHandler(int batchSize, Duration maxDelay,
+										  Consumer<? super List<MessageStatus>> handler) {
+			return statusHandler(batch(batchSize, maxDelay, handler, batches));
+		}
+
+		/**
+		 * Sets the status handler for the given channel to a batch handler.
+		 *
+		 * @param channel The channel to handle.
+		 * @param batchSize Maximum number of statuses per batch.
+		 * @param maxDelay Maximum time to hold a partially filled batch before delivering it, or {@code null}.
+		 * @param handler The batch handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder statusBatchHandler(Channel channel, int batchSize, Duration maxDelay,
+										  Consumer<? super List<MessageStatus>> handler) {
+			return statusHandler(channel, batch(batchSize, maxDelay, handler, batches));
+		}
+
+		/**
+		 * Scheduler used to deliver batches after their maximum delay. By default, the dispatcher creates
+		 * its own single daemon thread if any batch handler has a maximum delay.
+		 *
+		 * @param scheduler The scheduler, which will not be shut down when the dispatcher is closed.
+		 *
+		 * @return This builder.
+		 */
+		public Builder scheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = Objects.requireNonNull(scheduler, "Scheduler cannot be null.");
+			return this;
+		}
+
+		/**
+		 * Builds the dispatcher with the registered handlers.
+		 *
+		 * @return A new MessageWebhookDispatcher.
+		 */
+		public MessageWebhookDispatcher build() {
+			return new MessageWebhookDispatcher(this);
+		}
+	}
+}
@@ -21,11 +21,14 @@ import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.common.HttpMethod;
 import com.vonage.client.messages.whatsapp.ReplyingIndicator;
 import com.vonage.jwt.Jwt;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 
 public class MessagesClient {
 	private boolean sandbox = false;
 	final RestEndpoint<MessageRequest, MessageResponse> sendMessage, sendMessageSandbox;
+	final RestEndpoint<PreparedMessage, MessageResponse> sendPreparedMessage, sendPreparedMessageSandbox;
 	final RestEndpoint<UpdateStatusRequest, Void> updateMessage;
 
 	/**
@@ -51,6 +54,8 @@ public class MessagesClient {
 
 		sendMessage = new Endpoint<>(HttpConfig::getApiBaseUri);
 		sendMessageSandbox = new Endpoint<>(hc -> "https://messages-sandbox.nexmo.com");
+		sendPreparedMessage = new Endpoint<>(HttpConfig::getApiBaseUri);
+		sendPreparedMessageSandbox = new Endpoint<>(hc -> "https://messages-sandbox.nexmo.com");
 		updateMessage = DynamicEndpoint.<UpdateStatusRequest, Void> builder(Void.class)
 				.responseExceptionType(MessageResponseException.class)
 				.wrapper(wrapper).requestMethod(HttpMethod.PATCH)
@@ -91,6 +96,39 @@ public class MessagesClient {
 		return (sandbox ? sendMessageSandbox : sendMessage).execute(request);
 	}
 
+	/**
+	 * Sends a message which has already been serialised from a {@link MessageTemplate}. This behaves
+	 * the same way as {@link #sendMessage(MessageRequest)}, but skips serialisation of the request.
+	 *
+	 * @param message The prepared message request body.
+	 * @return The response, if the request was successful (i.e.a 202 was received from the server).
+	 *
+	 * @throws MessageResponseException If the message could not be sent.
+	 * @see #sendMessage(MessageRequest)
+	 * @since 9.14.0
+	 */
+	public MessageResponse sendPreparedMessage(PreparedMessage message) throws MessageResponseException {
+		return (sandbox ? sendPreparedMessageSandbox : sendPreparedMessage).execute(message);
+	}
+
+	/**
+	 * Sends a batch of messages concurrently, using a {@link BulkMessageSender} with default settings.
+	 * Unlike {@link #sendMessage(MessageRequest)}, failures do not throw an exception; instead, each
+	 * request's response or exception is reported in its corresponding {@link MessageSendOutcome}.
+	 * For very large or streamed batches, rate limiting or results in completion order, use
+	 * {@link BulkMessageSender} directly.
+	 *
+	 * @param requests The messages to send.
+	 * @return The outcome of each request, in the same order as the input.
+	 *
+	 * @since 9.14.0
+	 */
+	public List<MessageSendOutcome> sendMessages(Collection<? extends MessageRequest> requests) {
+		try (BulkMessageSender sender = BulkMessageSender.builder(this).build()) {
+			return sender.sendAll(requests);
+		}
+	}
+
 	/**
 	 * Calling this method will make the client use the sandbox endpoint, which will enable you to
 	 * use the <a href=https://dashboard.nexmo.com/messages/sandbox>Messages Sandbox</a>.
@@ -197,6 +235,7 @@ public class MessagesClient {
 	 * @return {@code true} if the token was signed by the secret, {@code false} otherwise.
 	 *
 	 * @since 7.11.0
+	 * @see com.vonage.client.auth.JwtSignatureVerifier for a reusable, caching alternative.
 	 */
 	public static boolean verifySignature(String jwt, String secret) {
 		return Jwt.verifySignature(jwt, secret);
@@ -0,0 +1,58 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.BinaryRequest;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A fully serialised message request body, produced by a {@link MessageTemplate} and sent with
+ * {@link MessagesClient#sendPreparedMessage(PreparedMessage)}.
+ *
+ * @since 9.14.0
+ */
+public final class PreparedMessage implements BinaryRequest {
+	private final byte[] body;
+
+	PreparedMessage(byte[] body) {
+		this.body = body;
+	}
+
+	/**
+	 * The UTF-8 encoded JSON request body. For efficiency, this is not a copy, so must not be modified.
+	 *
+	 * @return The request body.
+	 */
+	@Override
+	public byte[] toByteArray() {
+		return body;
+	}
+
+	@Override
+	public String getContentType() {
+		return "application/json";
+	}
+
+	/**
+	 * Decodes the request body.
+	 *
+	 * @return The JSON payload as a string.
+	 */
+	@Override
+	public String toString() {
+		return new String(body, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spaces out permits evenly at a maximum rate, shared between threads.
+ */
+final class RateLimiter {
+	private final long intervalNanos;
+	private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+	/**
+	 * @param maxPerSecond The maximum sustained rate, or 0 for no limit.
+	 */
+	RateLimiter(double maxPerSecond) {
+		intervalNanos = maxPerSecond > 0 ? (long) Math.ceil(TimeUnit.SECONDS.toNanos(1) / maxPerSecond) : 0;
+	}
+
+	/**
+	 * Blocks until the next permit is available.
+	 *
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	void acquire() throws InterruptedException {
+		if (intervalNanos > 0) {
+			long now = System.nanoTime();
+			long slot = nextPermitNanos.accumulateAndGet(now, (prev, t) -> Math.max(prev, t) + intervalNanos)
+					- intervalNanos;
+			TimeUnit.NANOSECONDS.sleep(slot - now);
+		}
+	}
+}
@@ -0,0 +1,498 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.OutboxLog;
+import com.vonage.client.VonageClientException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sends messages at scheduled times, such as appointment reminders. Scheduled messages are held in a
+ * hierarchical timing wheel, so scheduling and cancelling are O(1) and millions of messages can be pending
+ * at once without a task or thread per message. A timer thread collects the messages which fall due on
+ * each {@linkplain Builder#tickDuration(Duration) tick} and appends them to a queue, which is drained by at
+ * most {@linkplain Builder#concurrency(int) concurrency} sending tasks, subject to an optional rate limit.
+ * Messages are handed to senders in due order, and never before their scheduled time; with more than one
+ * sending task, their sends may complete out of order.
+ * <p>
+ * By default, scheduled messages are only held in memory, so are lost when the sender is closed or the
+ * process stops. With {@linkplain Builder#persistence(Path) persistence}, they are also recorded in a local
+ * {@link OutboxLog}, and messages which have not been sent are rescheduled when a sender is next built
+ * on the same directory; messages which fell due in the meantime are sent immediately. Persisted messages
+ * are also keyed by their {@linkplain MessageRequest#getClientRef() client reference}, so scheduling a
+ * message whose reference is already held in the log has no effect. Messages scheduled far in advance are
+ * compacted forward in the log as it grows, so they do not keep the log's older segments on disk.
+ * <p>
+ * The result of each send is reported to the {@linkplain Builder#onOutcome(Consumer) outcome listener} as a
+ * {@link MessageSendOutcome} whose index is the identifier returned when the message was scheduled. For
+ * messages recovered from the log, the outcome's request is {@code null}. Failed sends are not retried.
+ * <pre>{@code
+ *     ScheduledMessageSender scheduler = ScheduledMessageSender.builder(client.getMessagesClient())
+ *             .maxRequestsPerSecond(30).persistence(Paths.get("reminders"))
+ *             .onOutcome(outcome -> log(outcome.getIndex(), outcome.isSuccessful())).build();
+ *     long id = scheduler.schedule(reminder, appointment.minus(Duration.ofHours(1)));
+ *     // If the appointment is cancelled:
+ *     scheduler.cancel(id);
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class ScheduledMessageSender implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(ScheduledMessageSender.class.getName());
+	private static final AtomicInteger INSTANCE_NUMBER = new AtomicInteger();
+
+	private final MessagesClient client;
+	private final long tickMillis;
+	private final LongSupplier clock;
+	private final RateLimiter rateLimiter;
+	private final Consumer<? super MessageSendOutcome> outcomeListener;
+	private final OutboxLog log;
+	private final HierarchicalTimingWheel<Scheduled> wheel;
+	private final Map<Long, HierarchicalTimingWheel.Node<Scheduled>> scheduled = new HashMap<>();
+	private final Deque<Scheduled> ready = new ArrayDeque<>();
+	private final ExecutorService senders;
+	private final int concurrency;
+	private int drainers;
+	private final Thread timer;
+	private final AtomicLong nextId = new AtomicLong(1), sentCount = new AtomicLong(), failedCount = new AtomicLong();
+	private volatile boolean closed;
+
+	private ScheduledMessageSender(Builder builder) throws IOException {
+		client = builder.client;
+		tickMillis = builder.tickDuration.toMillis();
+		clock = builder.clock;
+		rateLimiter = new RateLimiter(builder.maxRequestsPerSecond);
+		outcomeListener = builder.outcomeListener;
+		wheel = new HierarchicalTimingWheel<>(clock.getAsLong() / tickMillis);
+		if (builder.persistenceDirectory != null) {
+			OutboxLog.Builder logBuilder = OutboxLog.builder(builder.persistenceDirectory);
+			if (builder.logSegmentSize > 0) {
+				logBuilder.segmentSize(builder.logSegmentSize);
+			}
+			log = logBuilder.build();
+			for (OutboxLog.Entry entry : log.getPendingEntries()) {
+				ByteBuffer payload = ByteBuffer.wrap(entry.getPayload());
+				long sendAt = payload.getLong();
+				byte[] body = Arrays.copyOfRange(entry.getPayload(), 8, entry.getPayload().length);
+				add(new Scheduled(entry.getSequence(), null, body, entry), sendAt);
+			}
+		}
+		else {
+			log = null;
+		}
+
+		final String prefix = "vonage-scheduled-send-" + INSTANCE_NUMBER.incrementAndGet() + '-';
+		final AtomicInteger threadNumber = new AtomicInteger();
+		concurrency = builder.concurrency;
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(
+				concurrency, concurrency, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		pool.allowCoreThreadTimeOut(true);
+		senders = pool;
+		timer = new Thread(this::run, prefix + "timer");
+		timer.setDaemon(true);
+		timer.start();
+	}
+
+	/**
+	 * A message waiting to be sent: either the original request or, after recovery, its serialised form.
+	 */
+	private static final class Scheduled {
+		final long id;
+		final MessageRequest request;
+		final byte[] body;
+		final OutboxLog.Entry entry;
+
+		Scheduled(long id, MessageRequest request, byte[] body, OutboxLog.Entry entry) {
+			this.id = id;
+			this.request = request;
+			this.body = body;
+			this.entry = entry;
+		}
+	}
+
+	private void add(Scheduled item, long sendAtMillis) {
+		// Rounding up ensures a message is never sent before its scheduled time.
+		long dueTick = sendAtMillis / tickMillis + (sendAtMillis % tickMillis > 0 ? 1 : 0);
+		synchronized (wheel) {
+			scheduled.put(item.id, wheel.add(item, dueTick));
+		}
+	}
+
+	/**
+	 * Schedules a message to be sent at the specified time.
+	 *
+	 * @param request The message to send.
+	 * @param sendAt When to send the message. If this is in the past, the message is sent on the next tick.
+	 *
+	 * @return Identifier for the scheduled message, for use with {@link #cancel(long)}, or -1 if persistence is
+	 * enabled and a message with the same client reference is already held in the log.
+	 *
+	 * @throws VonageClientException If the message could not be persisted.
+	 * @throws IllegalStateException If the sender has been closed.
+	 */
+	public long schedule(MessageRequest request, Instant sendAt) {
+		Objects.requireNonNull(request, "Request cannot be null.");
+		long sendAtMillis = Objects.requireNonNull(sendAt, "Send time cannot be null.").toEpochMilli();
+		if (closed) {
+			throw new IllegalStateException("Scheduled message sender has been closed.");
+		}
+		Scheduled item;
+		if (log != null) {
+			byte[] json = request.toJson().getBytes(StandardCharsets.UTF_8);
+			byte[] payload = ByteBuffer.allocate(8 + json.length).putLong(sendAtMillis).put(json).array();
+			try {
+				OutboxLog.Entry entry = log.append(request.getClientRef(), payload);
+				if (entry == null) return -1;
+				item = new Scheduled(entry.getSequence(), request, null, entry);
+			}
+			catch (IOException ex) {
+				throw new VonageClientException("Failed to persist scheduled message.", ex);
+			}
+		}
+		else {
+			item = new Scheduled(nextId.getAndIncrement(), request, null, null);
+		}
+		add(item, sendAtMillis);
+		return item.id;
+	}
+
+	/**
+	 * Cancels a scheduled message, if it has not yet been sent.
+	 *
+	 * @param id The identifier returned from {@link #schedule(MessageRequest, Instant)}.
+	 *
+	 * @return {@code true} if the message was cancelled, {@code false} if it was unknown or already due.
+	 *
+	 * @throws VonageClientException If the cancellation could not be persisted.
+	 */
+	public boolean cancel(long id) {
+		HierarchicalTimingWheel.Node<Scheduled> node;
+		synchronized (wheel) {
+			node = scheduled.remove(id);
+			if (node == null || !wheel.cancel(node)) return false;
+		}
+		if (node.item.entry != null) {
+			acknowledge(node.item.entry, "cancelled");
+		}
+		return true;
+	}
+
+	private void acknowledge(OutboxLog.Entry entry, String result) {
+		try {
+			log.acknowledge(entry, result);
+		}
+		catch (IOException ex) {
+			throw new VonageClientException("Failed to update scheduled message log.", ex);
+		}
+	}
+
+	private void run() {
+		while (!closed) {
+			try {
+				long now = clock.getAsLong();
+				Thread.sleep(Math.max(1, tickMillis - Math.floorMod(now, tickMillis)));
+				advance();
+			}
+			catch (InterruptedException ex) {
+				return;
+			}
+			catch (RuntimeException ex) {
+				LOGGER.log(Level.WARNING, "Failed to dispatch scheduled messages.", ex);
+			}
+		}
+	}
+
+	/**
+	 * Moves the messages which are now due to the ready queue, and starts sending tasks to drain it. However
+	 * many messages fall due at once, at most {@code concurrency} tasks are submitted to the executor.
+	 *
+	 * @return The number of messages which became due.
+	 */
+	int advance() {
+		int due;
+		synchronized (wheel) {
+			synchronized (ready) {
+				due = wheel.advance(clock.getAsLong() / tickMillis, item -> {
+					scheduled.remove(item.id);
+					ready.add(item);
+				});
+			}
+		}
+		synchronized (ready) {
+			while (drainers < concurrency && drainers < ready.size() && !closed) {
+				drainers++;
+				senders.execute(this::drain);
+			}
+		}
+		return due;
+	}
+
+	private void drain() {
+		Scheduled item = null;
+		try {
+			while ((item = nextReady()) != null) {
+				send(item);
+			}
+		}
+		finally {
+			if (item != null) {
+				// Stopped part-way through, so the task was not counted out by nextReady.
+				synchronized (ready) {
+					drainers--;
+				}
+			}
+		}
+	}
+
+	private Scheduled nextReady() {
+		synchronized (ready) {
+			Scheduled item = closed || Thread.currentThread().isInterrupted() ? null : ready.poll();
+			if (item == null) drainers--;
+			return item;
+		}
+	}
+
+	private void send(Scheduled item) {
+		MessageSendOutcome outcome;
+		try {
+			rateLimiter.acquire();
+			MessageResponse response = item.request != null ? client.sendMessage(item.request) :
+					client.sendPreparedMessage(new PreparedMessage(item.body));
+			outcome = new MessageSendOutcome(item.id, item.request, response, null);
+			sentCount.incrementAndGet();
+		}
+		catch (InterruptedException ex) {
+			// Closed while waiting for a permit; a persisted message will be sent when next recovered.
+			Thread.currentThread().interrupt();
+			return;
+		}
+		catch (RuntimeException ex) {
+			outcome = new MessageSendOutcome(item.id, item.request, null, ex);
+			failedCount.incrementAndGet();
+		}
+		try {
+			if (item.entry != null) {
+				acknowledge(item.entry, outcome.isSuccessful() ?
+						String.valueOf(outcome.getResponse().getMessageUuid()) : "failed"
+				);
+			}
+			if (outcomeListener != null) {
+				outcomeListener.accept(outcome);
+			}
+		}
+		catch (RuntimeException ex) {
+			LOGGER.log(Level.WARNING, "Failed to record outcome of scheduled message " + item.id, ex);
+		}
+	}
+
+	/**
+	 * Number of messages which are scheduled but not yet due.
+	 *
+	 * @return The scheduled message count.
+	 */
+	public int getScheduledCount() {
+		synchronized (wheel) {
+			return wheel.size();
+		}
+	}
+
+	/**
+	 * Number of messages sent successfully.
+	 *
+	 * @return The sent count.
+	 */
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	/**
+	 * Number of messages which failed to send.
+	 *
+	 * @return The failed count.
+	 */
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	/**
+	 * Stops the timer and sending threads. Messages which have not been sent are discarded, unless
+	 * persistence is enabled, in which case they remain in the log to be rescheduled.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		timer.interrupt();
+		senders.shutdownNow();
+		if (log != null) {
+			try {
+				senders.awaitTermination(10, TimeUnit.SECONDS);
+				log.close();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			catch (IOException ex) {
+				LOGGER.log(Level.WARNING, "Failed to close scheduled message log.", ex);
+			}
+		}
+	}
+
+	/**
+	 * Entry point for constructing an instance of this class.
+	 *
+	 * @param client (REQUIRED) The Messages client to send requests with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(MessagesClient client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the scheduler.
+	 */
+	public static final class Builder {
+		private final MessagesClient client;
+		private Duration tickDuration = Duration.ofMillis(100);
+		private int concurrency = 8;
+		private double maxRequestsPerSecond;
+		private Path persistenceDirectory;
+		private Consumer<? super MessageSendOutcome> outcomeListener;
+		private LongSupplier clock = System::currentTimeMillis;
+		private int logSegmentSize;
+
+		private Builder(MessagesClient client) {
+			this.client = Objects.requireNonNull(client, "Messages client cannot be null.");
+		}
+
+		/**
+		 * (OPTIONAL) Granularity of scheduling. Messages are sent on the first tick at or after their
+		 * scheduled time. The default is 100 milliseconds.
+		 *
+		 * @param tickDuration The tick duration, which must be at least 1 millisecond.
+		 *
+		 * @return This builder.
+		 */
+		public Builder tickDuration(Duration tickDuration) {
+			if (Objects.requireNonNull(tickDuration, "Tick duration cannot be null.").toMillis() < 1) {
+				throw new IllegalArgumentException("Tick duration must be at least 1 millisecond.");
+			}
+			this.tickDuration = tickDuration;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Maximum number of requests in flight at once. The default is 8.
+		 *
+		 * @param concurrency The number of sending threads, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder concurrency(int concurrency) {
+			if (concurrency < 1) {
+				throw new IllegalArgumentException("Concurrency must be positive.");
+			}
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Limits the rate at which due messages are sent. Messages which fall due faster than this
+		 * are queued and sent late. By default, there is no limit.
+		 *
+		 * @param maxRequestsPerSecond The maximum sustained rate, or 0 for no limit.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+			if (maxRequestsPerSecond < 0 || Double.isNaN(maxRequestsPerSecond)) {
+				throw new IllegalArgumentException("Rate limit cannot be negative.");
+			}
+			this.maxRequestsPerSecond = maxRequestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Persists scheduled messages to a local log, so that they survive restarts.
+		 *
+		 * @param directory Directory for the log, which must not be shared with anything else.
+		 *
+		 * @return This builder.
+		 * @see OutboxLog
+		 */
+		public Builder persistence(Path directory) {
+			persistenceDirectory = Objects.requireNonNull(directory, "Directory cannot be null.");
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Called on a sending thread with the result of each scheduled message.
+		 *
+		 * @param listener The outcome listener.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onOutcome(Consumer<? super MessageSendOutcome> listener) {
+			outcomeListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+			return this;
+		}
+
+		Builder clock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		Builder logSegmentSize(int logSegmentSize) {
+			this.logSegmentSize = logSegmentSize;
+			return this;
+		}
+
+		/**
+		 * Builds the scheduler, rescheduling any persisted messages.
+		 *
+		 * @return A new ScheduledMessageSender instance.
+		 *
+		 * @throws VonageClientException If the persistence log could not be opened.
+		 */
+		public ScheduledMessageSender build() {
+			try {
+				return new ScheduledMessageSender(this);
+			}
+			catch (IOException ex) {
+				throw new VonageClientException("Failed to open scheduled message log.", ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timing wheel for large numbers of coarse-grained timeouts. Scheduling and cancellation are O(1) and
+ * lock-free for the caller; timeouts are hashed into buckets by deadline and expired by a single worker,
+ * which visits one bucket per tick. Deadlines are therefore accurate to within one tick.
+ * <p>
+ * Tasks run on the worker thread, so must be short and must not block; hand longer work off to an executor.
+ * For testing, a wheel can be created without a worker and {@linkplain #advance() advanced} manually.
+ */
+final class TimingWheel implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(TimingWheel.class.getName());
+
+	private final Bucket[] wheel;
+	private final int mask;
+	private final long tickNanos, startNanos;
+	private final LongSupplier nanoTime;
+	private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>(), cancellations = new ConcurrentLinkedQueue<>();
+	private final AtomicLong pending = new AtomicLong();
+	private final Thread worker;
+	private volatile boolean closed;
+	private long tick;
+
+	/**
+	 * Creates a wheel driven by its own daemon thread.
+	 *
+	 * @param threadName Name of the worker thread.
+	 * @param tickDuration Resolution of the wheel.
+	 * @param unit Unit of the tick duration.
+	 * @param ticksPerWheel Number of buckets, rounded up to a power of two.
+	 */
+	TimingWheel(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+		this(tickDuration, unit, ticksPerWheel, System::nanoTime, threadName);
+	}
+
+	/**
+	 * Creates a wheel without a worker thread, which only expires timeouts when {@link #advance()} is called.
+	 */
+	TimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, LongSupplier nanoTime) {
+		this(tickDuration, unit, ticksPerWheel, nanoTime, null);
+	}
+
+	private TimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel, LongSupplier nanoTime, String threadName) {
+		if (tickDuration <= 0 || ticksPerWheel <= 0) {
+			throw new IllegalArgumentException("Tick duration and ticks per wheel must be positive.");
+		}
+		int size = Integer.highestOneBit(Math.min(ticksPerWheel, 1 << 30) * 2 - 1);
+		wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket();
+		}
+		mask = size - 1;
+		tickNanos = unit.toNanos(tickDuration);
+		this.nanoTime = nanoTime;
+		startNanos = nanoTime.getAsLong();
+		if (threadName != null) {
+			worker = new Thread(this::run, threadName);
+			worker.setDaemon(true);
+			worker.start();
+		}
+		else {
+			worker = null;
+		}
+	}
+
+	/**
+	 * Schedules a task to run once the delay has passed.
+	 *
+	 * @param task The task, which will run on the wheel's worker thread.
+	 * @param delay The delay.
+	 * @param unit Unit of the delay.
+	 *
+	 * @return Handle for cancelling the task.
+	 * @throws IllegalStateException If the wheel has been closed.
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (closed) {
+			throw new IllegalStateException("Timing wheel has been closed.");
+		}
+		Timeout timeout = new Timeout(task, nanoTime.getAsLong() - startNanos + unit.toNanos(Math.max(0, delay)));
+		pending.incrementAndGet();
+		additions.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Number of timeouts which have been scheduled but have neither expired nor been cancelled.
+	 *
+	 * @return The pending timeout count.
+	 */
+	long pending() {
+		return pending.get();
+	}
+
+	private void run() {
+		while (!closed) {
+			long deadline = (tick + 1) * tickNanos, sleepNanos = deadline - (nanoTime.getAsLong() - startNanos);
+			if (sleepNanos > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleepNanos);
+				}
+				catch (InterruptedException ex) {
+					if (closed) return;
+				}
+				continue;
+			}
+			advance();
+		}
+	}
+
+	/**
+	 * Processes every tick which has elapsed, expiring due timeouts. Only the worker (or, for a wheel without
+	 * one, a single caller at a time) may call this.
+	 */
+	void advance() {
+		long elapsed = nanoTime.getAsLong() - startNanos;
+		while ((tick + 1) * tickNanos <= elapsed) {
+			transferAdditions();
+			removeCancellations();
+			wheel[(int) (tick & mask)].expire(tick);
+			tick++;
+		}
+	}
+
+	private void transferAdditions() {
+		// Bounded, so that a flood of additions cannot starve expiry.
+		for (int i = 0; i < 100_000; i++) {
+			Timeout timeout = additions.poll();
+			if (timeout == null) return;
+			if (timeout.state.get() != Timeout.PENDING) continue;
+			// Timeouts already due are placed in the current tick's bucket.
+			long dueTick = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos - 1);
+			timeout.dueTick = dueTick;
+			wheel[(int) (dueTick & mask)].add(timeout);
+		}
+	}
+
+	private void removeCancellations() {
+		Timeout timeout;
+		while ((timeout = cancellations.poll()) != null) {
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	/**
+	 * Stops the worker. Pending timeouts will not run.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * Handle for a scheduled task.
+	 */
+	final class Timeout {
+		static final int PENDING = 0, CANCELLED = 1, EXPIRED = 2;
+
+		private final Runnable task;
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+		private long dueTick;
+		private Bucket bucket;
+		private Timeout next, prev;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancels the task, if it has not already run.
+		 *
+		 * @return {@code true} if the task was cancelled by this call.
+		 */
+		boolean cancel() {
+			if (!state.compareAndSet(PENDING, CANCELLED)) return false;
+			pending.decrementAndGet();
+			cancellations.add(this);
+			return true;
+		}
+
+		boolean isCancelled() {
+			return state.get() == CANCELLED;
+		}
+
+		boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+	}
+
+	/**
+	 * Doubly linked list of timeouts, only accessed by the worker.
+	 */
+	private final class Bucket {
+		private Timeout head, tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (tail == null) {
+				head = tail = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.prev != null) timeout.prev.next = timeout.next;
+			else head = timeout.next;
+			if (timeout.next != null) timeout.next.prev = timeout.prev;
+			else tail = timeout.prev;
+			timeout.next = timeout.prev = null;
+			timeout.bucket = null;
+		}
+
+		void expire(long currentTick) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				// Timeouts hashed to this bucket for a later revolution of the wheel stay put.
+				if (timeout.dueTick <= currentTick) {
+					remove(timeout);
+					if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+						pending.decrementAndGet();
+						try {
+							timeout.task.run();
+						}
+						catch (RuntimeException ex) {
+							LOGGER.log(Level.WARNING, "Timing wheel task failed.", ex);
+						}
+					}
+				}
+				timeout = next;
+			}
+		}
+	}
+}
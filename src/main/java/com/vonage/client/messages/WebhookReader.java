@@ -0,0 +1,80 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.vonage.client.Jsonable;
+import com.vonage.client.VonageResponseParseException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Thread-safe, reusable parser for webhook payloads. Unlike {@link Jsonable#fromJson(String, Class)},
+ * this does not create a new ObjectMapper or reflectively construct the target on each call.
+ *
+ * @param <T> The webhook type.
+ */
+final class WebhookReader<T> {
+	private final ObjectReader reader;
+	private final Class<T> type;
+
+	WebhookReader(Class<T> type) {
+		this.type = type;
+		reader = Jsonable.createDefaultObjectMapper().readerFor(type).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+	}
+
+	private VonageResponseParseException parseFailure(IOException ex) {
+		return new VonageResponseParseException("Failed to produce "+type.getSimpleName()+" from JSON.", ex);
+	}
+
+	T read(String json) {
+		try {
+			return reader.readValue(json);
+		}
+		catch (IOException ex) {
+			throw parseFailure(ex);
+		}
+	}
+
+	T read(InputStream json) {
+		try {
+			return reader.readValue(json);
+		}
+		catch (IOException ex) {
+			throw parseFailure(ex);
+		}
+	}
+
+	/**
+	 * Parses the buffer's remaining bytes, leaving its position at the limit.
+	 */
+	T read(ByteBuffer json) {
+		try {
+			if (json.hasArray()) {
+				T result = reader.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+				json.position(json.limit());
+				return result;
+			}
+			return reader.readValue(new ByteBufferBackedInputStream(json));
+		}
+		catch (IOException ex) {
+			throw parseFailure(ex);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free, log-linear histogram of nanosecond latencies. Each power of two is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so recorded values are accurate to within about 3%, and memory
+ * use is constant regardless of how many values are recorded.
+ * <p>
+ * Instances are thread-safe. This backs the latency statistics of
+ * {@link com.vonage.client.messages.MessageTracker}, and is not intended to be recorded to directly.
+ */
+public final class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 5, SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	static int bucketFor(long value) {
+		if (value < SUB_BUCKETS) return (int) value;
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	static long highestValueIn(int bucket) {
+		if (bucket < SUB_BUCKETS) return bucket;
+		int shift = bucket / SUB_BUCKETS - 1, sub = bucket % SUB_BUCKETS;
+		return (((long) (SUB_BUCKETS + sub + 1)) << shift) - 1;
+	}
+
+	/**
+	 * Records a single latency.
+	 *
+	 * @param nanos The latency in nanoseconds. Negative values are treated as zero.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucketFor(value));
+		total.increment();
+		max.accumulate(value);
+	}
+
+	/**
+	 * Number of values recorded.
+	 *
+	 * @return The total count.
+	 */
+	public long getCount() {
+		return total.sum();
+	}
+
+	/**
+	 * Largest value recorded.
+	 *
+	 * @return The maximum latency in nanoseconds.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Estimates the given percentile.
+	 *
+	 * @param percentile The percentile, between 0 and 100 (e.g. 99.9).
+	 * @return The latency in nanoseconds at or below which the given percentage of values fall,
+	 * or 0 if nothing has been recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = getCount();
+		if (count == 0) return 0;
+		long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0)), seen = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(highestValueIn(i), getMax());
+			}
+		}
+		return getMax();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+/**
+ * Additive-increase / multiplicative-decrease limit on the number of requests in flight. The limit grows by
+ * roughly one for every limit's worth of successful, fully utilised requests, and shrinks multiplicatively
+ * when the server throttles a request or its latency rises well above the lowest recently observed latency.
+ * Signals from requests which started before the most recent decrease are not acted upon again, so that a
+ * single burst of throttling responses only halves the limit once.
+ */
+final class AdaptiveConcurrencyLimit {
+    static final double THROTTLE_BACKOFF = 0.5, LATENCY_BACKOFF = 0.9;
+    static final int BASELINE_WINDOW = 1000;
+
+    private final int min, max;
+    private final double latencyTolerance;
+    private double limit;
+    private int inFlight, samples;
+    private long baselineNanos = Long.MAX_VALUE, windowMinNanos = Long.MAX_VALUE, lastDecreaseNanos = Long.MIN_VALUE;
+
+    AdaptiveConcurrencyLimit(int initial, int min, int max, double latencyTolerance) {
+        this.min = min;
+        this.max = max;
+        this.latencyTolerance = latencyTolerance;
+        limit = Math.max(min, Math.min(max, initial));
+    }
+
+    /**
+     * Claims a slot if fewer requests than the current limit are in flight.
+     *
+     * @return {@code true} if the caller may start a request, {@code false} otherwise.
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight < (int) limit) {
+            inFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Waits until a slot is available, then claims it.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (!tryAcquire()) {
+            wait();
+        }
+    }
+
+    /**
+     * Frees a slot claimed by {@link #tryAcquire()} or {@link #acquire()}.
+     */
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Adjusts the limit based on the result of a single attempt.
+     *
+     * @param startNanos When the attempt started.
+     * @param endNanos When the attempt completed.
+     * @param throttled Whether the server rejected the attempt due to rate limiting.
+     */
+    synchronized void onSample(long startNanos, long endNanos, boolean throttled) {
+        long latency = endNanos - startNanos;
+        if (!throttled) {
+            windowMinNanos = Math.min(windowMinNanos, latency);
+            baselineNanos = Math.min(baselineNanos, latency);
+            if (++samples >= BASELINE_WINDOW) {
+                // Let the baseline drift upwards if the network has become slower for good.
+                baselineNanos = windowMinNanos;
+                windowMinNanos = Long.MAX_VALUE;
+                samples = 0;
+            }
+        }
+        if (throttled || latency > baselineNanos * latencyTolerance) {
+            if (startNanos >= lastDecreaseNanos) {
+                limit = Math.max(min, limit * (throttled ? THROTTLE_BACKOFF : LATENCY_BACKOFF));
+                lastDecreaseNanos = endNanos;
+            }
+        }
+        else if (inFlight >= (int) limit) {
+            limit = Math.min(max, limit + 1 / limit);
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
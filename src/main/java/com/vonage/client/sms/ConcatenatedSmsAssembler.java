@@ -0,0 +1,399 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Reassembles concatenated (multipart) inbound SMS into single messages. Each part of a long message is
+ * delivered as a separate {@link MessageEvent} webhook, possibly out of order; parts are grouped by sender,
+ * recipient and {@linkplain MessageEvent#getConcatRef() concatenation reference}, and once every part has
+ * arrived they are {@linkplain #offer(MessageEvent) returned} (and passed to the
+ * {@linkplain Builder#completionListener(Consumer) completion listener}) as one event whose text is the whole message.
+ * Events which are not part of a concatenated message are returned unchanged.
+ * <p>
+ * Memory is bounded by the {@linkplain Builder#maxPendingMessages(int) maximum number of incomplete
+ * messages}: when it is reached, the oldest incomplete message is evicted. Incomplete messages are also
+ * expired once their {@linkplain Builder#timeout(Duration) timeout} has passed since their first part
+ * arrived. Expiry happens as parts are offered, or on demand via {@link #expireStale()}. Since concatenation
+ * references are only 8 or 16 bits, the timeout should not be much longer than the time parts are expected
+ * to take to arrive, so that a sender's reused reference is not mistaken for the old message.
+ * <pre>{@code
+ *     ConcatenatedSmsAssembler assembler = ConcatenatedSmsAssembler.builder()
+ *             .timeout(Duration.ofMinutes(2)).expiryListener(parts -> log("Incomplete: " + parts)).build();
+ *
+ *     // In the inbound SMS webhook endpoint:
+ *     MessageEvent message = assembler.offer(MessageEvent.fromJson(body));
+ *     if (message != null) handle(message);
+ * }</pre>
+ * Instances are thread-safe; parts are held in lock-striped maps so that concurrent webhooks for different
+ * messages rarely contend.
+ *
+ * @since 9.14.0
+ */
+public final class ConcatenatedSmsAssembler {
+    private final Stripe[] stripes;
+    private final long timeoutNanos;
+    private final LongSupplier nanoTime;
+    private final Consumer<? super MessageEvent> completionListener;
+    private final Consumer<? super List<MessageEvent>> expiryListener;
+    private final LongAdder completed = new LongAdder(), expired = new LongAdder(), evicted = new LongAdder(),
+            duplicates = new LongAdder();
+
+    private ConcatenatedSmsAssembler(Builder builder) {
+        timeoutNanos = builder.timeout.toNanos();
+        nanoTime = builder.nanoTime;
+        completionListener = builder.completionListener;
+        expiryListener = builder.expiryListener;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(builder.stripes, builder.maxPendingMessages)));
+        int capacity = (builder.maxPendingMessages + stripeCount - 1) / stripeCount;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * Parts of a single concatenated message received so far.
+     */
+    private static final class PendingMessage {
+        final MessageEvent[] parts;
+        final long firstSeen;
+        int received;
+
+        PendingMessage(int total, long firstSeen) {
+            parts = new MessageEvent[total];
+            this.firstSeen = firstSeen;
+        }
+
+        List<MessageEvent> receivedParts() {
+            List<MessageEvent> list = new ArrayList<>(received);
+            for (MessageEvent part : parts) {
+                if (part != null) list.add(part);
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Insertion-ordered map of incomplete messages. Since every message has the same timeout from its first
+     * part, the eldest entry is always the next to expire. Incomplete messages which are expired or evicted
+     * are collected for notification once the lock has been released.
+     */
+    private final class Stripe extends LinkedHashMap<String, PendingMessage> {
+        private final int capacity;
+        private List<List<MessageEvent>> removed;
+
+        Stripe(int capacity) {
+            super(Math.min(capacity, 1024) * 4 / 3 + 1);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PendingMessage> eldest) {
+            if (size() > capacity) {
+                evicted.increment();
+                collect(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+
+        void collect(PendingMessage pending) {
+            if (expiryListener != null) {
+                if (removed == null) removed = new ArrayList<>(1);
+                removed.add(pending.receivedParts());
+            }
+        }
+
+        void expire(long now) {
+            Iterator<PendingMessage> eldest = values().iterator();
+            while (eldest.hasNext()) {
+                PendingMessage pending = eldest.next();
+                if (now - pending.firstSeen < timeoutNanos) break;
+                eldest.remove();
+                expired.increment();
+                collect(pending);
+            }
+        }
+
+        List<List<MessageEvent>> takeRemoved() {
+            List<List<MessageEvent>> taken = removed;
+            removed = null;
+            return taken;
+        }
+
+        MessageEvent add(String key, MessageEvent part, int index, int total, long now) {
+            expire(now);
+            PendingMessage pending = get(key);
+            if (pending != null && pending.parts.length != total) {
+                // The reference has been reused for a different message before the old one completed.
+                remove(key);
+                expired.increment();
+                collect(pending);
+                pending = null;
+            }
+            if (pending == null) {
+                put(key, pending = new PendingMessage(total, now));
+            }
+            if (pending.parts[index] != null) {
+                duplicates.increment();
+                return null;
+            }
+            pending.parts[index] = part;
+            if (++pending.received < total) {
+                return null;
+            }
+            remove(key);
+            return MessageEvent.merge(pending.parts, part);
+        }
+    }
+
+    private static boolean isConcatenated(MessageEvent event) {
+        return Boolean.TRUE.equals(event.getConcat()) && event.getConcatRef() != null &&
+                event.getConcatTotal() != null && event.getConcatPart() != null && event.getConcatTotal() > 1;
+    }
+
+    /**
+     * Adds an inbound message part.
+     *
+     * @param event The inbound SMS webhook.
+     *
+     * @return The whole message if this event completed it (or was not part of a concatenated message at all),
+     * or {@code null} if more parts are still to arrive, or the event was a duplicate of a part already received.
+     *
+     * @throws IllegalArgumentException If the event's part number is outside the range of its total.
+     */
+    public MessageEvent offer(MessageEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null.");
+        if (!isConcatenated(event)) {
+            return event;
+        }
+        int total = event.getConcatTotal(), index = event.getConcatPart() - 1;
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException(
+                    "Part " + event.getConcatPart() + " is out of range for a message of " + total + " parts."
+            );
+        }
+        String key = event.getMsisdn() + '\u0000' + event.getTo() + '\u0000' + event.getConcatRef();
+        int h = key.hashCode();
+        Stripe stripe = stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+        MessageEvent message;
+        List<List<MessageEvent>> removed;
+        long now = nanoTime.getAsLong();
+        synchronized (stripe) {
+            message = stripe.add(key, event, index, total, now);
+            removed = stripe.takeRemoved();
+        }
+        notifyExpired(removed);
+        if (message != null) {
+            completed.increment();
+            if (completionListener != null) {
+                completionListener.accept(message);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Expires all incomplete messages whose timeout has passed. This happens automatically as parts are
+     * offered, but may be called periodically to ensure timely expiry notifications when traffic is low.
+     */
+    public void expireStale() {
+        long now = nanoTime.getAsLong();
+        for (Stripe stripe : stripes) {
+            List<List<MessageEvent>> removed;
+            synchronized (stripe) {
+                stripe.expire(now);
+                removed = stripe.takeRemoved();
+            }
+            notifyExpired(removed);
+        }
+    }
+
+    private void notifyExpired(List<List<MessageEvent>> removed) {
+        if (removed != null) {
+            removed.forEach(expiryListener);
+        }
+    }
+
+    /**
+     * Number of incomplete messages currently held.
+     *
+     * @return The pending message count.
+     */
+    public int getPendingCount() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of concatenated messages reassembled so far.
+     *
+     * @return The completed message count.
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Number of incomplete messages discarded because their timeout passed, or their reference was reused
+     * for a message with a different number of parts.
+     *
+     * @return The expired message count.
+     */
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    /**
+     * Number of incomplete messages discarded to make room for new ones.
+     *
+     * @return The evicted message count.
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Number of parts ignored because the same part of the same message had already been received.
+     *
+     * @return The duplicate part count.
+     */
+    public long getDuplicatePartCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for configuring the assembler's bounds and listeners.
+     */
+    public static final class Builder {
+        private int maxPendingMessages = 100_000, stripes = 64;
+        private Duration timeout = Duration.ofMinutes(5);
+        private Consumer<? super MessageEvent> completionListener;
+        private Consumer<? super List<MessageEvent>> expiryListener;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        private Builder() {}
+
+        /**
+         * Maximum number of incomplete messages to hold at once. When exceeded, the oldest is evicted.
+         * The default is 100,000. The limit is divided evenly between {@linkplain #stripes(int) stripes},
+         * so messages may start to be evicted shortly before it is reached overall.
+         *
+         * @param maxPendingMessages The maximum pending message count, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder maxPendingMessages(int maxPendingMessages) {
+            if (maxPendingMessages < 1) {
+                throw new IllegalArgumentException("Maximum pending messages must be positive.");
+            }
+            this.maxPendingMessages = maxPendingMessages;
+            return this;
+        }
+
+        /**
+         * How long to wait for the remaining parts of a message after its first part arrives, before
+         * discarding it. The default is five minutes.
+         *
+         * @param timeout The timeout, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Timeout must be positive.");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Number of independently locked partitions, rounded down to a power of two.
+         * More stripes reduce contention between threads. The default is 64.
+         *
+         * @param stripes The number of stripes, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder stripes(int stripes) {
+            if (stripes < 1) {
+                throw new IllegalArgumentException("Stripes must be positive.");
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Listener to invoke with every reassembled message. It is called on the thread which offered the
+         * final part. Events which are not part of a concatenated message are not passed to it.
+         *
+         * @param completionListener The listener.
+         *
+         * @return This builder.
+         */
+        public Builder completionListener(Consumer<? super MessageEvent> completionListener) {
+            this.completionListener = Objects.requireNonNull(completionListener, "Listener cannot be null.");
+            return this;
+        }
+
+        /**
+         * Listener to invoke with the parts received for each message which is expired or evicted before
+         * it is complete, in part order.
+         *
+         * @param expiryListener The listener.
+         *
+         * @return This builder.
+         */
+        public Builder expiryListener(Consumer<? super List<MessageEvent>> expiryListener) {
+            this.expiryListener = Objects.requireNonNull(expiryListener, "Listener cannot be null.");
+            return this;
+        }
+
+        Builder nanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * Builds the assembler.
+         *
+         * @return A new ConcatenatedSmsAssembler.
+         */
+        public ConcatenatedSmsAssembler build() {
+            return new ConcatenatedSmsAssembler(this);
+        }
+    }
+}
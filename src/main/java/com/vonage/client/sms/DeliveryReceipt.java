@@ -0,0 +1,237 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.vonage.client.Jsonable;
+import com.vonage.client.JsonableBaseObject;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Represents an <a href=https://developer.vonage.com/en/messaging/sms/guides/delivery-receipts>SMS
+ * delivery receipt</a> webhook. A receipt is sent for each part of a concatenated message.
+ *
+ * @since 9.14.0
+ */
+public final class DeliveryReceipt extends JsonableBaseObject {
+    private String msisdn, to, networkCode, messageId, scts, apiKey, clientRef, nonce;
+    private BigDecimal price;
+    private Status status;
+    private Integer errorCode;
+    private Instant messageTimestamp;
+    private Long timestamp;
+
+    DeliveryReceipt() {}
+
+    /**
+     * Represents the delivery status reported by the carrier.
+     */
+    public enum Status {
+        DELIVERED, EXPIRED, FAILED, REJECTED, ACCEPTED, BUFFERED, UNKNOWN;
+
+        /**
+         * Convert a string value to a Status enum.
+         *
+         * @param name The string value to convert.
+         *
+         * @return The status as an enum, or {@code null} if invalid.
+         */
+        @JsonCreator
+        public static Status fromString(String name) {
+            return Jsonable.fromString(name, Status.class);
+        }
+
+        @JsonValue
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The number the message was sent to.
+     *
+     * @return The recipient number in E.164 format.
+     */
+    @JsonProperty("msisdn")
+    public String getMsisdn() {
+        return msisdn;
+    }
+
+    /**
+     * The sender ID the message was sent from.
+     *
+     * @return The sender number or ID.
+     */
+    @JsonProperty("to")
+    public String getTo() {
+        return to;
+    }
+
+    /**
+     * The Mobile Country Code Mobile Network Code (MCCMNC) of the carrier the destination number is registered with.
+     *
+     * @return The network code, or {@code null} if unknown.
+     */
+    @JsonProperty("network-code")
+    public String getNetworkCode() {
+        return networkCode;
+    }
+
+    /**
+     * The Vonage ID for the message part this receipt is for.
+     *
+     * @return The message ID.
+     */
+    @JsonProperty("messageId")
+    public String getMessageId() {
+        return messageId;
+    }
+
+    /**
+     * The cost of the message.
+     *
+     * @return The price, or {@code null} if unknown.
+     */
+    @JsonProperty("price")
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    /**
+     * The delivery status of the message.
+     *
+     * @return The status as an enum.
+     */
+    @JsonProperty("status")
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * When the delivery receipt was received from the carrier, in {@code YYMMDDHHMM} format.
+     *
+     * @return The service centre timestamp as a string.
+     */
+    @JsonProperty("scts")
+    public String getScts() {
+        return scts;
+    }
+
+    /**
+     * The carrier's status code, where 0 means delivered. See the
+     * <a href=https://developer.vonage.com/en/messaging/sms/guides/delivery-receipts#dlr-error-codes>
+     * DLR error codes</a> for details.
+     *
+     * @return The error code.
+     */
+    @JsonProperty("err-code")
+    public Integer getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * The API key that sent the message.
+     *
+     * @return The API key.
+     */
+    @JsonProperty("api-key")
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    /**
+     * The client reference set when the message was sent.
+     *
+     * @return The client reference, or {@code null} if there wasn't one set.
+     */
+    @JsonProperty("client-ref")
+    public String getClientRef() {
+        return clientRef;
+    }
+
+    /**
+     * The time when Vonage started to push this delivery receipt to your webhook endpoint.
+     *
+     * @return The message timestamp as an Instant.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "UTC")
+    @JsonProperty("message-timestamp")
+    public Instant getMessageTimestamp() {
+        return messageTimestamp;
+    }
+
+    /**
+     * The Unix timestamp representation of {@link #getMessageTimestamp()}, present when the receipt is signed.
+     *
+     * @return The Unix timestamp as a Long, or {@code null} if unavailable.
+     */
+    @JsonProperty("timestamp")
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * A random string used in the signature of the request.
+     *
+     * @return The nonce, or {@code null} if the receipt is unsigned.
+     */
+    @JsonProperty("nonce")
+    public String getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Sets a field from a webhook parameter, as used by {@link SmsWebhookParser}.
+     *
+     * @param name The parameter name.
+     * @param value The decoded parameter value.
+     */
+    void setParameter(String name, String value) {
+        switch (name) {
+            case "msisdn": msisdn = value; break;
+            case "to": to = value; break;
+            case "network-code": networkCode = value; break;
+            case "messageId": messageId = value; break;
+            case "price": price = new BigDecimal(value); break;
+            case "status": status = Status.fromString(value); break;
+            case "scts": scts = value; break;
+            case "err-code": errorCode = Integer.valueOf(value); break;
+            case "api-key": apiKey = value; break;
+            case "client-ref": clientRef = value; break;
+            case "message-timestamp": messageTimestamp = SmsWebhookParser.parseTimestamp(value); break;
+            case "timestamp": timestamp = Long.valueOf(value); break;
+            case "nonce": nonce = value; break;
+            default: break;
+        }
+    }
+
+    /**
+     * Creates an instance of this class from a JSON payload.
+     *
+     * @param json The JSON string to parse.
+     *
+     * @return An instance of this class with the fields populated, if present.
+     */
+    @JsonCreator
+    public static DeliveryReceipt fromJson(String json) {
+        return Jsonable.fromJson(json);
+    }
+}
@@ -35,7 +35,7 @@ public final class MessageEvent extends JsonableBaseObject {
     private Boolean concat;
     private Integer concatRef, concatTotal, concatPart;
 
-    private MessageEvent() {}
+    MessageEvent() {}
 
     /**
      * The phone number that this inbound message was sent from.
@@ -192,6 +192,74 @@ public final class MessageEvent extends JsonableBaseObject {
         return concatPart;
     }
 
+    /**
+     * Sets a field from a webhook parameter, as used by {@link SmsWebhookParser}.
+     *
+     * @param name The parameter name.
+     * @param value The decoded parameter value.
+     */
+    void setParameter(String name, String value) {
+        switch (name) {
+            case "msisdn": msisdn = value; break;
+            case "to": to = value; break;
+            case "messageId": messageId = value; break;
+            case "text": text = value; break;
+            case "keyword": keyword = value; break;
+            case "nonce": nonce = value; break;
+            case "data": data = value; break;
+            case "udh": udh = value; break;
+            case "type": type = MessageType.fromString(value); break;
+            case "message-timestamp": messageTimestamp = SmsWebhookParser.parseTimestamp(value); break;
+            case "timestamp": timestamp = Long.valueOf(value); break;
+            case "concat": concat = Boolean.valueOf(value); break;
+            case "concat-ref": concatRef = Integer.valueOf(value); break;
+            case "concat-total": concatTotal = Integer.valueOf(value); break;
+            case "concat-part": concatPart = Integer.valueOf(value); break;
+            default: break;
+        }
+    }
+
+    /**
+     * Combines the parts of a concatenated message into a single event, as used by
+     * {@link ConcatenatedSmsAssembler}. The text (or binary data) is joined in part order, and the other
+     * fields are taken from the first part, except for the timestamps, which are those of the last part to
+     * arrive. The result retains the concatenation reference and total, but not the part number or UDH.
+     *
+     * @param parts The complete parts, in order.
+     * @param last The part which completed the message.
+     *
+     * @return A new event representing the whole message.
+     */
+    static MessageEvent merge(MessageEvent[] parts, MessageEvent last) {
+        MessageEvent first = parts[0], merged = new MessageEvent();
+        merged.msisdn = first.msisdn;
+        merged.to = first.to;
+        merged.messageId = first.messageId;
+        merged.type = first.type;
+        merged.keyword = first.keyword;
+        merged.nonce = first.nonce;
+        merged.messageTimestamp = last.messageTimestamp;
+        merged.timestamp = last.timestamp;
+        merged.concat = true;
+        merged.concatRef = first.concatRef;
+        merged.concatTotal = first.concatTotal;
+        merged.text = join(parts, false);
+        merged.data = join(parts, true);
+        return merged;
+    }
+
+    private static String join(MessageEvent[] parts, boolean data) {
+        StringBuilder joined = null;
+        for (MessageEvent part : parts) {
+            String value = data ? part.data : part.text;
+            if (value != null) {
+                if (joined == null) joined = new StringBuilder(value.length() * parts.length);
+                joined.append(value);
+            }
+        }
+        return joined != null ? joined.toString() : null;
+    }
+
     /**
      * Creates an instance of this class from a JSON payload.
      *
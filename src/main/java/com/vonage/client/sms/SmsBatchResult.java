@@ -0,0 +1,136 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated results of submitting a batch of messages with {@link SmsBatchSender#sendAll(java.util.Collection)}.
+ *
+ * @since 9.14.0
+ */
+public final class SmsBatchResult {
+    private final List<SmsSubmissionOutcome> outcomes;
+    private final int successfulCount, partCount, failedPartCount, retryCount;
+    private final BigDecimal totalPrice;
+
+    SmsBatchResult(List<SmsSubmissionOutcome> outcomes) {
+        this.outcomes = Collections.unmodifiableList(outcomes);
+        int successful = 0, parts = 0, failedParts = 0, retries = 0;
+        BigDecimal price = BigDecimal.ZERO;
+        for (SmsSubmissionOutcome outcome : outcomes) {
+            if (outcome.isSuccessful()) {
+                successful++;
+            }
+            parts += outcome.getPartCount();
+            failedParts += outcome.getFailedParts().size();
+            retries += outcome.getAttempts() - 1;
+            if (outcome.getResponse() != null && outcome.getResponse().getMessages() != null) {
+                for (SmsSubmissionResponseMessage part : outcome.getResponse().getMessages()) {
+                    if (part.getMessagePrice() != null) {
+                        price = price.add(part.getMessagePrice());
+                    }
+                }
+            }
+        }
+        successfulCount = successful;
+        partCount = parts;
+        failedPartCount = failedParts;
+        retryCount = retries;
+        totalPrice = price;
+    }
+
+    /**
+     * Outcome of each message submitted.
+     *
+     * @return The outcomes, in the same order as the input.
+     */
+    public List<SmsSubmissionOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Outcomes of the messages which were not fully accepted.
+     *
+     * @return The unsuccessful outcomes, in input order.
+     */
+    public List<SmsSubmissionOutcome> getFailedOutcomes() {
+        List<SmsSubmissionOutcome> failed = new ArrayList<>(outcomes.size() - successfulCount);
+        for (SmsSubmissionOutcome outcome : outcomes) {
+            if (!outcome.isSuccessful()) {
+                failed.add(outcome);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Number of messages in the batch.
+     *
+     * @return The message count.
+     */
+    public int getMessageCount() {
+        return outcomes.size();
+    }
+
+    /**
+     * Number of messages for which every part was accepted.
+     *
+     * @return The successful message count.
+     */
+    public int getSuccessfulCount() {
+        return successfulCount;
+    }
+
+    /**
+     * Total number of parts reported across all responses.
+     *
+     * @return The part count.
+     */
+    public int getPartCount() {
+        return partCount;
+    }
+
+    /**
+     * Number of parts with a status other than {@linkplain MessageStatus#OK}.
+     *
+     * @return The failed part count.
+     */
+    public int getFailedPartCount() {
+        return failedPartCount;
+    }
+
+    /**
+     * Number of submissions which were throttled and retried.
+     *
+     * @return The retry count.
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * Sum of the estimated prices of all parts.
+     *
+     * @return The total price, which is zero if no prices were reported.
+     */
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+}
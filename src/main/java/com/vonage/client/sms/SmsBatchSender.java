@@ -0,0 +1,425 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.sms.messages.Message;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Submits large batches of SMS messages through {@link SmsClient#submitMessage(Message)}, keeping as many
+ * requests in flight as the API will sustain. Rather than a fixed number of threads, the number of concurrent
+ * requests is adjusted continuously using additive-increase / multiplicative-decrease (AIMD): it grows
+ * slowly while responses are fast and no throttling occurs, halves whenever a request is throttled (either
+ * an HTTP 429 or every part being reported as {@linkplain MessageStatus#THROTTLED}), and backs off gently
+ * when latency rises well above the best recently observed. Throttled submissions are retried, since none
+ * of their parts were accepted; all other failures, including individual failed parts of a multipart
+ * message, are reported in the corresponding {@link SmsSubmissionOutcome}.
+ * <p>
+ * Requests are made over the client's pooled keep-alive connections, of which there are up to 200, so the
+ * {@linkplain Builder#maxConcurrency(int) maximum concurrency} should not exceed this. Instances are
+ * thread-safe and the concurrency limit is shared by all batches sent through the same sender.
+ * <pre>{@code
+ *     try (SmsBatchSender sender = SmsBatchSender.builder(client.getSmsClient()).maxConcurrency(100).build()) {
+ *         SmsBatchResult result = sender.sendAll(messages);
+ *         log(result.getFailedPartCount() + " parts failed, cost " + result.getTotalPrice());
+ *     }
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class SmsBatchSender implements AutoCloseable {
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final SmsClient client;
+    private final AdaptiveConcurrencyLimit limit;
+    private final int maxRetries;
+    private final long retryBackoffNanos;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final LongAdder submittedCount = new LongAdder(), retryCount = new LongAdder();
+
+    private SmsBatchSender(Builder builder) {
+        client = builder.client;
+        limit = new AdaptiveConcurrencyLimit(
+                builder.initialConcurrency, 1, builder.maxConcurrency, builder.latencyTolerance
+        );
+        maxRetries = builder.maxRetries;
+        retryBackoffNanos = builder.retryBackoff.toNanos();
+        if ((ownsExecutor = builder.executor == null)) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    builder.maxConcurrency, builder.maxConcurrency, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), newThreadFactory()
+            );
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        else {
+            executor = builder.executor;
+        }
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        final String prefix = "vonage-sms-batch-" + POOL_NUMBER.incrementAndGet() + '-';
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    static boolean isThrottled(SmsSubmissionResponse response, RuntimeException exception) {
+        if (exception != null) {
+            return exception instanceof VonageApiResponseException &&
+                    ((VonageApiResponseException) exception).getStatusCode() == 429;
+        }
+        if (response == null || response.getMessages() == null || response.getMessages().isEmpty()) {
+            return false;
+        }
+        for (SmsSubmissionResponseMessage part : response.getMessages()) {
+            if (part.getStatus() != MessageStatus.THROTTLED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Submits a message, retrying while it is throttled. The caller must hold a slot, which is released
+     * once the outcome is known.
+     */
+    private SmsSubmissionOutcome submit(long index, Message message) {
+        int attempts = 0;
+        long backoff = retryBackoffNanos;
+        SmsSubmissionResponse response = null;
+        RuntimeException exception = null;
+        try {
+            while (true) {
+                attempts++;
+                response = null;
+                exception = null;
+                long start = System.nanoTime();
+                try {
+                    response = client.submitMessage(message);
+                }
+                catch (RuntimeException ex) {
+                    exception = ex;
+                }
+                boolean throttled = isThrottled(response, exception);
+                limit.onSample(start, System.nanoTime(), throttled);
+                if (!throttled || attempts > maxRetries) {
+                    break;
+                }
+                retryCount.increment();
+                TimeUnit.NANOSECONDS.sleep(backoff);
+                backoff *= 2;
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            response = null;
+            exception = new VonageClientException("Interrupted before the message was sent.", ex);
+        }
+        finally {
+            limit.release();
+            submittedCount.increment();
+        }
+        return new SmsSubmissionOutcome(index, message, response, exception, attempts);
+    }
+
+    /**
+     * Pulls messages from the input as the concurrency limit allows and hands back outcomes as they complete.
+     */
+    private final class OutcomeIterator implements Iterator<SmsSubmissionOutcome> {
+        private final Iterator<? extends Message> messages;
+        private final BlockingQueue<SmsSubmissionOutcome> completed = new LinkedBlockingQueue<>();
+        private int outstanding;
+        private long nextIndex;
+
+        OutcomeIterator(Iterator<? extends Message> messages) {
+            this.messages = Objects.requireNonNull(messages, "Messages cannot be null.");
+        }
+
+        private void submitAvailable() {
+            while (messages.hasNext()) {
+                if (outstanding == 0) {
+                    // Nothing of ours will complete to wake us, so wait for other batches to free a slot.
+                    try {
+                        limit.acquire();
+                    }
+                    catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new VonageClientException("Interrupted while waiting to submit messages.", ex);
+                    }
+                }
+                else if (!limit.tryAcquire()) {
+                    return;
+                }
+                final Message message;
+                try {
+                    message = Objects.requireNonNull(messages.next(), "Message cannot be null.");
+                }
+                catch (RuntimeException ex) {
+                    limit.release();
+                    throw ex;
+                }
+                final long index = nextIndex++;
+                try {
+                    executor.execute(() -> completed.add(submit(index, message)));
+                }
+                catch (RejectedExecutionException ex) {
+                    limit.release();
+                    throw new IllegalStateException("Batch sender has been closed or its executor shut down.", ex);
+                }
+                outstanding++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            submitAvailable();
+            return outstanding > 0;
+        }
+
+        @Override
+        public SmsSubmissionOutcome next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                SmsSubmissionOutcome outcome = completed.take();
+                outstanding--;
+                return outcome;
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new VonageClientException("Interrupted while waiting for submission results.", ex);
+            }
+        }
+    }
+
+    /**
+     * Submits the messages, returning their outcomes in the order in which they complete. Messages are only
+     * read from the input iterator as the returned iterator is consumed, so abandoning the iteration stops
+     * further messages from being submitted. Use {@linkplain SmsSubmissionOutcome#getIndex()} to correlate
+     * each outcome with its input. The returned iterator is intended for use by a single thread.
+     *
+     * @param messages The messages to submit.
+     * @return A lazily evaluated iterator of results, in completion order. Its {@code hasNext} and
+     * {@code next} methods throw {@link IllegalStateException} if this sender has been closed, or a supplied
+     * executor has been shut down, while messages remain to be submitted.
+     */
+    public Iterator<SmsSubmissionOutcome> sendAsCompleted(Iterator<? extends Message> messages) {
+        return new OutcomeIterator(messages);
+    }
+
+    /**
+     * Submits all the messages and waits for them to complete.
+     *
+     * @param messages The messages to submit.
+     * @return The aggregated results, with outcomes in the same order as the input.
+     */
+    public SmsBatchResult sendAll(Collection<? extends Message> messages) {
+        SmsSubmissionOutcome[] outcomes = new SmsSubmissionOutcome[messages.size()];
+        sendAsCompleted(messages.iterator()).forEachRemaining(outcome ->
+                outcomes[(int) outcome.getIndex()] = outcome
+        );
+        return new SmsBatchResult(Arrays.asList(outcomes));
+    }
+
+    /**
+     * The current limit on the number of requests in flight, as adjusted by observed latency and throttling.
+     *
+     * @return The concurrency limit.
+     */
+    public int getConcurrencyLimit() {
+        return limit.getLimit();
+    }
+
+    /**
+     * Number of requests currently in flight (or waiting to be retried) across all batches.
+     *
+     * @return The in-flight count.
+     */
+    public int getInFlightCount() {
+        return limit.getInFlight();
+    }
+
+    /**
+     * Total number of messages whose submission has completed, successfully or otherwise.
+     *
+     * @return The submitted message count.
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * Total number of throttled submissions which have been retried.
+     *
+     * @return The retry count.
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Shuts down the sender's thread pool, interrupting any submissions waiting to be retried.
+     * This has no effect if an executor was supplied via {@link Builder#executor(ExecutorService)}.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @param client (REQUIRED) The SMS client to submit messages with.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(SmsClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Builder for configuring the sender's concurrency and retry behaviour.
+     */
+    public static final class Builder {
+        private final SmsClient client;
+        private int initialConcurrency = 8, maxConcurrency = 64, maxRetries = 3;
+        private double latencyTolerance = 2.0;
+        private Duration retryBackoff = Duration.ofMillis(250);
+        private ExecutorService executor;
+
+        private Builder(SmsClient client) {
+            this.client = Objects.requireNonNull(client, "SMS client cannot be null.");
+        }
+
+        /**
+         * (OPTIONAL) Number of requests in flight to start with, before any adjustment. The default is 8.
+         *
+         * @param initialConcurrency The starting concurrency limit, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder initialConcurrency(int initialConcurrency) {
+            if (initialConcurrency < 1) {
+                throw new IllegalArgumentException("Initial concurrency must be positive.");
+            }
+            this.initialConcurrency = initialConcurrency;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Upper bound on the number of requests in flight, however well the API is responding.
+         * This is also the size of the sender's thread pool. The default is 64.
+         *
+         * @param maxConcurrency The maximum concurrency limit, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("Maximum concurrency must be positive.");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) How many times the latency of a request may exceed the lowest recently observed latency
+         * before the concurrency limit is reduced. The default is 2.
+         *
+         * @param latencyTolerance The latency ratio, which must be greater than 1.
+         *
+         * @return This builder.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (!(latencyTolerance > 1)) {
+                throw new IllegalArgumentException("Latency tolerance must be greater than 1.");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Maximum number of times to retry a throttled submission. The default is 3.
+         *
+         * @param maxRetries The maximum retries per message, or 0 to report throttling immediately.
+         *
+         * @return This builder.
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Maximum retries cannot be negative.");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Delay before the first retry of a throttled submission, doubling for each subsequent
+         * retry. The default is 250 milliseconds.
+         *
+         * @param retryBackoff The initial retry delay.
+         *
+         * @return This builder.
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            if (Objects.requireNonNull(retryBackoff, "Retry backoff cannot be null.").isNegative()) {
+                throw new IllegalArgumentException("Retry backoff cannot be negative.");
+            }
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Executor to submit requests on, instead of a dedicated thread pool. It should be able to
+         * run at least {@linkplain #maxConcurrency(int)} tasks at once. The executor will not be shut down
+         * when the sender is closed.
+         *
+         * @param executor The executor service to use.
+         *
+         * @return This builder.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor cannot be null.");
+            return this;
+        }
+
+        /**
+         * Builds the sender with this builder's properties.
+         *
+         * @return A new SmsBatchSender instance.
+         */
+        public SmsBatchSender build() {
+            if (initialConcurrency > maxConcurrency) {
+                throw new IllegalArgumentException("Initial concurrency cannot exceed the maximum.");
+            }
+            return new SmsBatchSender(this);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.auth.SignatureAuthMethod;
 import com.vonage.client.common.HttpMethod;
 import com.vonage.client.sms.messages.Message;
+import java.util.Map;
 
 
 /**
@@ -28,6 +29,7 @@ import com.vonage.client.sms.messages.Message;
  */
 public class SmsClient {
     final RestEndpoint<Message, SmsSubmissionResponse> sendMessage;
+    final RestEndpoint<QueryParamsRequest, SmsSubmissionResponse> sendParams;
 
     /**
      * Create a new SmsClient.
@@ -36,9 +38,9 @@ public class SmsClient {
      */
     public SmsClient(HttpWrapper wrapper) {
         @SuppressWarnings("unchecked")
-        class Endpoint extends DynamicEndpoint<Message, SmsSubmissionResponse> {
+        class Endpoint<T> extends DynamicEndpoint<T, SmsSubmissionResponse> {
             Endpoint() {
-                super(DynamicEndpoint.<Message, SmsSubmissionResponse> builder(SmsSubmissionResponse.class)
+                super(DynamicEndpoint.<T, SmsSubmissionResponse> builder(SmsSubmissionResponse.class)
                         .wrapper(wrapper).requestMethod(HttpMethod.POST)
                         .authMethod(SignatureAuthMethod.class, ApiKeyHeaderAuthMethod.class)
                         .urlFormEncodedContentType(true).pathGetter((de, req) ->
@@ -47,7 +49,8 @@ public class SmsClient {
                 );
             }
         }
-        sendMessage = new Endpoint();
+        sendMessage = new Endpoint<>();
+        sendParams = new Endpoint<>();
     }
 
     /**
@@ -74,4 +77,16 @@ public class SmsClient {
     public SmsSubmissionResponse submitMessage(Message message) throws VonageResponseParseException, VonageClientException {
         return sendMessage.execute(message);
     }
+
+    /**
+     * Sends a message from its previously serialised request parameters, as used by {@link SmsOutbox}.
+     *
+     * @param params The message parameters, as produced by {@link Message#makeParams()}.
+     *
+     * @return The submission response.
+     * @since 9.14.0
+     */
+    SmsSubmissionResponse submitParams(Map<String, String> params) {
+        return sendParams.execute(() -> params);
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.AbstractOutbox;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.sms.messages.Message;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Durable outbox for the SMS API. Messages are recorded in a local write-ahead log when
+ * {@linkplain #submit(Object) submitted} and sent in the background, so that sends interrupted by a crash
+ * or restart are completed when the outbox is next opened on the same directory. Messages are keyed by their
+ * {@linkplain Message#getClientReference() client reference}, so resubmitting a message with the same
+ * reference does not send it twice, provided it is still held in the log.
+ * <p>
+ * As with {@link SmsClient#submitMessage(Message)}, a response is not an exception if some of its parts were
+ * rejected, so check the statuses of the response passed to the {@linkplain Builder#onSent sent listener}.
+ * Responses containing only {@linkplain SmsSubmissionResponseMessage#isTemporaryError() temporary errors},
+ * such as throttling, are retried.
+ *
+ * @since 9.14.0
+ */
+public final class SmsOutbox extends AbstractOutbox<Message, SmsSubmissionResponse> {
+    private final SmsClient client;
+
+    private SmsOutbox(Builder builder) throws IOException {
+        super(builder);
+        client = builder.client;
+    }
+
+    @Override
+    protected byte[] encode(Message message) {
+        try {
+            StringJoiner form = new StringJoiner("&");
+            for (Map.Entry<String, String> param : message.makeParams().entrySet()) {
+                form.add(URLEncoder.encode(param.getKey(), "UTF-8") + '=' +
+                        URLEncoder.encode(param.getValue(), "UTF-8"));
+            }
+            return form.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        catch (UnsupportedEncodingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static Map<String, String> decode(byte[] payload) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String form = new String(payload, StandardCharsets.UTF_8);
+        if (form.isEmpty()) return params;
+        try {
+            for (String pair : form.split("&")) {
+                int eq = pair.indexOf('=');
+                params.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"),
+                        URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+            }
+            return params;
+        }
+        catch (UnsupportedEncodingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    protected String idempotencyKey(Message message) {
+        return message.getClientReference();
+    }
+
+    @Override
+    protected SmsSubmissionResponse send(byte[] payload) {
+        SmsSubmissionResponse response = client.submitParams(decode(payload));
+        if (response.getMessages() != null && !response.getMessages().isEmpty() &&
+                response.getMessages().stream().allMatch(SmsSubmissionResponseMessage::isTemporaryError)) {
+            throw new VonageClientException("Temporary failure: " + response.getMessages().get(0).getStatus());
+        }
+        return response;
+    }
+
+    @Override
+    protected String describe(SmsSubmissionResponse response) {
+        StringJoiner ids = new StringJoiner(",");
+        if (response.getMessages() != null) {
+            for (SmsSubmissionResponseMessage message : response.getMessages()) {
+                ids.add(message.getId() != null ? message.getId() : String.valueOf(message.getStatus()));
+            }
+        }
+        return ids.toString();
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @param client (REQUIRED) The SMS client to send messages with.
+     * @param directory (REQUIRED) Directory for the outbox's log, which must not be shared with anything else.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(SmsClient client, Path directory) {
+        return new Builder(client, directory);
+    }
+
+    /**
+     * Builder for configuring the outbox.
+     */
+    public static final class Builder extends AbstractOutbox.Builder<SmsSubmissionResponse, SmsOutbox, Builder> {
+        private final SmsClient client;
+
+        private Builder(SmsClient client, Path directory) {
+            super(directory);
+            this.client = Objects.requireNonNull(client, "SMS client cannot be null.");
+        }
+
+        @Override
+        protected SmsOutbox create() throws IOException {
+            return new SmsOutbox(this);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.sms.messages.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of submitting a single message as part of an {@link SmsBatchSender} batch. Exactly one of
+ * {@linkplain #getResponse()} and {@linkplain #getException()} is non-null. Since a long message is split
+ * into multiple parts, each of which has its own status, a submission which received a response may still
+ * have partially failed; use {@link #getFailedParts()} to find out which parts were not accepted.
+ *
+ * @since 9.14.0
+ */
+public final class SmsSubmissionOutcome {
+    private final long index;
+    private final Message message;
+    private final SmsSubmissionResponse response;
+    private final RuntimeException exception;
+    private final int attempts;
+
+    SmsSubmissionOutcome(long index, Message message, SmsSubmissionResponse response,
+                         RuntimeException exception, int attempts) {
+        this.index = index;
+        this.message = message;
+        this.response = response;
+        this.exception = exception;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Zero-based position of the message in the input sequence.
+     *
+     * @return The message's index.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * The message that was submitted.
+     *
+     * @return The original message.
+     */
+    public Message getMessage() {
+        return message;
+    }
+
+    /**
+     * The response from the SMS API, if one was received.
+     *
+     * @return The response, or {@code null} if the request failed.
+     */
+    public SmsSubmissionResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * The reason for failure, if no response was received. This is any exception thrown by
+     * {@link SmsClient#submitMessage(Message)}, such as a network error.
+     *
+     * @return The exception, or {@code null} if a response was received.
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    /**
+     * Number of times the message was submitted, including retries after throttling.
+     *
+     * @return The number of attempts, which is at least 1.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The message parts which were not accepted.
+     *
+     * @return The response for each part whose status is not {@linkplain MessageStatus#OK}, which will be
+     * empty if the request failed without a response.
+     */
+    public List<SmsSubmissionResponseMessage> getFailedParts() {
+        if (response == null || response.getMessages() == null) {
+            return Collections.emptyList();
+        }
+        List<SmsSubmissionResponseMessage> failed = new ArrayList<>(0);
+        for (SmsSubmissionResponseMessage part : response.getMessages()) {
+            if (part.getStatus() != MessageStatus.OK) {
+                failed.add(part);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Number of parts the message was split into, according to the response.
+     *
+     * @return The number of parts, or 0 if the request failed without a response.
+     */
+    public int getPartCount() {
+        return response != null && response.getMessages() != null ? response.getMessages().size() : 0;
+    }
+
+    /**
+     * Whether every part of the message was accepted.
+     *
+     * @return {@code true} if a response was received with no failed parts, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return response != null && getPartCount() > 0 && getFailedParts().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SmsSubmissionOutcome{index=" + index + ", successful=" + isSuccessful() +
+                ", parts=" + getPartCount() + ", attempts=" + attempts +
+                (exception != null ? ", exception=" + exception : "") + '}';
+    }
+}
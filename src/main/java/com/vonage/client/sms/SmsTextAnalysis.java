@@ -0,0 +1,337 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.messages.sms.EncodingType;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.sms.messages.MessageType;
+import com.vonage.client.sms.messages.TextMessage;
+
+/**
+ * Calculates how an SMS text will be encoded and how many segments it will be split into, without having
+ * to submit it. Text consisting solely of characters from the GSM 03.38 basic and extension tables is sent
+ * as GSM-7, where each basic character takes one septet and each extension character takes two (an escape
+ * followed by the character). Anything else requires UCS-2, where each UTF-16 code unit counts as one
+ * character. Messages which are too long for a single SMS are concatenated, with each segment losing some
+ * space to the user data header (UDH); extension characters and surrogate pairs are never split across
+ * segments.
+ * <p>
+ * The static methods on this class do not allocate, so are suitable for pre-flight checks and cost
+ * estimation of large campaigns. Use {@link #of(CharSequence)} when all the details are required.
+ *
+ * @since 9.14.0
+ */
+public final class SmsTextAnalysis {
+
+    /**
+     * Number of GSM-7 septets that fit in a single, non-concatenated SMS.
+     */
+    public static final int GSM7_SINGLE_SEGMENT_LENGTH = 160;
+
+    /**
+     * Number of GSM-7 septets that fit in each part of a concatenated SMS.
+     */
+    public static final int GSM7_MULTI_SEGMENT_LENGTH = 153;
+
+    /**
+     * Number of UCS-2 characters that fit in a single, non-concatenated SMS.
+     */
+    public static final int UCS2_SINGLE_SEGMENT_LENGTH = 70;
+
+    /**
+     * Number of UCS-2 characters that fit in each part of a concatenated SMS.
+     */
+    public static final int UCS2_MULTI_SEGMENT_LENGTH = 67;
+
+    private static final String GSM7_BASIC = "@£$¥èéùìòÇ\nØø\rÅå" +
+            "Δ_ΦΓΛΩΠΨΣΘΞÆæßÉ" +
+            " !\"#¤%&'()*+,-./0123456789:;<=>?¡ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÑÜ§" +
+            "¿abcdefghijklmnopqrstuvwxyzäöñüà";
+    private static final String GSM7_EXTENSION = "\f^{}\\[~]|€";
+    private static final char EURO = '€';
+
+    /**
+     * Septets used by each character below {@code U+03AA}: 0 if unsupported, 1 for the basic table and 2
+     * for the extension table. The euro sign is the only GSM-7 character above this range.
+     */
+    private static final byte[] SEPTETS = new byte[0x3AA];
+
+    static {
+        for (int i = 0; i < GSM7_BASIC.length(); i++) {
+            SEPTETS[GSM7_BASIC.charAt(i)] = 1;
+        }
+        for (int i = 0; i < GSM7_EXTENSION.length(); i++) {
+            char c = GSM7_EXTENSION.charAt(i);
+            if (c < SEPTETS.length) {
+                SEPTETS[c] = 2;
+            }
+        }
+    }
+
+    // Results are packed into a long as [remaining:8][unicode:1][segments:23][length:32] to avoid allocating.
+    private static final int SEGMENTS_SHIFT = 32, UNICODE_SHIFT = 55, REMAINING_SHIFT = 56;
+    private static final long SEGMENTS_MASK = (1L << 23) - 1;
+
+    private final MessageType type;
+    private final int length, segments, remaining;
+
+    private SmsTextAnalysis(long packed) {
+        length = (int) packed;
+        segments = (int) ((packed >>> SEGMENTS_SHIFT) & SEGMENTS_MASK);
+        type = ((packed >>> UNICODE_SHIFT) & 1) == 1 ? MessageType.UNICODE : MessageType.TEXT;
+        remaining = (int) (packed >>> REMAINING_SHIFT);
+    }
+
+    /**
+     * Analyses the text, choosing GSM-7 if every character is supported by it and UCS-2 otherwise.
+     *
+     * @param text The message text.
+     * @return The analysis of the text.
+     */
+    public static SmsTextAnalysis of(CharSequence text) {
+        return new SmsTextAnalysis(analyse(text));
+    }
+
+    /**
+     * Analyses the text using the given encoding. When GSM-7 is forced on text containing unsupported
+     * characters, each such character is counted as a single septet, since it will be substituted.
+     *
+     * @param text The message text.
+     * @param unicode {@code true} to force UCS-2, {@code false} to force GSM-7.
+     * @return The analysis of the text.
+     */
+    public static SmsTextAnalysis of(CharSequence text, boolean unicode) {
+        return new SmsTextAnalysis(unicode ? scanUcs2(text) : scanGsm7(text, false));
+    }
+
+    /**
+     * Analyses the text of a message to be sent with the SMS API, using the encoding it was created with.
+     *
+     * @param message The text message.
+     * @return The analysis of the message's text.
+     */
+    public static SmsTextAnalysis of(TextMessage message) {
+        return of(message.getMessageBody(), message.isUnicode());
+    }
+
+    /**
+     * Analyses the text of a message to be sent with the Messages API. If the request's encoding type is
+     * {@linkplain EncodingType#TEXT} or {@linkplain EncodingType#UNICODE}, it is used; otherwise the
+     * encoding is detected in the same way as the API does.
+     *
+     * @param request The SMS text request.
+     * @return The analysis of the request's text.
+     */
+    public static SmsTextAnalysis of(SmsTextRequest request) {
+        EncodingType encoding = request.getMessageSettings() != null ?
+                request.getMessageSettings().getEncodingType() : null;
+        if (encoding == EncodingType.TEXT || encoding == EncodingType.UNICODE) {
+            return of(request.getText(), encoding == EncodingType.UNICODE);
+        }
+        return of(request.getText());
+    }
+
+    /**
+     * Determines whether the text can be sent using the GSM-7 alphabet (including its extension table).
+     *
+     * @param text The message text.
+     * @return {@code true} if every character is supported by GSM-7, {@code false} if UCS-2 is required.
+     */
+    public static boolean isGsm7(CharSequence text) {
+        for (int i = 0, n = text.length(); i < n; i++) {
+            if (septets(text.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the number of GSM-7 septets required for the text, excluding any UDH.
+     *
+     * @param text The message text.
+     * @return The number of septets, or -1 if the text contains characters not supported by GSM-7.
+     */
+    public static int countSeptets(CharSequence text) {
+        int septets = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            int w = septets(text.charAt(i));
+            if (w == 0) {
+                return -1;
+            }
+            septets += w;
+        }
+        return septets;
+    }
+
+    /**
+     * Counts the number of SMS segments the text will be sent as, choosing the encoding automatically.
+     *
+     * @param text The message text.
+     * @return The number of segments, which is at least 1.
+     */
+    public static int countSegments(CharSequence text) {
+        return (int) ((analyse(text) >>> SEGMENTS_SHIFT) & SEGMENTS_MASK);
+    }
+
+    /**
+     * Chooses the message type required for the text.
+     *
+     * @param text The message text.
+     * @return {@linkplain MessageType#TEXT} if the text fits GSM-7, {@linkplain MessageType#UNICODE} otherwise.
+     */
+    public static MessageType detectMessageType(CharSequence text) {
+        return isGsm7(text) ? MessageType.TEXT : MessageType.UNICODE;
+    }
+
+    /**
+     * The encoding used for the analysis.
+     *
+     * @return {@linkplain MessageType#TEXT} for GSM-7, or {@linkplain MessageType#UNICODE} for UCS-2.
+     */
+    public MessageType getMessageType() {
+        return type;
+    }
+
+    /**
+     * The Messages API equivalent of {@link #getMessageType()}, which can be passed to
+     * {@link SmsTextRequest.Builder#encodingType(EncodingType)}.
+     *
+     * @return {@linkplain EncodingType#TEXT} for GSM-7, or {@linkplain EncodingType#UNICODE} for UCS-2.
+     */
+    public EncodingType getEncodingType() {
+        return isUnicode() ? EncodingType.UNICODE : EncodingType.TEXT;
+    }
+
+    /**
+     * Whether the text requires (or was forced to use) UCS-2.
+     *
+     * @return {@code true} for UCS-2, {@code false} for GSM-7.
+     */
+    public boolean isUnicode() {
+        return type == MessageType.UNICODE;
+    }
+
+    /**
+     * Length of the encoded text, excluding any UDH.
+     *
+     * @return The number of septets for GSM-7, or UTF-16 code units for UCS-2.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Number of segments (i.e. billable SMS parts) the text will be sent as.
+     *
+     * @return The number of segments, which is at least 1.
+     */
+    public int getSegmentCount() {
+        return segments;
+    }
+
+    /**
+     * Space left in the last segment before another would be needed.
+     *
+     * @return The number of septets (GSM-7) or code units (UCS-2) remaining.
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    @Override
+    public String toString() {
+        return "SmsTextAnalysis{type=" + type + ", length=" + length +
+                ", segments=" + segments + ", remaining=" + remaining + '}';
+    }
+
+    private static int septets(char c) {
+        return c < SEPTETS.length ? SEPTETS[c] : c == EURO ? 2 : 0;
+    }
+
+    private static long analyse(CharSequence text) {
+        long packed = scanGsm7(text, true);
+        return packed == -1 ? scanUcs2(text) : packed;
+    }
+
+    private static long scanGsm7(CharSequence text, boolean strict) {
+        int length = 0, n = text.length();
+        for (int i = 0; i < n; i++) {
+            int w = septets(text.charAt(i));
+            if (w == 0) {
+                if (strict) {
+                    return -1;
+                }
+                w = 1;
+            }
+            length += w;
+        }
+        int segments = 1, used = length;
+        if (length > GSM7_SINGLE_SEGMENT_LENGTH) {
+            if (length == n) {
+                // No extension characters, so segments are always filled completely.
+                segments = (length + GSM7_MULTI_SEGMENT_LENGTH - 1) / GSM7_MULTI_SEGMENT_LENGTH;
+                used = length - (segments - 1) * GSM7_MULTI_SEGMENT_LENGTH;
+            }
+            else {
+                used = 0;
+                for (int i = 0; i < n; i++) {
+                    int w = Math.max(1, septets(text.charAt(i)));
+                    if (used + w > GSM7_MULTI_SEGMENT_LENGTH) {
+                        segments++;
+                        used = w;
+                    }
+                    else {
+                        used += w;
+                    }
+                }
+            }
+        }
+        return pack(false, length, segments, used, GSM7_SINGLE_SEGMENT_LENGTH, GSM7_MULTI_SEGMENT_LENGTH);
+    }
+
+    private static long scanUcs2(CharSequence text) {
+        int length = text.length(), segments = 1, used = 0;
+        if (length > UCS2_SINGLE_SEGMENT_LENGTH) {
+            for (int i = 0; i < length; i++) {
+                int w = Character.isHighSurrogate(text.charAt(i)) && i + 1 < length &&
+                        Character.isLowSurrogate(text.charAt(i + 1)) ? 2 : 1;
+                i += w - 1;
+                if (used + w > UCS2_MULTI_SEGMENT_LENGTH) {
+                    segments++;
+                    used = w;
+                }
+                else {
+                    used += w;
+                }
+            }
+        }
+        return pack(true, length, segments, used, UCS2_SINGLE_SEGMENT_LENGTH, UCS2_MULTI_SEGMENT_LENGTH);
+    }
+
+    private static long pack(boolean unicode, int length, int segments, int used, int single, int multi) {
+        int remaining;
+        if (length <= single) {
+            segments = 1;
+            remaining = single - length;
+        }
+        else {
+            remaining = multi - used;
+        }
+        return (length & 0xFFFFFFFFL) | ((long) segments << SEGMENTS_SHIFT) |
+                ((unicode ? 1L : 0L) << UNICODE_SHIFT) | ((long) remaining << REMAINING_SHIFT);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.VonageClientException;
+import com.vonage.client.VonageResponseParseException;
+import com.vonage.client.auth.RequestSignatureVerifier;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Parses SMS API webhooks which are delivered as query or form parameters (the default for inbound SMS and
+ * delivery receipts), without Jackson or reflection. Parameters can be read from a servlet-style parameter
+ * map or directly from a raw {@code application/x-www-form-urlencoded} body (or query string). Each
+ * parameter is mapped to its field with a {@code switch} on the name; names of known parameters are matched
+ * against precomputed byte tables when parsing raw bodies, so only the values are decoded into strings.
+ * Blank values are treated as absent, and unrecognised parameters are ignored.
+ * <p>
+ * If constructed with a {@link RequestSignatureVerifier}, the signature is verified using the parameters
+ * collected while parsing, so the request does not need to be read twice. Unsigned or incorrectly signed
+ * webhooks are then rejected with a {@link VonageClientException}.
+ * <pre>{@code
+ *     SmsWebhookParser parser = new SmsWebhookParser(new RequestSignatureVerifier(signatureSecret));
+ *
+ *     // In the inbound SMS endpoint:
+ *     MessageEvent event = parser.parseInboundSms(request.getParameterMap());
+ * }</pre>
+ * For webhooks configured to be sent as JSON, use {@link MessageEvent#fromJson(String)} or
+ * {@link DeliveryReceipt#fromJson(String)} instead. Instances are immutable and thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class SmsWebhookParser {
+    private static final String[] PARAMETER_NAMES = {
+            "msisdn", "to", "messageId", "text", "keyword", "nonce", "data", "udh", "type", "message-timestamp",
+            "timestamp", "concat", "concat-ref", "concat-total", "concat-part", "network-code", "price", "status",
+            "scts", "err-code", "api-key", "client-ref", "sig"
+    };
+
+    /**
+     * Known parameter names, bucketed by length, as ASCII bytes for matching against raw bodies.
+     */
+    private static final byte[][][] NAME_BYTES;
+    private static final String[][] NAME_STRINGS;
+
+    static {
+        int maxLength = 0;
+        for (String name : PARAMETER_NAMES) {
+            maxLength = Math.max(maxLength, name.length());
+        }
+        NAME_BYTES = new byte[maxLength + 1][][];
+        NAME_STRINGS = new String[maxLength + 1][];
+        for (int length = 1; length <= maxLength; length++) {
+            int count = 0;
+            for (String name : PARAMETER_NAMES) {
+                if (name.length() == length) count++;
+            }
+            NAME_BYTES[length] = new byte[count][];
+            NAME_STRINGS[length] = new String[count];
+            count = 0;
+            for (String name : PARAMETER_NAMES) {
+                if (name.length() == length) {
+                    NAME_BYTES[length][count] = name.getBytes(StandardCharsets.US_ASCII);
+                    NAME_STRINGS[length][count++] = name;
+                }
+            }
+        }
+    }
+
+    private final RequestSignatureVerifier verifier;
+
+    /**
+     * Creates a parser which does not verify signatures.
+     */
+    public SmsWebhookParser() {
+        verifier = null;
+    }
+
+    /**
+     * Creates a parser which verifies the signature of every webhook it parses.
+     *
+     * @param verifier The verifier to check signatures with.
+     */
+    public SmsWebhookParser(RequestSignatureVerifier verifier) {
+        this.verifier = Objects.requireNonNull(verifier, "Signature verifier cannot be null.");
+    }
+
+    /**
+     * Parses an inbound SMS webhook from its request parameters.
+     *
+     * @param parameters The request parameters, such as from {@code HttpServletRequest#getParameterMap()}.
+     *
+     * @return The inbound message.
+     * @throws VonageResponseParseException If a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public MessageEvent parseInboundSms(Map<String, String[]> parameters) {
+        MessageEvent event = new MessageEvent();
+        parse(parameters, event::setParameter);
+        return event;
+    }
+
+    /**
+     * Parses an inbound SMS webhook from a form-encoded request body or query string.
+     *
+     * @param body The buffer containing the UTF-8 form-encoded parameters.
+     * @param offset Start of the parameters in the buffer.
+     * @param length Length of the parameters in bytes.
+     *
+     * @return The inbound message.
+     * @throws VonageResponseParseException If the body or a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public MessageEvent parseInboundSms(byte[] body, int offset, int length) {
+        MessageEvent event = new MessageEvent();
+        parse(body, offset, length, event::setParameter);
+        return event;
+    }
+
+    /**
+     * Parses an inbound SMS webhook from a form-encoded request body or query string.
+     *
+     * @param body The UTF-8 form-encoded parameters.
+     *
+     * @return The inbound message.
+     * @throws VonageResponseParseException If the body or a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public MessageEvent parseInboundSms(byte[] body) {
+        return parseInboundSms(body, 0, body.length);
+    }
+
+    /**
+     * Parses a delivery receipt webhook from its request parameters.
+     *
+     * @param parameters The request parameters, such as from {@code HttpServletRequest#getParameterMap()}.
+     *
+     * @return The delivery receipt.
+     * @throws VonageResponseParseException If a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public DeliveryReceipt parseDeliveryReceipt(Map<String, String[]> parameters) {
+        DeliveryReceipt receipt = new DeliveryReceipt();
+        parse(parameters, receipt::setParameter);
+        return receipt;
+    }
+
+    /**
+     * Parses a delivery receipt webhook from a form-encoded request body or query string.
+     *
+     * @param body The buffer containing the UTF-8 form-encoded parameters.
+     * @param offset Start of the parameters in the buffer.
+     * @param length Length of the parameters in bytes.
+     *
+     * @return The delivery receipt.
+     * @throws VonageResponseParseException If the body or a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public DeliveryReceipt parseDeliveryReceipt(byte[] body, int offset, int length) {
+        DeliveryReceipt receipt = new DeliveryReceipt();
+        parse(body, offset, length, receipt::setParameter);
+        return receipt;
+    }
+
+    /**
+     * Parses a delivery receipt webhook from a form-encoded request body or query string.
+     *
+     * @param body The UTF-8 form-encoded parameters.
+     *
+     * @return The delivery receipt.
+     * @throws VonageResponseParseException If the body or a parameter value is malformed.
+     * @throws VonageClientException If signature verification is enabled and the signature is invalid.
+     */
+    public DeliveryReceipt parseDeliveryReceipt(byte[] body) {
+        return parseDeliveryReceipt(body, 0, body.length);
+    }
+
+    private void parse(Map<String, String[]> parameters, BiConsumer<String, String> target) {
+        Map<String, String> signed = verifier != null ? new HashMap<>(parameters.size() << 1) : null;
+        for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+            String[] values = entry.getValue();
+            String value = values == null || values.length == 0 ? null : values[0];
+            accept(entry.getKey(), value, target, signed);
+        }
+        verify(signed);
+    }
+
+    private void parse(byte[] body, int offset, int length, BiConsumer<String, String> target) {
+        if (offset < 0 || length < 0 || offset > body.length - length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length for a body of " + body.length + " bytes.");
+        }
+        Map<String, String> signed = verifier != null ? new HashMap<>(32) : null;
+        final int end = offset + length;
+        byte[] scratch = null;
+        for (int start = offset; start < end; ) {
+            int separator = start, equals = -1;
+            for (; separator < end && body[separator] != '&'; separator++) {
+                if (equals < 0 && body[separator] == '=') equals = separator;
+            }
+            int nameEnd = equals < 0 ? separator : equals;
+            if (nameEnd > start) {
+                if (scratch == null) scratch = new byte[length];
+                String name = knownName(body, start, nameEnd);
+                if (name == null) {
+                    name = decode(body, start, nameEnd, scratch);
+                }
+                String value = equals < 0 ? null : decode(body, equals + 1, separator, scratch);
+                accept(name, value, target, signed);
+            }
+            start = separator + 1;
+        }
+        verify(signed);
+    }
+
+    private static void accept(String name, String value, BiConsumer<String, String> target, Map<String, String> signed) {
+        if (name == null || isBlank(value)) return;
+        try {
+            target.accept(name, value);
+        }
+        catch (IllegalArgumentException | DateTimeException ex) {
+            throw new VonageResponseParseException("Invalid value for webhook parameter '" + name + "'.", ex);
+        }
+        if (signed != null) {
+            signed.put(name, value);
+        }
+    }
+
+    private void verify(Map<String, String> signed) {
+        if (signed != null && !verifier.verify(signed)) {
+            throw new VonageClientException("Webhook signature verification failed.");
+        }
+    }
+
+    /**
+     * Returns the canonical name if the bytes exactly match a known (unescaped) parameter name.
+     */
+    private static String knownName(byte[] body, int from, int to) {
+        int length = to - from;
+        if (length >= NAME_BYTES.length) return null;
+        byte[][] candidates = NAME_BYTES[length];
+        outer:
+        for (int c = 0; c < candidates.length; c++) {
+            byte[] candidate = candidates[c];
+            for (int i = 0; i < length; i++) {
+                if (candidate[i] != body[from + i]) continue outer;
+            }
+            return NAME_STRINGS[length][c];
+        }
+        return null;
+    }
+
+    /**
+     * Decodes a form-encoded UTF-8 component, using the scratch buffer only if it contains escapes.
+     */
+    static String decode(byte[] body, int from, int to, byte[] scratch) {
+        int i = from;
+        while (i < to && body[i] != '%' && body[i] != '+') i++;
+        if (i == to) {
+            return new String(body, from, to - from, StandardCharsets.UTF_8);
+        }
+        int n = i - from;
+        System.arraycopy(body, from, scratch, 0, n);
+        while (i < to) {
+            byte b = body[i++];
+            if (b == '+') {
+                scratch[n++] = ' ';
+            }
+            else if (b == '%') {
+                if (i + 2 > to) {
+                    throw new VonageResponseParseException("Incomplete escape sequence in form body.");
+                }
+                scratch[n++] = (byte) ((hexDigit(body[i]) << 4) | hexDigit(body[i + 1]));
+                i += 2;
+            }
+            else {
+                scratch[n++] = b;
+            }
+        }
+        return new String(scratch, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private static int hexDigit(byte b) {
+        if (b >= '0' && b <= '9') return b - '0';
+        if (b >= 'a' && b <= 'f') return b - 'a' + 10;
+        if (b >= 'A' && b <= 'F') return b - 'A' + 10;
+        throw new VonageResponseParseException("Invalid escape sequence in form body.");
+    }
+
+    private static boolean isBlank(String str) {
+        if (str == null) return true;
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a timestamp in the {@code yyyy-MM-dd HH:mm:ss} format used by SMS webhooks, in UTC.
+     *
+     * @param value The timestamp string.
+     *
+     * @return The timestamp as an Instant.
+     * @throws DateTimeException If the value is not a valid timestamp in the expected format.
+     */
+    static Instant parseTimestamp(String value) {
+        if (value.length() != 19 || value.charAt(4) != '-' || value.charAt(7) != '-' ||
+                value.charAt(10) != ' ' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            throw new DateTimeException("Expected a timestamp in the format yyyy-MM-dd HH:mm:ss.");
+        }
+        return LocalDateTime.of(
+                digits(value, 0, 4), digits(value, 5, 2), digits(value, 8, 2),
+                digits(value, 11, 2), digits(value, 14, 2), digits(value, 17, 2)
+        ).toInstant(ZoneOffset.UTC);
+    }
+
+    private static int digits(String value, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeException("Expected a digit at position " + i + " of the timestamp.");
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+}
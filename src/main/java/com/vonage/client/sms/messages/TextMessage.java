@@ -15,6 +15,7 @@
  */
 package com.vonage.client.sms.messages;
 
+import com.vonage.client.sms.SmsTextAnalysis;
 import java.util.Map;
 
 /**
@@ -58,6 +59,24 @@ public class TextMessage extends Message {
         this.messageBody = messageBody;
     }
 
+    /**
+     * Instantiate a new text-message request, submitting it as a unicode message only if the text contains
+     * characters which cannot be represented in the GSM-7 alphabet.
+     *
+     * @param from        the 'from' address that will be seen on the handset when this message arrives
+     * @param to          the phone number of the handset that you wish to send the message to
+     * @param messageBody The text of the message to be sent to the handset
+     *
+     * @return A new text message with the appropriate type.
+     * @see SmsTextAnalysis#detectMessageType(CharSequence)
+     * @since 9.14.0
+     */
+    public static TextMessage withDetectedEncoding(final String from,
+                                                   final String to,
+                                                   final String messageBody) {
+        return new TextMessage(from, to, messageBody, !SmsTextAnalysis.isGsm7(messageBody));
+    }
+
     /**
      * The text of the message to be sent to the handset.
      *
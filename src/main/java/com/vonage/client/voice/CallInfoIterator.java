@@ -0,0 +1,152 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Iterates over every call matching a filter, as used by {@link VoiceClient#iterateCalls(CallsFilter)}.
+ * Each page is requested in the background as soon as the previous one arrives, so the next page is
+ * usually ready by the time the current one has been consumed. At most two pages are held at once: the one
+ * being consumed and the one being prefetched. No further pages are requested once the consumer stops
+ * iterating or {@linkplain #close() closes} the iterator.
+ * <p>
+ * Prefetches from all iterators share a small pool of daemon threads. If more iterators are active than
+ * there are threads, their prefetches queue and are requested in turn.
+ *
+ * @since 9.14.0
+ */
+final class CallInfoIterator implements Iterator<CallInfo>, AutoCloseable {
+    /**
+     * The largest page size accepted by the Voice API, used if the filter does not specify one.
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Maximum number of pages prefetched at once across all iterators.
+     */
+    static final int PREFETCH_THREADS = 4;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final Executor PREFETCH_EXECUTOR = newPrefetchExecutor();
+
+    private final Function<CallsFilter, CallInfoPage> listCalls;
+    private final CallsFilter filter;
+    private final Executor executor;
+    private final int pageSize;
+    private Iterator<CallInfo> current = Collections.emptyIterator();
+    private CompletableFuture<CallInfoPage> next;
+    private int nextIndex;
+
+    CallInfoIterator(Function<CallsFilter, CallInfoPage> listCalls, CallsFilter filter) {
+        this(listCalls, filter, PREFETCH_EXECUTOR);
+    }
+
+    CallInfoIterator(Function<CallsFilter, CallInfoPage> listCalls, CallsFilter filter, Executor executor) {
+        this.listCalls = listCalls;
+        this.filter = filter != null ? filter : CallsFilter.builder().build();
+        this.executor = executor;
+        pageSize = this.filter.getPageSize() != null ? this.filter.getPageSize() : DEFAULT_PAGE_SIZE;
+        Integer recordIndex = this.filter.getRecordIndex();
+        prefetch(recordIndex != null ? recordIndex : 0);
+    }
+
+    private static Executor newPrefetchExecutor() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                PREFETCH_THREADS, PREFETCH_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "vonage-voice-prefetch-" + THREAD_NUMBER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private void prefetch(int recordIndex) {
+        nextIndex = recordIndex;
+        CallsFilter pageFilter = filter.withPage(recordIndex, pageSize);
+        next = CompletableFuture.supplyAsync(() -> listCalls.apply(pageFilter), executor);
+    }
+
+    /**
+     * Waits for the prefetched page, makes it the current page and starts fetching the one after it,
+     * unless it is the last page.
+     */
+    private void advance() {
+        CallInfoPage page;
+        try {
+            page = next.join();
+        }
+        catch (CompletionException ex) {
+            next = null;
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+        List<CallInfo> calls = page.getCallInfos();
+        int recordIndex = nextIndex + calls.size();
+        Integer count = page.getCount();
+        if (!calls.isEmpty() && (count != null ? recordIndex < count : calls.size() >= pageSize)) {
+            prefetch(recordIndex);
+        }
+        else {
+            next = null;
+        }
+        current = calls.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+            advance();
+        }
+        return true;
+    }
+
+    @Override
+    public CallInfo next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stops iterating and discards the current page. A prefetch which has not started yet is cancelled;
+     * one already in flight cannot be interrupted, so it runs to completion in the background and its
+     * page is discarded when it arrives.
+     */
+    @Override
+    public void close() {
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+        current = Collections.emptyIterator();
+    }
+}
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vonage.client.JsonableBaseObject;
 import com.vonage.client.common.HalPageResponse;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -62,13 +63,13 @@ public class CallInfoPage extends HalPageResponse implements Iterable<CallInfo>
     /**
      * Gets the call details.
      *
-     * @return The list of CallInfos from the embedded object.
+     * @return The list of CallInfos from the embedded object, which is empty if there are no results.
      *
      * @since 9.0.0
      */
     @JsonIgnore
     public List<CallInfo> getCallInfos() {
-        return embedded.callInfos;
+        return embedded != null && embedded.callInfos != null ? embedded.callInfos : Collections.emptyList();
     }
     
     @Override
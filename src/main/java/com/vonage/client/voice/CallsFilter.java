@@ -82,6 +82,19 @@ public class CallsFilter extends HalFilterRequest {
         return conversationUuid;
     }
 
+    /**
+     * Creates a copy of this filter for a different page of results, as used by {@link CallInfoIterator}.
+     *
+     * @param recordIndex The start index for the results.
+     * @param pageSize The number of results per page.
+     *
+     * @return A new filter with the same criteria.
+     */
+    CallsFilter withPage(int recordIndex, int pageSize) {
+        return builder().status(status).conversationUuid(conversationUuid).order(order)
+                .startDate(startDate).endDate(endDate).recordIndex(recordIndex).pageSize(pageSize).build();
+    }
+
     @Override
     public Map<String, String> makeParams() {
         Map<String, String> params = super.makeParams();
@@ -0,0 +1,129 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Result of downloading a single recording with a {@link RecordingDownloader}. The download succeeded if
+ * and only if {@linkplain #getException()} is {@code null}.
+ *
+ * @since 9.14.0
+ */
+public final class RecordingDownloadResult {
+    private final String recordingUrl;
+    private final Path path;
+    private final long size, resumedBytes;
+    private final String checksum;
+    private final Duration duration;
+    private final Exception exception;
+
+    RecordingDownloadResult(String recordingUrl, Path path, long size, long resumedBytes,
+                            String checksum, Duration duration, Exception exception) {
+        this.recordingUrl = recordingUrl;
+        this.path = path;
+        this.size = size;
+        this.resumedBytes = resumedBytes;
+        this.checksum = checksum;
+        this.duration = duration;
+        this.exception = exception;
+    }
+
+    /**
+     * The URL of the recording that was downloaded.
+     *
+     * @return The recording URL.
+     */
+    public String getRecordingUrl() {
+        return recordingUrl;
+    }
+
+    /**
+     * The file which the recording was saved to. If the download failed, this file is not created and any
+     * data received so far is kept alongside it, so that downloading the same URL to the same directory
+     * again resumes where this attempt left off.
+     *
+     * @return The destination path.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Size of the saved recording.
+     *
+     * @return The number of bytes in the file, or -1 if the download failed.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Number of bytes which were not downloaded again, since they were received by a previous,
+     * incomplete attempt.
+     *
+     * @return The number of bytes resumed from an earlier attempt.
+     */
+    public long getResumedBytes() {
+        return resumedBytes;
+    }
+
+    /**
+     * Checksum of the saved recording, if a checksum algorithm was configured.
+     *
+     * @return The digest as a lowercase hexadecimal string, or {@code null} if not calculated.
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Time taken to download, verify and save the recording, including waiting for a free connection.
+     *
+     * @return The duration of the download.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * The reason for failure. This is an {@link java.io.IOException} if the recording could not be written
+     * or failed verification, or any exception thrown when making the request, such as a
+     * {@link VoiceResponseException} if the server responded with an error. If the downloader was closed
+     * before the download started, this is a {@link java.util.concurrent.CancellationException}.
+     *
+     * @return The exception, or {@code null} if the download succeeded.
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * Convenience method for determining whether the download succeeded.
+     *
+     * @return {@code true} if the recording was saved and verified, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{recordingUrl=" + recordingUrl + ", size=" + size +
+                ", duration=" + duration + (exception != null ? ", exception=" + exception : "") + '}';
+    }
+}
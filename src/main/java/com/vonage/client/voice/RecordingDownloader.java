@@ -0,0 +1,885 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import com.vonage.client.ResponseBodyInputStream;
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.VonageMethodFailedException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Downloads large numbers of recordings, such as those referenced by {@link EventWebhook#getRecordingUrl()},
+ * into a directory in parallel. Each recording is fetched in {@linkplain Builder#segmentSize(long) segments}
+ * using HTTP range requests, so that a large recording can be downloaded over several connections at once
+ * and an interrupted download can be resumed rather than restarted. Segments are written directly to their
+ * position in a hidden {@code .part} file in the target directory, whose completed segments are recorded in
+ * an accompanying {@code .progress} file; failed requests and truncated responses are retried from the last
+ * byte received. Once every segment has arrived, the file's size is checked against the size reported by the
+ * server and, optionally, its checksum is calculated and verified before it is moved into place.
+ * <p>
+ * The number of connections in use is bounded by the {@linkplain Builder#parallelism(int) parallelism}, and
+ * the segments of recordings which were requested earlier are downloaded before those requested later, so
+ * only a few recordings are partially downloaded at any time. If the server does not honour range requests,
+ * each recording is downloaded in full over a single connection instead. Instances are thread-safe.
+ * <pre>{@code
+ *     try (RecordingDownloader downloader = RecordingDownloader.builder(client.getVoiceClient())
+ *             .directory(Paths.get("recordings")).parallelism(16).checksumAlgorithm("SHA-256").build()) {
+ *         for (RecordingDownloadResult result : downloader.downloadAll(recordingUrls)) {
+ *             if (!result.isSuccessful()) log(result.getRecordingUrl(), result.getException());
+ *         }
+ *         log(downloader.getThroughput() + " bytes per second");
+ *     }
+ * }</pre>
+ *
+ * @since 9.14.0
+ */
+public final class RecordingDownloader implements AutoCloseable {
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final VoiceClient client;
+    private final Path directory;
+    private final long segmentSize, retryBackoffNanos;
+    private final int maxRetries;
+    private final String checksumAlgorithm;
+    private final boolean skipExisting;
+    private final ProgressListener progressListener;
+    private final Consumer<? super RecordingDownloadResult> completionListener;
+    private final LongSupplier nanoTime;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Path, Download> downloads = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(), firstStartNanos = new AtomicLong(NOT_STARTED);
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder bytesDownloaded = new LongAdder(), completedCount = new LongAdder(),
+            failedCount = new LongAdder(), retryCount = new LongAdder();
+    private volatile long lastEndNanos;
+
+    private RecordingDownloader(Builder builder) {
+        client = builder.client;
+        directory = builder.directory;
+        segmentSize = builder.segmentSize;
+        maxRetries = builder.maxRetries;
+        retryBackoffNanos = builder.retryBackoff.toNanos();
+        checksumAlgorithm = builder.checksumAlgorithm;
+        skipExisting = builder.skipExisting;
+        progressListener = builder.progressListener;
+        completionListener = builder.completionListener;
+        nanoTime = builder.nanoTime;
+        executor = new ThreadPoolExecutor(
+                builder.parallelism, builder.parallelism, 30, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), newThreadFactory()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        final String prefix = "vonage-recording-download-" + POOL_NUMBER.incrementAndGet() + '-';
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Listener for the progress of individual downloads. This is called from the downloader's threads
+     * each time data is written, so implementations should be thread-safe and return quickly.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Invoked after part of a recording has been saved.
+         *
+         * @param recordingUrl The URL of the recording.
+         * @param bytesSaved The number of bytes of the recording saved so far, including any resumed bytes.
+         * @param totalBytes The size of the recording, or -1 if unknown.
+         */
+        void onProgress(String recordingUrl, long bytesSaved, long totalBytes);
+    }
+
+    /**
+     * Parses a {@code Content-Range} header of the form {@code bytes first-last/total}.
+     *
+     * @return The first and last byte positions and the total size, which is -1 if unknown.
+     */
+    static long[] parseContentRange(String header) throws IOException {
+        if (header != null && header.startsWith("bytes ")) {
+            int dash = header.indexOf('-', 6), slash = header.indexOf('/', dash + 1);
+            if (dash > 0 && slash > 0) try {
+                String total = header.substring(slash + 1).trim();
+                return new long[]{
+                        Long.parseLong(header.substring(6, dash).trim()),
+                        Long.parseLong(header.substring(dash + 1, slash).trim()),
+                        "*".equals(total) ? -1 : Long.parseLong(total)
+                };
+            }
+            catch (NumberFormatException ex) {
+                // Fall through
+            }
+        }
+        throw new IOException("Invalid Content-Range header: " + header);
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static boolean isRetryable(Exception ex) {
+        if (ex instanceof VonageApiResponseException) {
+            int status = ((VonageApiResponseException) ex).getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return ex instanceof IOException || ex instanceof VonageMethodFailedException;
+    }
+
+    private String checksum(Path file) throws IOException {
+        if (checksumAlgorithm == null) {
+            return null;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(checksumAlgorithm);
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(VoiceClient.RECORDING_TRANSFER_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Task which starts a download, or fetches one segment of it. Tasks are ordered by when their recording
+     * was requested, so that recordings already in progress are completed before new ones are started.
+     */
+    private static final class Task implements Runnable, Comparable<Task> {
+        final Download download;
+        final int segment;
+
+        Task(Download download, int segment) {
+            this.download = download;
+            this.segment = segment;
+        }
+
+        @Override
+        public void run() {
+            download.run(segment);
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int result = Long.compare(download.sequence, other.download.sequence);
+            return result != 0 ? result : Integer.compare(segment, other.segment);
+        }
+    }
+
+    /**
+     * State of a single recording's download. The total size and segment count are established by the first
+     * response, before any other segments are scheduled.
+     */
+    private final class Download {
+        final long sequence = RecordingDownloader.this.sequence.getAndIncrement(), startNanos;
+        final String url, expectedChecksum;
+        final Path destination, partFile, progressFile;
+        final CompletableFuture<RecordingDownloadResult> future = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger();
+        final AtomicLong saved = new AtomicLong();
+        final AtomicBoolean settled = new AtomicBoolean();
+        final BitSet completed = new BitSet();
+        volatile long totalSize = -1, resumedBytes;
+        volatile int segmentCount;
+
+        Download(String url, String expectedChecksum, Path destination) {
+            this.url = url;
+            this.expectedChecksum = expectedChecksum;
+            this.destination = destination;
+            String name = "." + destination.getFileName();
+            partFile = destination.resolveSibling(name + ".part");
+            progressFile = destination.resolveSibling(name + ".progress");
+            startNanos = nanoTime.getAsLong();
+        }
+
+        void run(int segment) {
+            try {
+                if (settled.get()) {
+                    return;
+                }
+                if (segment >= 0) {
+                    fetch(segment, false);
+                }
+                else {
+                    if (skipExisting && Files.isRegularFile(destination)) {
+                        String checksum = checksum(destination);
+                        if (expectedChecksum == null || expectedChecksum.equalsIgnoreCase(checksum)) {
+                            complete(Files.size(destination), checksum);
+                            return;
+                        }
+                    }
+                    int first = restoreProgress();
+                    if (first < segmentCount) {
+                        fetch(first, true);
+                    }
+                    else {
+                        finish();
+                    }
+                }
+            }
+            catch (Exception ex) {
+                if (ex instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                fail(ex);
+            }
+        }
+
+        /**
+         * Restores the segments saved by a previous attempt, discarding them if the progress file is
+         * missing or incomplete.
+         *
+         * @return The first segment which has not been saved.
+         */
+        private int restoreProgress() throws IOException {
+            if (Files.isRegularFile(progressFile) && Files.isRegularFile(partFile)) {
+                String[] lines = new String(Files.readAllBytes(progressFile), StandardCharsets.US_ASCII).split("\n", -1);
+                try {
+                    // The last line is either empty or was only partially written, so is ignored
+                    String[] header = lines[0].split(" ");
+                    if (lines.length > 1 && header.length == 2 && Long.parseLong(header[1]) == segmentSize) {
+                        setTotalSize(Long.parseLong(header[0]));
+                        for (int i = 1; i < lines.length - 1; i++) {
+                            int segment = Integer.parseInt(lines[i]);
+                            if (segment < 0 || segment >= segmentCount) {
+                                throw new NumberFormatException();
+                            }
+                            completed.set(segment);
+                        }
+                        long resumed = 0;
+                        for (int i = completed.nextSetBit(0); i >= 0; i = completed.nextSetBit(i + 1)) {
+                            resumed += segmentEnd(i) + 1 - (long) i * segmentSize;
+                        }
+                        resumedBytes = resumed;
+                        saved.set(resumed);
+                        return completed.nextClearBit(0);
+                    }
+                }
+                catch (NumberFormatException ex) {
+                    // Corrupt progress file, so start again
+                }
+            }
+            reset();
+            return 0;
+        }
+
+        private void reset() throws IOException {
+            resetProgress();
+            Files.deleteIfExists(partFile);
+        }
+
+        private void resetProgress() throws IOException {
+            synchronized (this) {
+                completed.clear();
+            }
+            totalSize = -1;
+            segmentCount = 1;
+            resumedBytes = 0;
+            saved.set(0);
+            Files.deleteIfExists(progressFile);
+        }
+
+        private void setTotalSize(long total) {
+            totalSize = total;
+            segmentCount = (int) Math.max(1, (total + segmentSize - 1) / segmentSize);
+        }
+
+        private long segmentEnd(int segment) {
+            long end = (segment + 1) * segmentSize - 1;
+            return totalSize >= 0 ? Math.min(end, totalSize - 1) : end;
+        }
+
+        /**
+         * Called once the first response has established the recording's size. This records the size for
+         * resumption and schedules all other segments which have not yet been saved.
+         */
+        private void begin(long total, int firstSegment) throws IOException {
+            if (totalSize != total) {
+                setTotalSize(total);
+                Files.write(progressFile, (total + " " + segmentSize + "\n").getBytes(StandardCharsets.US_ASCII));
+            }
+            List<Task> tasks = new ArrayList<>();
+            synchronized (this) {
+                for (int i = completed.nextClearBit(0); i < segmentCount; i = completed.nextClearBit(i + 1)) {
+                    if (i != firstSegment) {
+                        tasks.add(new Task(this, i));
+                    }
+                }
+            }
+            remaining.set(tasks.size() + 1);
+            for (Task task : tasks) {
+                executor.execute(task);
+            }
+        }
+
+        /**
+         * Downloads a segment, retrying from the last byte received if the request fails or the response is
+         * truncated. If this is the first request and the server responds with the whole recording instead
+         * of the requested range, the recording is saved from a single response instead. Should that response
+         * be interrupted, the retry requests the rest of the recording, or starts over if the range is ignored.
+         */
+        private void fetch(int segment, boolean first) throws Exception {
+            long start = (long) segment * segmentSize, position = start, end = segmentEnd(segment);
+            boolean begun = !first, whole = false, restart = false;
+            byte[] array = new byte[VoiceClient.RECORDING_TRANSFER_BUFFER_SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(array);
+
+            for (int attempt = 0; !settled.get(); attempt++) {
+                try (ResponseBodyInputStream body = client.streamRecording(url, position, whole ? -1 : end);
+                     FileChannel file = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    if (whole) {
+                        if (body.getStatusCode() == 206) {
+                            // Resuming an interrupted whole-recording response from the last byte received
+                            String header = body.getHeader("Content-Range");
+                            long[] range = parseContentRange(header);
+                            if (range[0] != position || (totalSize >= 0 && range[2] != totalSize)) {
+                                throw new IOException("Unexpected Content-Range header: " + header);
+                            }
+                            if (totalSize < 0) {
+                                totalSize = range[2];
+                            }
+                        }
+                        else {
+                            // The server sent the whole recording again, so start over. The size established
+                            // by the first response is kept, so that a changed recording is not accepted.
+                            if (totalSize < 0) {
+                                totalSize = body.getContentLength();
+                            }
+                            saved.set(0);
+                            file.truncate(0);
+                            position = 0;
+                        }
+                    }
+                    else if (body.getStatusCode() == 206) {
+                        String header = body.getHeader("Content-Range");
+                        long[] range = parseContentRange(header);
+                        if (range[0] != position) {
+                            throw new IOException("Unexpected Content-Range header: " + header);
+                        }
+                        if (first && range[2] != totalSize) {
+                            if (range[2] < 0) {
+                                throw new IOException("Response did not include the recording size.");
+                            }
+                            if (totalSize >= 0) {
+                                // The recording has changed since the previous attempt
+                                restart = true;
+                                break;
+                            }
+                        }
+                        if (!begun) {
+                            begun = true;
+                            begin(range[2], segment);
+                            end = segmentEnd(segment);
+                        }
+                    }
+                    else if (first) {
+                        whole = true;
+                        resetProgress();
+                        remaining.set(1);
+                        totalSize = body.getContentLength();
+                        saved.set(0);
+                        file.truncate(0);
+                        position = 0;
+                        end = Long.MAX_VALUE - 1;
+                    }
+                    else {
+                        throw new IOException("Server ignored the requested range.");
+                    }
+
+                    for (int read; position <= end && (read = body.read(array, 0,
+                            end - position >= array.length ? array.length : (int) (end - position + 1))) >= 0;) {
+                        buffer.clear().limit(read);
+                        while (buffer.hasRemaining()) {
+                            position += file.write(buffer, position);
+                        }
+                        bytesDownloaded.add(read);
+                        long bytesSaved = saved.addAndGet(read);
+                        if (progressListener != null) {
+                            progressListener.onProgress(url, bytesSaved, totalSize);
+                        }
+                    }
+                    if (whole) {
+                        if (totalSize >= 0 && position != totalSize) {
+                            throw new IOException("Response ended after " + position + " of " + totalSize + " bytes.");
+                        }
+                    }
+                    else if (position <= end) {
+                        throw new IOException("Response ended at byte " + position + " of range ending at " + end + '.');
+                    }
+                    else {
+                        file.force(false);
+                    }
+                }
+                catch (IOException | VonageClientException ex) {
+                    if (settled.get() || attempt >= maxRetries || !isRetryable(ex)) {
+                        throw ex;
+                    }
+                    retryCount.increment();
+                    TimeUnit.NANOSECONDS.sleep(retryBackoffNanos << Math.min(attempt, 16));
+                    continue;
+                }
+                if (!whole) {
+                    synchronized (this) {
+                        completed.set(segment);
+                        Files.write(progressFile, (segment + "\n").getBytes(StandardCharsets.US_ASCII),
+                                StandardOpenOption.APPEND
+                        );
+                    }
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    finish();
+                }
+                return;
+            }
+            if (restart) {
+                reset();
+                fetch(0, true);
+            }
+        }
+
+        /**
+         * Verifies the saved recording and moves it into place.
+         */
+        private void finish() throws IOException {
+            long size = Files.size(partFile);
+            if (totalSize >= 0 && size != totalSize) {
+                reset();
+                throw new IOException("Expected " + totalSize + " bytes but saved " + size + '.');
+            }
+            String checksum = checksum(partFile);
+            if (expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(checksum)) {
+                reset();
+                throw new IOException("Expected checksum " + expectedChecksum + " but was " + checksum + '.');
+            }
+            try {
+                Files.move(partFile, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException ex) {
+                Files.move(partFile, destination, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.deleteIfExists(progressFile);
+            complete(size, checksum);
+        }
+
+        private void complete(long size, String checksum) {
+            settle(size, checksum, null);
+        }
+
+        void fail(Exception ex) {
+            settle(-1, null, ex);
+        }
+
+        private void settle(long size, String checksum, Exception ex) {
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            }
+            long now = nanoTime.getAsLong();
+            RecordingDownloadResult result = new RecordingDownloadResult(
+                    url, destination, size, resumedBytes, checksum, Duration.ofNanos(now - startNanos), ex
+            );
+            (ex == null ? completedCount : failedCount).increment();
+            lastEndNanos = now;
+            activeCount.decrementAndGet();
+            downloads.remove(destination, this);
+            try {
+                if (completionListener != null) {
+                    completionListener.accept(result);
+                }
+            }
+            finally {
+                future.complete(result);
+            }
+        }
+    }
+
+    /**
+     * Starts downloading a recording into the target directory, using the file name from the URL. If the
+     * same recording is already being downloaded, the existing download is returned instead.
+     *
+     * @param recordingUrl The recording URL, as obtained from the webhook callback.
+     *
+     * @return A future which completes with the result once the recording has been saved or has failed.
+     *
+     * @throws IllegalArgumentException If the recordingUrl is invalid.
+     * @throws IllegalStateException If the downloader has been closed.
+     */
+    public CompletableFuture<RecordingDownloadResult> download(String recordingUrl) {
+        return download(recordingUrl, null);
+    }
+
+    /**
+     * Starts downloading a recording into the target directory, verifying that its checksum matches the
+     * expected value. The download fails if the checksum does not match, in which case the data received
+     * is discarded.
+     *
+     * @param recordingUrl The recording URL, as obtained from the webhook callback.
+     * @param expectedChecksum The expected digest, as a hexadecimal string, calculated using the
+     * {@linkplain Builder#checksumAlgorithm(String) checksum algorithm}. If {@code null}, the checksum
+     * is not verified.
+     *
+     * @return A future which completes with the result once the recording has been saved or has failed.
+     *
+     * @throws IllegalArgumentException If the recordingUrl is invalid.
+     * @throws IllegalStateException If the downloader has been closed, or a checksum is expected but no
+     * checksum algorithm has been configured.
+     */
+    public CompletableFuture<RecordingDownloadResult> download(String recordingUrl, String expectedChecksum) {
+        String url = client.validateRecordingUrl(recordingUrl);
+        if (expectedChecksum != null && checksumAlgorithm == null) {
+            throw new IllegalStateException("A checksum algorithm is required to verify checksums.");
+        }
+        String fileName = url.substring(url.lastIndexOf('/') + 1);
+        int query = fileName.indexOf('?');
+        if (query >= 0) {
+            fileName = fileName.substring(0, query);
+        }
+        if (fileName.isEmpty() || fileName.equals(".") || fileName.equals("..")) {
+            throw new IllegalArgumentException("Recording URL must end with a file name.");
+        }
+        Path destination = directory.resolve(fileName);
+        Download download = new Download(url, expectedChecksum, destination);
+        Download existing = downloads.putIfAbsent(destination, download);
+        if (existing != null) {
+            return existing.future;
+        }
+        activeCount.incrementAndGet();
+        firstStartNanos.compareAndSet(NOT_STARTED, download.startNanos);
+        try {
+            executor.execute(new Task(download, -1));
+        }
+        catch (RejectedExecutionException ex) {
+            download.fail(ex);
+            throw new IllegalStateException("Recording downloader has been closed.");
+        }
+        return download.future;
+    }
+
+    /**
+     * Downloads the recordings into the target directory, waiting until all of them have either been saved
+     * or failed. Failures do not throw an exception; instead, they are reported in the corresponding results.
+     *
+     * @param recordingUrls The recording URLs, as obtained from the webhook callbacks.
+     *
+     * @return The result of each download, in the same order as the input.
+     *
+     * @throws IllegalArgumentException If any of the recording URLs are invalid.
+     * @throws IllegalStateException If the downloader has been closed.
+     */
+    public List<RecordingDownloadResult> downloadAll(Collection<String> recordingUrls) {
+        List<CompletableFuture<RecordingDownloadResult>> futures = new ArrayList<>(recordingUrls.size());
+        for (String url : recordingUrls) {
+            futures.add(download(url));
+        }
+        List<RecordingDownloadResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<RecordingDownloadResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Total number of bytes downloaded across all recordings, excluding any resumed from previous attempts.
+     *
+     * @return The number of bytes downloaded.
+     */
+    public long getBytesDownloaded() {
+        return bytesDownloaded.sum();
+    }
+
+    /**
+     * Average download rate, measured from when the first download was started until now, or until the
+     * most recent download finished if none are in progress.
+     *
+     * @return The throughput in bytes per second.
+     */
+    public double getThroughput() {
+        long start = firstStartNanos.get();
+        if (start == NOT_STARTED) {
+            return 0;
+        }
+        long elapsed = (activeCount.get() > 0 ? nanoTime.getAsLong() : lastEndNanos) - start;
+        return elapsed > 0 ? getBytesDownloaded() * 1e9 / elapsed : 0;
+    }
+
+    /**
+     * Number of recordings currently being downloaded or waiting to start.
+     *
+     * @return The pending download count.
+     */
+    public int getPendingCount() {
+        return Math.max(0, activeCount.get());
+    }
+
+    /**
+     * Total number of recordings which have been saved successfully.
+     *
+     * @return The completed download count.
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * Total number of recordings which could not be downloaded.
+     *
+     * @return The failed download count.
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Total number of requests which were retried after a network error, truncated response,
+     * throttling or server error.
+     *
+     * @return The retry count.
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Shuts down the downloader's thread pool, failing downloads which have not yet started and interrupting
+     * those in progress. Partially downloaded recordings are kept, so that they can be resumed later.
+     */
+    @Override
+    public void close() {
+        for (Runnable task : executor.shutdownNow()) {
+            ((Task) task).download.fail(new CancellationException("Recording downloader was closed."));
+        }
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @param client (REQUIRED) The Voice client to download recordings with.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(VoiceClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Builder for configuring the downloader's destination, parallelism, retries and verification.
+     */
+    public static final class Builder {
+        private final VoiceClient client;
+        private Path directory;
+        private int parallelism = 8, maxRetries = 3;
+        private long segmentSize = 16 * 1024 * 1024;
+        private Duration retryBackoff = Duration.ofMillis(500);
+        private String checksumAlgorithm;
+        private boolean skipExisting;
+        private ProgressListener progressListener;
+        private Consumer<? super RecordingDownloadResult> completionListener;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        private Builder(VoiceClient client) {
+            this.client = Objects.requireNonNull(client, "Voice client cannot be null.");
+        }
+
+        /**
+         * (REQUIRED) Directory to save recordings in, which must already exist. Each recording is saved
+         * using the file name from its URL.
+         *
+         * @param directory The target directory.
+         *
+         * @return This builder.
+         */
+        public Builder directory(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory cannot be null.");
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Maximum number of requests to make at once, across all recordings. This is also the
+         * size of the downloader's thread pool. The default is 8.
+         *
+         * @param parallelism The number of concurrent requests, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive.");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Size of the byte ranges to request. Recordings larger than this are downloaded in
+         * several parts in parallel, and an interrupted download resumes from the first part which was not
+         * saved. The default is 16 MiB.
+         *
+         * @param segmentSize The number of bytes per request, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder segmentSize(long segmentSize) {
+            if (segmentSize < 1) {
+                throw new IllegalArgumentException("Segment size must be positive.");
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Maximum number of times to retry each request after a network error, truncated
+         * response, throttling or server error. The default is 3.
+         *
+         * @param maxRetries The maximum retries per request, or 0 to fail immediately.
+         *
+         * @return This builder.
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Maximum retries cannot be negative.");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Delay before the first retry of a request, doubling for each subsequent retry.
+         * The default is 500 milliseconds.
+         *
+         * @param retryBackoff The initial retry delay.
+         *
+         * @return This builder.
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            if (Objects.requireNonNull(retryBackoff, "Retry backoff cannot be null.").isNegative()) {
+                throw new IllegalArgumentException("Retry backoff cannot be negative.");
+            }
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Message digest algorithm, such as {@code SHA-256} or {@code MD5}, with which to calculate
+         * the checksum of each saved recording. By default, no checksum is calculated.
+         *
+         * @param checksumAlgorithm The name of the algorithm, as accepted by {@link MessageDigest#getInstance(String)}.
+         *
+         * @return This builder.
+         */
+        public Builder checksumAlgorithm(String checksumAlgorithm) {
+            try {
+                MessageDigest.getInstance(Objects.requireNonNull(checksumAlgorithm, "Algorithm cannot be null."));
+            }
+            catch (NoSuchAlgorithmException ex) {
+                throw new IllegalArgumentException("Unsupported checksum algorithm: " + checksumAlgorithm);
+            }
+            this.checksumAlgorithm = checksumAlgorithm;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Whether to skip recordings which have already been saved in the target directory, such as
+         * when repeating a batch which was interrupted. If a checksum is expected, the existing file is only
+         * skipped if it matches. The default is {@code false}, in which case existing files are replaced.
+         *
+         * @param skipExisting {@code true} to skip existing recordings.
+         *
+         * @return This builder.
+         */
+        public Builder skipExisting(boolean skipExisting) {
+            this.skipExisting = skipExisting;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Listener to notify as data is saved.
+         *
+         * @param listener The progress listener.
+         *
+         * @return This builder.
+         */
+        public Builder onProgress(ProgressListener listener) {
+            this.progressListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Listener to notify when each download has finished, successfully or otherwise. It is
+         * called from the downloader's threads, so should be thread-safe and return quickly.
+         *
+         * @param listener The result consumer.
+         *
+         * @return This builder.
+         */
+        public Builder onComplete(Consumer<? super RecordingDownloadResult> listener) {
+            this.completionListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+            return this;
+        }
+
+        Builder nanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        /**
+         * Builds the downloader with this builder's properties.
+         *
+         * @return A new RecordingDownloader instance.
+         */
+        public RecordingDownloader build() {
+            if (directory == null || !Files.isDirectory(directory)) {
+                throw new IllegalArgumentException("Directory must exist.");
+            }
+            return new RecordingDownloader(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import com.vonage.client.ByteRangeRequest;
+
+/**
+ * Request for part of a recording, as used by {@link RecordingDownloader}.
+ *
+ * @since 9.14.0
+ */
+final class RecordingRange implements ByteRangeRequest {
+    final String url;
+    private final long first, last;
+
+    RecordingRange(String url, long first, long last) {
+        this.url = url;
+        this.first = first;
+        this.last = last;
+    }
+
+    @Override
+    public long getFirstBytePosition() {
+        return first;
+    }
+
+    @Override
+    public long getLastBytePosition() {
+        return last;
+    }
+}
@@ -22,17 +22,31 @@ import com.vonage.client.voice.ncco.InputMode;
 import com.vonage.client.voice.ncco.Ncco;
 import com.vonage.jwt.Jwt;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A client for talking to the Vonage Voice API. The standard way to obtain an instance of this class is to use {@link
  * VonageClient#getVoiceClient()}.
  */
 public class VoiceClient {
+    static final int RECORDING_TRANSFER_BUFFER_SIZE = 64 * 1024;
+
     final RestEndpoint<Call, CallEvent> createCall;
     final RestEndpoint<String, CallInfo> getCall;
     final RestEndpoint<CallsFilter, CallInfoPage> listCalls;
@@ -44,7 +58,8 @@ public class VoiceClient {
     final RestEndpoint<DtmfPayload, DtmfResponse> sendDtmf;
     final RestEndpoint<AddDtmfListenerRequest, Void> addDtmfListener;
     final RestEndpoint<String, Void> removeDtmfListener;
-    final RestEndpoint<String, byte[]> downloadRecording;
+    final DynamicEndpoint<String, byte[]> downloadRecording;
+    final DynamicEndpoint<RecordingRange, byte[]> downloadRecordingRange;
 
     /**
      * Constructor.
@@ -82,6 +97,7 @@ public class VoiceClient {
         addDtmfListener = new Endpoint<>(req -> req.uuid + "/input/dtmf", HttpMethod.PUT);
         removeDtmfListener = new Endpoint<>(uuid -> uuid + "/input/dtmf", HttpMethod.DELETE);
         downloadRecording = new Endpoint<>(Function.identity(), HttpMethod.GET);
+        downloadRecordingRange = new Endpoint<>(req -> req.url, HttpMethod.GET);
     }
 
     private String validateUuid(String uuid) {
@@ -138,6 +154,47 @@ public class VoiceClient {
         return listCalls.execute(filter);
     }
 
+    /**
+     * Iterate over every call matching the query described by {@code filter}, requesting further pages of
+     * results as they are needed. Each page is requested in the background while the previous one is being
+     * consumed, and at most two pages are held in memory at once, so this is suited to walking a large call
+     * history. Iteration starts from the filter's record index, if specified, and no more pages are requested
+     * once the caller stops iterating. If the filter does not specify a page size, the maximum of 100 is used.
+     * <p>
+     * Each call to {@link Iterable#iterator()} starts a new iteration from the first page. The iterator throws
+     * the same exceptions as {@link #listCalls(CallsFilter)} if a page cannot be retrieved.
+     *
+     * @param filter (optional) A filter describing which calls to be listed.
+     *
+     * @return The matching calls, which are retrieved lazily.
+     *
+     * @see #streamCalls(CallsFilter)
+     * @since 9.14.0
+     */
+    public Iterable<CallInfo> iterateCalls(CallsFilter filter) {
+        return () -> new CallInfoIterator(listCalls::execute, filter);
+    }
+
+    /**
+     * Stream every call matching the query described by {@code filter}, requesting further pages of results
+     * as they are needed, in the same way as {@link #iterateCalls(CallsFilter)}. Short-circuiting operations
+     * such as {@link Stream#limit(long)} stop further pages from being requested, and closing the stream
+     * cancels any prefetch which has not started yet; a page request already in flight completes in the
+     * background and is then discarded. The first page is requested as soon as the stream is created.
+     *
+     * @param filter (optional) A filter describing which calls to be listed.
+     *
+     * @return A sequential stream of the matching calls, which are retrieved lazily.
+     *
+     * @since 9.14.0
+     */
+    public Stream<CallInfo> streamCalls(CallsFilter filter) {
+        CallInfoIterator iterator = new CallInfoIterator(listCalls::execute, filter);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false
+        ).onClose(iterator::close);
+    }
+
     /**
      * Look up the status of a single call initiated by {@link #createCall(Call)}.
      *
@@ -541,9 +598,13 @@ public class VoiceClient {
      * @since 7.11.0
      */
     public byte[] downloadRecordingRaw(String recordingUrl) {
+        return downloadRecording.execute(validateRecordingUrl(recordingUrl));
+    }
+
+    String validateRecordingUrl(String recordingUrl) {
         String validated = validateUrl(recordingUrl);
         if (validated.contains(".nexmo.com/") || validated.contains(".vonage.com/")) {
-            return downloadRecording.execute(recordingUrl);
+            return recordingUrl;
         }
         else {
             throw new IllegalArgumentException("Recording URL must be from Vonage.");
@@ -551,10 +612,46 @@ public class VoiceClient {
     }
 
     /**
-     * Download a recording and save it to a file.
+     * Download a recording as a stream, which is read from the connection on demand rather than being held
+     * in memory. This is suited to large recordings and to piping them elsewhere, such as to object storage.
+     * Use {@link java.nio.channels.Channels#newChannel(InputStream)} if a
+     * {@link java.nio.channels.ReadableByteChannel} is required.
+     *
+     * @param recordingUrl The recording URL, as obtained from the webhook callback.
+     *
+     * @return The contents of the recording. The stream must be closed to release the connection.
+     *
+     * @throws IllegalArgumentException If the recordingUrl is invalid.
+     * @throws VoiceResponseException If there was an error downloading the recording from the URL.
+     *
+     * @since 9.14.0
+     */
+    public InputStream streamRecording(String recordingUrl) {
+        return downloadRecording.executeAsStream(validateRecordingUrl(recordingUrl));
+    }
+
+    /**
+     * Download part of a recording as a stream, as used by {@link RecordingDownloader}. The server may
+     * ignore the range and respond with the whole recording, which is indicated by a 200 status code.
+     *
+     * @param recordingUrl The validated recording URL.
+     * @param first Offset of the first byte to download.
+     * @param last Offset of the last byte to download (inclusive), or negative for the rest of the recording.
+     *
+     * @return The response body, including its status code and headers.
+     */
+    ResponseBodyInputStream streamRecording(String recordingUrl, long first, long last) {
+        return downloadRecordingRange.executeAsStream(new RecordingRange(recordingUrl, first, last));
+    }
+
+    /**
+     * Download a recording and save it to a file. The recording is streamed to a temporary file in the
+     * same directory through a fixed-size buffer, which then replaces the destination once complete, so
+     * memory usage does not depend on the recording's size and a failed download leaves no partial file.
      *
      * @param recordingUrl The recording URL, as obtained from the webhook callback.
-     * @param destination Path to save the recording to.
+     * @param destination Path to save the recording to. If this is a directory, the recording is saved in it
+     * using the file name from the URL.
      *
      * @throws IOException If there was an error writing to the file.
      * @throws VoiceResponseException If there was an error downloading the recording from the URL.
@@ -564,12 +661,47 @@ public class VoiceClient {
      */
     public void saveRecording(String recordingUrl, Path destination) throws IOException {
         Path path = Objects.requireNonNull(destination, "Save path is required.");
-        byte[] binary = downloadRecordingRaw(recordingUrl);
+        String validated = validateRecordingUrl(recordingUrl);
         if (Files.isDirectory(destination)) {
             String fileName = recordingUrl.substring(recordingUrl.lastIndexOf('/') + 1);
             path = path.resolve(fileName);
         }
-        Files.write(path, binary);
+        Path temp = path.resolveSibling(
+                "." + path.getFileName() + '.' + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".part"
+        );
+        try {
+            try (InputStream body = downloadRecording.executeAsStream(validated);
+                 FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                transfer(body, file);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Copies the stream to the channel through a fixed-size buffer.
+     *
+     * @return The number of bytes transferred.
+     */
+    static long transfer(InputStream source, WritableByteChannel destination) throws IOException {
+        byte[] array = new byte[RECORDING_TRANSFER_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(array);
+        long total = 0;
+        for (int read; (read = source.read(array)) >= 0; total += read) {
+            buffer.clear().limit(read);
+            while (buffer.hasRemaining()) {
+                destination.write(buffer);
+            }
+        }
+        return total;
     }
 
     /**
@@ -583,6 +715,7 @@ public class VoiceClient {
      * @return {@code true} if the token was signed by the secret, {@code false} otherwise.
      *
      * @since 7.11.0
+     * @see com.vonage.client.auth.JwtSignatureVerifier for a reusable, caching alternative.
      */
     public static boolean verifySignature(String jwt, String secret) {
         return Jwt.verifySignature(jwt, secret);
@@ -0,0 +1,233 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice.ncco;
+
+import com.vonage.client.JsonTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Pre-serialised NCCO for answering calls with the same actions many times. The prototype NCCO is serialised
+ * once to UTF-8; each response then only splices in the values of its variables, escaped as JSON strings,
+ * which is considerably cheaper than building and serialising new actions for every call.
+ * <p>
+ * Variables are declared as {@code {{name}}} placeholders in the prototype's string values, such as the text
+ * of a {@link TalkAction}, or as whole fields identified by a JSON Pointer via {@link Builder#field(String, String)}.
+ * For example, to greet the caller and connect them to a number chosen per call:
+ * <pre>{@code
+ *     NccoTemplate template = NccoTemplate.builder(new Ncco(
+ *             TalkAction.builder("Hello {{name}}, connecting you now.").build(),
+ *             ConnectAction.builder(PhoneEndpoint.builder("447700900000").build()).build()
+ *     )).field("/1/endpoint/0/number", "agent").build();
+ *
+ *     template.writeTo(Map.of("name", name, "agent", agentNumber), response.getOutputStream());
+ * }</pre>
+ * Since values are spliced in as-is, they are not validated in the way that the actions' builders would;
+ * callers should ensure that they are in the format the Voice API expects.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 9.14.0
+ */
+public final class NccoTemplate {
+    private final JsonTemplate template;
+    private final byte[] constant;
+
+    private NccoTemplate(JsonTemplate template) {
+        this.template = template;
+        constant = template.getVariableNames().isEmpty() ? template.render(name -> null) : null;
+    }
+
+    /**
+     * Compiles a template from a prototype NCCO, whose variables are declared as {@code {{name}}} placeholders.
+     *
+     * @param prototype The NCCO to use as the template.
+     *
+     * @return A new NccoTemplate.
+     */
+    public static NccoTemplate of(Ncco prototype) {
+        return builder(prototype).build();
+    }
+
+    /**
+     * Compiles a template from prototype actions, whose variables are declared as {@code {{name}}} placeholders.
+     *
+     * @param actions The actions to use as the template, in execution order.
+     *
+     * @return A new NccoTemplate.
+     */
+    public static NccoTemplate of(Action... actions) {
+        return of(new Ncco(actions));
+    }
+
+    /**
+     * Names of the variables in this template, in order of first appearance.
+     *
+     * @return The variable names, as an immutable list.
+     */
+    public List<String> getVariableNames() {
+        return template.getVariableNames();
+    }
+
+    /**
+     * Renders the NCCO with the given variable values.
+     *
+     * @param values Variable values, keyed by name. Values are converted using {@code toString()}.
+     *
+     * @return The UTF-8 encoded NCCO.
+     * @throws IllegalArgumentException If a placeholder variable is missing.
+     */
+    public byte[] render(Map<String, ?> values) {
+        return render(values::get);
+    }
+
+    /**
+     * Renders the NCCO, obtaining each variable's value from the given function.
+     *
+     * @param values Function which returns the value of the named variable, or {@code null} if absent.
+     *
+     * @return The UTF-8 encoded NCCO.
+     * @throws IllegalArgumentException If a placeholder variable is missing.
+     */
+    public byte[] render(Function<String, ?> values) {
+        return constant != null ? constant.clone() : template.render(values);
+    }
+
+    /**
+     * Calculates the number of bytes that rendering the NCCO with the given values would produce, so that
+     * the {@code Content-Length} of an answer webhook response can be set before calling
+     * {@link #writeTo(Map, OutputStream)}, without buffering the NCCO.
+     *
+     * @param values Variable values, keyed by name.
+     *
+     * @return The length of the rendered UTF-8 encoded NCCO, in bytes.
+     * @throws IllegalArgumentException If a placeholder variable is missing.
+     */
+    public int computeSize(Map<String, ?> values) {
+        return computeSize(values::get);
+    }
+
+    /**
+     * Calculates the number of bytes that rendering the NCCO would produce, obtaining each variable's
+     * value from the given function.
+     *
+     * @param values Function which returns the value of the named variable, or {@code null} if absent.
+     *
+     * @return The length of the rendered UTF-8 encoded NCCO, in bytes.
+     * @throws IllegalArgumentException If a placeholder variable is missing.
+     */
+    public int computeSize(Function<String, ?> values) {
+        return constant != null ? constant.length : template.computeSize(values);
+    }
+
+    /**
+     * Renders the NCCO to the given stream, such as the body of an answer webhook response.
+     *
+     * @param values Variable values, keyed by name. Values are converted using {@code toString()}.
+     * @param destination The stream to write the UTF-8 encoded NCCO to. It will not be closed.
+     *
+     * @throws IOException If writing to the stream fails.
+     * @throws IllegalArgumentException If a placeholder variable is missing, in which case nothing is written.
+     */
+    public void writeTo(Map<String, ?> values, OutputStream destination) throws IOException {
+        writeTo(values::get, destination);
+    }
+
+    /**
+     * Renders the NCCO to the given stream, obtaining each variable's value from the given function.
+     *
+     * @param values Function which returns the value of the named variable, or {@code null} if absent.
+     * @param destination The stream to write the UTF-8 encoded NCCO to. It will not be closed.
+     *
+     * @throws IOException If writing to the stream fails.
+     * @throws IllegalArgumentException If a placeholder variable is missing, in which case nothing is written.
+     */
+    public void writeTo(Function<String, ?> values, OutputStream destination) throws IOException {
+        if (constant != null) {
+            destination.write(constant);
+        }
+        else {
+            template.writeTo(values, destination);
+        }
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @param prototype (REQUIRED) The NCCO to serialise as the template. String values may contain
+     * {@code {{name}}} placeholders.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(Ncco prototype) {
+        return new Builder(prototype);
+    }
+
+    /**
+     * Builder for declaring whole-field variables.
+     */
+    public static final class Builder {
+        private final JsonTemplate.Builder template;
+
+        private Builder(Ncco prototype) {
+            template = JsonTemplate.builder(Objects.requireNonNull(prototype, "Prototype cannot be null."));
+        }
+
+        /**
+         * Replaces the value of an existing field in the prototype with a variable, which is rendered as a
+         * JSON string. Since an NCCO is an array of actions, the pointer starts with the action's index.
+         *
+         * @param pointer JSON Pointer to the field, e.g. {@code /1/endpoint/0/number} for the number of the
+         * first endpoint of the second action.
+         * @param variable Name of the variable to substitute.
+         *
+         * @return This builder.
+         */
+        public Builder field(String pointer, String variable) {
+            template.field(pointer, variable);
+            return this;
+        }
+
+        /**
+         * Declares a field which is set from a variable, and omitted entirely when the variable's value is
+         * {@code null}, such as the {@code from} number of a {@link ConnectAction}. The field need not be
+         * present in the prototype, but its parent object must be.
+         *
+         * @param pointer JSON Pointer to the field, e.g. {@code /1/from}.
+         * @param variable Name of the variable to substitute.
+         *
+         * @return This builder.
+         */
+        public Builder optionalField(String pointer, String variable) {
+            template.optionalField(pointer, variable);
+            return this;
+        }
+
+        /**
+         * Serialises the prototype and compiles the template.
+         *
+         * @return A new NccoTemplate.
+         * @throws IllegalArgumentException If a field pointer does not match the prototype.
+         */
+        public NccoTemplate build() {
+            return new NccoTemplate(template.build());
+        }
+    }
+}
@@ -23,10 +23,12 @@ import org.apache.commons.codec.binary.Base64;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
+import org.apache.http.NameValuePair;
 import org.apache.http.ProtocolVersion;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.BasicResponseHandler;
@@ -245,6 +247,50 @@ public class AbstractMethodTest {
         assertTrue(paramsMap.get("sig").length() > 16);
     }
 
+    @Test
+    public void testApplyAuthToFormBody() throws Exception {
+        var method = new ConcreteMethod(mockWrapper);
+        var sigAuthCollection = new AuthCollection(new SignatureAuthMethod(
+                API_KEY, SIGNATURE_SECRET, HashType.HMAC_SHA256
+        ));
+        when(mockWrapper.getAuthCollection()).thenReturn(sigAuthCollection);
+
+        var formBody = new FormBodyWriter().add("foo", "bar").add("BAZINGA", "Yes");
+        var request = method.makeRequest("http://example.org/resource");
+        assertEquals(request, method.applyAuth(request, formBody));
+        assertEquals(0, request.getParameters().size());
+        var entity = request.getEntity();
+        assertEquals("application/x-www-form-urlencoded; charset=UTF-8", entity.getContentType().getValue());
+        var params = URLEncodedUtils.parse(entity).stream()
+                .collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
+        assertEquals(Set.of("BAZINGA", "api_key", "foo", "sig", "timestamp"), params.keySet());
+        assertEquals(API_KEY, params.get("api_key"));
+        assertTrue(new RequestSignatureVerifier(SIGNATURE_SECRET, HashType.HMAC_SHA256).verify(params));
+        assertEquals("BAZINGA=Yes&api_key=" + API_KEY + "&foo=bar&sig=" + params.get("sig") +
+                "&timestamp=" + params.get("timestamp"), getEntityContentsAsString(entity)
+        );
+
+        when(mockWrapper.getAuthCollection()).thenReturn(
+                new AuthCollection(new ApiKeyQueryParamsAuthMethod(API_KEY, API_SECRET))
+        );
+        request = method.applyAuth(method.makeRequest("http://example.org/resource"),
+                new FormBodyWriter().add("foo", "bar")
+        );
+        assertEquals("api_key=" + API_KEY + "&api_secret=" + API_SECRET + "&foo=bar",
+                getEntityContentsAsString(request.getEntity())
+        );
+        assertNull(request.build().getURI().getQuery());
+
+        when(mockWrapper.getAuthCollection()).thenReturn(
+                new AuthCollection(new ApiKeyHeaderAuthMethod(API_KEY, API_SECRET))
+        );
+        request = method.applyAuth(method.makeRequest("http://example.org/resource"),
+                new FormBodyWriter().add("foo", "bar")
+        );
+        assertEquals("foo=bar", getEntityContentsAsString(request.getEntity()));
+        assertNotNull(request.getFirstHeader("Authorization"));
+    }
+
     @Test
     public void testUsingUtf8Encoding() throws Exception {
         String json = "{\"text\":\"Questo è un test di chiamata\",\"loop\":0,\"voice_name\":\"Kimberly\"}";
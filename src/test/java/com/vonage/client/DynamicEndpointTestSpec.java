@@ -20,10 +20,12 @@ import com.vonage.client.common.HttpMethod;
 import org.apache.http.Header;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.entity.ContentType;
 import org.apache.http.util.EntityUtils;
 import static org.junit.jupiter.api.Assertions.*;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -114,16 +116,47 @@ public abstract class DynamicEndpointTestSpec<T, R> {
 		return endpointAsAbstractMethod().parseResponse(TestUtils.makeJsonHttpResponse(statusCode, expectedResponse));
 	}
 
-	protected void assertRequestContainsParams(Map<String, String> expectedParams, T request) {
+	/**
+	 * Builds the request without authentication, including its form-encoded body if applicable.
+	 */
+	private RequestBuilder makeRequestWithBody(T request) {
 		RequestBuilder builder = endpointAsAbstractMethod().makeRequest(request);
-		Map<String, String> actualParams = builder.getParameters().stream()
+		FormBodyWriter formBody = endpointAsAbstractMethod().makeFormBody(request);
+		if (formBody != null) {
+			builder.setEntity(formBody.toEntity());
+		}
+		return builder;
+	}
+
+	/**
+	 * Parameters of the request, from the query string or the form-encoded body.
+	 */
+	private static List<NameValuePair> getParameters(RequestBuilder builder) {
+		List<NameValuePair> params = builder.getParameters();
+		if (params.isEmpty() && builder.getEntity() != null) {
+			ContentType contentType = ContentType.get(builder.getEntity());
+			if (contentType != null && FormBodyWriter.CONTENT_TYPE.getMimeType().equals(contentType.getMimeType())) {
+				try {
+					return URLEncodedUtils.parse(builder.getEntity());
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+		}
+		return params;
+	}
+
+	protected void assertRequestContainsParams(Map<String, String> expectedParams, T request) {
+		RequestBuilder builder = makeRequestWithBody(request);
+		Map<String, String> actualParams = getParameters(builder).stream()
 				.collect(Collectors.toMap(NameValuePair::getName, NameValuePair::getValue));
 		assertTrue(actualParams.entrySet().containsAll(expectedParams.entrySet()));
 	}
 
 	protected void assertRequestParams(Map<String, String> expectedParams, T request) {
-		RequestBuilder builder = endpointAsAbstractMethod().makeRequest(request);
-		List<NameValuePair> actualParams = builder.getParameters();
+		RequestBuilder builder = makeRequestWithBody(request);
+		List<NameValuePair> actualParams = getParameters(builder);
 		assertEquals(expectedParams.size(), actualParams.size());
 		for (NameValuePair nvp : actualParams) {
 			assertEquals(nvp.getValue(), expectedParams.get(nvp.getName()));
@@ -161,7 +194,7 @@ public abstract class DynamicEndpointTestSpec<T, R> {
 			assertArrayEquals(expectedRequestBodyBinary, EntityUtils.toByteArray(builder.getEntity()));
 		}
 		if (expectedQueryParams != null) {
-			List<NameValuePair> paramsList = builder.getParameters();
+			List<NameValuePair> paramsList = getParameters(builder);
 			Map<String, Object> paramsMap = new LinkedHashMap<>(paramsList.size());
 			for (NameValuePair nvp : paramsList) {
 				String key = nvp.getName();
@@ -204,7 +237,7 @@ public abstract class DynamicEndpointTestSpec<T, R> {
 	}
 
 	private RequestBuilder makeTestRequest(T request) {
-		RequestBuilder builder = endpointAsAbstractMethod().makeRequest(request);
+		RequestBuilder builder = makeRequestWithBody(request);
 		assertEquals(expectedHttpMethod().toString(), builder.getMethod());
 		String expectedContentTypeHeader = expectedContentTypeHeader(request);
 		if (expectedContentTypeHeader != null) {
@@ -0,0 +1,103 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class FormBodyWriterTest {
+
+	static String expectedEncoding(FormBodyWriter body) {
+		List<NameValuePair> pairs = new ArrayList<>(body.size());
+		for (int i = 0; i < body.size(); i++) {
+			pairs.add(new BasicNameValuePair(body.getName(i), body.getValue(i)));
+		}
+		return URLEncodedUtils.format(pairs, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testParametersAreSortedByName() {
+		var body = new FormBodyWriter(1)
+				.add("to", "447700900000").add("from", "Vonage").add("api_key", "abc")
+				.add("type", "text").add("Z", 1).add("text", "Hello");
+
+		assertEquals(6, body.size());
+		assertEquals("Z=1&api_key=abc&from=Vonage&text=Hello&to=447700900000&type=text", body.toString());
+		assertEquals("Z", body.getName(0));
+		assertEquals("1", body.getValue(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> body.getName(6));
+		assertThrows(IndexOutOfBoundsException.class, () -> body.getValue(-1));
+	}
+
+	@Test
+	public void testRepeatedParametersKeepInsertionOrder() {
+		Map<String, Object> params = new LinkedHashMap<>();
+		params.put("b", List.of("b1", "b2"));
+		params.put("a", new Object[]{3, 1, 2});
+		params.put("c", null);
+		var body = new FormBodyWriter().addAll(params).add("a", 0);
+
+		assertEquals("a=3&a=1&a=2&a=0&b=b1&b=b2&c=null", body.toString());
+		var params2 = body.toRequestQueryParams();
+		assertEquals(7, params2.size());
+		assertEquals("a", params2.getFirst().getKey());
+		assertEquals("null", params2.getLast().getValue());
+	}
+
+	@Test
+	public void testEncodingMatchesUrlEncodedFormEntity() {
+		var body = new FormBodyWriter()
+				.add("text", "Hello world! 100% \"quoted\" & <tagged> = ~fun~ + (more)")
+				.add("unicode", "Olá, 世界 😀 €")
+				.add("safe", "AZaz09-._*")
+				.add("controls", "line\nbreak\ttab\u0000")
+				.add("name with spaces", "x")
+				.add("unpaired", "a\uD800b\uDC00c")
+				.add("empty", "");
+
+		String expected = expectedEncoding(body);
+		assertEquals(expected, new String(body.toByteArray(), StandardCharsets.US_ASCII));
+		assertTrue(expected.contains("unpaired=a%3Fb%3Fc"));
+		assertTrue(expected.contains("safe=AZaz09-._*"));
+	}
+
+	@Test
+	public void testLargeBodyGrowsBuffer() {
+		var body = new FormBodyWriter();
+		String large = "é".repeat(20_000), huge = "x".repeat(100_000);
+		body.add("large", large);
+		assertEquals(expectedEncoding(body), body.toString());
+		body.add("huge", huge);
+		assertEquals(expectedEncoding(body), body.toString());
+		assertEquals("a=b", new FormBodyWriter().add("a", "b").toString());
+	}
+
+	@Test
+	public void testEntity() throws Exception {
+		var entity = new FormBodyWriter().add("b", "2").add("a", "1").toEntity();
+		assertEquals("application/x-www-form-urlencoded; charset=UTF-8", entity.getContentType().getValue());
+		assertEquals(7, entity.getContentLength());
+		assertTrue(entity.isRepeatable());
+		assertEquals(List.of(new BasicNameValuePair("a", "1"), new BasicNameValuePair("b", "2")),
+				URLEncodedUtils.parse(entity)
+		);
+	}
+}
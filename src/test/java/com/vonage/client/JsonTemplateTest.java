@@ -0,0 +1,321 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class JsonTemplateTest {
+	private static final ObjectMapper MAPPER = Jsonable.createDefaultObjectMapper();
+
+	static class Nested extends JsonableBaseObject {
+		@JsonProperty("locale") String locale = "en_GB";
+		@JsonProperty("tags") List<String> tags = Arrays.asList("x", "{{tag}}");
+	}
+
+	static class Doc extends JsonableBaseObject {
+		@JsonProperty("to") String to = "placeholder";
+		@JsonProperty("text") String text = "Hello {{name}}, your code is {{code}}. Bye {{name}}!";
+		@JsonProperty("count") Integer count = 3;
+		@JsonProperty("ratio") Double ratio = 0.1;
+		@JsonProperty("nested") Nested nested = new Nested();
+		@JsonProperty("client_ref") String clientRef;
+	}
+
+	private static JsonNode tree(byte[] json) throws Exception {
+		return MAPPER.readTree(json);
+	}
+
+	private static JsonTemplate docTemplate() {
+		return JsonTemplate.builder(new Doc())
+				.field("/to", "recipient")
+				.field("/nested/locale", "locale")
+				.optionalField("/client_ref", "ref")
+				.build();
+	}
+
+	private static Map<String, Object> values(String to, String ref) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("recipient", to);
+		values.put("ref", ref);
+		values.put("name", "Alice");
+		values.put("code", 1234);
+		values.put("tag", "y");
+		values.put("locale", "es_ES");
+		return values;
+	}
+
+	private static Doc expected(String to, String ref) {
+		Doc doc = new Doc();
+		doc.to = to;
+		doc.clientRef = ref;
+		doc.text = "Hello Alice, your code is 1234. Bye Alice!";
+		doc.nested.locale = "es_ES";
+		doc.nested.tags = Arrays.asList("x", "y");
+		return doc;
+	}
+
+	@Test
+	public void testVariableNames() {
+		assertEquals(
+				Arrays.asList("recipient", "locale", "ref", "name", "code", "tag"),
+				docTemplate().getVariableNames()
+		);
+		assertThrows(UnsupportedOperationException.class, () -> docTemplate().getVariableNames().add("x"));
+	}
+
+	@Test
+	public void testRenderMatchesJackson() throws Exception {
+		JsonTemplate template = docTemplate();
+		assertEquals(tree(MAPPER.writeValueAsBytes(expected("447700900000", "my-ref"))),
+				tree(template.render(values("447700900000", "my-ref")))
+		);
+		assertEquals(tree(MAPPER.writeValueAsBytes(expected("447700900001", null))),
+				tree(template.render(values("447700900001", null)))
+		);
+	}
+
+	@Test
+	public void testOptionalFieldOmittedWithoutSeparator() {
+		JsonTemplate template = JsonTemplate.builder(new Nested())
+				.optionalField("/locale", "locale").build();
+		Map<String, Object> values = new HashMap<>();
+		values.put("tag", "t");
+		assertEquals("{\"tags\":[\"x\",\"t\"]}", new String(template.render(values), StandardCharsets.UTF_8));
+		values.put("locale", "fr");
+		assertEquals("{\"tags\":[\"x\",\"t\"],\"locale\":\"fr\"}",
+				new String(template.render(values), StandardCharsets.UTF_8)
+		);
+
+		Nested localeOnly = new Nested();
+		localeOnly.tags = null;
+		JsonTemplate single = JsonTemplate.builder(localeOnly).optionalField("/locale", "locale").build();
+		assertEquals("{}", new String(single.render(Collections.emptyMap()), StandardCharsets.UTF_8));
+		assertEquals("{\"locale\":\"it\"}", new String(
+				single.render(Collections.singletonMap("locale", "it")), StandardCharsets.UTF_8
+		));
+	}
+
+	@Test
+	public void testOptionalFieldCombinations() throws Exception {
+		Nested empty = new Nested(), fixed = new Nested();
+		empty.tags = null;
+		empty.locale = null;
+		fixed.locale = null;
+		for (Nested prototype : new Nested[]{empty, fixed}) {
+			JsonTemplate template = JsonTemplate.builder(prototype)
+					.optionalField("/a", "va").optionalField("/b", "vb").optionalField("/c", "vc").build();
+			for (int mask = 0; mask < 8; mask++) {
+				Map<String, Object> values = new HashMap<>();
+				values.put("tag", "t");
+				ObjectNode expected = MAPPER.valueToTree(prototype);
+				if (prototype.tags != null) expected.withArray("tags").set(1, "t");
+				for (int bit = 0; bit < 3; bit++) {
+					if ((mask & (1 << bit)) != 0) {
+						String name = String.valueOf((char) ('a' + bit));
+						values.put("v" + name, name + "\"");
+						expected.put(name, name + "\"");
+					}
+				}
+				byte[] rendered = template.render(values);
+				assertEquals(expected, tree(rendered), new String(rendered, StandardCharsets.UTF_8));
+				assertEquals(rendered.length, template.computeSize(values));
+			}
+		}
+
+		JsonTemplate nested = JsonTemplate.builder(new Doc())
+				.optionalField("/nested/x", "x").optionalField("/client_ref", "ref").build();
+		for (int mask = 0; mask < 4; mask++) {
+			Map<String, Object> values = values(null, (mask & 1) != 0 ? "r" : null);
+			values.put("x", (mask & 2) != 0 ? "x" : null);
+			JsonNode rendered = tree(nested.render(values));
+			assertEquals((mask & 1) != 0, rendered.has("client_ref"));
+			assertEquals((mask & 2) != 0, rendered.get("nested").has("x"));
+			assertEquals(nested.render(values).length, nested.computeSize(values));
+		}
+	}
+
+	@Test
+	public void testEscapedPlaceholder() throws Exception {
+		Doc doc = new Doc();
+		doc.text = "Hi {{name}}, reply \\{{1}} or {{1}}";
+		JsonTemplate template = JsonTemplate.builder(doc).build();
+		assertEquals(Arrays.asList("name", "1", "tag"), template.getVariableNames());
+		Map<String, Object> values = values(null, null);
+		values.put("1", "one");
+		assertEquals("Hi Alice, reply {{1}} or one", tree(template.render(values)).get("text").textValue());
+
+		doc.text = "Reply \\{{1}} to confirm";
+		JsonTemplate literal = JsonTemplate.builder(doc).build();
+		assertEquals(Collections.singletonList("tag"), literal.getVariableNames());
+		assertEquals("Reply {{1}} to confirm", tree(literal.render(values)).get("text").textValue());
+	}
+
+	@Test
+	public void testRequiredFieldNullRendersNull() throws Exception {
+		Map<String, Object> values = values(null, null);
+		JsonNode rendered = tree(docTemplate().render(values));
+		assertTrue(rendered.get("to").isNull());
+		assertFalse(rendered.has("client_ref"));
+	}
+
+	@Test
+	public void testMissingPlaceholderValue() {
+		Map<String, Object> values = values("447700900000", null);
+		values.remove("code");
+		IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> docTemplate().render(values)
+		);
+		assertEquals("No value for variable 'code'.", ex.getMessage());
+	}
+
+	@Test
+	public void testEscaping() throws Exception {
+		String[] samples = {
+				"quote \" and backslash \\ and slash /",
+				"line\nbreak\r\ttab\b\f",
+				"\u0001\u001f\u007f control",
+				"café üß € 你好",
+				"emoji 😀🎉",
+				"{{notAPlaceholder}} $1 \\1",
+				""
+		};
+		JsonTemplate template = docTemplate();
+		for (String sample : samples) {
+			Map<String, Object> values = values(sample, sample);
+			values.put("name", sample);
+			JsonNode rendered = tree(template.render(values));
+			assertEquals(sample, rendered.get("to").textValue());
+			assertEquals(sample, rendered.get("client_ref").textValue());
+			assertEquals("Hello "+sample+", your code is 1234. Bye "+sample+"!", rendered.get("text").textValue());
+		}
+	}
+
+	@Test
+	public void testComputeSizeMatchesRender() {
+		String[] samples = {
+				"plain", "quote \" and backslash \\", "line\nbreak\r\ttab\b\f", "\u0001\u001f\u007f",
+				"café üß € 你好", "emoji 😀🎉", "unpaired \ud83d and \ude00", "\"é😀".repeat(5000), ""
+		};
+		JsonTemplate template = docTemplate();
+		for (String sample : samples) {
+			for (String ref : new String[]{sample, null}) {
+				Map<String, Object> values = values(sample, ref);
+				values.put("name", sample);
+				assertEquals(template.render(values).length, template.computeSize(values), sample);
+				assertEquals(template.render(values::get).length, template.computeSize(values::get));
+			}
+		}
+		Map<String, Object> nulls = values(null, null);
+		assertEquals(template.render(nulls).length, template.computeSize(nulls));
+		nulls.remove("code");
+		assertThrows(IllegalArgumentException.class, () -> template.computeSize(nulls));
+	}
+
+	@Test
+	public void testUnpairedSurrogateReplaced() throws Exception {
+		Map<String, Object> values = values("a\ud83dz", "\ude00");
+		JsonNode rendered = tree(docTemplate().render(values));
+		assertEquals("a?z", rendered.get("to").textValue());
+		assertEquals("?", rendered.get("client_ref").textValue());
+	}
+
+	@Test
+	public void testLargeValueGrowsBuffer() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			sb.append("\"é😀");
+		}
+		String large = sb.toString();
+		Map<String, Object> values = values("1", null);
+		values.put("name", large);
+		JsonNode rendered = tree(docTemplate().render(values));
+		assertEquals("Hello "+large+", your code is 1234. Bye "+large+"!", rendered.get("text").textValue());
+	}
+
+	@Test
+	public void testWriteTo() throws Exception {
+		JsonTemplate template = docTemplate();
+		Map<String, Object> values = values("447700900000", "r");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		template.writeTo(values, out);
+		assertArrayEquals(template.render(values), out.toByteArray());
+	}
+
+	@Test
+	public void testWriteToReusesBufferSafely() throws Exception {
+		JsonTemplate template = docTemplate();
+		Map<String, Object> large = values("447700900000", "r"), small = values("1", null);
+		large.put("name", "x".repeat(100_000));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		template.writeTo(large, out);
+		assertArrayEquals(template.render(large), out.toByteArray());
+
+		ByteArrayOutputStream nested = new ByteArrayOutputStream();
+		OutputStream reentrant = new ByteArrayOutputStream() {
+			@Override
+			public void write(byte[] b, int off, int len) {
+				try {
+					template.writeTo(small, nested);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				super.write(b, off, len);
+			}
+		};
+		template.writeTo(values("447700900000", "r"), reentrant);
+		assertArrayEquals(template.render(values("447700900000", "r")), ((ByteArrayOutputStream) reentrant).toByteArray());
+		assertArrayEquals(template.render(small), nested.toByteArray());
+	}
+
+	@Test
+	public void testInvalidPrototypes() {
+		assertThrows(NullPointerException.class, () -> JsonTemplate.builder(null));
+		assertThrows(NullPointerException.class, () -> JsonTemplate.builder(new Doc()).field("/to", null));
+		assertThrows(IllegalArgumentException.class, () ->
+				JsonTemplate.builder(new Doc()).field("/client_ref", "ref").build()
+		);
+		assertThrows(IllegalArgumentException.class, () ->
+				JsonTemplate.builder(new Doc()).optionalField("/missing/field", "x").build()
+		);
+		assertThrows(IllegalArgumentException.class, () ->
+				JsonTemplate.builder(new Doc()).field("/nested/tags/0", "x").build()
+		);
+		Doc nul = new Doc();
+		nul.text = "null \u0000 char";
+		assertThrows(IllegalArgumentException.class, () -> JsonTemplate.builder(nul).build());
+	}
+
+	@Test
+	public void testNoVariables() throws Exception {
+		Nested prototype = new Nested();
+		prototype.tags = Collections.singletonList("plain");
+		JsonTemplate template = JsonTemplate.builder(prototype).build();
+		assertTrue(template.getVariableNames().isEmpty());
+		assertEquals(prototype.toJson(), new String(template.render(Collections.emptyMap()), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class JsonWriterTest {
+
+	static class Plain extends JsonableBaseObject {
+		@JsonProperty("firstName") String firstName = "Zoë";
+		@JsonProperty("missing") String missing;
+	}
+
+	static class Custom extends Plain {
+		@JsonProperty String lastName = "Smith";
+
+		@Override
+		protected ObjectMapper createJsonObjectMapper() {
+			return super.createJsonObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+		}
+	}
+
+	static class CustomSubclass extends Custom {
+	}
+
+	static class Failing implements Jsonable {
+		@JsonProperty("value")
+		public String getValue() {
+			throw new IllegalStateException("Boom");
+		}
+	}
+
+	@Test
+	public void testSharedWriterUsedForDefaultMapper() {
+		assertSame(JsonWriter.writerFor(new Plain()), JsonWriter.writerFor(new Plain()));
+		assertSame(JsonWriter.writerFor(new Plain()), JsonWriter.writerFor(new Failing()));
+		assertNotSame(JsonWriter.writerFor(new Plain()), JsonWriter.writerFor(new Custom()));
+		assertNotSame(JsonWriter.writerFor(new Plain()), JsonWriter.writerFor(new CustomSubclass()));
+	}
+
+	@Test
+	public void testWriteToMatchesToJson() throws Exception {
+		for (Jsonable jsonable : new Jsonable[]{new Plain(), new Custom(), new CustomSubclass()}) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			jsonable.writeTo(out);
+			assertEquals(jsonable.toJson(), out.toString(StandardCharsets.UTF_8));
+			assertEquals(out.size(), jsonable.computeJsonSize());
+		}
+		assertEquals("{\"firstName\":\"Zoë\"}", new Plain().toJson());
+		assertEquals("{\"last_name\":\"Smith\",\"firstName\":\"Zoë\"}", new Custom().toJson());
+	}
+
+	@Test
+	public void testStreamNotFlushedOrClosed() throws Exception {
+		int[] calls = new int[3];
+		OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) {
+				calls[0]++;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				calls[0] += len;
+			}
+
+			@Override
+			public void flush() {
+				calls[1]++;
+			}
+
+			@Override
+			public void close() {
+				calls[2]++;
+			}
+		};
+		new Plain().writeTo(out);
+		assertEquals(new Plain().computeJsonSize(), calls[0]);
+		assertEquals(0, calls[1]);
+		assertEquals(0, calls[2]);
+	}
+
+	@Test
+	public void testFailures() {
+		assertThrows(VonageUnexpectedException.class, () -> new Failing().toJson());
+		assertThrows(VonageUnexpectedException.class, () -> new Failing().writeTo(new ByteArrayOutputStream()));
+		assertThrows(VonageUnexpectedException.class, () -> new Failing().computeJsonSize());
+		assertThrows(NullPointerException.class, () -> new Plain().writeTo((OutputStream) null));
+		IOException ex = assertThrows(IOException.class, () -> new Plain().writeTo(new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Closed");
+			}
+		}));
+		assertEquals("Closed", ex.getMessage());
+	}
+}
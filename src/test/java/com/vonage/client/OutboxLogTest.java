@@ -0,0 +1,252 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+public class OutboxLogTest {
+	@TempDir Path directory;
+
+	OutboxLog open() throws IOException {
+		return OutboxLog.builder(directory).segmentSize(4096).build();
+	}
+
+	static byte[] bytes(String text) {
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+
+	static List<String> payloads(OutboxLog log) {
+		return log.getPendingEntries().stream()
+				.map(e -> new String(e.getPayload(), StandardCharsets.UTF_8)).toList();
+	}
+
+	List<Path> segmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toList();
+		}
+	}
+
+	@Test
+	public void testAppendAcknowledgeAndRecover() throws Exception {
+		try (OutboxLog log = open()) {
+			OutboxLog.Entry first = log.append("ref-1", bytes("first"));
+			OutboxLog.Entry second = log.append(null, bytes("second"));
+			OutboxLog.Entry third = log.append("ref-3", bytes("third"));
+			assertEquals(1, first.getSequence());
+			assertEquals(2, second.getSequence());
+			assertEquals("ref-1", first.getKey());
+			assertNull(second.getKey());
+			assertEquals(3, log.getPendingCount());
+			assertTrue(log.acknowledge(second, "uuid-2"));
+			assertFalse(log.acknowledge(second, "uuid-2"));
+			assertEquals(List.of("first", "third"), payloads(log));
+			assertNotNull(third);
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("first", "third"), payloads(log));
+			List<OutboxLog.Entry> pending = log.getPendingEntries();
+			assertEquals(List.of(1L, 3L), pending.stream().map(OutboxLog.Entry::getSequence).toList());
+			assertEquals("ref-3", pending.get(1).getKey());
+			// Sequence numbers continue from the recovered log.
+			assertEquals(4, log.append(null, bytes("fourth")).getSequence());
+			assertTrue(log.acknowledge(pending.get(0), null));
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("third", "fourth"), payloads(log));
+		}
+	}
+
+	@Test
+	public void testDuplicateKeys() throws Exception {
+		try (OutboxLog log = open()) {
+			OutboxLog.Entry entry = log.append("ref", bytes("a"));
+			assertNull(log.append("ref", bytes("b")));
+			log.acknowledge(entry, "done");
+			// Still held in the log, so still a duplicate after being acknowledged.
+			assertNull(log.append("ref", bytes("c")));
+			assertEquals(0, log.getPendingCount());
+		}
+		try (OutboxLog log = open()) {
+			assertNull(log.append("ref", bytes("d")));
+			assertNotNull(log.append(null, bytes("e")));
+			assertNotNull(log.append(null, bytes("e")));
+		}
+	}
+
+	@Test
+	public void testSegmentRolloverAndDeletion() throws Exception {
+		byte[] payload = new byte[1000];
+		List<OutboxLog.Entry> entries = new ArrayList<>();
+		try (OutboxLog log = open()) {
+			for (int i = 0; i < 20; i++) {
+				entries.add(log.append("key-" + i, payload));
+			}
+			assertTrue(log.getSegmentCount() >= 5);
+			assertEquals(log.getSegmentCount(), segmentFiles().size());
+
+			// The oldest entries remain pending, so the later acknowledged segments are compacted away.
+			for (int i = 19; i >= 4; i--) {
+				log.acknowledge(entries.get(i), null);
+			}
+			assertTrue(log.getSegmentCount() <= 4, () -> "Segments: " + log.getSegmentCount());
+			assertEquals(log.getSegmentCount(), segmentFiles().size());
+			assertEquals(List.of("key-0", "key-1", "key-2", "key-3"),
+					log.getPendingEntries().stream().map(OutboxLog.Entry::getKey).toList()
+			);
+			// Keys of pending entries are retained when they are compacted.
+			assertNull(log.append("key-1", payload));
+		}
+		try (OutboxLog log = open()) {
+			List<OutboxLog.Entry> pending = log.getPendingEntries();
+			assertEquals(List.of(1L, 2L, 3L, 4L), pending.stream().map(OutboxLog.Entry::getSequence).toList());
+			for (OutboxLog.Entry entry : pending) {
+				assertTrue(log.acknowledge(entry, null));
+			}
+			assertEquals(1, log.getSegmentCount());
+			assertEquals(1, segmentFiles().size());
+			// Keys of deleted segments are forgotten.
+			assertNotNull(log.append("key-5", payload));
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("key-5"), log.getPendingEntries().stream().map(OutboxLog.Entry::getKey).toList());
+		}
+	}
+
+	@Test
+	public void testLongPendingEntryDoesNotRetainLaterSegments() throws Exception {
+		byte[] payload = new byte[500];
+		try (OutboxLog log = open()) {
+			OutboxLog.Entry stuck = log.append("stuck", bytes("reminder"));
+			for (int i = 0; i < 500; i++) {
+				log.acknowledge(log.append("key-" + i, payload), null);
+				assertTrue(log.getSegmentCount() <= 2, () -> "Segments: " + log.getSegmentCount());
+			}
+			assertEquals(log.getSegmentCount(), segmentFiles().size());
+			assertEquals(List.of(stuck.getSequence()),
+					log.getPendingEntries().stream().map(OutboxLog.Entry::getSequence).toList()
+			);
+			assertNull(log.append("stuck", payload));
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("reminder"), payloads(log));
+			assertNull(log.append("stuck", payload));
+		}
+	}
+
+	@Test
+	public void testRecoversCompactedEntryOnce() throws Exception {
+		byte[] payload = new byte[1000];
+		Path first;
+		byte[] original;
+		try (OutboxLog log = open()) {
+			log.append("stuck", bytes("reminder"));
+			first = segmentFiles().getFirst();
+			original = Files.readAllBytes(first);
+			for (int i = 0; i < 8; i++) {
+				log.acknowledge(log.append(null, payload), null);
+			}
+			assertFalse(Files.exists(first));
+		}
+		// As if the process had stopped after compacting the entry but before deleting the old segment.
+		Files.write(first, original);
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("reminder"), payloads(log));
+			assertTrue(log.acknowledge(log.getPendingEntries().getFirst(), null));
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(0, log.getPendingCount());
+		}
+	}
+
+	@Test
+	public void testTornRecordIsDiscarded() throws Exception {
+		try (OutboxLog log = open()) {
+			log.append(null, bytes("intact"));
+			log.append(null, bytes("torn"));
+		}
+		Path segment = segmentFiles().getFirst();
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// Corrupt the last byte of the second record's payload.
+			ByteBuffer buffer = ByteBuffer.allocate(4);
+			channel.read(buffer, 0);
+			int second = buffer.flip().getInt() + 8;
+			buffer.clear();
+			channel.read(buffer, second);
+			int length = buffer.flip().getInt();
+			channel.write(ByteBuffer.wrap(new byte[]{'X'}), second + 4 + length - 1);
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("intact"), payloads(log));
+			log.append(null, bytes("after"));
+		}
+		try (OutboxLog log = open()) {
+			assertEquals(List.of("intact", "after"), payloads(log));
+		}
+	}
+
+	@Test
+	public void testConcurrentAppendsShareSync() throws Exception {
+		int threads = 8, perThread = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try (OutboxLog log = OutboxLog.builder(directory).segmentSize(64 * 1024).build()) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < perThread; i++) {
+						log.append("t" + thread + "-" + i, bytes("payload " + i));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			assertEquals(threads * perThread, log.getPendingCount());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		try (OutboxLog log = OutboxLog.builder(directory).segmentSize(64 * 1024).build()) {
+			List<OutboxLog.Entry> pending = log.getPendingEntries();
+			assertEquals(threads * perThread, pending.size());
+			assertEquals(threads * perThread, pending.stream().map(OutboxLog.Entry::getKey).distinct().count());
+		}
+	}
+
+	@Test
+	public void testInvalidUsage() throws Exception {
+		assertThrows(NullPointerException.class, () -> OutboxLog.builder(null));
+		assertThrows(IllegalArgumentException.class, () -> OutboxLog.builder(directory).segmentSize(100));
+		OutboxLog log = OutboxLog.builder(directory).segmentSize(4096).fsync(false).build();
+		assertThrows(IllegalArgumentException.class, () -> log.append(null, new byte[5000]));
+		assertThrows(NullPointerException.class, () -> log.append(null, null));
+		log.close();
+		assertThrows(IllegalStateException.class, () -> log.append(null, bytes("closed")));
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.sms.MessageEvent;
+import com.vonage.client.voice.EventWebhook;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class WebhookDeduplicatorTest {
+	final AtomicLong clock = new AtomicLong();
+
+	WebhookDeduplicator.Builder<String> builder() {
+		return WebhookDeduplicator.<String> builder(Function.identity()).nanoTime(clock::get);
+	}
+
+	void advance(Duration duration) {
+		clock.addAndGet(duration.toNanos());
+	}
+
+	@Test
+	public void testExactDuplicatesAndMetrics() {
+		WebhookDeduplicator<String> dedup = builder().build();
+		assertEquals(0, dedup.getDuplicateRate());
+		assertFalse(dedup.isDuplicate("a"));
+		assertFalse(dedup.isDuplicate("b"));
+		assertTrue(dedup.isDuplicate("a"));
+		assertTrue(dedup.isDuplicateKey("a"));
+		assertEquals(2, dedup.getDuplicateCount());
+		assertEquals(2, dedup.getFirstDeliveryCount());
+		assertEquals(0.5, dedup.getDuplicateRate());
+		assertEquals(2, dedup.size());
+		assertThrows(NullPointerException.class, () -> dedup.isDuplicate(null));
+	}
+
+	@Test
+	public void testExactWindowExpiry() {
+		WebhookDeduplicator<String> dedup = builder().window(Duration.ofMinutes(5)).build();
+		assertFalse(dedup.isDuplicate("a"));
+		advance(Duration.ofMinutes(3));
+		assertFalse(dedup.isDuplicate("b"));
+		assertTrue(dedup.isDuplicate("a"));
+		advance(Duration.ofMinutes(2));
+		assertFalse(dedup.isDuplicate("a"));
+		assertTrue(dedup.isDuplicate("b"));
+		advance(Duration.ofMinutes(3));
+		assertTrue(dedup.isDuplicate("a"));
+		assertFalse(dedup.isDuplicate("b"));
+	}
+
+	@Test
+	public void testExactEvictsOldestBeyondCapacity() {
+		WebhookDeduplicator<String> dedup = builder().stripes(1).maxEntries(3).build();
+		for (String key : new String[]{"a", "b", "c", "d"}) {
+			assertFalse(dedup.isDuplicate(key));
+		}
+		assertEquals(3, dedup.size());
+		assertTrue(dedup.isDuplicate("d"));
+		assertTrue(dedup.isDuplicate("b"));
+		assertFalse(dedup.isDuplicate("a"));
+	}
+
+	@Test
+	public void testExactBoundIsTotalAcrossStripes() {
+		final int maxEntries = 100;
+		WebhookDeduplicator<String> dedup = builder().stripes(16).maxEntries(maxEntries).build();
+		for (int i = 0; i < maxEntries; i++) {
+			assertFalse(dedup.isDuplicate("key-" + i));
+		}
+		assertEquals(maxEntries, dedup.size());
+		for (int i = 0; i < maxEntries; i++) {
+			assertTrue(dedup.isDuplicate("key-" + i));
+		}
+		for (int i = maxEntries; i < maxEntries * 3; i++) {
+			assertFalse(dedup.isDuplicate("key-" + i));
+			assertEquals(Math.min(i + 1, maxEntries), dedup.size());
+		}
+	}
+
+	@Test
+	public void testExactConcurrentFirstDeliveriesAreCounted() throws Exception {
+		final int threads = 8, keys = 20_000;
+		WebhookDeduplicator<String> dedup = WebhookDeduplicator.<String> builder(Function.identity())
+				.maxEntries(keys).stripes(16).build();
+		String[] keySet = new String[keys];
+		for (int i = 0; i < keys; i++) {
+			keySet[i] = UUID.randomUUID() + "|delivered";
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(pool.submit(() -> {
+				for (String key : keySet) dedup.isDuplicate(key);
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		assertEquals(keys, dedup.getFirstDeliveryCount());
+		assertEquals((long) keys * (threads - 1), dedup.getDuplicateCount());
+	}
+
+	@Test
+	public void testProbabilisticNoFalseNegativesAndBoundedFalsePositives() {
+		final int keys = 50_000;
+		final double rate = 0.01;
+		WebhookDeduplicator<String> dedup = builder().maxEntries(keys).falsePositiveRate(rate).build();
+		int falsePositives = 0;
+		for (int i = 0; i < keys; i++) {
+			if (dedup.isDuplicate("msg-" + i + "|delivered")) falsePositives++;
+		}
+		for (int i = 0; i < keys; i++) {
+			assertTrue(dedup.isDuplicate("msg-" + i + "|delivered"));
+		}
+		assertTrue(falsePositives < keys * rate, "False positives: " + falsePositives);
+		assertEquals(keys - falsePositives, dedup.size());
+	}
+
+	@Test
+	public void testProbabilisticRotation() {
+		WebhookDeduplicator<String> dedup = builder().window(Duration.ofMinutes(10))
+				.maxEntries(1000).falsePositiveRate(0.001).build();
+		assertFalse(dedup.isDuplicate("a"));
+		advance(Duration.ofMinutes(11));
+		// Rotated into the previous filter, so still remembered.
+		assertFalse(dedup.isDuplicate("b"));
+		assertTrue(dedup.isDuplicate("a"));
+		advance(Duration.ofMinutes(10));
+		// "a" was refreshed into the current filter by the last check.
+		assertTrue(dedup.isDuplicate("a"));
+		advance(Duration.ofMinutes(25));
+		assertFalse(dedup.isDuplicate("a"));
+		assertEquals(1, dedup.size());
+
+		// Filling the current filter also rotates it.
+		for (int i = 0; i < 2500; i++) {
+			dedup.isDuplicate("key-" + i);
+		}
+		assertTrue(dedup.size() <= 2000);
+		assertTrue(dedup.isDuplicate("key-2499"));
+	}
+
+	@Test
+	public void testPredefinedKeys() {
+		UUID uuid = UUID.randomUUID();
+		var statuses = WebhookDeduplicator.forMessageStatuses().build();
+		String status = "{\"message_uuid\":\""+uuid+"\",\"status\":\"%s\",\"channel\":\"sms\"," +
+				"\"timestamp\":\"2025-01-01T00:00:0%dZ\"}";
+		assertFalse(statuses.isDuplicate(MessageStatus.fromJson(status.formatted("submitted", 1))));
+		assertFalse(statuses.isDuplicate(MessageStatus.fromJson(status.formatted("delivered", 2))));
+		assertTrue(statuses.isDuplicate(MessageStatus.fromJson(status.formatted("delivered", 3))));
+
+		var inbound = WebhookDeduplicator.forInboundMessages().build();
+		String message = "{\"message_uuid\":\""+uuid+"\",\"channel\":\"whatsapp\",\"message_type\":\"text\"}";
+		assertFalse(inbound.isDuplicate(InboundMessage.fromJson(message)));
+		assertTrue(inbound.isDuplicate(InboundMessage.fromJson(message)));
+
+		var sms = WebhookDeduplicator.forInboundSms().build();
+		String inboundSms = "{\"msisdn\":\"447700900001\",\"to\":\"447700900000\",\"messageId\":\"%s\",\"text\":\"Hi\"}";
+		assertFalse(sms.isDuplicate(MessageEvent.fromJson(inboundSms.formatted("0A0000000123ABCD1"))));
+		assertFalse(sms.isDuplicate(MessageEvent.fromJson(inboundSms.formatted("0A0000000123ABCD2"))));
+		assertTrue(sms.isDuplicate(MessageEvent.fromJson(inboundSms.formatted("0A0000000123ABCD1"))));
+
+		var voice = WebhookDeduplicator.forVoiceEvents().build();
+		String event = "{\"uuid\":\""+uuid+"\",\"status\":\"%s\",\"timestamp\":\"2025-01-01T00:00:0%dZ\"}";
+		assertFalse(voice.isDuplicate(EventWebhook.fromJson(event.formatted("ringing", 1))));
+		assertFalse(voice.isDuplicate(EventWebhook.fromJson(event.formatted("answered", 2))));
+		assertFalse(voice.isDuplicate(EventWebhook.fromJson(event.formatted("answered", 3))));
+		assertTrue(voice.isDuplicate(EventWebhook.fromJson(event.formatted("ringing", 1))));
+		String recording = "{\"recording_uuid\":\""+uuid+"\",\"timestamp\":\"2025-01-01T00:00:05Z\"}";
+		assertFalse(voice.isDuplicate(EventWebhook.fromJson(recording)));
+		assertTrue(voice.isDuplicate(EventWebhook.fromJson(recording)));
+	}
+
+	@Test
+	public void testHashSpreadsBothHalves() {
+		long a = WebhookDeduplicator.hash("a"), b = WebhookDeduplicator.hash("b");
+		assertNotEquals(a, b);
+		assertNotEquals((int) a, (int) b);
+		assertNotEquals(a >>> 32, b >>> 32);
+	}
+
+	@Test
+	public void testInvalidBuilder() {
+		assertThrows(NullPointerException.class, () -> WebhookDeduplicator.builder(null));
+		var builder = builder();
+		assertThrows(IllegalArgumentException.class, () -> builder.window(null));
+		assertThrows(IllegalArgumentException.class, () -> builder.window(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> builder.maxEntries(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.stripes(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.falsePositiveRate(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.falsePositiveRate(1));
+		assertThrows(IllegalArgumentException.class, () -> builder.falsePositiveRate(Double.NaN));
+	}
+}
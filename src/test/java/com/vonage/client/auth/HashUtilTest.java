@@ -18,8 +18,11 @@ package com.vonage.client.auth;
 import com.vonage.client.TestUtils;
 import static com.vonage.client.auth.hashutils.HashType.*;
 import static com.vonage.client.auth.hashutils.HashUtil.calculate;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class HashUtilTest {
     private static final String
@@ -80,4 +83,38 @@ public class HashUtilTest {
         assertEquals(expected, calculate(INPUT, null, MD5));
         assertEquals(expected, calculate(INPUT, MD5));
     }
+
+    @Test
+    public void testAlternatingSecretsReinitialisesCachedMac() throws Exception {
+        String first = calculate(INPUT, SECRET, HMAC_SHA256), second = calculate(INPUT, INPUT, HMAC_SHA256);
+        assertEquals("31b4c132cf06b5facbb7c24dbbcf1e3d1ca1bad99a88da1c4c1f5a6a9e25b0f3", first);
+        assertEquals("6e51c1005f105f8a4942930f36c358b2b9ec24e3a81712bc9f4905f09e0df57f", second);
+        assertEquals(first, calculate(INPUT, SECRET, HMAC_SHA256));
+        assertEquals(second, calculate(INPUT, HMAC_SHA256));
+    }
+
+    @Test
+    public void testConcurrentCalculationsAreConsistent() throws Exception {
+        var expected = calculate(INPUT, SECRET, HMAC_SHA512);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> calculate(INPUT, SECRET, HMAC_SHA512)));
+            }
+            for (var future : futures) {
+                assertEquals(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidSecretDoesNotPoisonCache() throws Exception {
+        assertThrows(NullPointerException.class, () -> calculate(INPUT, null, HMAC_SHA1));
+        assertThrows(IllegalArgumentException.class, () -> calculate(INPUT, "", HMAC_SHA1));
+        assertEquals("e6051a57a2722e32857b97104d1d69df98f60aae", calculate(INPUT, SECRET, HMAC_SHA1));
+    }
 }
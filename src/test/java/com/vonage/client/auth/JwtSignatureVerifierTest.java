@@ -0,0 +1,202 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class JwtSignatureVerifierTest {
+    static final String
+            SECRET = "XsA09z2MhUxYcdbXaUX3aTT7TzGmnCLfkdILf0NIyC9hN9criTEUdlI3OZ5hRjR",
+            HEADER = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9",
+            PAYLOAD = "eyJzdWIiOiJTaW5hIiwibmFtZSI6IkphdmFfU0RLIiwiaWF0IjoxNjk4NjgwMzkyfQ",
+            TOKEN = HEADER + '.' + PAYLOAD + ".4qJpi46NSYURiLI1xoLIfGRygA8IUI2QSG9P2Kus1Oo",
+            BODY = "{\"message_uuid\":\"aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab\",\"status\":\"delivered\"}";
+
+    static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    static JwtSignatureVerifier.Builder builder(Instant now) {
+        return JwtSignatureVerifier.builder(SECRET).clock(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    static Clock clock(AtomicReference<Instant> now) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+
+    static String token(Map<String, ?> claims) {
+        return Jwts.builder().claims(claims)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    static String sha256(String body) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    public void testVerifyMatchesStaticMethod() {
+        var verifier = JwtSignatureVerifier.builder(SECRET).build();
+        assertTrue(verifier.verify(TOKEN));
+        assertTrue(verifier.verify(TOKEN));
+        assertEquals(1, verifier.getCacheSize());
+        assertFalse(verifier.verify(HEADER + '.' + PAYLOAD + ".XsaXHXqxe2kfIbPy-JH2J6hfbHnEv8jdWsOhEuvzU98"));
+        assertFalse(verifier.verify(HEADER + '.' + PAYLOAD));
+        assertFalse(verifier.verify(TOKEN + ".extra"));
+        assertFalse(verifier.verify("not a token"));
+        assertFalse(verifier.verify(HEADER + '.' + PAYLOAD + ".!!!"));
+        assertFalse(JwtSignatureVerifier.builder(SECRET + "x").build().verify(TOKEN));
+        assertEquals(1, verifier.getCacheSize());
+        assertThrows(NullPointerException.class, () -> verifier.verify((String) null));
+        assertThrows(NullPointerException.class, () -> JwtSignatureVerifier.builder(null));
+    }
+
+    @Test
+    public void testInvalidBuilderValues() {
+        assertThrows(IllegalArgumentException.class, () -> builder(NOW).maxCacheSize(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> builder(NOW).cacheTtl(Duration.ofSeconds(-1)).build());
+        assertThrows(NullPointerException.class, () -> builder(NOW).cacheTtl(null));
+    }
+
+    @Test
+    public void testTimeClaims() {
+        long now = NOW.getEpochSecond();
+        var verifier = builder(NOW).build();
+        assertTrue(verifier.verify(token(Map.of("iat", now - 10, "exp", now + 10, "nbf", now - 10))));
+        assertFalse(verifier.verify(token(Map.of("iat", now - 10, "exp", now))));
+        assertFalse(verifier.verify(token(Map.of("iat", now + 60))));
+        assertFalse(verifier.verify(token(Map.of("nbf", now + 60))));
+    }
+
+    @Test
+    public void testRejectsOtherAlgorithms() {
+        String key = SECRET + SECRET;
+        String hs512 = Jwts.builder().claims(Map.of("iat", NOW.getEpochSecond()))
+                .signWith(Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512).compact();
+        assertFalse(JwtSignatureVerifier.builder(key).build().verify(hs512));
+    }
+
+    @Test
+    public void testCacheExpiryFollowsTokenLifetime() {
+        long now = NOW.getEpochSecond();
+        String token = token(Map.of("iat", now, "exp", now + 30));
+        var verifier = builder(NOW).cacheTtl(Duration.ofMinutes(5)).build();
+        assertTrue(verifier.verify(token));
+        assertEquals(1, verifier.getCacheSize());
+
+        var later = builder(NOW.plusSeconds(31)).build();
+        assertFalse(later.verify(token));
+        assertEquals(0, later.getCacheSize());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        long now = NOW.getEpochSecond();
+        var verifier = builder(NOW).maxCacheSize(2).build();
+        String[] tokens = new String[5];
+        for (int i = 0; i < tokens.length; i++) {
+            assertTrue(verifier.verify(tokens[i] = token(Map.of("iat", now, "jti", "token-" + i))));
+        }
+        assertEquals(2, verifier.getCacheSize());
+        assertFalse(verifier.isCached(tokens[2]));
+        assertTrue(verifier.isCached(tokens[3]));
+        assertTrue(verifier.isCached(tokens[4]));
+
+        var uncached = builder(NOW).maxCacheSize(0).build();
+        assertTrue(uncached.verify(TOKEN));
+        assertEquals(0, uncached.getCacheSize());
+    }
+
+    @Test
+    public void testExpiredTokensAreSweptWhenCaching() {
+        long now = NOW.getEpochSecond();
+        var clock = new AtomicReference<>(NOW);
+        var verifier = JwtSignatureVerifier.builder(SECRET).clock(clock(clock)).maxCacheSize(3).build();
+        assertTrue(verifier.verify(token(Map.of("iat", now, "exp", now + 30, "jti", "a"))));
+        assertTrue(verifier.verify(token(Map.of("iat", now, "exp", now + 30, "jti", "b"))));
+        assertEquals(2, verifier.getCacheSize());
+
+        clock.set(NOW.plusSeconds(31));
+        String fresh = token(Map.of("iat", now + 31, "jti", "c"));
+        assertTrue(verifier.verify(fresh));
+        assertEquals(1, verifier.getCacheSize());
+        assertTrue(verifier.isCached(fresh));
+    }
+
+    @Test
+    public void testReverifiedTokenIsNotEvictedByItsEarlierEntry() {
+        var clock = new AtomicReference<>(NOW);
+        var verifier = JwtSignatureVerifier.builder(SECRET).clock(clock(clock))
+                .cacheTtl(Duration.ofSeconds(10)).maxCacheSize(2).build();
+        String first = token(Map.of("iat", NOW.getEpochSecond(), "jti", "first"));
+        assertTrue(verifier.verify(first));
+
+        // The cached entry has reached its TTL, so the token is verified and cached again.
+        clock.set(NOW.plusSeconds(11));
+        assertTrue(verifier.verify(first));
+        String second = token(Map.of("iat", NOW.getEpochSecond(), "jti", "second"));
+        assertTrue(verifier.verify(second));
+        assertTrue(verifier.isCached(first));
+        assertTrue(verifier.isCached(second));
+    }
+
+    @Test
+    public void testVerifyPayloadHash() throws Exception {
+        String token = token(Map.of("iat", NOW.getEpochSecond(), "payload_hash", sha256(BODY)));
+        var verifier = builder(NOW).build();
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        assertTrue(verifier.verify(token, body));
+        assertTrue(verifier.verify(token, new ByteArrayInputStream(body)));
+        byte[] tampered = BODY.replace("delivered", "rejected").getBytes(StandardCharsets.UTF_8);
+        assertFalse(verifier.verify(token, tampered));
+        assertFalse(verifier.verify(token, new ByteArrayInputStream(tampered)));
+        assertFalse(verifier.verify(TOKEN, body));
+        String upperCase = token(Map.of("iat", NOW.getEpochSecond(), "payload_hash", sha256(BODY).toUpperCase()));
+        assertTrue(verifier.verify(upperCase, body));
+        String malformed = token(Map.of("iat", NOW.getEpochSecond(), "payload_hash", "not hex"));
+        assertFalse(verifier.verify(malformed, body));
+        assertThrows(NullPointerException.class, () -> verifier.verify(token, (byte[]) null));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.client.VonageUnexpectedException;
+import static com.vonage.client.auth.RequestSigning.*;
+import static com.vonage.client.auth.hashutils.HashType.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RequestSignatureVerifierTest {
+    static final String SECRET = "abcde";
+    static final long NOW = 2100000;
+
+    final RequestSignatureVerifier md5Verifier = new RequestSignatureVerifier(SECRET);
+
+    private static Map<String, String[]> params(String sig) {
+        Map<String, String[]> params = new HashMap<>();
+        params.put("a", new String[]{"alphabet"});
+        params.put("b", new String[]{"bananas"});
+        params.put("timestamp", new String[]{"2100"});
+        if (sig != null) {
+            params.put("sig", new String[]{sig});
+        }
+        return params;
+    }
+
+    private static InputStream json(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConstructorRequiresSecretAndHashType() {
+        assertThrows(NullPointerException.class, () -> new RequestSignatureVerifier(null));
+        assertThrows(NullPointerException.class, () -> new RequestSignatureVerifier(SECRET, null));
+    }
+
+    @Test
+    public void testVerifyFormParameters() {
+        assertTrue(md5Verifier.verify(null, "text/plain", params("7d43241108912b32cc315b48ce681acf"), NOW));
+        assertTrue(md5Verifier.verify(null, null, params("7D43241108912B32CC315B48CE681ACF"), NOW));
+        assertFalse(md5Verifier.verify(null, null, params("7d43241108912b32cc315b48ce681acg"), NOW));
+        assertFalse(md5Verifier.verify(null, null, params("7d43241108912b32cc315b48ce681ac"), NOW));
+        assertFalse(md5Verifier.verify(null, null, params(null), NOW));
+    }
+
+    @Test
+    public void testVerifyAllHashTypes() {
+        assertTrue(new RequestSignatureVerifier(SECRET, HMAC_SHA1).verify(null, null,
+                params("b7f749de27b4adcf736cc95c9a7e059a16c85127"), NOW)
+        );
+        assertTrue(new RequestSignatureVerifier(SECRET, HMAC_MD5).verify(null, null,
+                params("e0afe267aefd6dd18a848c1681517a19"), NOW)
+        );
+        assertTrue(new RequestSignatureVerifier(SECRET, HMAC_SHA256).verify(null, null,
+                params("8d1b0428276b6a070578225914c3502cc0687a454dfbbbb370c76a14234cb546"), NOW)
+        );
+        assertTrue(new RequestSignatureVerifier(SECRET, HMAC_SHA512).verify(null, null,
+                params("1c834a1f6a377d4473971387b065cb38e2ad6c4869ba77b7b53e207a344e87ba04b456dfc697b371a2d1ce476d01dafd4394aa97525eff23badad39d2389a710"), NOW)
+        );
+    }
+
+    @Test
+    public void testVerifySkipsBlankFormValues() {
+        var params = params("a3368bf718ba104dcb392d8877e8eb2b");
+        params.put("b", new String[]{null});
+        params.put("c", new String[]{" \t"});
+        params.put("d", new String[0]);
+        assertTrue(md5Verifier.verify(null, null, params, NOW));
+    }
+
+    @Test
+    public void testVerifyJsonBody() {
+        var verifier = new RequestSignatureVerifier(SECRET, HMAC_SHA1);
+        String body = "{\"a\":\"alphabet\",\"b\":\"bananas\",\"timestamp\":\"2100\"," +
+                "\"sig\":\"b7f749de27b4adcf736cc95c9a7e059a16c85127\"}";
+        assertTrue(verifier.verify(json(body), APPLICATION_JSON, params(null), NOW));
+        assertTrue(verifier.verify(json(body), APPLICATION_JSON, params(null), NOW));
+        assertThrows(VonageUnexpectedException.class, () ->
+                verifier.verify(json("{not json"), APPLICATION_JSON, params(null), NOW)
+        );
+    }
+
+    @Test
+    public void testVerifyMatchesStaticMethod() {
+        Map<String, String[]> params = new HashMap<>();
+        params.put("msisdn", new String[]{"447700900000"});
+        params.put("text", new String[]{"a=b&c=d"});
+        params.put("timestamp", new String[]{"2100"});
+        Map<String, String> flat = new LinkedHashMap<>();
+        params.forEach((k, v) -> flat.put(k, v[0]));
+        String sig = constructSignatureForRequestParameters(flat, SECRET, 2100, MD5).get(PARAM_SIGNATURE);
+        params.put("sig", new String[]{sig});
+
+        assertTrue(verifyRequestSignature(null, null, params, SECRET, NOW, MD5));
+        assertTrue(md5Verifier.verify(null, null, params, NOW));
+    }
+
+    @Test
+    public void testVerifyTimestampBounds() {
+        String sig = "7d43241108912b32cc315b48ce681acf";
+        assertTrue(md5Verifier.verify(null, null, params(sig), NOW + MAX_ALLOWABLE_TIME_DELTA));
+        assertFalse(md5Verifier.verify(null, null, params(sig), NOW + MAX_ALLOWABLE_TIME_DELTA + 1));
+        assertFalse(md5Verifier.verify(null, null, params(sig), NOW - MAX_ALLOWABLE_TIME_DELTA - 1));
+        var params = params(sig);
+        params.put("timestamp", new String[]{"not a number"});
+        assertFalse(md5Verifier.verify(null, null, params, NOW));
+        params.remove("timestamp");
+        assertFalse(md5Verifier.verify(null, null, params, NOW));
+        assertFalse(md5Verifier.verify(null, null, params(sig)));
+    }
+
+    @Test
+    public void testVerifyFlattenedParameters() {
+        Map<String, String> params = new HashMap<>();
+        params.put("a", "alphabet");
+        params.put("b", "bananas");
+        params.put("timestamp", "2100");
+        params.put("sig", "7d43241108912b32cc315b48ce681acf");
+        params.put("c", null);
+        assertTrue(md5Verifier.verify(params, NOW));
+        assertFalse(md5Verifier.verify(params));
+    }
+
+    @Test
+    public void testCanonicalise() {
+        Map<String, String> params = new HashMap<>();
+        params.put("z", "last");
+        params.put("a&b", "x=y");
+        params.put("sig", "ignored");
+        params.put("m", null);
+        assertEquals("&a_b=x_y&z=last", RequestSignatureVerifier.canonicalise(params));
+    }
+
+    @Test
+    public void testEqualsIgnoreCaseConstantTime() {
+        assertTrue(RequestSignatureVerifier.equalsIgnoreCaseConstantTime("abc123", "ABC123"));
+        assertFalse(RequestSignatureVerifier.equalsIgnoreCaseConstantTime("abc123", "abc124"));
+        assertFalse(RequestSignatureVerifier.equalsIgnoreCaseConstantTime("abc123", "abc1234"));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.vonage.client.auth;
 
+import com.vonage.client.FormBodyWriter;
 import com.vonage.client.VonageUnexpectedException;
 import static com.vonage.client.auth.RequestSigning.*;
 import com.vonage.client.auth.hashutils.HashType;
@@ -53,6 +54,27 @@ public class RequestSigningTest {
         assertNotEquals(constructed, constructSignatureForRequestParameters(inputParams, null, 2100, HMAC_SHA256));
     }
 
+    @Test
+    public void testSignFormBodyMatchesSignatureOfParameters() {
+        inputParams.put("text", "Hello & goodbye = fun");
+        inputParams.put("blank", " ");
+        inputParams.put("Z", "upper");
+        for (HashType hashType : HashType.values()) {
+            var body = new FormBodyWriter().addAll(inputParams);
+            signFormBody(body, secret, 2100, hashType);
+            var expected = constructSignatureForRequestParameters(inputParams, secret, 2100, hashType);
+            var actual = body.toRequestQueryParams().toMap();
+            assertEquals(expected.get(PARAM_TIMESTAMP), actual.get(PARAM_TIMESTAMP));
+            assertEquals(expected.get(PARAM_SIGNATURE), actual.get(PARAM_SIGNATURE));
+            assertEquals(inputParams.size() + 2, body.size());
+        }
+        inputParams.remove("blank");
+        var body = new FormBodyWriter().addAll(inputParams);
+        signFormBody(body, secret, 2100, MD5);
+        assertEquals("timestamp", body.getName(body.size() - 1));
+        assertTrue(new RequestSignatureVerifier(secret).verify(body.toRequestQueryParams().toMap(), 2100_000));
+    }
+
     @Test
     public void testConstructSignatureForRequestParametersWithSha1Hash() {
         assertEqualsSignature(HMAC_SHA1, "b7f749de27b4adcf736cc95c9a7e059a16c85127");
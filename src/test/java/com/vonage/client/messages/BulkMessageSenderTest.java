@@ -0,0 +1,225 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.TestUtils;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.stub.VonageStubServer;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public class BulkMessageSenderTest {
+
+	/**
+	 * Fake client which fails any request whose text is "fail", and tracks peak concurrency.
+	 */
+	static class FakeMessagesClient extends MessagesClient {
+		final AtomicInteger inFlight = new AtomicInteger(), peak = new AtomicInteger(), calls = new AtomicInteger();
+		final Map<String, UUID> sent = new ConcurrentHashMap<>();
+		final int maxDelayMillis;
+
+		FakeMessagesClient(int maxDelayMillis) {
+			super(TestUtils.httpWrapperWithAllAuthMethods());
+			this.maxDelayMillis = maxDelayMillis;
+		}
+
+		@Override
+		public MessageResponse sendMessage(MessageRequest request) {
+			calls.incrementAndGet();
+			peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				if (maxDelayMillis > 0) {
+					Thread.sleep(ThreadLocalRandom.current().nextInt(maxDelayMillis));
+				}
+				String text = ((SmsTextRequest) request).getText();
+				if ("fail".equals(text)) {
+					throw new MessageResponseException();
+				}
+				if ("error".equals(text)) {
+					throw new LinkageError("Simulated error.");
+				}
+				if ("no-uuid".equals(text)) {
+					return Jsonable.fromJson("{}", MessageResponse.class);
+				}
+				UUID uuid = UUID.randomUUID();
+				sent.put(text, uuid);
+				return Jsonable.fromJson("{\"message_uuid\":\"" + uuid + "\"}", MessageResponse.class);
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				inFlight.decrementAndGet();
+			}
+		}
+	}
+
+	static SmsTextRequest request(Object text) {
+		return SmsTextRequest.builder().from("Vonage").to("447700900000").text(String.valueOf(text)).build();
+	}
+
+	static List<SmsTextRequest> requests(int count) {
+		return LongStream.range(0, count).mapToObj(BulkMessageSenderTest::request).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testSendAllPreservesOrderAndBoundsConcurrency() {
+		var client = new FakeMessagesClient(5);
+		var input = requests(200);
+		input.set(17, request("fail"));
+		List<MessageSendOutcome> outcomes;
+		try (var sender = BulkMessageSender.builder(client).concurrency(6).build()) {
+			outcomes = sender.sendAll(input);
+		}
+		assertEquals(200, outcomes.size());
+		assertEquals(200, client.calls.get());
+		assertTrue(client.peak.get() <= 6, "Peak concurrency: " + client.peak.get());
+		assertTrue(client.peak.get() > 1);
+
+		for (int i = 0; i < outcomes.size(); i++) {
+			var outcome = outcomes.get(i);
+			assertEquals(i, outcome.getIndex());
+			assertSame(input.get(i), outcome.getRequest());
+			if (i == 17) {
+				assertFalse(outcome.isSuccessful());
+				assertNull(outcome.getResponse());
+				assertNotNull(outcome.getResponseException());
+				assertSame(outcome.getException(), outcome.getResponseException());
+				assertTrue(outcome.toString().contains("exception="));
+			}
+			else {
+				assertTrue(outcome.isSuccessful());
+				assertNull(outcome.getException());
+				assertNull(outcome.getResponseException());
+				assertEquals(client.sent.get(String.valueOf(i)), outcome.getResponse().getMessageUuid());
+			}
+		}
+	}
+
+	@Test
+	public void testSendAsCompletedReturnsEveryIndexOnce() {
+		var client = new FakeMessagesClient(10);
+		var indices = new HashSet<Long>();
+		try (var sender = BulkMessageSender.builder(client).concurrency(8).build()) {
+			sender.sendAsCompleted(requests(100).iterator()).forEachRemaining(outcome -> {
+				assertTrue(outcome.isSuccessful());
+				assertTrue(indices.add(outcome.getIndex()));
+			});
+		}
+		assertEquals(100, indices.size());
+	}
+
+	@Test
+	public void testErrorDuringSendIsThrownInEitherOrder() {
+		var client = new FakeMessagesClient(0);
+		try (var sender = BulkMessageSender.builder(client).concurrency(2).build()) {
+			for (boolean ordered : new boolean[]{true, false}) {
+				var input = List.of(request("a"), request("error"), request("b")).iterator();
+				var outcomes = ordered ? sender.sendInOrder(input) : sender.sendAsCompleted(input);
+				var ex = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(
+						VonageClientException.class, () -> outcomes.forEachRemaining(MessageSendOutcome::getIndex)
+				));
+				assertInstanceOf(LinkageError.class, ex.getCause());
+			}
+		}
+	}
+
+	@Test
+	public void testInputIsConsumedLazily() {
+		var client = new FakeMessagesClient(0);
+		var pulled = new AtomicLong();
+		var input = Stream.generate(() -> request(pulled.incrementAndGet())).limit(1_000_000);
+		var closed = new AtomicInteger();
+
+		try (var sender = BulkMessageSender.builder(client).concurrency(4).build();
+				var outcomes = sender.sendInOrder(input.onClose(closed::incrementAndGet))) {
+			assertEquals(10, outcomes.limit(10).filter(MessageSendOutcome::isSuccessful).count());
+		}
+		assertTrue(pulled.get() <= 14, "Pulled " + pulled.get());
+		assertEquals(1, closed.get());
+	}
+
+	@Test
+	public void testRateLimit() {
+		var client = new FakeMessagesClient(0);
+		long start = System.nanoTime();
+		try (var sender = BulkMessageSender.builder(client).concurrency(4).maxRequestsPerSecond(100).build()) {
+			assertEquals(21, sender.sendAsCompleted(requests(21).stream()).count());
+		}
+		assertTrue(System.nanoTime() - start >= 190_000_000L);
+	}
+
+	@Test
+	public void testSuppliedExecutorIsNotShutDown() {
+		var client = new FakeMessagesClient(1);
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			try (var sender = BulkMessageSender.builder(client).executor(executor).concurrency(3).build()) {
+				assertEquals(30, sender.sendAll(requests(30)).size());
+			}
+			assertFalse(executor.isShutdown());
+			assertTrue(client.peak.get() <= 3);
+		}
+	}
+
+	@Test
+	public void testEmptyInputAndIteratorContract() {
+		try (var sender = BulkMessageSender.builder(new FakeMessagesClient(0)).build()) {
+			assertTrue(sender.sendAll(List.of()).isEmpty());
+			var it = sender.sendInOrder(Collections.<MessageRequest> emptyIterator());
+			assertFalse(it.hasNext());
+			assertThrows(NoSuchElementException.class, it::next);
+			assertThrows(NullPointerException.class, () ->
+					sender.sendAsCompleted(Arrays.asList(request(1), null).iterator()).forEachRemaining(o -> {})
+			);
+		}
+	}
+
+	@Test
+	public void testInvalidBuilderParameters() {
+		assertThrows(NullPointerException.class, () -> BulkMessageSender.builder(null));
+		var builder = BulkMessageSender.builder(new FakeMessagesClient(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.concurrency(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.maxRequestsPerSecond(-1));
+		assertThrows(IllegalArgumentException.class, () -> builder.maxRequestsPerSecond(Double.NaN));
+		assertThrows(NullPointerException.class, () -> builder.executor(null));
+	}
+
+	@Test
+	public void testSendMessagesAgainstStubServer() {
+		try (var server = VonageStubServer.builder().errorRate(0.2).start()) {
+			var outcomes = server.vonageClient().getMessagesClient().sendMessages(requests(100));
+			assertEquals(100, outcomes.size());
+			long failed = outcomes.stream().filter(o -> !o.isSuccessful()).count();
+			assertEquals(server.getErrorCount(), failed);
+			outcomes.stream().filter(o -> !o.isSuccessful()).forEach(o -> {
+				assertInstanceOf(VonageClientException.class, o.getException());
+				assertEquals(500, o.getResponseException().getStatusCode());
+			});
+		}
+	}
+}
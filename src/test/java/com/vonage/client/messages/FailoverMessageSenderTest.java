@@ -0,0 +1,265 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.messages.MessageStatus.Status;
+import static com.vonage.client.messages.BulkMessageSenderTest.FakeMessagesClient;
+import static com.vonage.client.messages.BulkMessageSenderTest.request;
+import static com.vonage.client.messages.MessageTrackerTest.status;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class FailoverMessageSenderTest {
+	final FakeMessagesClient client = new FakeMessagesClient(0);
+	FailoverMessageSender sender;
+
+	FailoverMessageSender.Builder builder() {
+		return FailoverMessageSender.builder(client).timerResolution(Duration.ofMillis(5));
+	}
+
+	@AfterEach
+	public void closeSender() {
+		if (sender != null) sender.close();
+	}
+
+	UUID awaitSent(String text) throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			UUID uuid = client.sent.get(text);
+			if (uuid != null && sender.onStatus(status(uuid, Status.SUBMITTED))) return uuid;
+			Thread.sleep(10);
+		}
+		throw new AssertionError("Message '" + text + "' was not sent.");
+	}
+
+	boolean deliver(String text) {
+		UUID uuid = client.sent.get(text);
+		return uuid != null && sender.onStatus(status(uuid, Status.DELIVERED));
+	}
+
+	static FailoverOutcome await(CompletableFuture<FailoverOutcome> future) throws Exception {
+		return future.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testFirstAlternativeDelivered() throws Exception {
+		sender = builder().deadline(Duration.ofMinutes(1)).build();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("rcs"), request("sms")));
+		UUID uuid = awaitSent("rcs");
+		assertFalse(future.isDone());
+		assertEquals(1, sender.getPendingCount());
+		assertTrue(sender.onStatus(status(uuid, Status.DELIVERED)));
+
+		FailoverOutcome outcome = await(future);
+		assertTrue(outcome.isSuccessful());
+		assertEquals(1, outcome.getAttempts().size());
+		FailoverOutcome.Attempt attempt = outcome.getSuccessfulAttempt();
+		assertEquals(uuid, attempt.getMessageUuid());
+		assertEquals(Status.DELIVERED, attempt.getLastStatus().getStatus());
+		assertFalse(attempt.isTimedOut());
+		assertNull(attempt.getException());
+		assertEquals(0, sender.getPendingCount());
+		assertEquals(0, sender.getFailoverCount());
+		assertFalse(sender.onStatus(status(uuid, Status.READ)));
+		assertNull(client.sent.get("sms"));
+	}
+
+	@Test
+	public void testFailoverOnDeadline() throws Exception {
+		sender = builder().deadline(Duration.ofMillis(300)).build();
+		long start = System.nanoTime();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("rcs"), request("sms")));
+		UUID rcs = awaitSent("rcs"), sms = awaitSent("sms");
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(300));
+		assertEquals(1, sender.getFailoverCount());
+
+		// Late delivery of the superseded alternative is ignored.
+		assertFalse(sender.onStatus(status(rcs, Status.DELIVERED)));
+		assertTrue(sender.onStatus(status(sms, Status.READ)));
+
+		FailoverOutcome outcome = await(future);
+		assertTrue(outcome.isSuccessful());
+		List<FailoverOutcome.Attempt> attempts = outcome.getAttempts();
+		assertEquals(2, attempts.size());
+		assertTrue(attempts.get(0).isTimedOut());
+		assertEquals(Status.SUBMITTED, attempts.get(0).getLastStatus().getStatus());
+		assertEquals(sms, outcome.getSuccessfulAttempt().getMessageUuid());
+	}
+
+	@Test
+	public void testFailoverOnRejectionAndSendFailure() throws Exception {
+		sender = builder().expectedStatus(Status.SUBMITTED).deadline(Duration.ofMinutes(1)).build();
+		CompletableFuture<FailoverOutcome> future = sender.send(
+				List.of(request("whatsapp"), request("fail"), request("sms"))
+		);
+		UUID whatsapp = client.sent.get("whatsapp");
+		for (int i = 0; whatsapp == null && i < 500; i++) {
+			Thread.sleep(10);
+			whatsapp = client.sent.get("whatsapp");
+		}
+		assertNotNull(whatsapp);
+		while (!sender.onStatus(status(whatsapp, Status.REJECTED))) {
+			Thread.sleep(5);
+		}
+		// SUBMITTED is the expected status, so reporting it for the last alternative completes the failover.
+		UUID sms = awaitSent("sms");
+		FailoverOutcome outcome = await(future);
+		assertTrue(outcome.isSuccessful());
+		List<FailoverOutcome.Attempt> attempts = outcome.getAttempts();
+		assertEquals(3, attempts.size());
+		assertEquals(Status.REJECTED, attempts.get(0).getLastStatus().getStatus());
+		assertFalse(attempts.get(0).isTimedOut());
+		assertInstanceOf(MessageResponseException.class, attempts.get(1).getException());
+		assertEquals(sms, attempts.get(2).getMessageUuid());
+		assertEquals(2, sender.getFailoverCount());
+	}
+
+	@Test
+	public void testAllAlternativesExhausted() throws Exception {
+		sender = builder().deadline(Duration.ofMillis(30)).build();
+		FailoverOutcome outcome = await(sender.send(List.of(request("fail"), request("sms"))));
+		assertFalse(outcome.isSuccessful());
+		assertNull(outcome.getSuccessfulAttempt());
+		List<FailoverOutcome.Attempt> attempts = outcome.getAttempts();
+		assertEquals(2, attempts.size());
+		assertInstanceOf(MessageResponseException.class, attempts.get(0).getException());
+		assertNull(attempts.get(0).getMessageUuid());
+		assertTrue(attempts.get(1).isTimedOut());
+		assertNull(attempts.get(1).getLastStatus());
+		assertEquals(0, sender.getPendingCount());
+	}
+
+	@Test
+	public void testManyConcurrentFailovers() throws Exception {
+		sender = builder().concurrency(16).deadline(Duration.ofMillis(500)).build();
+		int count = 500;
+		List<CompletableFuture<FailoverOutcome>> futures = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			futures.add(sender.send(List.of(request("a" + i), request("b" + i))));
+		}
+		for (int i = 0; i < count; i += 2) {
+			// Whichever alternative is current when the status arrives completes the failover.
+			while (!futures.get(i).isDone() && !deliver("a" + i) && !deliver("b" + i)) {
+				Thread.sleep(1);
+			}
+		}
+		int successful = 0, failed = 0;
+		for (CompletableFuture<FailoverOutcome> future : futures) {
+			FailoverOutcome outcome = await(future);
+			if (outcome.isSuccessful()) successful++;
+			else failed++;
+		}
+		// Odd-numbered messages never receive a status, so both of their alternatives time out.
+		assertEquals(count, successful + failed);
+		assertEquals(count / 2, failed);
+		assertEquals(0, sender.getPendingCount());
+	}
+
+	@Test
+	public void testMissingMessageUuidFailsAttempt() throws Exception {
+		sender = builder().deadline(Duration.ofMinutes(1)).build();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("no-uuid"), request("sms")));
+		UUID sms = awaitSent("sms");
+		assertTrue(sender.onStatus(status(sms, Status.DELIVERED)));
+
+		FailoverOutcome outcome = await(future);
+		assertTrue(outcome.isSuccessful());
+		FailoverOutcome.Attempt first = outcome.getAttempts().get(0);
+		assertNull(first.getMessageUuid());
+		assertInstanceOf(IllegalStateException.class, first.getException());
+		assertEquals(1, sender.getFailoverCount());
+	}
+
+	@Test
+	public void testErrorCompletesExceptionally() throws Exception {
+		sender = builder().build();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("error"), request("sms")));
+		ExecutionException ex = assertThrows(ExecutionException.class, () -> await(future));
+		assertInstanceOf(LinkageError.class, ex.getCause());
+		assertEquals(0, sender.getPendingCount());
+		assertNull(client.sent.get("sms"));
+	}
+
+	@Test
+	public void testRejectedExecutionCompletesExceptionally() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		sender = builder().executor(executor).build();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("rcs")));
+		ExecutionException ex = assertThrows(ExecutionException.class, () -> await(future));
+		assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+		assertEquals(0, sender.getPendingCount());
+	}
+
+	@Test
+	public void testCloseCancelsPending() throws Exception {
+		sender = builder().deadline(Duration.ofMinutes(1)).build();
+		CompletableFuture<FailoverOutcome> future = sender.send(List.of(request("rcs")));
+		UUID rcs = awaitSent("rcs");
+		sender.close();
+		assertTrue(future.isCancelled());
+		assertFalse(sender.onStatus(status(rcs, Status.DELIVERED)));
+		assertEquals(0, sender.getPendingCount());
+		assertThrows(IllegalStateException.class, () -> sender.send(List.of(request("sms"))));
+	}
+
+	@Test
+	public void testSendRacingCloseAlwaysCompletes() throws Exception {
+		for (int round = 0; round < 50; round++) {
+			FailoverMessageSender racing = builder().deadline(Duration.ofMinutes(1)).build();
+			List<CompletableFuture<FailoverOutcome>> futures = new CopyOnWriteArrayList<>();
+			Thread sending = new Thread(() -> {
+				try {
+					while (true) futures.add(racing.send(List.of(request("race"))));
+				}
+				catch (IllegalStateException closed) {
+					// Expected once the sender is closed.
+				}
+			});
+			sending.start();
+			Thread.sleep(1);
+			racing.close();
+			sending.join();
+			for (CompletableFuture<FailoverOutcome> future : futures) {
+				assertTrue(future.isDone());
+			}
+		}
+	}
+
+	@Test
+	public void testIgnoresUnknownStatuses() {
+		sender = builder().build();
+		assertFalse(sender.onStatus(status(UUID.randomUUID(), Status.DELIVERED)));
+		assertFalse(sender.onStatus(MessageStatus.fromJson("{\"status\":\"delivered\"}")));
+		assertFalse(sender.onStatus(null));
+	}
+
+	@Test
+	public void testInvalidInputs() {
+		sender = builder().build();
+		assertThrows(IllegalArgumentException.class, () -> sender.send(List.of()));
+		assertThrows(NullPointerException.class, () -> sender.send(null));
+		assertThrows(NullPointerException.class, () -> sender.send(Arrays.asList(request("a"), null)));
+		assertThrows(NullPointerException.class, () -> FailoverMessageSender.builder(null));
+		FailoverMessageSender.Builder builder = builder();
+		assertThrows(IllegalArgumentException.class, () -> builder.deadline(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> builder.expectedStatus(Status.REJECTED));
+		assertThrows(IllegalArgumentException.class, () -> builder.timerResolution(Duration.ofNanos(1)));
+		assertThrows(IllegalArgumentException.class, () -> builder.concurrency(0));
+	}
+}
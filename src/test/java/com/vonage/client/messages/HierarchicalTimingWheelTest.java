@@ -0,0 +1,114 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class HierarchicalTimingWheelTest {
+	final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1_000_000);
+	final List<Long> fired = new ArrayList<>();
+
+	void advanceTo(long tick) {
+		wheel.advance(tick, item -> {
+			assertEquals(tick, wheel.currentTick(), "Item " + item + " fired at the wrong tick.");
+			fired.add(item);
+		});
+	}
+
+	@Test
+	public void testItemsFireExactlyOnTheirTick() {
+		long start = wheel.currentTick();
+		// Deltas spanning every level, including level boundaries.
+		long[] deltas = {1, 2, 255, 256, 257, 65_535, 65_536, 65_537, 300_000, 16_777_215, 16_777_216, 20_000_000};
+		for (long delta : deltas) {
+			wheel.add(start + delta, start + delta);
+		}
+		assertEquals(deltas.length, wheel.size());
+		for (long delta : deltas) {
+			// Advance in uneven steps, checking each item fires on exactly the right tick.
+			long target = start + delta;
+			if (target - 1 > wheel.currentTick()) {
+				advanceTo(target - 1);
+				assertFalse(fired.contains(target));
+			}
+			wheel.advance(target, fired::add);
+			assertEquals(target, fired.getLast());
+		}
+		assertEquals(deltas.length, fired.size());
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void testRandomisedOrderingAndCancellation() {
+		Random random = new Random(42);
+		long start = wheel.currentTick();
+		Map<Long, HierarchicalTimingWheel.Node<Long>> nodes = new HashMap<>();
+		TreeSet<Long> expected = new TreeSet<>();
+		for (int i = 0; i < 20_000; i++) {
+			// Distinct due ticks, so firing order is fully determined.
+			long due = start + 1 + random.nextInt(200_000) * 4L + (i % 4);
+			if (nodes.containsKey(due)) continue;
+			nodes.put(due, wheel.add(due, due));
+			expected.add(due);
+		}
+		for (Long due : new ArrayList<>(expected)) {
+			if (random.nextInt(4) == 0) {
+				assertTrue(wheel.cancel(nodes.get(due)));
+				assertFalse(wheel.cancel(nodes.get(due)));
+				expected.remove(due);
+			}
+		}
+		assertEquals(expected.size(), wheel.size());
+		long tick = start;
+		while (tick < start + 800_010) {
+			tick += 1 + random.nextInt(5000);
+			wheel.advance(tick, fired::add);
+		}
+		assertEquals(new ArrayList<>(expected), fired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void testOverdueAndFarFutureItems() {
+		long start = wheel.currentTick();
+		wheel.add(1L, start - 100);
+		wheel.add(2L, start);
+		long farFuture = start + (1L << 33);
+		HierarchicalTimingWheel.Node<Long> far = wheel.add(3L, farFuture);
+		assertEquals(2, wheel.advance(start, fired::add));
+		assertEquals(List.of(1L, 2L), fired);
+		wheel.advance(start + (1L << 32), fired::add);
+		assertEquals(2, fired.size());
+		assertEquals(1, wheel.size());
+		assertTrue(wheel.cancel(far));
+		assertEquals(0, wheel.size());
+		// Advancing an empty wheel over a long period is immediate.
+		assertEquals(0, wheel.advance(Long.MAX_VALUE / 2, fired::add));
+		assertEquals(Long.MAX_VALUE / 2, wheel.currentTick());
+	}
+
+	@Test
+	public void testSameTickKeepsInsertionOrder() {
+		long due = wheel.currentTick() + 70_000;
+		for (long i = 0; i < 10; i++) {
+			wheel.add(i, due);
+		}
+		wheel.advance(due, fired::add);
+		assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), fired);
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.TestUtils;
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MessageOutboxTest {
+	@TempDir Path directory;
+
+	static class ApiError extends VonageApiResponseException {
+		ApiError(int status) {
+			super("HTTP " + status);
+			setStatusCode(status);
+		}
+	}
+
+	/**
+	 * Fake client which fails while "down", and rejects or rate limits requests by their text.
+	 */
+	static class FakeMessagesClient extends MessagesClient {
+		final Queue<String> bodies = new ConcurrentLinkedQueue<>();
+		final AtomicInteger rateLimited = new AtomicInteger();
+		volatile boolean down;
+
+		FakeMessagesClient() {
+			super(TestUtils.httpWrapperWithAllAuthMethods());
+		}
+
+		@Override
+		public MessageResponse sendPreparedMessage(PreparedMessage message) {
+			String body = message.toString();
+			if (down) throw new VonageClientException("Connection refused");
+			if (body.contains("\"invalid\"")) throw new ApiError(422);
+			if (body.contains("\"throttle\"") && rateLimited.getAndIncrement() < 2) throw new ApiError(429);
+			bodies.add(body);
+			return Jsonable.fromJson("{\"message_uuid\":\"" + UUID.randomUUID() + "\"}", MessageResponse.class);
+		}
+	}
+
+	final FakeMessagesClient client = new FakeMessagesClient();
+	// Requests without a client reference have a null key, which concurrent maps reject.
+	final Map<String, MessageResponse> sent = Collections.synchronizedMap(new HashMap<>());
+	final Map<String, RuntimeException> failed = Collections.synchronizedMap(new HashMap<>());
+
+	static SmsTextRequest request(String text, String clientRef) {
+		return SmsTextRequest.builder().from("Vonage").to("447700900000").text(text).clientRef(clientRef).build();
+	}
+
+	MessageOutbox open() throws Exception {
+		return MessageOutbox.builder(client, directory).segmentSize(64 * 1024)
+				.retryBackoff(Duration.ofMillis(5), Duration.ofMillis(20))
+				.onSent((entry, response) -> sent.put(entry.getKey(), response))
+				.onFailure((entry, ex) -> failed.put(entry.getKey(), ex))
+				.build();
+	}
+
+	static void awaitPending(MessageOutbox outbox, int expected) throws InterruptedException {
+		for (int i = 0; i < 1000 && outbox.getPendingCount() != expected; i++) {
+			Thread.sleep(5);
+		}
+		assertEquals(expected, outbox.getPendingCount());
+	}
+
+	@Test
+	public void testSubmitAndSend() throws Exception {
+		SmsTextRequest request = request("Hello", "ref-1");
+		try (MessageOutbox outbox = open()) {
+			assertTrue(outbox.submit(request));
+			awaitPending(outbox, 0);
+			assertEquals(1, outbox.getSentCount());
+			assertEquals(List.of(request.toJson()), new ArrayList<>(client.bodies));
+			assertNotNull(sent.get("ref-1").getMessageUuid());
+			// Still held in the log, so a resubmission is recognised as a duplicate.
+			assertFalse(outbox.submit(request));
+		}
+		try (MessageOutbox outbox = open()) {
+			assertEquals(0, outbox.getPendingCount());
+			assertFalse(outbox.submit(request));
+		}
+		assertEquals(1, client.bodies.size());
+	}
+
+	@Test
+	public void testReplayAfterRestart() throws Exception {
+		client.down = true;
+		List<SmsTextRequest> requests = List.of(request("one", "ref-1"), request("two", "ref-2"),
+				request("one again", "ref-1"), request("no ref", null)
+		);
+		try (MessageOutbox outbox = open()) {
+			assertEquals(3, outbox.submitAll(requests));
+			assertEquals(3, outbox.getPendingCount());
+			Thread.sleep(50);
+			assertTrue(outbox.getRetryCount() > 0);
+			assertEquals(0, outbox.getSentCount());
+		}
+		client.down = false;
+		try (MessageOutbox outbox = open()) {
+			awaitPending(outbox, 0);
+			assertEquals(3, outbox.getSentCount());
+		}
+		Set<String> expected = Set.of(requests.get(0).toJson(), requests.get(1).toJson(), requests.get(3).toJson());
+		assertEquals(expected, new HashSet<>(client.bodies));
+		assertEquals(new HashSet<>(Arrays.asList("ref-1", "ref-2", null)), sent.keySet());
+	}
+
+	@Test
+	public void testRejectedAndRateLimitedRequests() throws Exception {
+		try (MessageOutbox outbox = open()) {
+			outbox.submitAll(List.of(request("invalid", "bad"), request("throttle", "slow")));
+			awaitPending(outbox, 0);
+			assertEquals(1, outbox.getFailedCount());
+			assertEquals(1, outbox.getSentCount());
+			assertEquals(2, outbox.getRetryCount());
+			assertEquals(422, ((VonageApiResponseException) failed.get("bad")).getStatusCode());
+			assertTrue(sent.containsKey("slow"));
+		}
+	}
+
+	@Test
+	public void testThrowingListenerDoesNotResend() throws Exception {
+		AtomicInteger notified = new AtomicInteger();
+		try (MessageOutbox outbox = MessageOutbox.builder(client, directory)
+				.retryBackoff(Duration.ofMillis(1), Duration.ofMillis(1))
+				.onSent((entry, response) -> {
+					notified.incrementAndGet();
+					throw new IllegalStateException("Listener failure");
+				}).build()) {
+			assertTrue(outbox.submit(request("Hello", "ref-1")));
+			awaitPending(outbox, 0);
+			assertEquals(1, outbox.getSentCount());
+			assertEquals(0, outbox.getRetryCount());
+			assertEquals(0, outbox.getFailedCount());
+		}
+		assertEquals(1, notified.get());
+		assertEquals(1, client.bodies.size());
+	}
+
+	@Test
+	public void testGivesUpAfterMaxAttempts() throws Exception {
+		client.down = true;
+		try (MessageOutbox outbox = MessageOutbox.builder(client, directory).maxAttempts(3)
+				.retryBackoff(Duration.ofMillis(1), Duration.ofMillis(1))
+				.onFailure((entry, ex) -> failed.put(entry.getKey(), ex)).build()) {
+			assertTrue(outbox.submit(request("unreachable", "ref")));
+			awaitPending(outbox, 0);
+			assertEquals(1, outbox.getFailedCount());
+			assertEquals(2, outbox.getRetryCount());
+			assertEquals(0, outbox.getSentCount());
+			assertInstanceOf(VonageClientException.class, failed.get("ref"));
+		}
+		assertThrows(IllegalArgumentException.class, () -> MessageOutbox.builder(client, directory).maxAttempts(0));
+	}
+
+	@Test
+	public void testClosedOutbox() throws Exception {
+		MessageOutbox outbox = open();
+		outbox.close();
+		assertThrows(IllegalStateException.class, () -> outbox.submit(request("late", null)));
+		assertThrows(NullPointerException.class, () -> MessageOutbox.builder(null, directory));
+		assertThrows(NullPointerException.class, () -> MessageOutbox.builder(client, null));
+		assertThrows(IllegalArgumentException.class, () -> MessageOutbox.builder(client, directory).senders(0));
+	}
+}
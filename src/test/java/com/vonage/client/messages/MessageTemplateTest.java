@@ -0,0 +1,125 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.Jsonable;
+import com.vonage.client.messages.rcs.RcsCard;
+import com.vonage.client.messages.rcs.RcsCardRequest;
+import com.vonage.client.messages.rcs.RcsSuggestedReply;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.messages.whatsapp.Locale;
+import com.vonage.client.messages.whatsapp.WhatsappTemplateRequest;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class MessageTemplateTest {
+	static final ObjectMapper MAPPER = Jsonable.createDefaultObjectMapper();
+
+	static void assertJsonEquals(MessageRequest expected, PreparedMessage actual) throws Exception {
+		assertEquals("application/json", actual.getContentType());
+		JsonNode expectedTree = MAPPER.readTree(expected.toJson()), actualTree = MAPPER.readTree(actual.toByteArray());
+		assertEquals(expectedTree, actualTree);
+		assertEquals(actual.toString(), new String(actual.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testSmsText() throws Exception {
+		MessageTemplate template = MessageTemplate.of(SmsTextRequest.builder()
+				.from("Vonage").to("447700900000").clientRef("ignored")
+				.text("Hi {{name}}, your balance is {{balance}}.").ttl(900).build()
+		);
+		assertEquals(List.of("name", "balance"), template.getParameterNames());
+
+		Map<String, Object> params = Map.of("name", "Zoë \"Z\"", "balance", 12.5);
+		assertJsonEquals(SmsTextRequest.builder()
+				.from("Vonage").to("447700900123").clientRef("ref-1")
+				.text("Hi Zoë \"Z\", your balance is 12.5.").ttl(900).build(),
+				template.prepare("447700900123", "ref-1", params)
+		);
+		assertJsonEquals(SmsTextRequest.builder()
+				.from("Vonage").to("447700900456")
+				.text("Hi Zoë \"Z\", your balance is 12.5.").ttl(900).build(),
+				template.prepare("447700900456", null, params)
+		);
+	}
+
+	@Test
+	public void testWhatsappTemplate() throws Exception {
+		MessageTemplate template = MessageTemplate.of(WhatsappTemplateRequest.builder()
+				.from("447700900001").to("447700900000").name("appointment_reminder")
+				.parameters(List.of("{{name}}", "{{date}}", "fixed")).locale(Locale.ENGLISH_UK).build()
+		);
+		assertEquals(List.of("name", "date"), template.getParameterNames());
+		assertJsonEquals(WhatsappTemplateRequest.builder()
+				.from("447700900001").to("447700900999").name("appointment_reminder")
+				.parameters(List.of("Alice", "Tuesday 😀", "fixed")).locale(Locale.ENGLISH_UK).build(),
+				template.prepare("447700900999", null, Map.of("name", "Alice", "date", "Tuesday 😀"))
+		);
+	}
+
+	@Test
+	public void testRcsCard() throws Exception {
+		MessageTemplate template = MessageTemplate.of(RcsCardRequest.builder()
+				.from("Vonage").to("447700900000").clientRef("prototype")
+				.card(RcsCard.builder().title("Offer for {{name}}").text("{{discount}}% off\nToday only")
+						.mediaUrl("https://example.com/offer.png")
+						.suggestions(RcsSuggestedReply.builder().text("Yes").postbackData("yes-{{name}}").build())
+						.build()
+				).build()
+		);
+		assertEquals(List.of("name", "discount"), template.getParameterNames());
+		assertJsonEquals(RcsCardRequest.builder()
+				.from("Vonage").to("447700900777").clientRef("c")
+				.card(RcsCard.builder().title("Offer for Bob").text("25% off\nToday only")
+						.mediaUrl("https://example.com/offer.png")
+						.suggestions(RcsSuggestedReply.builder().text("Yes").postbackData("yes-Bob").build())
+						.build()
+				).build(),
+				template.prepare("447700900777", "c", Map.of("name", "Bob", "discount", 25))
+		);
+	}
+
+	@Test
+	public void testNoParameters() throws Exception {
+		MessageTemplate template = MessageTemplate.of(SmsTextRequest.builder()
+				.from("Vonage").to("447700900000").text("Static text").build()
+		);
+		assertTrue(template.getParameterNames().isEmpty());
+		assertJsonEquals(
+				SmsTextRequest.builder().from("Vonage").to("447700900001").clientRef("x").text("Static text").build(),
+				template.prepare("447700900001", "x")
+		);
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(NullPointerException.class, () -> MessageTemplate.of(null));
+		MessageTemplate template = MessageTemplate.of(SmsTextRequest.builder()
+				.from("Vonage").to("447700900000").text("Hi {{name}}").build()
+		);
+		assertThrows(NullPointerException.class, () -> template.prepare(null, null, Map.of("name", "A")));
+		assertThrows(NullPointerException.class, () -> template.prepare("447700900001", null, null));
+		assertThrows(IllegalArgumentException.class, () -> template.prepare("447700900001", null));
+		assertThrows(IllegalArgumentException.class, () ->
+				template.prepare("447700900001", "r".repeat(101), Map.of("name", "A"))
+		);
+		template.prepare("447700900001", "r".repeat(100), Map.of("name", "A"));
+	}
+}
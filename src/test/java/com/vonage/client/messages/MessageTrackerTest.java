@@ -0,0 +1,227 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.messages.MessageStatus.Status;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MessageTrackerTest {
+	final AtomicLong clock = new AtomicLong();
+
+	MessageTracker.Builder builder() {
+		return MessageTracker.builder().nanoTime(clock::get);
+	}
+
+	void advance(Duration duration) {
+		clock.addAndGet(duration.toNanos());
+	}
+
+	static MessageStatus status(UUID messageUuid, Status status) {
+		return MessageStatus.fromJson("{\"message_uuid\":\""+messageUuid+"\",\"status\":\""+status+"\"," +
+				"\"channel\":\"sms\",\"to\":\"447700900000\",\"from\":\"447700900001\"}");
+	}
+
+	@Test
+	public void testLatenciesPerChannel() {
+		MessageTracker tracker = builder().build();
+		SmsTextRequest request = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hi").build();
+		MessageResponse response = Jsonable.fromJson("{\"message_uuid\":\""+UUID.randomUUID()+"\"}");
+		UUID whatsapp = UUID.randomUUID();
+		tracker.track(request, response);
+		tracker.track(whatsapp, Channel.WHATSAPP);
+		assertEquals(2, tracker.getInFlightCount());
+
+		advance(Duration.ofMillis(200));
+		assertTrue(tracker.onStatus(status(response.getMessageUuid(), Status.SUBMITTED)));
+		advance(Duration.ofMillis(100));
+		assertTrue(tracker.onStatus(status(response.getMessageUuid(), Status.SUBMITTED)));
+		advance(Duration.ofSeconds(2));
+		assertTrue(tracker.onStatus(status(response.getMessageUuid(), Status.DELIVERED)));
+		assertFalse(tracker.onStatus(status(response.getMessageUuid(), Status.DELIVERED)));
+		assertTrue(tracker.onStatus(status(whatsapp, Status.READ)));
+
+		var smsSubmit = tracker.getSubmitLatency(Channel.SMS);
+		assertEquals(1, smsSubmit.getCount());
+		assertEquals(200_000_000, smsSubmit.getMax());
+		var smsDelivery = tracker.getDeliveryLatency(Channel.SMS);
+		assertEquals(1, smsDelivery.getCount());
+		assertEquals(2_300_000_000L, smsDelivery.getMax());
+		assertEquals(0, tracker.getSubmitLatency(Channel.WHATSAPP).getCount());
+		assertEquals(2_300_000_000L, tracker.getDeliveryLatency(Channel.WHATSAPP).getMax());
+		assertEquals(0, tracker.getDeliveryLatency(Channel.RCS).getCount());
+
+		assertEquals(0, tracker.getInFlightCount());
+		assertEquals(2, tracker.getTrackedCount());
+		assertEquals(2, tracker.getDeliveredCount());
+		assertEquals(0, tracker.getFailedCount());
+		assertEquals(1, tracker.getUnmatchedCount());
+	}
+
+	@Test
+	public void testCompletionFutureAndListener() throws Exception {
+		List<MessageStatus> completed = new ArrayList<>();
+		MessageTracker tracker = builder().completionListener(completed::add).build();
+		UUID rejected = UUID.randomUUID(), delivered = UUID.randomUUID();
+		CompletableFuture<MessageStatus> future = tracker.trackAndAwait(rejected, Channel.SMS);
+		tracker.track(delivered, Channel.SMS);
+		assertFalse(future.isDone());
+
+		MessageStatus rejection = status(rejected, Status.REJECTED);
+		assertTrue(tracker.onStatus(rejection));
+		assertSame(rejection, future.get(1, TimeUnit.SECONDS));
+		assertTrue(tracker.onStatus(status(delivered, Status.DELIVERED)));
+		assertEquals(2, completed.size());
+		assertEquals(1, tracker.getFailedCount());
+		assertEquals(1, tracker.getDeliveredCount());
+		assertEquals(0, tracker.getDeliveryLatency(Channel.SMS).getMax());
+	}
+
+	@Test
+	public void testTtlExpiry() {
+		List<UUID> expired = new ArrayList<>();
+		MessageTracker tracker = builder().ttl(Duration.ofMinutes(10)).expiryListener(expired::add).build();
+		UUID first = UUID.randomUUID(), second = UUID.randomUUID(), third = UUID.randomUUID();
+		CompletableFuture<MessageStatus> future = tracker.trackAndAwait(first, Channel.MMS);
+		advance(Duration.ofMinutes(5));
+		tracker.track(second, Channel.MMS);
+		tracker.track(third, Channel.MMS);
+		assertTrue(tracker.onStatus(status(third, Status.UNDELIVERABLE)));
+
+		advance(Duration.ofMinutes(5));
+		tracker.expireStale();
+		assertEquals(List.of(first), expired);
+		ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+		assertInstanceOf(TimeoutException.class, ex.getCause());
+		assertFalse(tracker.onStatus(status(first, Status.DELIVERED)));
+		assertTrue(tracker.onStatus(status(second, Status.SUBMITTED)));
+
+		advance(Duration.ofMinutes(5));
+		assertFalse(tracker.onStatus(status(second, Status.DELIVERED)));
+		assertEquals(List.of(first, second), expired);
+		assertEquals(2, tracker.getExpiredCount());
+		assertEquals(0, tracker.getInFlightCount());
+	}
+
+	@Test
+	public void testEvictsOldestWhenFull() {
+		List<UUID> expired = new ArrayList<>();
+		MessageTracker tracker = builder().maxInFlight(3).segments(1).expiryListener(expired::add).build();
+		UUID[] ids = new UUID[5];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = UUID.randomUUID();
+		}
+		tracker.track(ids[0], Channel.SMS);
+		tracker.track(ids[1], Channel.SMS);
+		tracker.track(ids[2], Channel.SMS);
+		assertTrue(tracker.onStatus(status(ids[1], Status.DELIVERED)));
+		tracker.track(ids[3], Channel.SMS);
+		assertEquals(List.of(), expired);
+		tracker.track(ids[4], Channel.SMS);
+		assertEquals(List.of(ids[0]), expired);
+		assertEquals(3, tracker.getInFlightCount());
+		for (int i = 2; i < 5; i++) {
+			assertTrue(tracker.onStatus(status(ids[i], Status.READ)));
+		}
+	}
+
+	void assertTableMatchesReferenceUnderChurn(int capacity, int segments) {
+		// Segments split the capacity evenly, so leave headroom for uneven distribution between them.
+		MessageTracker tracker = builder().maxInFlight(segments == 1 ? capacity : capacity * 2)
+				.segments(segments).build();
+		Random random = new Random(42);
+		Set<UUID> inFlight = new HashSet<>();
+		List<UUID> order = new ArrayList<>();
+		for (int round = 0; round < 20_000; round++) {
+			// Sequential UUIDs cluster in the table, which exercises probing and backward-shift deletion.
+			UUID id = round % 2 == 0 ? new UUID(round >>> 4, round & 15) : UUID.randomUUID();
+			if (inFlight.size() < capacity && random.nextInt(3) > 0) {
+				tracker.track(id, Channel.VIBER);
+				inFlight.add(id);
+				order.add(id);
+			}
+			else if (!order.isEmpty()) {
+				UUID done = order.remove(random.nextInt(order.size()));
+				assertTrue(tracker.onStatus(status(done, Status.DELIVERED)));
+				inFlight.remove(done);
+			}
+			if (round % 997 == 0) {
+				assertEquals(inFlight.size(), tracker.getInFlightCount());
+			}
+		}
+		for (UUID id : inFlight) {
+			assertTrue(tracker.onStatus(status(id, Status.DELIVERED)), id.toString());
+		}
+		assertEquals(0, tracker.getInFlightCount());
+		assertEquals(0, tracker.getExpiredCount());
+	}
+
+	@Test
+	public void testTableMatchesReferenceUnderChurn() {
+		assertTableMatchesReferenceUnderChurn(5000, 1);
+		assertTableMatchesReferenceUnderChurn(5000, 4);
+	}
+
+	@Test
+	public void testConcurrentTrackAndComplete() throws Exception {
+		final int threads = 8, perThread = 5000;
+		MessageTracker tracker = MessageTracker.builder().maxInFlight(threads * perThread * 2).build();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(pool.submit(() -> {
+				UUID[] ids = new UUID[perThread];
+				for (int i = 0; i < perThread; i++) {
+					tracker.track(ids[i] = UUID.randomUUID(), Channel.SMS);
+				}
+				for (UUID id : ids) {
+					assertTrue(tracker.onStatus(status(id, Status.DELIVERED)));
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		assertEquals(threads * perThread, tracker.getDeliveredCount());
+		assertEquals(threads * perThread, tracker.getDeliveryLatency(Channel.SMS).getCount());
+		assertEquals(0, tracker.getInFlightCount());
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		MessageTracker tracker = MessageTracker.builder().build();
+		assertThrows(NullPointerException.class, () -> tracker.track(null, Channel.SMS));
+		assertThrows(NullPointerException.class, () -> tracker.track(UUID.randomUUID(), null));
+		assertThrows(NullPointerException.class, () -> tracker.trackAndAwait(null, Channel.SMS));
+		assertFalse(tracker.onStatus(MessageStatus.fromJson("{\"status\":\"delivered\"}")));
+		assertEquals(1, tracker.getUnmatchedCount());
+
+		var builder = MessageTracker.builder();
+		assertThrows(IllegalArgumentException.class, () -> builder.maxInFlight(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.segments(0));
+		assertThrows(IllegalArgumentException.class, () -> builder.ttl(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> builder.ttl(null));
+		assertThrows(NullPointerException.class, () -> builder.completionListener(null));
+		assertThrows(NullPointerException.class, () -> builder.expiryListener(null));
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.VonageResponseParseException;
+import com.vonage.client.common.MessageType;
+import com.vonage.client.messages.MessageStatus.Status;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MessageWebhookDispatcherTest {
+
+	static String inbound(String channel, String messageType) {
+		return "{\"channel\":\""+channel+"\",\"message_uuid\":\""+UUID.randomUUID()+"\"," +
+				"\"to\":\"447700900000\",\"from\":\"447700900001\",\"timestamp\":\"2025-02-03T12:14:25Z\"," +
+				"\"message_type\":\""+messageType+"\",\"text\":\"Hello\"}";
+	}
+
+	static String status(String channel, String status) {
+		return "{\"message_uuid\":\""+UUID.randomUUID()+"\",\"to\":\"447700900000\",\"from\":\"447700900001\"," +
+				"\"timestamp\":\"2025-02-03T12:14:25Z\",\"status\":\""+status+"\",\"channel\":\""+channel+"\"," +
+				"\"usage\":{\"currency\":\"EUR\",\"price\":\"0.0333\"},\"sms\":{\"count_total\":\"2\"}}";
+	}
+
+	static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testParseMatchesFromJson() {
+		String inboundJson = inbound("whatsapp", "text"), statusJson = status("sms", "delivered");
+		InboundMessage expectedInbound = InboundMessage.fromJson(inboundJson);
+		assertEquals(expectedInbound, MessageWebhookDispatcher.parseInboundMessage(stream(inboundJson)));
+		MessageStatus expectedStatus = MessageStatus.fromJson(statusJson);
+		assertEquals(expectedStatus, MessageWebhookDispatcher.parseMessageStatus(stream(statusJson)));
+		assertEquals(Status.DELIVERED, expectedStatus.getStatus());
+
+		byte[] bytes = statusJson.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer heap = ByteBuffer.allocate(bytes.length + 8);
+		heap.position(4);
+		heap.put(bytes).flip().position(4);
+		assertEquals(expectedStatus, MessageWebhookDispatcher.parseMessageStatus(heap.slice()));
+		assertEquals(expectedStatus, MessageWebhookDispatcher.parseMessageStatus(heap));
+		assertFalse(heap.hasRemaining());
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		assertEquals(expectedStatus, MessageWebhookDispatcher.parseMessageStatus(direct));
+		assertFalse(direct.hasRemaining());
+		assertEquals(expectedInbound, MessageWebhookDispatcher.parseInboundMessage(
+				ByteBuffer.wrap(inboundJson.getBytes(StandardCharsets.UTF_8))
+		));
+	}
+
+	@Test
+	public void testParseDoesNotCloseStream() {
+		AtomicInteger closed = new AtomicInteger();
+		InputStream body = new ByteArrayInputStream(status("sms", "submitted").getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public void close() {
+				closed.incrementAndGet();
+			}
+		};
+		MessageWebhookDispatcher.parseMessageStatus(body);
+		assertEquals(0, closed.get());
+	}
+
+	@Test
+	public void testParseInvalid() {
+		assertThrows(VonageResponseParseException.class, () ->
+				MessageWebhookDispatcher.parseInboundMessage(stream("{malformed]"))
+		);
+		assertThrows(VonageResponseParseException.class, () ->
+				MessageWebhookDispatcher.parseMessageStatus(ByteBuffer.wrap(new byte[]{'['}))
+		);
+		assertThrows(NullPointerException.class, () -> MessageWebhookDispatcher.parseMessageStatus((InputStream) null));
+	}
+
+	@Test
+	public void testRoutesToMostSpecificHandler() {
+		List<String> calls = new ArrayList<>();
+		MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.inboundHandler(Channel.WHATSAPP, MessageType.TEXT, m -> calls.add("whatsapp-text"))
+				.inboundHandler(Channel.WHATSAPP, m -> calls.add("whatsapp"))
+				.inboundHandler(m -> calls.add("inbound"))
+				.statusHandler(Channel.SMS, Status.REJECTED, s -> calls.add("sms-rejected"))
+				.statusHandler(Channel.SMS, s -> calls.add("sms"))
+				.build();
+
+		dispatcher.dispatchInbound(stream(inbound("whatsapp", "text")));
+		dispatcher.dispatchInbound(stream(inbound("whatsapp", "image")));
+		dispatcher.dispatchInbound(stream(inbound("viber_service", "text")));
+		dispatcher.dispatchInbound(stream(inbound("sms", "not_a_type")));
+		dispatcher.dispatchStatus(stream(status("sms", "rejected")));
+		dispatcher.dispatchStatus(stream(status("sms", "delivered")));
+		dispatcher.dispatchStatus(ByteBuffer.wrap(status("whatsapp", "read").getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(List.of(
+				"whatsapp-text", "whatsapp", "inbound", "inbound", "sms-rejected", "sms"
+		), calls);
+		assertEquals(4, dispatcher.getInboundCount());
+		assertEquals(3, dispatcher.getStatusCount());
+		assertEquals(1, dispatcher.getUnhandledCount());
+	}
+
+	@Test
+	public void testHandlerExceptionPropagates() {
+		MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.statusHandler(s -> { throw new IllegalStateException("DB down"); }).build();
+		assertThrows(IllegalStateException.class, () -> dispatcher.dispatchStatus(stream(status("sms", "read"))));
+	}
+
+	@Test
+	public void testInvalidBuilder() {
+		var builder = MessageWebhookDispatcher.builder();
+		assertThrows(NullPointerException.class, () -> builder.inboundHandler(null));
+		assertThrows(NullPointerException.class, () -> builder.inboundHandler(null, m -> {}));
+		assertThrows(NullPointerException.class, () -> builder.statusHandler(Channel.SMS, null, s -> {}));
+		assertThrows(IllegalArgumentException.class, () -> builder.statusBatchHandler(0, null, b -> {}));
+		assertThrows(IllegalArgumentException.class, () ->
+				builder.statusBatchHandler(10, Duration.ofSeconds(-1), b -> {})
+		);
+		assertThrows(NullPointerException.class, () -> builder.statusBatchHandler(10, null, null));
+	}
+
+	@Test
+	public void testBatchBySize() {
+		List<List<MessageStatus>> batches = new ArrayList<>();
+		try (MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.statusBatchHandler(3, null, batches::add).build()) {
+			for (int i = 0; i < 7; i++) {
+				dispatcher.dispatchStatus(stream(status("sms", "delivered")));
+			}
+			assertEquals(List.of(3, 3), batches.stream().map(List::size).toList());
+			assertThrows(UnsupportedOperationException.class, () -> batches.getFirst().clear());
+			dispatcher.flush();
+			assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+			dispatcher.flush();
+			assertEquals(3, batches.size());
+			dispatcher.dispatchStatus(stream(status("sms", "delivered")));
+		}
+		assertEquals(List.of(3, 3, 1, 1), batches.stream().map(List::size).toList());
+	}
+
+	@Test
+	public void testBatchByDelay() throws Exception {
+		BlockingQueue<List<InboundMessage>> batches = new LinkedBlockingQueue<>();
+		try (MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.inboundBatchHandler(Channel.SMS, 100, Duration.ofMillis(50), batches::add)
+				.inboundHandler(m -> fail("Unexpected channel"))
+				.build()) {
+			dispatcher.dispatchInbound(stream(inbound("sms", "text")));
+			dispatcher.dispatchInbound(stream(inbound("sms", "text")));
+			List<InboundMessage> batch = batches.poll(5, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			assertEquals(2, batch.size());
+			assertNull(batches.poll(100, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	@Test
+	public void testBatchHandlerFailureIsContained() {
+		AtomicInteger delivered = new AtomicInteger();
+		try (MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.statusBatchHandler(2, null, batch -> {
+					if (delivered.incrementAndGet() == 1) throw new IllegalStateException();
+				}).build()) {
+			for (int i = 0; i < 4; i++) {
+				dispatcher.dispatchStatus(stream(status("sms", "delivered")));
+			}
+		}
+		assertEquals(2, delivered.get());
+	}
+
+	@Test
+	public void testConcurrentBatching() throws Exception {
+		final int threads = 8, perThread = 2000, batchSize = 500;
+		Set<UUID> received = ConcurrentHashMap.newKeySet();
+		AtomicInteger oversized = new AtomicInteger();
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try (MessageWebhookDispatcher dispatcher = MessageWebhookDispatcher.builder()
+				.scheduler(scheduler)
+				.statusBatchHandler(batchSize, Duration.ofMillis(5), batch -> {
+					if (batch.size() > batchSize) oversized.incrementAndGet();
+					batch.forEach(s -> assertTrue(received.add(s.getMessageUuid())));
+				}).build()) {
+			byte[][] bodies = new byte[threads * perThread][];
+			for (int i = 0; i < bodies.length; i++) {
+				bodies[i] = status("whatsapp", "read").getBytes(StandardCharsets.UTF_8);
+			}
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				final int offset = t * perThread;
+				futures.add(pool.submit(() -> {
+					for (int i = 0; i < perThread; i++) {
+						dispatcher.dispatchStatus(ByteBuffer.wrap(bodies[offset + i]));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			pool.shutdown();
+		}
+		finally {
+			scheduler.shutdownNow();
+		}
+		assertEquals(threads * perThread, received.size());
+		assertEquals(0, oversized.get());
+	}
+}
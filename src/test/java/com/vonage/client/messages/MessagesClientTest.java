@@ -200,6 +200,20 @@ public class MessagesClientTest extends AbstractClientTest<MessagesClient> {
 		assertResponse(SmsTextRequest.builder().text(TEXT));
 	}
 
+	@Test
+	public void testSendPreparedMessage() throws Exception {
+		MessageTemplate template = MessageTemplate.of(SmsTextRequest.builder()
+				.from("447700900001").to("447700900000").text("Hello {{name}}").build()
+		);
+		PreparedMessage message = template.prepare("447700900002", "ref", Map.of("name", "Alice"));
+		stubResponse(202, "{\"message_uuid\":\""+MESSAGE_ID+"\"}");
+		assertEquals(UUID.fromString(MESSAGE_ID), client.sendPreparedMessage(message).getMessageUuid());
+		stubResponse(202, "{\"message_uuid\":\""+MESSAGE_ID+"\"}");
+		assertEquals(UUID.fromString(MESSAGE_ID), client.useSandboxEndpoint().sendPreparedMessage(message).getMessageUuid());
+		client.useRegularEndpoint();
+		stubResponseAndAssertThrows(422, () -> client.sendPreparedMessage(message), MessageResponseException.class);
+	}
+
 	@Test
 	public void testSendMmsSuccess() throws Exception {
 		assertResponse(MmsTextRequest.builder().text(TEXT));
@@ -0,0 +1,235 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.TestUtils;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class ScheduledMessageSenderTest {
+	static final long START = 1_700_000_000_000L;
+
+	@TempDir Path directory;
+	final AtomicLong clock = new AtomicLong(START);
+	final BlockingQueue<MessageSendOutcome> outcomes = new LinkedBlockingQueue<>();
+	final Queue<String> sentBodies = new ConcurrentLinkedQueue<>();
+	final MessageResponse response = Jsonable.fromJson(
+			"{\"message_uuid\":\"" + UUID.randomUUID() + "\"}", MessageResponse.class
+	);
+	final MessagesClient client = new MessagesClient(TestUtils.httpWrapperWithAllAuthMethods()) {
+		@Override
+		public MessageResponse sendMessage(MessageRequest request) {
+			if ("fail".equals(((SmsTextRequest) request).getText())) {
+				throw new MessageResponseException();
+			}
+			sentBodies.add(((SmsTextRequest) request).getText());
+			return response;
+		}
+
+		@Override
+		public MessageResponse sendPreparedMessage(PreparedMessage message) {
+			sentBodies.add(message.toString());
+			return response;
+		}
+	};
+	ScheduledMessageSender scheduler;
+
+	ScheduledMessageSender.Builder builder() {
+		return ScheduledMessageSender.builder(client).clock(clock::get).onOutcome(outcomes::add);
+	}
+
+	@AfterEach
+	public void closeScheduler() {
+		if (scheduler != null) scheduler.close();
+	}
+
+	static SmsTextRequest request(String text, String clientRef) {
+		return SmsTextRequest.builder().from("Vonage").to("447700900000").text(text).clientRef(clientRef).build();
+	}
+
+	static Instant at(long offsetMillis) {
+		return Instant.ofEpochMilli(START + offsetMillis);
+	}
+
+	void advanceTo(long offsetMillis) {
+		clock.set(START + offsetMillis);
+		scheduler.advance();
+	}
+
+	MessageSendOutcome nextOutcome() throws InterruptedException {
+		MessageSendOutcome outcome = outcomes.poll(5, TimeUnit.SECONDS);
+		assertNotNull(outcome, "Timed out waiting for outcome.");
+		return outcome;
+	}
+
+	@Test
+	public void testSendsWhenDue() throws Exception {
+		scheduler = builder().build();
+		SmsTextRequest first = request("first", null), second = request("second", null);
+		long secondId = scheduler.schedule(second, at(2000));
+		long firstId = scheduler.schedule(first, at(950));
+		long failId = scheduler.schedule(request("fail", null), at(1500));
+		assertEquals(3, scheduler.getScheduledCount());
+
+		// Due times are rounded up to the next tick, so nothing is sent early.
+		advanceTo(950);
+		assertEquals(3, scheduler.getScheduledCount());
+		advanceTo(1000);
+		MessageSendOutcome outcome = nextOutcome();
+		assertEquals(firstId, outcome.getIndex());
+		assertSame(first, outcome.getRequest());
+		assertTrue(outcome.isSuccessful());
+
+		advanceTo(1999);
+		outcome = nextOutcome();
+		assertEquals(failId, outcome.getIndex());
+		assertInstanceOf(MessageResponseException.class, outcome.getException());
+		assertTrue(outcomes.isEmpty());
+		advanceTo(2000);
+		assertEquals(secondId, nextOutcome().getIndex());
+		assertEquals(0, scheduler.getScheduledCount());
+		assertEquals(2, scheduler.getSentCount());
+		assertEquals(1, scheduler.getFailedCount());
+	}
+
+	@Test
+	public void testCancelAndPastDue() throws Exception {
+		scheduler = builder().build();
+		long cancelled = scheduler.schedule(request("cancelled", null), at(1000));
+		long overdue = scheduler.schedule(request("overdue", null), at(-60_000));
+		assertTrue(scheduler.cancel(cancelled));
+		assertFalse(scheduler.cancel(cancelled));
+		assertFalse(scheduler.cancel(12345));
+		advanceTo(0);
+		assertEquals(overdue, nextOutcome().getIndex());
+		advanceTo(5000);
+		assertNull(outcomes.poll(100, TimeUnit.MILLISECONDS));
+		assertFalse(scheduler.cancel(overdue));
+		assertEquals(1, sentBodies.size());
+	}
+
+	@Test
+	public void testManyMessagesAcrossLongHorizon() throws Exception {
+		scheduler = builder().concurrency(4).build();
+		int count = 50_000;
+		Random random = new Random(7);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			// Spread over 30 days.
+			ids.add(scheduler.schedule(request("m" + i, null), at(random.nextInt(30 * 24 * 3600) * 1000L)));
+		}
+		for (int i = 0; i < count; i += 2) {
+			assertTrue(scheduler.cancel(ids.get(i)));
+		}
+		assertEquals(count / 2, scheduler.getScheduledCount());
+		for (long day = 1; day <= 31; day++) {
+			advanceTo(Duration.ofDays(day).toMillis());
+		}
+		for (int i = 0; i < count / 2; i++) {
+			nextOutcome();
+		}
+		assertEquals(count / 2, scheduler.getSentCount());
+		assertEquals(0, scheduler.getScheduledCount());
+	}
+
+	@Test
+	public void testPersistenceAcrossRestart() throws Exception {
+		SmsTextRequest due = request("due", "ref-due"), later = request("later", "ref-later");
+		scheduler = builder().persistence(directory).build();
+		long dueId = scheduler.schedule(due, at(1000));
+		scheduler.schedule(later, at(Duration.ofDays(1).toMillis()));
+		long cancelledId = scheduler.schedule(request("cancelled", "ref-cancelled"), at(1000));
+		assertEquals(-1, scheduler.schedule(request("duplicate", "ref-due"), at(5000)));
+		assertTrue(scheduler.cancel(cancelledId));
+		scheduler.close();
+
+		clock.set(START + 60_000);
+		scheduler = builder().persistence(directory).build();
+		assertEquals(2, scheduler.getScheduledCount());
+		advanceTo(60_000);
+		MessageSendOutcome outcome = nextOutcome();
+		assertEquals(dueId, outcome.getIndex());
+		assertNull(outcome.getRequest());
+		assertTrue(outcome.isSuccessful());
+		assertEquals(List.of(due.toJson()), new ArrayList<>(sentBodies));
+		assertEquals(response.getMessageUuid(), outcome.getResponse().getMessageUuid());
+		scheduler.close();
+
+		scheduler = builder().persistence(directory).build();
+		assertEquals(1, scheduler.getScheduledCount());
+		advanceTo(Duration.ofDays(1).toMillis());
+		nextOutcome();
+		assertEquals(later.toJson(), sentBodies.stream().skip(1).findFirst().orElse(null));
+	}
+
+	@Test
+	public void testFarFutureMessageDoesNotRetainLogSegments() throws Exception {
+		scheduler = builder().persistence(directory).logSegmentSize(4096).build();
+		scheduler.schedule(request("reminder", "ref-reminder"), at(Duration.ofDays(7).toMillis()));
+		for (int i = 1; i <= 300; i++) {
+			scheduler.schedule(request("m" + i, "ref-" + i), at(i * 100L));
+			advanceTo(i * 100L);
+			assertTrue(nextOutcome().isSuccessful());
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			long segments = files.count();
+			assertTrue(segments <= 3, () -> "Segments: " + segments);
+		}
+		scheduler.close();
+
+		scheduler = builder().persistence(directory).logSegmentSize(4096).build();
+		assertEquals(1, scheduler.getScheduledCount());
+		assertEquals(-1, scheduler.schedule(request("duplicate", "ref-reminder"), at(0)));
+	}
+
+	@Test
+	public void testRateLimit() throws Exception {
+		scheduler = builder().maxRequestsPerSecond(100).build();
+		for (int i = 0; i < 20; i++) {
+			scheduler.schedule(request("m" + i, null), at(100));
+		}
+		long start = System.nanoTime();
+		advanceTo(100);
+		for (int i = 0; i < 20; i++) {
+			nextOutcome();
+		}
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(180));
+	}
+
+	@Test
+	public void testInvalidUsage() {
+		scheduler = builder().build();
+		assertThrows(NullPointerException.class, () -> scheduler.schedule(null, at(0)));
+		assertThrows(NullPointerException.class, () -> scheduler.schedule(request("a", null), null));
+		assertThrows(NullPointerException.class, () -> ScheduledMessageSender.builder(null));
+		assertThrows(IllegalArgumentException.class, () -> builder().tickDuration(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> builder().concurrency(0));
+		assertThrows(IllegalArgumentException.class, () -> builder().maxRequestsPerSecond(-1));
+		scheduler.close();
+		assertThrows(IllegalStateException.class, () -> scheduler.schedule(request("a", null), at(0)));
+	}
+}
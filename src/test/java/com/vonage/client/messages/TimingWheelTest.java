@@ -0,0 +1,135 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimingWheelTest {
+	final AtomicLong clock = new AtomicLong(1_000_000);
+	final TimingWheel wheel = new TimingWheel(10, TimeUnit.MILLISECONDS, 8, clock::get);
+
+	void advanceMillis(long millis) {
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+		wheel.advance();
+	}
+
+	@Test
+	public void testExpiresWithinOneTick() {
+		AtomicInteger fired = new AtomicInteger();
+		wheel.schedule(fired::incrementAndGet, 25, TimeUnit.MILLISECONDS);
+		assertEquals(1, wheel.pending());
+		advanceMillis(20);
+		assertEquals(0, fired.get());
+		advanceMillis(10);
+		assertEquals(1, fired.get());
+		assertEquals(0, wheel.pending());
+		advanceMillis(1000);
+		assertEquals(1, fired.get());
+	}
+
+	@Test
+	public void testDeadlinesBeyondOneRevolution() {
+		List<Integer> fired = new ArrayList<>();
+		// The wheel covers 80ms per revolution, so these share buckets with earlier ones.
+		for (int delay : new int[]{250, 10, 90, 170}) {
+			wheel.schedule(() -> fired.add(delay), delay, TimeUnit.MILLISECONDS);
+		}
+		advanceMillis(10);
+		assertEquals(List.of(10), fired);
+		advanceMillis(80);
+		assertEquals(List.of(10, 90), fired);
+		advanceMillis(80);
+		assertEquals(List.of(10, 90, 170), fired);
+		advanceMillis(70);
+		assertEquals(3, fired.size());
+		advanceMillis(10);
+		assertEquals(List.of(10, 90, 170, 250), fired);
+	}
+
+	@Test
+	public void testCancel() {
+		AtomicInteger fired = new AtomicInteger();
+		TimingWheel.Timeout first = wheel.schedule(fired::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+		TimingWheel.Timeout second = wheel.schedule(fired::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+		assertTrue(first.cancel());
+		assertFalse(first.cancel());
+		assertTrue(first.isCancelled());
+		assertEquals(1, wheel.pending());
+		advanceMillis(10);
+		assertEquals(1, fired.get());
+		assertTrue(second.isExpired());
+		assertFalse(second.cancel());
+
+		// Cancelled after being placed in a bucket.
+		TimingWheel.Timeout third = wheel.schedule(fired::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+		advanceMillis(10);
+		assertTrue(third.cancel());
+		advanceMillis(100);
+		assertEquals(1, fired.get());
+		assertEquals(0, wheel.pending());
+	}
+
+	@Test
+	public void testZeroDelayAndFailingTask() {
+		AtomicInteger fired = new AtomicInteger();
+		wheel.schedule(() -> { throw new IllegalStateException(); }, 0, TimeUnit.MILLISECONDS);
+		wheel.schedule(fired::incrementAndGet, -5, TimeUnit.MILLISECONDS);
+		advanceMillis(10);
+		assertEquals(1, fired.get());
+		assertEquals(0, wheel.pending());
+	}
+
+	@Test
+	public void testManyTimeouts() {
+		AtomicInteger fired = new AtomicInteger();
+		List<TimingWheel.Timeout> timeouts = new ArrayList<>();
+		for (int i = 0; i < 50_000; i++) {
+			timeouts.add(wheel.schedule(fired::incrementAndGet, i % 500, TimeUnit.MILLISECONDS));
+		}
+		for (int i = 0; i < timeouts.size(); i += 2) {
+			timeouts.get(i).cancel();
+		}
+		assertEquals(25_000, wheel.pending());
+		advanceMillis(510);
+		assertEquals(25_000, fired.get());
+		assertEquals(0, wheel.pending());
+	}
+
+	@Test
+	public void testWorkerThread() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		try (TimingWheel live = new TimingWheel("test-timer", 1, TimeUnit.MILLISECONDS, 16)) {
+			live.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+			live.schedule(latch::countDown, 40, TimeUnit.MILLISECONDS);
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			live.close();
+			assertThrows(IllegalStateException.class, () -> live.schedule(latch::countDown, 1, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void testInvalidConstruction() {
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, TimeUnit.SECONDS, 8, clock::get));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel(1, TimeUnit.SECONDS, 0, clock::get));
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.messages.internal;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testHistogramPercentiles() {
+		var histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getValueAtPercentile(99));
+		for (int i = 1; i <= 100_000; i++) {
+			histogram.record(i * 1000L);
+		}
+		assertEquals(100_000, histogram.getCount());
+		assertEquals(100_000_000, histogram.getMax());
+		assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 * 0.04);
+		assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 * 0.04);
+		assertEquals(99_900_000, histogram.getValueAtPercentile(99.9), 99_900_000 * 0.04);
+		assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+
+		for (long value : new long[]{0, 1, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE / 3}) {
+			int bucket = LatencyHistogram.bucketFor(value);
+			assertTrue(LatencyHistogram.highestValueIn(bucket) >= value);
+			assertTrue(bucket == 0 || LatencyHistogram.highestValueIn(bucket - 1) < value);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimitTest {
+    static final long MS = 1_000_000;
+
+    @Test
+    public void testAcquireUpToLimit() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0);
+        assertTrue(limit.tryAcquire());
+        limit.acquire();
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+        limit.release();
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    public void testAdditiveIncreaseOnlyWhenSaturated() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, 2.0);
+        assertTrue(limit.tryAcquire());
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(0, 10 * MS, false);
+        }
+        assertEquals(4, limit.getLimit());
+
+        while (limit.tryAcquire());
+        for (int i = 0; i < 4; i++) {
+            limit.onSample(0, 10 * MS, false);
+        }
+        assertEquals(4, limit.getLimit());
+        limit.onSample(0, 10 * MS, false);
+        assertEquals(5, limit.getLimit());
+
+        for (int i = 0; i < 1000; i++) {
+            while (limit.tryAcquire());
+            limit.onSample(0, 10 * MS, false);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void testThrottlingHalvesOncePerBurst() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16, 1, 64, 2.0);
+        limit.onSample(0, 10 * MS, true);
+        assertEquals(8, limit.getLimit());
+        // Requests already in flight when the limit was decreased do not decrease it again.
+        limit.onSample(5 * MS, 11 * MS, true);
+        limit.onSample(9 * MS, 12 * MS, true);
+        assertEquals(8, limit.getLimit());
+        limit.onSample(10 * MS, 20 * MS, true);
+        assertEquals(4, limit.getLimit());
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(100 * MS * (i + 1), 100 * MS * (i + 1) + 1, true);
+        }
+        assertEquals(1, limit.getLimit());
+    }
+
+    @Test
+    public void testHighLatencyDecreasesGently() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 64, 2.0);
+        limit.onSample(0, 10 * MS, false);
+        assertEquals(20, limit.getLimit());
+        limit.onSample(10 * MS, 30 * MS, false);
+        assertEquals(20, limit.getLimit());
+        limit.onSample(30 * MS, 51 * MS, false);
+        assertEquals(18, limit.getLimit());
+    }
+}
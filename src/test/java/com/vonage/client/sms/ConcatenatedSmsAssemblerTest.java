@@ -0,0 +1,215 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConcatenatedSmsAssemblerTest {
+    final AtomicLong clock = new AtomicLong();
+
+    static MessageEvent part(String msisdn, int ref, int total, int part, String text) {
+        return MessageEvent.fromJson("{\"msisdn\":\"" + msisdn + "\",\"to\":\"447700900000\"," +
+                "\"messageId\":\"id-" + ref + '-' + part + "\",\"text\":\"" + text + "\",\"type\":\"text\"," +
+                "\"message-timestamp\":\"2025-02-03 12:14:2" + part + "\"," +
+                "\"concat\":\"true\",\"concat-ref\":\"" + ref + "\",\"concat-total\":\"" + total +
+                "\",\"concat-part\":\"" + part + "\"}"
+        );
+    }
+
+    ConcatenatedSmsAssembler.Builder builder() {
+        return ConcatenatedSmsAssembler.builder().nanoTime(clock::get);
+    }
+
+    @Test
+    public void testOutOfOrderReassembly() {
+        List<MessageEvent> completed = new ArrayList<>();
+        ConcatenatedSmsAssembler assembler = builder().completionListener(completed::add).build();
+        assertNull(assembler.offer(part("447700900001", 7, 3, 3, "three")));
+        assertNull(assembler.offer(part("447700900001", 7, 3, 1, "one ")));
+        assertEquals(1, assembler.getPendingCount());
+
+        MessageEvent message = assembler.offer(part("447700900001", 7, 3, 2, "two "));
+        assertNotNull(message);
+        assertEquals("one two three", message.getText());
+        assertEquals("447700900001", message.getMsisdn());
+        assertEquals("447700900000", message.getTo());
+        assertEquals("id-7-1", message.getMessageId());
+        assertEquals(MessageType.TEXT, message.getType());
+        assertEquals(7, message.getConcatRef());
+        assertEquals(3, message.getConcatTotal());
+        assertNull(message.getConcatPart());
+        assertEquals(part("x", 7, 3, 2, "").getMessageTimestamp(), message.getMessageTimestamp());
+        assertEquals(List.of(message), completed);
+        assertEquals(0, assembler.getPendingCount());
+        assertEquals(1, assembler.getCompletedCount());
+    }
+
+    @Test
+    public void testNonConcatenatedMessagesPassThrough() {
+        ConcatenatedSmsAssembler assembler = builder().build();
+        MessageEvent single = MessageEvent.fromJson("{\"msisdn\":\"447700900001\",\"text\":\"Hi\"}");
+        assertSame(single, assembler.offer(single));
+        assertEquals(0, assembler.getCompletedCount());
+    }
+
+    @Test
+    public void testPartsAreKeyedBySenderAndReference() {
+        ConcatenatedSmsAssembler assembler = builder().build();
+        assertNull(assembler.offer(part("447700900001", 1, 2, 1, "a")));
+        assertNull(assembler.offer(part("447700900002", 1, 2, 2, "b")));
+        assertNull(assembler.offer(part("447700900001", 2, 2, 2, "c")));
+        assertEquals(3, assembler.getPendingCount());
+        assertEquals("ab", assembler.offer(part("447700900002", 1, 2, 1, "a")).getText());
+        assertEquals("ac", assembler.offer(part("447700900001", 2, 2, 1, "a")).getText());
+    }
+
+    @Test
+    public void testDuplicatePartsAreIgnored() {
+        ConcatenatedSmsAssembler assembler = builder().build();
+        assertNull(assembler.offer(part("447700900001", 1, 2, 1, "a")));
+        assertNull(assembler.offer(part("447700900001", 1, 2, 1, "a")));
+        assertEquals(1, assembler.getDuplicatePartCount());
+        assertEquals("ab", assembler.offer(part("447700900001", 1, 2, 2, "b")).getText());
+    }
+
+    @Test
+    public void testInvalidPartNumber() {
+        ConcatenatedSmsAssembler assembler = builder().build();
+        assertThrows(IllegalArgumentException.class, () -> assembler.offer(part("447700900001", 1, 2, 3, "c")));
+        assertThrows(IllegalArgumentException.class, () -> assembler.offer(part("447700900001", 1, 2, 0, "c")));
+        assertThrows(NullPointerException.class, () -> assembler.offer(null));
+    }
+
+    @Test
+    public void testTimeoutExpiry() {
+        List<List<MessageEvent>> expired = new ArrayList<>();
+        ConcatenatedSmsAssembler assembler = builder().timeout(Duration.ofSeconds(10)).stripes(1)
+                .expiryListener(expired::add).build();
+        MessageEvent first = part("447700900001", 1, 3, 1, "a"), third = part("447700900001", 1, 3, 3, "c");
+        assembler.offer(third);
+        assembler.offer(first);
+        clock.set(TimeUnit.SECONDS.toNanos(5));
+        assembler.offer(part("447700900002", 1, 2, 1, "x"));
+        assembler.expireStale();
+        assertEquals(2, assembler.getPendingCount());
+        assertTrue(expired.isEmpty());
+
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        assembler.expireStale();
+        assertEquals(List.of(List.of(first, third)), expired);
+        assertEquals(1, assembler.getPendingCount());
+        assertEquals(1, assembler.getExpiredCount());
+
+        // A late part starts a new, incomplete message.
+        assertNull(assembler.offer(part("447700900001", 1, 3, 2, "b")));
+        clock.set(TimeUnit.SECONDS.toNanos(15));
+        assembler.offer(part("447700900003", 1, 2, 1, "y"));
+        assertEquals(2, assembler.getExpiredCount());
+        assertEquals(2, assembler.getPendingCount());
+    }
+
+    @Test
+    public void testReusedReferenceWithDifferentTotal() {
+        List<List<MessageEvent>> expired = new ArrayList<>();
+        ConcatenatedSmsAssembler assembler = builder().expiryListener(expired::add).build();
+        assertNull(assembler.offer(part("447700900001", 1, 3, 1, "old")));
+        assertNull(assembler.offer(part("447700900001", 1, 2, 1, "a")));
+        assertEquals(1, expired.size());
+        assertEquals("ab", assembler.offer(part("447700900001", 1, 2, 2, "b")).getText());
+        assertEquals(1, assembler.getExpiredCount());
+    }
+
+    @Test
+    public void testBoundedMemoryEvictsOldest() {
+        List<List<MessageEvent>> evicted = new ArrayList<>();
+        ConcatenatedSmsAssembler assembler = builder().maxPendingMessages(3).stripes(1)
+                .expiryListener(evicted::add).build();
+        for (int ref = 0; ref < 5; ref++) {
+            assembler.offer(part("447700900001", ref, 2, 1, "part"));
+        }
+        assertEquals(3, assembler.getPendingCount());
+        assertEquals(2, assembler.getEvictedCount());
+        assertEquals(0, evicted.get(0).getFirst().getConcatRef());
+        assertEquals(1, evicted.get(1).getFirst().getConcatRef());
+        assertNull(assembler.offer(part("447700900001", 0, 2, 2, "late")));
+    }
+
+    @Test
+    public void testConcurrentReassembly() throws Exception {
+        final int senders = 100, parts = 4, threads = 8;
+        ConcatenatedSmsAssembler assembler = builder().build();
+        // The reflection-free parser builds the parts much faster than Jackson would.
+        SmsWebhookParser parser = new SmsWebhookParser();
+        List<MessageEvent> events = new ArrayList<>();
+        for (int s = 0; s < senders; s++) {
+            for (int p = 1; p <= parts; p++) {
+                Map<String, String[]> params = new HashMap<>();
+                params.put("msisdn", new String[]{"4477009" + String.format("%05d", s)});
+                params.put("to", new String[]{"447700900000"});
+                params.put("text", new String[]{String.valueOf(p)});
+                params.put("concat", new String[]{"true"});
+                params.put("concat-ref", new String[]{String.valueOf(s % 256)});
+                params.put("concat-total", new String[]{String.valueOf(parts)});
+                params.put("concat-part", new String[]{String.valueOf(p)});
+                events.add(parser.parseInboundSms(params));
+            }
+        }
+        Collections.shuffle(events, new Random(42));
+        Set<String> completed = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = t * events.size() / threads, to = (t + 1) * events.size() / threads;
+                List<MessageEvent> share = events.subList(from, to);
+                futures.add(executor.submit(() -> {
+                    for (MessageEvent event : share) {
+                        MessageEvent message = assembler.offer(event);
+                        if (message != null) {
+                            assertEquals("1234", message.getText());
+                            completed.add(message.getMsisdn());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(senders, completed.size());
+        assertEquals(senders, assembler.getCompletedCount());
+        assertEquals(0, assembler.getPendingCount());
+    }
+
+    @Test
+    public void testInvalidBuilderArguments() {
+        var builder = ConcatenatedSmsAssembler.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.maxPendingMessages(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.stripes(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.timeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.timeout(null));
+        assertThrows(NullPointerException.class, () -> builder.completionListener(null));
+        assertThrows(NullPointerException.class, () -> builder.expiryListener(null));
+    }
+}
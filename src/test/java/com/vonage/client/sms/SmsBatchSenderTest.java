@@ -0,0 +1,206 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.TestUtils;
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.sms.messages.Message;
+import com.vonage.client.sms.messages.TextMessage;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class SmsBatchSenderTest {
+
+    static class ApiError extends VonageApiResponseException {
+        ApiError(int status) {
+            super("HTTP " + status);
+            setStatusCode(status);
+        }
+    }
+
+    /**
+     * Fake client which throttles requests beyond its capacity, and otherwise responds according to the text:
+     * "long" messages have two parts, the second of which fails if the text contains "partial";
+     * "error" messages fail without a response; "429" messages are rate limited once.
+     */
+    static class FakeSmsClient extends SmsClient {
+        final int capacity;
+        final AtomicInteger active = new AtomicInteger(), peak = new AtomicInteger(),
+                calls = new AtomicInteger(), throttled = new AtomicInteger(), rateLimited = new AtomicInteger();
+
+        FakeSmsClient(int capacity) {
+            super(TestUtils.httpWrapperWithAllAuthMethods());
+            this.capacity = capacity;
+        }
+
+        static SmsSubmissionResponse response(String... statuses) {
+            StringBuilder parts = new StringBuilder();
+            for (String status : statuses) {
+                if (parts.length() > 0) parts.append(',');
+                parts.append("{\"to\":\"447700900000\",\"message-id\":\"id\",\"status\":\"")
+                        .append(status).append("\",\"message-price\":\"0.01\"}");
+            }
+            return Jsonable.fromJson("{\"messages\":[" + parts + "]}", SmsSubmissionResponse.class);
+        }
+
+        // Parsed once up front, since creating an ObjectMapper per call would dominate the timings.
+        static final SmsSubmissionResponse OK = response("0"), THROTTLED = response("1"),
+                MULTIPART = response("0", "0"), PARTIAL = response("0", "9");
+
+        @Override
+        public SmsSubmissionResponse submitMessage(Message message) {
+            calls.incrementAndGet();
+            String text = ((TextMessage) message).getMessageBody();
+            int now = active.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            try {
+                if (text.contains("error")) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                if (text.contains("429") && rateLimited.getAndIncrement() == 0) {
+                    throw new ApiError(429);
+                }
+                if (now > capacity) {
+                    throttled.incrementAndGet();
+                    return THROTTLED;
+                }
+                Thread.sleep(1);
+                return text.contains("long") ? text.contains("partial") ? PARTIAL : MULTIPART : OK;
+            }
+            catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    static List<TextMessage> messages(String... texts) {
+        List<TextMessage> messages = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            messages.add(new TextMessage("Vonage", "4477009" + String.format("%05d", i), texts[i]));
+        }
+        return messages;
+    }
+
+    @Test
+    public void testAggregatesPartsAndFailures() {
+        FakeSmsClient client = new FakeSmsClient(100);
+        try (SmsBatchSender sender = SmsBatchSender.builder(client)
+                .retryBackoff(Duration.ofMillis(1)).build()) {
+            SmsBatchResult result = sender.sendAll(messages("short", "long", "long partial", "error", "429"));
+            assertEquals(5, result.getMessageCount());
+            assertEquals(3, result.getSuccessfulCount());
+            assertEquals(6, result.getPartCount());
+            assertEquals(1, result.getFailedPartCount());
+            assertEquals(1, result.getRetryCount());
+            assertEquals(new BigDecimal("0.06"), result.getTotalPrice());
+
+            List<SmsSubmissionOutcome> outcomes = result.getOutcomes();
+            for (int i = 0; i < outcomes.size(); i++) {
+                assertEquals(i, outcomes.get(i).getIndex());
+            }
+            assertTrue(outcomes.get(1).isSuccessful());
+            assertEquals(2, outcomes.get(1).getPartCount());
+
+            SmsSubmissionOutcome partial = outcomes.get(2);
+            assertFalse(partial.isSuccessful());
+            assertNull(partial.getException());
+            assertEquals(MessageStatus.PARTNER_QUOTA_EXCEEDED, partial.getFailedParts().getFirst().getStatus());
+
+            SmsSubmissionOutcome error = outcomes.get(3);
+            assertFalse(error.isSuccessful());
+            assertNull(error.getResponse());
+            assertEquals("Connection reset", error.getException().getMessage());
+            assertEquals(0, error.getPartCount());
+            assertEquals(List.of(partial, error), result.getFailedOutcomes());
+
+            assertTrue(outcomes.get(4).isSuccessful());
+            assertEquals(2, outcomes.get(4).getAttempts());
+            assertEquals(5, sender.getSubmittedCount());
+            assertEquals(1, sender.getRetryCount());
+            assertEquals(0, sender.getInFlightCount());
+        }
+    }
+
+    @Test
+    public void testAdaptsConcurrencyToThrottling() {
+        FakeSmsClient client = new FakeSmsClient(4);
+        try (SmsBatchSender sender = SmsBatchSender.builder(client).initialConcurrency(32).maxConcurrency(32)
+                .latencyTolerance(1000).maxRetries(50).retryBackoff(Duration.ofMillis(1)).build()) {
+            String[] texts = new String[300];
+            Arrays.fill(texts, "Hello");
+            SmsBatchResult result = sender.sendAll(messages(texts));
+            assertEquals(300, result.getSuccessfulCount());
+            assertTrue(client.throttled.get() > 0);
+            assertEquals(client.throttled.get(), result.getRetryCount());
+            assertTrue(sender.getConcurrencyLimit() < 32, "Limit: " + sender.getConcurrencyLimit());
+            // Once adapted, far fewer requests are throttled than would be with a fixed concurrency of 32.
+            assertTrue(client.throttled.get() < 300, "Throttled: " + client.throttled.get());
+        }
+    }
+
+    @Test
+    public void testLazyIterationStopsSubmitting() {
+        FakeSmsClient client = new FakeSmsClient(100);
+        try (SmsBatchSender sender = SmsBatchSender.builder(client).initialConcurrency(2).maxConcurrency(2).build()) {
+            Iterator<TextMessage> input = IntStream.range(0, 1000)
+                    .mapToObj(i -> new TextMessage("Vonage", "447700900000", "Message " + i)).iterator();
+            Iterator<SmsSubmissionOutcome> outcomes = sender.sendAsCompleted(input);
+            for (int i = 0; i < 5; i++) {
+                assertTrue(outcomes.next().isSuccessful());
+            }
+            assertTrue(client.calls.get() <= 7, "Calls: " + client.calls.get());
+            assertTrue(client.peak.get() <= 2);
+        }
+    }
+
+    @Test
+    public void testClosedSenderReleasesConcurrencySlot() {
+        FakeSmsClient client = new FakeSmsClient(1);
+        SmsBatchSender sender = SmsBatchSender.builder(client).initialConcurrency(2).maxConcurrency(2).build();
+        sender.close();
+        Iterator<SmsSubmissionOutcome> outcomes = sender.sendAsCompleted(
+                List.of(new TextMessage("Vonage", "447700900000", "Late")).iterator()
+        );
+        assertThrows(IllegalStateException.class, outcomes::hasNext);
+        assertEquals(0, sender.getInFlightCount());
+        assertEquals(0, client.calls.get());
+    }
+
+    @Test
+    public void testInvalidBuilderArguments() {
+        FakeSmsClient client = new FakeSmsClient(1);
+        assertThrows(NullPointerException.class, () -> SmsBatchSender.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> SmsBatchSender.builder(client).initialConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> SmsBatchSender.builder(client).maxConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> SmsBatchSender.builder(client).latencyTolerance(1));
+        assertThrows(IllegalArgumentException.class, () -> SmsBatchSender.builder(client).maxRetries(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                SmsBatchSender.builder(client).retryBackoff(Duration.ofMillis(-1))
+        );
+        assertThrows(IllegalArgumentException.class, () ->
+                SmsBatchSender.builder(client).initialConcurrency(10).maxConcurrency(5).build()
+        );
+    }
+}
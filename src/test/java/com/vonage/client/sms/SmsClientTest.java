@@ -68,6 +68,14 @@ public class SmsClientTest extends AbstractClientTest<SmsClient> {
         assertEquals(2, response.getMessages().size());
     }
 
+    @Test
+    public void testSubmitParams() throws Exception {
+        stubResponse("{\"message-count\":1,\"messages\":[{\"message-id\":\"message-id-1\",\"status\":\"0\"}]}");
+        var message = new TextMessage("Nexmo", "not-a-number", "Test");
+        var response = client.submitParams(message.makeParams());
+        assertEquals("message-id-1", response.getMessages().getFirst().getId());
+    }
+
     @Test
     public void testSubmitMessageHttpError() throws Exception {
         stubResponse(500, "");
@@ -0,0 +1,94 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.TestUtils;
+import com.vonage.client.sms.messages.TextMessage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class SmsOutboxTest {
+    @TempDir Path directory;
+
+    /**
+     * Fake client which reports throttling for the first attempt at each message.
+     */
+    static class FakeSmsClient extends SmsClient {
+        final Queue<Map<String, String>> submitted = new ConcurrentLinkedQueue<>();
+        final AtomicInteger attempts = new AtomicInteger();
+
+        FakeSmsClient() {
+            super(TestUtils.httpWrapperWithAllAuthMethods());
+        }
+
+        @Override
+        SmsSubmissionResponse submitParams(Map<String, String> params) {
+            String status = attempts.getAndIncrement() % 2 == 0 ? "1" : "0";
+            if (status.equals("0")) submitted.add(params);
+            return Jsonable.fromJson("{\"message-count\":\"1\",\"messages\":[{\"to\":\"" + params.get("to") +
+                    "\",\"message-id\":\"id-" + params.get("client-ref") + "\",\"status\":\"" + status + "\"}]}",
+                    SmsSubmissionResponse.class
+            );
+        }
+    }
+
+    @Test
+    public void testEncodingRoundTrip() throws Exception {
+        TextMessage message = new TextMessage("Vonage", "447700900000", "Héllo & goodbye = 100%");
+        message.setClientReference("ref 1");
+        FakeSmsClient client = new FakeSmsClient();
+        try (SmsOutbox outbox = SmsOutbox.builder(client, directory).build()) {
+            assertEquals(message.makeParams(), SmsOutbox.decode(outbox.encode(message)));
+            assertEquals("ref 1", outbox.idempotencyKey(message));
+        }
+    }
+
+    @Test
+    public void testSendWithThrottlingRetry() throws Exception {
+        FakeSmsClient client = new FakeSmsClient();
+        Map<String, SmsSubmissionResponse> sent = new ConcurrentHashMap<>();
+        try (SmsOutbox outbox = SmsOutbox.builder(client, directory).senders(1)
+                .retryBackoff(Duration.ofMillis(1), Duration.ofMillis(5))
+                .onSent((entry, response) -> sent.put(entry.getKey(), response)).build()) {
+            List<TextMessage> messages = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                TextMessage message = new TextMessage("Vonage", "44770090000" + i, "Message " + i);
+                message.setClientReference("ref-" + i);
+                messages.add(message);
+            }
+            assertEquals(3, outbox.submitAll(messages));
+            for (int i = 0; i < 1000 && outbox.getPendingCount() > 0; i++) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, outbox.getPendingCount());
+            assertEquals(3, outbox.getSentCount());
+            assertEquals(3, outbox.getRetryCount());
+            assertEquals(MessageStatus.OK, sent.get("ref-1").getMessages().getFirst().getStatus());
+            assertEquals("id-ref-1", outbox.describe(sent.get("ref-1")));
+            assertEquals(Set.of("Message 0", "Message 1", "Message 2"),
+                    client.submitted.stream().map(p -> p.get("text")).collect(Collectors.toSet())
+            );
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.messages.sms.EncodingType;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.sms.messages.MessageType;
+import com.vonage.client.sms.messages.TextMessage;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SmsTextAnalysisTest {
+
+    void assertAnalysis(SmsTextAnalysis analysis, MessageType type, int length, int segments, int remaining) {
+        assertEquals(type, analysis.getMessageType());
+        assertEquals(type == MessageType.UNICODE, analysis.isUnicode());
+        assertEquals(type == MessageType.UNICODE ? EncodingType.UNICODE : EncodingType.TEXT, analysis.getEncodingType());
+        assertEquals(length, analysis.getLength());
+        assertEquals(segments, analysis.getSegmentCount());
+        assertEquals(remaining, analysis.getRemaining());
+    }
+
+    @Test
+    public void testGsm7BasicAndExtensionTables() {
+        String basic = "@£$¥èéùìòÇ\nØø\rÅåΔ_ΦΓΛΩΠΨΣΘΞÆæßÉ !\"#¤%&'()*+,-./09:;<=>?¡AZÄÖÑÜ§¿azäöñüà";
+        assertTrue(SmsTextAnalysis.isGsm7(basic));
+        assertEquals(basic.length(), SmsTextAnalysis.countSeptets(basic));
+
+        String extension = "\f^{}\\[~]|€";
+        assertTrue(SmsTextAnalysis.isGsm7(extension));
+        assertEquals(extension.length() * 2, SmsTextAnalysis.countSeptets(extension));
+
+        for (String unsupported : new String[]{"`", "á", "ç", "€ and ê", "Привет", "你好", "😀", "\t"}) {
+            assertFalse(SmsTextAnalysis.isGsm7(unsupported), unsupported);
+            assertEquals(-1, SmsTextAnalysis.countSeptets(unsupported), unsupported);
+            assertEquals(MessageType.UNICODE, SmsTextAnalysis.detectMessageType(unsupported));
+        }
+        assertEquals(MessageType.TEXT, SmsTextAnalysis.detectMessageType(basic + extension));
+    }
+
+    @Test
+    public void testGsm7SegmentBoundaries() {
+        assertAnalysis(SmsTextAnalysis.of(""), MessageType.TEXT, 0, 1, 160);
+        assertAnalysis(SmsTextAnalysis.of("Hello"), MessageType.TEXT, 5, 1, 155);
+        assertAnalysis(SmsTextAnalysis.of("a".repeat(160)), MessageType.TEXT, 160, 1, 0);
+        assertAnalysis(SmsTextAnalysis.of("a".repeat(161)), MessageType.TEXT, 161, 2, 145);
+        assertAnalysis(SmsTextAnalysis.of("a".repeat(306)), MessageType.TEXT, 306, 2, 0);
+        assertAnalysis(SmsTextAnalysis.of("a".repeat(307)), MessageType.TEXT, 307, 3, 152);
+        assertAnalysis(SmsTextAnalysis.of("{".repeat(80)), MessageType.TEXT, 160, 1, 0);
+        assertEquals(2, SmsTextAnalysis.countSegments("a".repeat(159) + "€"));
+    }
+
+    @Test
+    public void testGsm7ExtensionCharacterIsNotSplitAcrossSegments() {
+        // 152 septets followed by an escaped character leaves one septet of padding in the first segment.
+        String text = "a".repeat(152) + "[" + "a".repeat(152);
+        SmsTextAnalysis analysis = SmsTextAnalysis.of(text);
+        assertEquals(306, analysis.getLength());
+        assertEquals(3, analysis.getSegmentCount());
+        assertEquals(152, analysis.getRemaining());
+    }
+
+    @Test
+    public void testUcs2SegmentBoundaries() {
+        assertAnalysis(SmsTextAnalysis.of("Привет"), MessageType.UNICODE, 6, 1, 64);
+        assertAnalysis(SmsTextAnalysis.of("ж".repeat(70)), MessageType.UNICODE, 70, 1, 0);
+        assertAnalysis(SmsTextAnalysis.of("ж".repeat(71)), MessageType.UNICODE, 71, 2, 63);
+        assertAnalysis(SmsTextAnalysis.of("ж".repeat(134)), MessageType.UNICODE, 134, 2, 0);
+        assertAnalysis(SmsTextAnalysis.of("ж".repeat(135)), MessageType.UNICODE, 135, 3, 66);
+        // A single unsupported character switches the whole message to UCS-2.
+        assertAnalysis(SmsTextAnalysis.of("a".repeat(100) + "ê"), MessageType.UNICODE, 101, 2, 33);
+    }
+
+    @Test
+    public void testSurrogatePairIsNotSplitAcrossSegments() {
+        String text = "ж".repeat(66) + "😀" + "ж".repeat(66);
+        SmsTextAnalysis analysis = SmsTextAnalysis.of(text);
+        assertEquals(134, analysis.getLength());
+        assertEquals(3, analysis.getSegmentCount());
+        assertEquals(66, analysis.getRemaining());
+        assertAnalysis(SmsTextAnalysis.of("😀".repeat(35)), MessageType.UNICODE, 70, 1, 0);
+    }
+
+    @Test
+    public void testForcedEncoding() {
+        assertAnalysis(SmsTextAnalysis.of("Hello", true), MessageType.UNICODE, 5, 1, 65);
+        assertAnalysis(SmsTextAnalysis.of("Hello ê", false), MessageType.TEXT, 7, 1, 153);
+    }
+
+    @Test
+    public void testTextMessage() {
+        TextMessage gsm = TextMessage.withDetectedEncoding("Vonage", "447700900000", "Price: 5€ {approx}");
+        assertFalse(gsm.isUnicode());
+        assertAnalysis(SmsTextAnalysis.of(gsm), MessageType.TEXT, 21, 1, 139);
+
+        TextMessage unicode = TextMessage.withDetectedEncoding("Vonage", "447700900000", "Olá");
+        assertTrue(unicode.isUnicode());
+        assertEquals(MessageType.UNICODE, unicode.getType());
+        assertAnalysis(SmsTextAnalysis.of(unicode), MessageType.UNICODE, 3, 1, 67);
+
+        assertAnalysis(SmsTextAnalysis.of(new TextMessage("Vonage", "447700900000", "Hello", true)),
+                MessageType.UNICODE, 5, 1, 65
+        );
+    }
+
+    @Test
+    public void testSmsTextRequest() {
+        var builder = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hello");
+        assertAnalysis(SmsTextAnalysis.of(builder.build()), MessageType.TEXT, 5, 1, 155);
+        assertAnalysis(SmsTextAnalysis.of(builder.encodingType(EncodingType.AUTO).build()), MessageType.TEXT, 5, 1, 155);
+        assertAnalysis(SmsTextAnalysis.of(builder.encodingType(EncodingType.UNICODE).build()),
+                MessageType.UNICODE, 5, 1, 65
+        );
+        var auto = builder.text("Olá!").encodingType(null).build();
+        assertAnalysis(SmsTextAnalysis.of(auto), MessageType.UNICODE, 4, 1, 66);
+        assertEquals(EncodingType.UNICODE, SmsTextAnalysis.of(auto.getText()).getEncodingType());
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.sms;
+
+import com.vonage.client.VonageClientException;
+import com.vonage.client.VonageResponseParseException;
+import com.vonage.client.auth.RequestSignatureVerifier;
+import com.vonage.client.auth.RequestSigning;
+import com.vonage.client.auth.hashutils.HashType;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SmsWebhookParserTest {
+    static final String SECRET = "abcde";
+
+    final SmsWebhookParser parser = new SmsWebhookParser();
+
+    private static Map<String, String> inboundParams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("msisdn", "447700900001");
+        params.put("to", "447700900000");
+        params.put("messageId", "0A0000000123ABCD1");
+        params.put("text", "Héllo wörld & 100% = fun+games");
+        params.put("type", "unicode");
+        params.put("keyword", "HÉLLO");
+        params.put("message-timestamp", "2020-01-01 12:00:00");
+        params.put("timestamp", "1577880000");
+        params.put("nonce", "aaaaaaaa-bbbb-cccc-dddd-0123456789ab");
+        params.put("concat", "true");
+        params.put("concat-ref", "1");
+        params.put("concat-total", "3");
+        params.put("concat-part", "2");
+        return params;
+    }
+
+    private static Map<String, String> receiptParams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("msisdn", "447700900000");
+        params.put("to", "AcmeInc");
+        params.put("network-code", "12345");
+        params.put("messageId", "0A0000001234567B");
+        params.put("price", "0.03330000");
+        params.put("status", "delivered");
+        params.put("scts", "2001011400");
+        params.put("err-code", "0");
+        params.put("api-key", "abcd1234");
+        params.put("client-ref", "my-personal-reference");
+        params.put("message-timestamp", "2020-01-01 12:00:00");
+        return params;
+    }
+
+    private static Map<String, String[]> parameterMap(Map<String, String> params) {
+        Map<String, String[]> map = new LinkedHashMap<>();
+        params.forEach((k, v) -> map.put(k, new String[]{v}));
+        return map;
+    }
+
+    private static byte[] formBody(Map<String, String> params) {
+        return params.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + '=' +
+                        URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8)
+                )
+                .collect(Collectors.joining("&")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> signed(Map<String, String> params) {
+        Map<String, String> signed = new LinkedHashMap<>(params);
+        signed.putAll(RequestSigning.getSignatureForRequestParameters(params, SECRET, HashType.MD5));
+        return signed;
+    }
+
+    private static void assertInboundEquals(MessageEvent event) {
+        assertEquals("447700900001", event.getMsisdn());
+        assertEquals("447700900000", event.getTo());
+        assertEquals("0A0000000123ABCD1", event.getMessageId());
+        assertEquals("Héllo wörld & 100% = fun+games", event.getText());
+        assertEquals(MessageType.UNICODE, event.getType());
+        assertEquals("HÉLLO", event.getKeyword());
+        assertEquals(Instant.parse("2020-01-01T12:00:00Z"), event.getMessageTimestamp());
+        assertEquals("aaaaaaaa-bbbb-cccc-dddd-0123456789ab", event.getNonce());
+        assertEquals(true, event.getConcat());
+        assertEquals(1, event.getConcatRef());
+        assertEquals(3, event.getConcatTotal());
+        assertEquals(2, event.getConcatPart());
+        assertNull(event.getData());
+        assertNull(event.getUdh());
+    }
+
+    private static void assertReceiptEquals(DeliveryReceipt receipt) {
+        assertEquals("447700900000", receipt.getMsisdn());
+        assertEquals("AcmeInc", receipt.getTo());
+        assertEquals("12345", receipt.getNetworkCode());
+        assertEquals("0A0000001234567B", receipt.getMessageId());
+        assertEquals(new BigDecimal("0.03330000"), receipt.getPrice());
+        assertEquals(DeliveryReceipt.Status.DELIVERED, receipt.getStatus());
+        assertEquals("2001011400", receipt.getScts());
+        assertEquals(0, receipt.getErrorCode());
+        assertEquals("abcd1234", receipt.getApiKey());
+        assertEquals("my-personal-reference", receipt.getClientRef());
+        assertEquals(Instant.parse("2020-01-01T12:00:00Z"), receipt.getMessageTimestamp());
+    }
+
+    @Test
+    public void testParseInboundSmsFromParameterMap() {
+        var event = parser.parseInboundSms(parameterMap(inboundParams()));
+        assertInboundEquals(event);
+        assertEquals(1577880000L, event.getTimestamp());
+    }
+
+    @Test
+    public void testParseInboundSmsFromFormBody() {
+        byte[] body = formBody(inboundParams());
+        assertInboundEquals(parser.parseInboundSms(body));
+
+        byte[] padded = new byte[body.length + 10];
+        System.arraycopy(body, 0, padded, 5, body.length);
+        assertInboundEquals(parser.parseInboundSms(padded, 5, body.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parseInboundSms(body, 1, body.length));
+    }
+
+    @Test
+    public void testParseDeliveryReceipt() {
+        Map<String, String> params = receiptParams();
+        assertReceiptEquals(parser.parseDeliveryReceipt(parameterMap(params)));
+        assertReceiptEquals(parser.parseDeliveryReceipt(formBody(params)));
+    }
+
+    @Test
+    public void testBinaryInboundSms() {
+        var event = parser.parseInboundSms(
+                "type=binary&data=%30%31%32%0A&udh=050003CC0201&msisdn=447700900001".getBytes(StandardCharsets.UTF_8)
+        );
+        assertEquals(MessageType.BINARY, event.getType());
+        assertEquals("012\n", event.getData());
+        assertEquals("050003CC0201", event.getUdh());
+        assertEquals("447700900001", event.getMsisdn());
+        assertNull(event.getText());
+    }
+
+    @Test
+    public void testBlankEmptyAndUnknownParameters() {
+        var event = parser.parseInboundSms(
+                "&keyword=&text&=orphan&concat-ref=%20&unknown%2Dparam=x&msisdn=1&&".getBytes(StandardCharsets.UTF_8)
+        );
+        assertEquals("1", event.getMsisdn());
+        assertNull(event.getKeyword());
+        assertNull(event.getText());
+        assertNull(event.getConcatRef());
+
+        Map<String, String[]> map = new LinkedHashMap<>();
+        map.put("to", new String[0]);
+        map.put("text", null);
+        map.put("keyword", new String[]{"first", "second"});
+        event = parser.parseInboundSms(map);
+        assertNull(event.getTo());
+        assertNull(event.getText());
+        assertEquals("first", event.getKeyword());
+    }
+
+    @Test
+    public void testMalformedValues() {
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseInboundSms("concat-part=two".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseDeliveryReceipt("price=free".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseDeliveryReceipt("message-timestamp=2020-01-01T12:00:00".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseDeliveryReceipt("message-timestamp=2020-13-01+12:00:00".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseInboundSms("text=100%".getBytes(StandardCharsets.UTF_8))
+        );
+        assertThrows(VonageResponseParseException.class, () ->
+                parser.parseInboundSms("text=%zz".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    public void testParseTimestamp() {
+        assertEquals(Instant.parse("2024-02-29T23:59:59Z"), SmsWebhookParser.parseTimestamp("2024-02-29 23:59:59"));
+        assertThrows(RuntimeException.class, () -> SmsWebhookParser.parseTimestamp("2023-02-29 23:59:59"));
+        assertThrows(RuntimeException.class, () -> SmsWebhookParser.parseTimestamp("2024-02-29 23:59"));
+        assertThrows(RuntimeException.class, () -> SmsWebhookParser.parseTimestamp("2024-02-2x 23:59:59"));
+    }
+
+    @Test
+    public void testSignatureVerification() {
+        var verifying = new SmsWebhookParser(new RequestSignatureVerifier(SECRET));
+        Map<String, String> receiptParams = receiptParams();
+        receiptParams.put("custom", "value");
+        Map<String, String> inbound = signed(inboundParams()), receipt = signed(receiptParams);
+
+        assertInboundEquals(verifying.parseInboundSms(parameterMap(inbound)));
+        assertInboundEquals(verifying.parseInboundSms(formBody(inbound)));
+        assertReceiptEquals(verifying.parseDeliveryReceipt(parameterMap(receipt)));
+        assertReceiptEquals(verifying.parseDeliveryReceipt(formBody(receipt)));
+
+        assertThrows(VonageClientException.class, () -> verifying.parseInboundSms(formBody(inboundParams())));
+        receipt.put("custom", "tampered");
+        assertThrows(VonageClientException.class, () -> verifying.parseDeliveryReceipt(formBody(receipt)));
+        assertThrows(VonageClientException.class, () -> verifying.parseDeliveryReceipt(parameterMap(receipt)));
+        assertThrows(NullPointerException.class, () -> new SmsWebhookParser(null));
+    }
+
+    @Test
+    public void testDeliveryReceiptFromJson() {
+        var receipt = DeliveryReceipt.fromJson("""
+                {
+                  "msisdn": "447700900000",
+                  "to": "AcmeInc",
+                  "network-code": "12345",
+                  "messageId": "0A0000001234567B",
+                  "price": "0.03330000",
+                  "status": "delivered",
+                  "scts": "2001011400",
+                  "err-code": "0",
+                  "api-key": "abcd1234",
+                  "client-ref": "my-personal-reference",
+                  "message-timestamp": "2020-01-01 12:00:00",
+                  "timestamp": "1577880000",
+                  "nonce": "ec11dd3e-1e7f-4db5-9467-82b02cd223b9"
+                }""");
+        assertReceiptEquals(receipt);
+        assertEquals(1577880000L, receipt.getTimestamp());
+        assertEquals("ec11dd3e-1e7f-4db5-9467-82b02cd223b9", receipt.getNonce());
+        assertEquals(DeliveryReceipt.Status.UNKNOWN, DeliveryReceipt.fromJson("{\"status\":\"unknown\"}").getStatus());
+        assertNull(DeliveryReceipt.fromJson("{\"status\":\"new\"}").getStatus());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import com.vonage.client.VonageClient;
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.sms.SmsTextAnalysis;
+import com.vonage.client.sms.messages.TextMessage;
+import com.vonage.client.voice.Call;
+import com.vonage.client.voice.EventWebhook;
+import com.vonage.client.voice.PhoneEndpoint;
+import com.vonage.client.voice.ncco.TalkAction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+/**
+ * Guards against allocation regressions by measuring the bytes allocated on the calling thread per
+ * operation, and comparing them against the budgets checked in to {@code allocation-budgets.properties}.
+ * HTTP calls go to a {@link VonageStubServer}, whose own allocation happens on other threads and so is
+ * not counted. When an intentional change moves a figure, update the budget in the same change so that
+ * the new cost is reviewed.
+ */
+public class AllocationBudgetTest {
+    static final String INBOUND_MESSAGE = """
+            {"channel":"sms","message_uuid":"aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab","to":"447700900000",\
+            "from":"447700900001","timestamp":"2025-02-03T12:14:25Z","text":"Hello From Vonage!",\
+            "message_type":"text","usage":{"currency":"EUR","price":"0.0333"},\
+            "sms":{"num_messages":"1","count_total":"1","keyword":"HELLO"}}""",
+        MESSAGE_STATUS = """
+            {"message_uuid":"aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab","to":"447700900000","from":"447700900001",\
+            "timestamp":"2025-02-03T12:14:25Z","status":"delivered","channel":"sms","client_ref":"abc123",\
+            "usage":{"currency":"EUR","price":"0.0333"},"sms":{"count_total":"1"},\
+            "destination":{"network_code":"12345"}}""",
+        VOICE_EVENT = """
+            {"uuid":"aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab","conversation_uuid":"CON-aaaaaaaa-bbbb-4ccc-8ddd-0123456789ab",\
+            "from":"447700900001","to":"447700900000","status":"completed","direction":"outbound",\
+            "timestamp":"2025-02-03T12:16:01.000Z","start_time":"2025-02-03T12:14:25.000Z",\
+            "end_time":"2025-02-03T12:16:01.000Z","duration":"96","rate":"0.01450000","price":"0.02320000",\
+            "network":"23410"}""";
+
+    static final int WARMUP = 300, BATCHES = 5, BATCH_SIZE = 50;
+
+    static VonageStubServer server;
+    static VonageClient client;
+    static Properties budgets;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        server = VonageStubServer.builder().start();
+        client = server.vonageClient();
+        budgets = new Properties();
+        try (InputStream is = AllocationBudgetTest.class.getResourceAsStream("allocation-budgets.properties")) {
+            budgets.load(is);
+        }
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        server.close();
+    }
+
+    /**
+     * Measures the allocation per invocation on the current thread, as the minimum batch average after
+     * warming up, so that one-off costs such as class loading and JIT compilation are excluded.
+     */
+    static long allocatedBytesPerCall(Callable<?> operation) throws Exception {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeAllocationMeasurable(threads);
+        for (int i = 0; i < WARMUP; i++) {
+            assertNotNull(operation.call());
+        }
+        long best = Long.MAX_VALUE;
+        for (int b = 0; b < BATCHES; b++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                operation.call();
+            }
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - before) / BATCH_SIZE);
+        }
+        return best;
+    }
+
+    static void assumeAllocationMeasurable(com.sun.management.ThreadMXBean threads) {
+        org.junit.jupiter.api.Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    void assertWithinBudget(String operation, Callable<?> call) throws Exception {
+        String budgetStr = budgets.getProperty(operation);
+        assertNotNull(budgetStr, "No allocation budget for " + operation);
+        long budget = Long.parseLong(budgetStr.trim()), actual = allocatedBytesPerCall(call);
+        assertTrue(actual <= budget, String.format(
+                "%s allocated %,d bytes per call, exceeding its budget of %,d bytes.", operation, actual, budget
+        ));
+    }
+
+    @Test
+    public void testSendMessage() throws Exception {
+        var messages = client.getMessagesClient();
+        var request = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hello").build();
+        assertWithinBudget("messages.sendMessage", () -> messages.sendMessage(request));
+    }
+
+    @Test
+    public void testCreateCall() throws Exception {
+        var voice = client.getVoiceClient();
+        var call = Call.builder().from("447700900001").to(new PhoneEndpoint("447700900000"))
+                .ncco(TalkAction.builder("Hello").build()).build();
+        assertWithinBudget("voice.createCall", () -> voice.createCall(call));
+    }
+
+    @Test
+    public void testSubmitMessage() throws Exception {
+        var sms = client.getSmsClient();
+        var message = new TextMessage("Vonage", "447700900000", "Hello");
+        assertWithinBudget("sms.submitMessage", () -> sms.submitMessage(message));
+    }
+
+    @Test
+    public void testWebhookParsing() throws Exception {
+        assertWithinBudget("messages.InboundMessage.fromJson", () -> InboundMessage.fromJson(INBOUND_MESSAGE));
+        assertWithinBudget("messages.MessageStatus.fromJson", () -> MessageStatus.fromJson(MESSAGE_STATUS));
+        assertWithinBudget("voice.EventWebhook.fromJson", () -> EventWebhook.fromJson(VOICE_EVENT));
+    }
+
+    @Test
+    public void testSmsSegmentCounting() throws Exception {
+        String text = "Your order #12345 has shipped and will arrive on Tuesday. Track it at {link} - reply STOP to opt out. "
+                .repeat(3);
+        assertWithinBudget("sms.SmsTextAnalysis.countSegments", () -> SmsTextAnalysis.countSegments(text));
+    }
+}
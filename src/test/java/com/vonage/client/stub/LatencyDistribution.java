@@ -0,0 +1,100 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of artificial response delays injected by {@link VonageStubServer}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Samples the next delay.
+     *
+     * @param random Per-thread random source.
+     * @return The delay in nanoseconds, never negative.
+     */
+    long nextNanos(ThreadLocalRandom random);
+
+    /**
+     * No injected latency.
+     *
+     * @return A distribution which always returns zero.
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * Constant latency.
+     *
+     * @param delay The delay to apply to every response.
+     * @return A fixed distribution.
+     */
+    static LatencyDistribution fixed(Duration delay) {
+        long nanos = delay.toNanos();
+        if (nanos < 0) throw new IllegalArgumentException("Delay cannot be negative.");
+        return random -> nanos;
+    }
+
+    /**
+     * Latency sampled uniformly between two bounds (inclusive of the lower, exclusive of the upper).
+     *
+     * @param min The minimum delay.
+     * @param max The maximum delay.
+     * @return A uniform distribution.
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long lo = min.toNanos(), hi = max.toNanos();
+        if (lo < 0 || hi <= lo) throw new IllegalArgumentException("Invalid bounds: ["+min+", "+max+").");
+        return random -> random.nextLong(lo, hi);
+    }
+
+    /**
+     * Log-normal latency, which approximates the long-tailed response times of a real API.
+     *
+     * @param median The median (50th percentile) delay.
+     * @param sigma Shape parameter; larger values produce a heavier tail. 0.5 is a reasonable default.
+     * @return A log-normal distribution.
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        if (median.isNegative() || median.isZero() || sigma < 0) {
+            throw new IllegalArgumentException("Median must be positive and sigma non-negative.");
+        }
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Adds occasional latency spikes on top of this distribution.
+     *
+     * @param probability Fraction of responses (between 0 and 1) which incur the spike.
+     * @param spike The additional delay applied to those responses.
+     * @return A new distribution with the spikes applied.
+     */
+    default LatencyDistribution withSpikes(double probability, Duration spike) {
+        Objects.requireNonNull(spike, "Spike cannot be null.");
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("Probability must be between 0 and 1.");
+        }
+        long spikeNanos = spike.toNanos();
+        return random -> nextNanos(random) + (random.nextDouble() < probability ? spikeNanos : 0);
+    }
+}
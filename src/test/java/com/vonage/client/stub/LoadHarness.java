@@ -0,0 +1,256 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.messages.internal.LatencyHistogram;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives an operation (typically a {@link com.vonage.client.VonageClient} call against a
+ * {@link VonageStubServer}) at a target rate from a fixed pool of worker threads, and reports latency
+ * percentiles, throughput and heap growth. The same harness serves short load tests and long soak runs.
+ * <p>
+ * When a {@linkplain Builder#targetRate(int) target rate} is set, the schedule is open-loop: each operation
+ * has an intended start time, and its latency is measured from that time rather than from when a worker
+ * became free. This avoids coordinated omission, so queueing delay caused by a slow client shows up in the
+ * tail percentiles instead of being hidden.
+ */
+public final class LoadHarness {
+    private final int targetRate, concurrency;
+    private final long requests, warmupRequests;
+    private final Duration duration, heapSampleInterval;
+
+    private LoadHarness(Builder builder) {
+        targetRate = builder.targetRate;
+        concurrency = builder.concurrency;
+        requests = builder.requests;
+        warmupRequests = builder.warmupRequests;
+        duration = builder.duration;
+        heapSampleInterval = builder.heapSampleInterval;
+        if (requests <= 0 && duration == null) {
+            throw new IllegalStateException("Either requests or duration must be specified.");
+        }
+    }
+
+    /**
+     * Runs the warmup phase (if any), followed by the measured phase.
+     *
+     * @param operation The operation to invoke. A {@link VonageApiResponseException} with status 429 is
+     * counted as throttled; any other exception is counted as a failure.
+     * @return Results of the measured phase.
+     */
+    public LoadReport run(Callable<?> operation) {
+        Objects.requireNonNull(operation, "Operation cannot be null.");
+        if (warmupRequests > 0) {
+            execute(operation, warmupRequests, null, new LatencyHistogram(), new long[3]);
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+        LongAccumulator heapPeak = new LongAccumulator(Math::max, heapBefore);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> heapPeak.accumulate(memory.getHeapMemoryUsage().getUsed()),
+                0, heapSampleInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] outcomes = new long[3];
+        long start = System.nanoTime();
+        long issued;
+        try {
+            issued = execute(operation, requests > 0 ? requests : Long.MAX_VALUE, duration, histogram, outcomes);
+        }
+        finally {
+            sampler.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long heapAfter = usedHeapAfterGc(memory);
+
+        return new LoadReport(issued, outcomes[0], outcomes[1], outcomes[2], elapsed,
+                Duration.ofNanos(histogram.getValueAtPercentile(50)),
+                Duration.ofNanos(histogram.getValueAtPercentile(99)),
+                Duration.ofNanos(histogram.getValueAtPercentile(99.9)),
+                Duration.ofNanos(histogram.getMax()),
+                heapBefore, heapAfter, heapPeak.get()
+        );
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private long execute(Callable<?> operation, long limit, Duration timeLimit,
+                         LatencyHistogram histogram, long[] outcomes) {
+        final long periodNanos = targetRate > 0 ? TimeUnit.SECONDS.toNanos(1) / targetRate : 0;
+        final long start = System.nanoTime();
+        final long deadline = timeLimit != null ? start + timeLimit.toNanos() : Long.MAX_VALUE;
+        final AtomicLong next = new AtomicLong();
+        final LongAdder succeeded = new LongAdder(), throttled = new LongAdder(), failed = new LongAdder();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            futures.add(workers.submit(() -> {
+                for (long i; (i = next.getAndIncrement()) < limit; ) {
+                    long intended = periodNanos > 0 ? start + i * periodNanos : System.nanoTime();
+                    if (intended >= deadline) break;
+                    for (long wait; (wait = intended - System.nanoTime()) > 0; ) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    try {
+                        operation.call();
+                        succeeded.increment();
+                    }
+                    catch (VonageApiResponseException ex) {
+                        (ex.getStatusCode() == 429 ? throttled : failed).increment();
+                    }
+                    catch (Exception ex) {
+                        failed.increment();
+                    }
+                    histogram.record(System.nanoTime() - intended);
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+        finally {
+            workers.shutdownNow();
+        }
+        outcomes[0] = succeeded.sum();
+        outcomes[1] = throttled.sum();
+        outcomes[2] = failed.sum();
+        return histogram.getCount();
+    }
+
+    /**
+     * Entry point for constructing an instance of this class.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int targetRate, concurrency = 32;
+        private long requests, warmupRequests;
+        private Duration duration, heapSampleInterval = Duration.ofMillis(100);
+
+        private Builder() {}
+
+        /**
+         * (OPTIONAL) Target number of operations per second across all workers.
+         * Defaults to 0, which means closed-loop (as fast as the workers can go).
+         *
+         * @param targetRate The target rate.
+         * @return This builder.
+         */
+        public Builder targetRate(int targetRate) {
+            if (targetRate < 0) throw new IllegalArgumentException("Target rate cannot be negative.");
+            this.targetRate = targetRate;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Number of worker threads issuing operations. Defaults to 32.
+         *
+         * @param concurrency The number of workers.
+         * @return This builder.
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency < 1) throw new IllegalArgumentException("Concurrency must be positive.");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Number of operations in the measured phase. Either this or {@link #duration(Duration)}
+         * (or both, whichever is reached first) must be set.
+         *
+         * @param requests The number of operations.
+         * @return This builder.
+         */
+        public Builder requests(long requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        /**
+         * Maximum duration of the measured phase.
+         *
+         * @param duration The run time.
+         * @return This builder.
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Number of unmeasured operations to run first, so that connection pools and JIT are warm.
+         *
+         * @param warmupRequests The number of warmup operations.
+         * @return This builder.
+         */
+        public Builder warmupRequests(long warmupRequests) {
+            this.warmupRequests = warmupRequests;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) How often to sample heap usage for the peak. Defaults to 100ms.
+         *
+         * @param heapSampleInterval The sampling interval.
+         * @return This builder.
+         */
+        public Builder heapSampleInterval(Duration heapSampleInterval) {
+            this.heapSampleInterval = Objects.requireNonNull(heapSampleInterval);
+            return this;
+        }
+
+        /**
+         * Builds the harness with this builder's properties.
+         *
+         * @return A new LoadHarness.
+         */
+        public LoadHarness build() {
+            return new LoadHarness(this);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.sms.messages.TextMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Short load runs against the {@link VonageStubServer}. The soak test is skipped by default; enable it with
+ * {@code -Dvonage.soak=true}, optionally tuning {@code vonage.soak.requests}, {@code vonage.soak.rate}
+ * and {@code vonage.soak.concurrency}.
+ */
+public class LoadHarnessTest {
+
+    @Test
+    public void testLoadAtTargetRate() {
+        try (var server = VonageStubServer.builder()
+                .latency(LatencyDistribution.uniform(Duration.ZERO, Duration.ofMillis(2)))
+                .throttleRate(0.01).start()) {
+
+            var messages = server.vonageClient().getMessagesClient();
+            var request = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hello").build();
+            var report = LoadHarness.builder()
+                    .targetRate(50).concurrency(8).requests(100).warmupRequests(10)
+                    .build().run(() -> messages.sendMessage(request));
+
+            assertEquals(100, report.requests());
+            assertEquals(report.requests(), report.succeeded() + report.throttled() + report.failed());
+            assertEquals(0, report.failed());
+            assertTrue(server.getThrottledCount() >= report.throttled());
+            assertTrue(report.p50().compareTo(report.p99()) <= 0);
+            assertTrue(report.p99().compareTo(report.p999()) <= 0);
+            assertTrue(report.p999().compareTo(report.max()) <= 0);
+            assertTrue(report.throughput() > 0);
+            assertEquals(110, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testClosedLoopDurationLimit() {
+        try (var server = VonageStubServer.builder().errorRate(0.5).start()) {
+            var sms = server.vonageClient().getSmsClient();
+            var message = new TextMessage("Vonage", "447700900000", "Hello");
+            var report = LoadHarness.builder().concurrency(4).duration(Duration.ofMillis(500))
+                    .build().run(() -> sms.submitMessage(message));
+
+            assertTrue(report.requests() > 0);
+            assertTrue(report.failed() > 0);
+            assertTrue(report.succeeded() > 0);
+            assertTrue(report.elapsed().toMillis() < 5000);
+        }
+        assertThrows(IllegalStateException.class, () -> LoadHarness.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> LoadHarness.builder().concurrency(0));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "vonage.soak", matches = "true")
+    public void testSoak() {
+        long requests = Long.getLong("vonage.soak.requests", 2_000_000);
+        int rate = Integer.getInteger("vonage.soak.rate", 0),
+                concurrency = Integer.getInteger("vonage.soak.concurrency", 64);
+
+        // Every injected error is otherwise logged with a stack trace, which would dominate the run.
+        var sdkLogger = Logger.getLogger("com.vonage.client");
+        var previousLevel = sdkLogger.getLevel();
+        sdkLogger.setLevel(Level.SEVERE);
+
+        try (var server = VonageStubServer.builder()
+                .latency(LatencyDistribution.logNormal(Duration.ofMillis(2), 0.5)
+                        .withSpikes(0.001, Duration.ofMillis(100)))
+                .errorRate(0.001).throttleRate(0.001).start()) {
+
+            var client = server.vonageClient();
+            var messages = client.getMessagesClient();
+            var sms = client.getSmsClient();
+            var request = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hello").build();
+            var message = new TextMessage("Vonage", "447700900000", "Hello");
+
+            var report = LoadHarness.builder()
+                    .targetRate(rate).concurrency(concurrency)
+                    .requests(requests).warmupRequests(Math.min(requests / 10, 50_000))
+                    .heapSampleInterval(Duration.ofSeconds(1))
+                    .build().run(() -> ThreadLocalRandom.current().nextBoolean() ?
+                            messages.sendMessage(request) : sms.submitMessage(message)
+                    );
+
+            System.out.println("Soak: " + report);
+            assertEquals(requests, report.requests());
+            assertTrue(report.failed() < requests / 100, report::toString);
+            assertTrue(report.heapGrowth() < 64L * 1024 * 1024, report::toString);
+        }
+        finally {
+            sdkLogger.setLevel(previousLevel);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import java.time.Duration;
+
+/**
+ * Summary of a {@link LoadHarness} run.
+ *
+ * @param requests Number of operations issued.
+ * @param succeeded Number of operations which completed normally.
+ * @param throttled Number of operations rejected with a 429 response.
+ * @param failed Number of operations which failed for any other reason.
+ * @param elapsed Wall-clock duration of the measured phase.
+ * @param p50 Median latency.
+ * @param p99 99th percentile latency.
+ * @param p999 99.9th percentile latency.
+ * @param max Maximum latency.
+ * @param heapBefore Heap in use (after a GC) before the measured phase, in bytes.
+ * @param heapAfter Heap in use (after a GC) after the measured phase, in bytes.
+ * @param heapPeak Highest heap usage sampled during the measured phase, in bytes.
+ */
+public record LoadReport(long requests, long succeeded, long throttled, long failed, Duration elapsed,
+                         Duration p50, Duration p99, Duration p999, Duration max,
+                         long heapBefore, long heapAfter, long heapPeak) {
+
+    /**
+     * Achieved throughput.
+     *
+     * @return Operations completed per second.
+     */
+    public double throughput() {
+        return requests / Math.max(1e-9, elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * Retained heap growth over the run, which should stay roughly flat for a leak-free client.
+     *
+     * @return The difference in post-GC heap usage, in bytes (may be negative).
+     */
+    public long heapGrowth() {
+        return heapAfter - heapBefore;
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.3fms", duration.toNanos() / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%,d requests in %s (%,.0f/s): %,d ok, %,d throttled, %,d failed; " +
+                "latency p50=%s p99=%s p999=%s max=%s; heap before=%,dKB after=%,dKB peak=%,dKB growth=%,dKB",
+                requests, elapsed, throughput(), succeeded, throttled, failed,
+                millis(p50), millis(p99), millis(p999), millis(max),
+                heapBefore / 1024, heapAfter / 1024, heapPeak / 1024, heapGrowth() / 1024
+        );
+    }
+}
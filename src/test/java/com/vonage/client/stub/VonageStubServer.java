@@ -0,0 +1,466 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vonage.client.HttpConfig;
+import com.vonage.client.TestUtils;
+import com.vonage.client.VonageClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server which mimics the common endpoints of the SMS, Messages, Voice, Verify v2, Video and
+ * Conversations APIs, for load, soak and latency-injection testing without touching the real (rate-limited)
+ * sandbox. Responses are syntactically valid for the SDK's parsers but otherwise canned; requests are not
+ * authenticated or validated.
+ * <p>
+ * Behaviour is configured through the {@linkplain #builder() builder}: each request is first subject to the
+ * configured {@linkplain Builder#throttleRate(double) throttle} (429 with a {@code Retry-After} header) and
+ * {@linkplain Builder#errorRate(double) error} (500) rates, then delayed according to the
+ * {@linkplain Builder#latency(LatencyDistribution) latency distribution} before the response is written.
+ * List endpoints paginate over a configurable number of records.
+ * <p>
+ * Requests are handled on virtual threads, so injected latency does not limit server-side concurrency.
+ * Headers and body are written separately, so the {@code sun.net.httpserver.nodelay} system property should be
+ * set to {@code true} before the first server starts, as the Surefire configuration does; otherwise responses
+ * can stall on delayed ACKs.
+ */
+public final class VonageStubServer implements AutoCloseable {
+    private static final String JSON = "application/json";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyDistribution latency;
+    private final double errorRate, throttleRate;
+    private final int retryAfterSeconds, totalCalls, totalEvents;
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, LongAdder> routeCounts = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder(), errors = new LongAdder(), throttled = new LongAdder();
+    private final URI baseUri;
+
+    private VonageStubServer(Builder builder) throws IOException {
+        latency = builder.latency;
+        errorRate = builder.errorRate;
+        throttleRate = builder.throttleRate;
+        retryAfterSeconds = builder.retryAfterSeconds;
+        totalCalls = builder.totalCalls;
+        totalEvents = builder.totalEvents;
+        registerRoutes();
+
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        server = HttpServer.create(new InetSocketAddress(loopback, builder.port), builder.backlog);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor = Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        baseUri = URI.create("http://" + loopback.getHostAddress() + ':' + server.getAddress().getPort());
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(Matcher path, Map<String, String> query, byte[] body);
+    }
+
+    private record Route(String name, String method, Pattern path, Handler handler) {}
+
+    private record Response(int status, String body) {}
+
+    private void route(String name, String method, String pathRegex, Handler handler) {
+        routes.add(new Route(name, method, Pattern.compile(pathRegex), handler));
+        routeCounts.put(name, new LongAdder());
+    }
+
+    private void registerRoutes() {
+        route("sms", "POST", "/sms/json", (path, query, body) -> new Response(200, """
+                {"message-count":"1","messages":[{"to":"447700900000","message-id":"%s","status":"0",\
+                "remaining-balance":"3.14159265","message-price":"0.03330000","network":"12345"}]}"""
+                .formatted(randomHex())
+        ));
+        route("messages", "POST", "/v1/messages", (path, query, body) ->
+                new Response(202, "{\"message_uuid\":\"" + UUID.randomUUID() + "\"}")
+        );
+        route("createCall", "POST", "/v1/calls", (path, query, body) -> new Response(201, """
+                {"uuid":"%s","status":"started","direction":"outbound",\
+                "conversation_uuid":"CON-%s"}""".formatted(UUID.randomUUID(), UUID.randomUUID())
+        ));
+        route("listCalls", "GET", "/v1/calls", (path, query, body) -> listCalls(query));
+        route("getCall", "GET", "/v1/calls/([^/]+)", (path, query, body) ->
+                new Response(200, callInfo(path.group(1)))
+        );
+        route("verify", "POST", "/v2/verify", (path, query, body) -> {
+            UUID requestId = UUID.randomUUID();
+            return new Response(202, "{\"request_id\":\"" + requestId +
+                    "\",\"check_url\":\"" + baseUri + "/v2/verify/" + requestId + "/silent-auth/redirect\"}");
+        });
+        route("checkCode", "POST", "/v2/verify/([^/]+)", (path, query, body) ->
+                new Response(200, "{\"request_id\":\"" + path.group(1) + "\",\"status\":\"completed\"}")
+        );
+        route("createSession", "POST", "/session/create", (path, query, body) -> new Response(200, """
+                [{"session_id":"%s","application_id":"%s","create_dt":"%s","media_server_url":""}]"""
+                .formatted(randomHex(), TestUtils.APPLICATION_ID_STR, Instant.now())
+        ));
+        route("createConversation", "POST", "/v1/conversations", (path, query, body) -> new Response(200, """
+                {"id":"CON-%s","name":"stub","sequence_number":0,"timestamp":{"created":"%s"}}"""
+                .formatted(UUID.randomUUID(), Instant.now())
+        ));
+        route("listEvents", "GET", "/v1/conversations/([^/]+)/events", (path, query, body) ->
+                listEvents(path.group(1), query)
+        );
+    }
+
+    private static String randomHex() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Long.toHexString(random.nextLong() | Long.MIN_VALUE) + Long.toHexString(random.nextLong() | Long.MIN_VALUE);
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String callInfo(String uuid) {
+        return """
+                {"uuid":"%s","status":"completed","direction":"outbound","rate":"0.02400000",\
+                "price":"0.00280000","duration":"7","network":"23410",\
+                "conversation_uuid":"CON-879067dc-0370-44af-98bf-b6d11beb4229",\
+                "start_time":"2025-02-03T12:14:25.000Z","end_time":"2025-02-03T12:14:32.000Z",\
+                "to":{"type":"phone","number":"447700900549"},"from":{"type":"phone","number":"447700900236"},\
+                "_links":{"self":{"href":"/v1/calls/%1$s"}}}""".formatted(uuid);
+    }
+
+    private Response listCalls(Map<String, String> query) {
+        int pageSize = intParam(query, "page_size", 10), recordIndex = intParam(query, "record_index", 0);
+        int end = Math.min(totalCalls, recordIndex + pageSize);
+        StringJoiner calls = new StringJoiner(",", "[", "]");
+        for (int i = recordIndex; i < end; i++) {
+            calls.add(callInfo(new UUID(0x1452dad1b27b4e71L, i).toString()));
+        }
+        String self = "/v1/calls?page_size=" + pageSize + "&record_index=";
+        String next = end < totalCalls ? ",\"next\":{\"href\":\"" + self + end + "\"}" : "";
+        return new Response(200, "{\"page_size\":" + pageSize + ",\"record_index\":" + recordIndex +
+                ",\"count\":" + totalCalls + ",\"_links\":{\"self\":{\"href\":\"" + self + recordIndex + "\"}" +
+                next + "},\"_embedded\":{\"calls\":" + calls + "}}"
+        );
+    }
+
+    private Response listEvents(String conversationId, Map<String, String> query) {
+        int pageSize = intParam(query, "page_size", 10), start = intParam(query, "cursor", 0);
+        int end = Math.min(totalEvents, start + pageSize);
+        String href = baseUri + "/v1/conversations/" + conversationId + "/events?page_size=" + pageSize + "&cursor=";
+        StringJoiner events = new StringJoiner(",", "[", "]");
+        for (int i = start; i < end; i++) {
+            events.add("{\"id\":" + (i + 1) + ",\"type\":\"message\",\"from\":\"MEM-stub\"," +
+                    "\"timestamp\":\"2025-02-03T12:14:25.000Z\",\"body\":{\"message_type\":\"text\",\"text\":\"" +
+                    "Message " + (i + 1) + "\"}}"
+            );
+        }
+        String next = end < totalEvents ? ",\"next\":{\"href\":\"" + href + end + "\"}" : "";
+        return new Response(200, "{\"page_size\":" + pageSize + ",\"_links\":{\"self\":{\"href\":\"" +
+                href + start + "\"}" + next + "},\"_embedded\":{\"events\":" + events + "}}"
+        );
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return Map.of();
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq), value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static String problem(int status, String title, String detail) {
+        return "{\"type\":\"https://developer.vonage.com/api-errors#" + status + "\",\"title\":\"" + title +
+                "\",\"detail\":\"" + detail + "\",\"instance\":\"" + UUID.randomUUID() + "\"}";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            byte[] requestBody;
+            try (InputStream is = exchange.getRequestBody()) {
+                requestBody = is.readAllBytes();
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Response response;
+            if (throttleRate > 0 && random.nextDouble() < throttleRate) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                response = new Response(429, problem(429, "Rate Limit Hit", "Please wait, then retry your request"));
+            }
+            else if (errorRate > 0 && random.nextDouble() < errorRate) {
+                errors.increment();
+                response = new Response(500, problem(500, "Internal Server Error", "Injected failure"));
+            }
+            else {
+                response = dispatch(exchange, requestBody);
+            }
+
+            long delay = latency.nextNanos(random);
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+
+            byte[] responseBody = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.sendResponseHeaders(response.status(), responseBody.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(responseBody);
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Response dispatch(HttpExchange exchange, byte[] body) {
+        String method = exchange.getRequestMethod(), path = exchange.getRequestURI().getPath();
+        for (Route route : routes) {
+            if (!route.method().equals(method)) continue;
+            Matcher matcher = route.path().matcher(path);
+            if (matcher.matches()) {
+                routeCounts.get(route.name()).increment();
+                return route.handler().handle(matcher, parseQuery(exchange.getRequestURI().getRawQuery()), body);
+            }
+        }
+        return new Response(404, problem(404, "Not Found", method + ' ' + path + " is not stubbed"));
+    }
+
+    /**
+     * Base URI of this server, e.g. {@code http://127.0.0.1:54321}.
+     *
+     * @return The base URI.
+     */
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * HTTP configuration which points every API (including regional and video endpoints) at this server.
+     *
+     * @return A new HTTP config.
+     */
+    public HttpConfig httpConfig() {
+        String base = baseUri.toString();
+        return HttpConfig.builder().baseUri(base).regionalUriGetter(region -> base).build();
+    }
+
+    /**
+     * Creates a client with test credentials for every authentication method, configured to use this server.
+     *
+     * @return A new VonageClient.
+     */
+    public VonageClient vonageClient() {
+        try {
+            return VonageClient.builder()
+                    .apiKey(TestUtils.API_KEY).apiSecret(TestUtils.API_SECRET)
+                    .applicationId(TestUtils.APPLICATION_ID)
+                    .privateKeyContents(new TestUtils().loadKey("test/keys/application_key"))
+                    .httpConfig(httpConfig()).build();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Total number of requests received, including throttled and failed ones.
+     *
+     * @return The request count.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Number of requests which were rejected with an injected 500 response.
+     *
+     * @return The injected error count.
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Number of requests which were rejected with an injected 429 response.
+     *
+     * @return The throttled request count.
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Number of requests successfully routed to the named endpoint.
+     *
+     * @param route The route name, e.g. {@code sms}, {@code messages}, {@code createCall} or {@code listEvents}.
+     * @return The request count for the route.
+     */
+    public long getRouteCount(String route) {
+        LongAdder count = routeCounts.get(route);
+        if (count == null) throw new IllegalArgumentException("Unknown route: " + route);
+        return count.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Entry point for constructing and starting a stub server.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double errorRate, throttleRate;
+        private int port, backlog = 1024, retryAfterSeconds = 1, totalCalls = 250, totalEvents = 250;
+
+        private Builder() {}
+
+        private static double rate(double rate) {
+            if (rate < 0 || rate > 1) throw new IllegalArgumentException("Rate must be between 0 and 1.");
+            return rate;
+        }
+
+        /**
+         * (OPTIONAL) Port to bind to on the loopback interface. Defaults to an ephemeral port.
+         *
+         * @param port The port number.
+         * @return This builder.
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Maximum number of queued incoming connections. Defaults to 1024.
+         *
+         * @param backlog The socket backlog.
+         * @return This builder.
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Delay to apply to each response. Defaults to {@linkplain LatencyDistribution#none()}.
+         *
+         * @param latency The latency distribution.
+         * @return This builder.
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = Objects.requireNonNull(latency, "Latency cannot be null.");
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Fraction of requests to fail with a 500 response. Defaults to 0.
+         *
+         * @param errorRate The error rate, between 0 and 1.
+         * @return This builder.
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = rate(errorRate);
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Fraction of requests to reject with a 429 response. Defaults to 0.
+         *
+         * @param throttleRate The throttle rate, between 0 and 1.
+         * @return This builder.
+         */
+        public Builder throttleRate(double throttleRate) {
+            this.throttleRate = rate(throttleRate);
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Value of the {@code Retry-After} header on throttled responses. Defaults to 1 second.
+         *
+         * @param retryAfter The retry delay, rounded down to whole seconds.
+         * @return This builder.
+         */
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfterSeconds = (int) retryAfter.getSeconds();
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Total number of records returned across all pages of {@code GET /v1/calls}. Defaults to 250.
+         *
+         * @param totalCalls The number of calls.
+         * @return This builder.
+         */
+        public Builder totalCalls(int totalCalls) {
+            this.totalCalls = totalCalls;
+            return this;
+        }
+
+        /**
+         * (OPTIONAL) Total number of events returned across all pages of a conversation's events.
+         * Defaults to 250.
+         *
+         * @param totalEvents The number of events.
+         * @return This builder.
+         */
+        public Builder totalEvents(int totalEvents) {
+            this.totalEvents = totalEvents;
+            return this;
+        }
+
+        /**
+         * Builds and starts the server.
+         *
+         * @return The running server, which should be {@linkplain #close() closed} when no longer needed.
+         */
+        public VonageStubServer start() {
+            try {
+                return new VonageStubServer(this);
+            }
+            catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
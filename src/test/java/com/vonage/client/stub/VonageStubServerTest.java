@@ -0,0 +1,192 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.stub;
+
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.conversations.Conversation;
+import com.vonage.client.conversations.ListEventsRequest;
+import com.vonage.client.messages.sms.SmsTextRequest;
+import com.vonage.client.sms.MessageStatus;
+import com.vonage.client.sms.messages.TextMessage;
+import com.vonage.client.verify2.SmsWorkflow;
+import com.vonage.client.verify2.VerificationRequest;
+import com.vonage.client.voice.Call;
+import com.vonage.client.voice.CallsFilter;
+import com.vonage.client.voice.PhoneEndpoint;
+import com.vonage.client.voice.ncco.TalkAction;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.UUID;
+
+public class VonageStubServerTest {
+
+    @Test
+    public void testAllClientsAgainstStub() {
+        try (var server = VonageStubServer.builder().start()) {
+            var client = server.vonageClient();
+
+            var sms = client.getSmsClient().submitMessage(new TextMessage("Vonage", "447700900000", "Hello"));
+            assertEquals(MessageStatus.OK, sms.getMessages().getFirst().getStatus());
+
+            var message = client.getMessagesClient().sendMessage(SmsTextRequest.builder()
+                    .from("Vonage").to("447700900000").text("Hello").build()
+            );
+            assertNotNull(message.getMessageUuid());
+
+            var call = client.getVoiceClient().createCall(Call.builder()
+                    .from("447700900001").to(new PhoneEndpoint("447700900000"))
+                    .ncco(TalkAction.builder("Hello").build()).build()
+            );
+            assertNotNull(call.getUuid());
+            assertEquals(call.getUuid(), client.getVoiceClient().getCallDetails(call.getUuid()).getUuid());
+
+            var verify2 = client.getVerify2Client();
+            var verification = verify2.sendVerification(VerificationRequest.builder()
+                    .brand("Vonage").addWorkflow(new SmsWorkflow("447700900000")).build()
+            );
+            assertNotNull(verification.getCheckUrl());
+            assertEquals(verification.getRequestId(),
+                    verify2.checkVerificationCode(verification.getRequestId(), "1234").getRequestId()
+            );
+
+            assertNotNull(client.getVideoClient().createSession().getSessionId());
+
+            var conversation = client.getConversationsClient().createConversation(
+                    Conversation.builder().name("stub").build()
+            );
+            assertTrue(conversation.getId().startsWith("CON-"));
+
+            for (String route : new String[]{"sms", "messages", "createCall", "getCall",
+                    "verify", "checkCode", "createSession", "createConversation"}) {
+                assertEquals(1, server.getRouteCount(route), route);
+            }
+            assertEquals(8, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testVoicePagination() {
+        try (var server = VonageStubServer.builder().totalCalls(25).start()) {
+            var voice = server.vonageClient().getVoiceClient();
+            var uuids = new HashSet<String>();
+            int recordIndex = 0;
+            while (true) {
+                var page = voice.listCalls(CallsFilter.builder().pageSize(10).recordIndex(recordIndex).build());
+                page.forEach(info -> uuids.add(info.getUuid()));
+                recordIndex += page.getCallInfos().size();
+                if (page.getLinks().getNextUrl() == null) break;
+            }
+            assertEquals(25, recordIndex);
+            assertEquals(25, uuids.size());
+            assertEquals(3, server.getRouteCount("listCalls"));
+        }
+    }
+
+    @Test
+    public void testConversationEventsCursorPagination() {
+        try (var server = VonageStubServer.builder().totalEvents(45).start()) {
+            var conversations = server.vonageClient().getConversationsClient();
+            String cursor = null;
+            int total = 0, pages = 0;
+            do {
+                var request = ListEventsRequest.builder().pageSize(20);
+                if (cursor != null) request.cursor(cursor);
+                var page = conversations.listEvents("CON-" + UUID.randomUUID(), request.build());
+                total += page.getEvents().size();
+                pages++;
+                var next = page.getLinks().getNextUrl();
+                cursor = next == null ? null : next.getQuery().replaceAll(".*cursor=", "");
+            }
+            while (cursor != null);
+            assertEquals(45, total);
+            assertEquals(3, pages);
+        }
+    }
+
+    @Test
+    public void testThrottlingWithRetryAfter() throws Exception {
+        try (var server = VonageStubServer.builder().throttleRate(1).retryAfter(Duration.ofSeconds(7)).start()) {
+            var ex = assertThrows(VonageApiResponseException.class, () ->
+                    server.vonageClient().getVerify2Client().sendVerification(VerificationRequest.builder()
+                            .brand("Vonage").addWorkflow(new SmsWorkflow("447700900000")).build()
+                    )
+            );
+            assertEquals(429, ex.getStatusCode());
+
+            var response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(server.getBaseUri() + "/v1/messages"))
+                            .POST(HttpRequest.BodyPublishers.ofString("{}")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            assertEquals(429, response.statusCode());
+            assertEquals("7", response.headers().firstValue("Retry-After").orElseThrow());
+            assertEquals(2, server.getThrottledCount());
+            assertEquals(0, server.getRouteCount("messages"));
+        }
+    }
+
+    @Test
+    public void testErrorRateAndUnknownRoute() throws Exception {
+        try (var server = VonageStubServer.builder().errorRate(1).start()) {
+            var ex = assertThrows(VonageApiResponseException.class, () ->
+                    server.vonageClient().getVideoClient().createSession()
+            );
+            assertEquals(500, ex.getStatusCode());
+            assertEquals(1, server.getErrorCount());
+        }
+        try (var server = VonageStubServer.builder().start()) {
+            var response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(server.getBaseUri() + "/v1/unknown")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+            assertEquals(404, response.statusCode());
+            assertThrows(IllegalArgumentException.class, () -> server.getRouteCount("unknown"));
+        }
+    }
+
+    @Test
+    public void testInjectedLatency() {
+        var delay = Duration.ofMillis(50);
+        try (var server = VonageStubServer.builder().latency(LatencyDistribution.fixed(delay)).start()) {
+            var messages = server.vonageClient().getMessagesClient();
+            var request = SmsTextRequest.builder().from("Vonage").to("447700900000").text("Hello").build();
+            messages.sendMessage(request);
+            long start = System.nanoTime();
+            messages.sendMessage(request);
+            assertTrue(System.nanoTime() - start >= delay.toNanos());
+        }
+    }
+
+    @Test
+    public void testInvalidBuilderParameters() {
+        var builder = VonageStubServer.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.errorRate(1.1));
+        assertThrows(IllegalArgumentException.class, () -> builder.throttleRate(-0.1));
+        assertThrows(NullPointerException.class, () -> builder.latency(null));
+        assertThrows(IllegalArgumentException.class, () ->
+                LatencyDistribution.uniform(Duration.ofMillis(2), Duration.ofMillis(1))
+        );
+        assertThrows(IllegalArgumentException.class, () ->
+                LatencyDistribution.none().withSpikes(2, Duration.ofMillis(1))
+        );
+    }
+}
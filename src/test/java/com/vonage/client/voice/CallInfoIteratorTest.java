@@ -0,0 +1,192 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.stub.LatencyDistribution;
+import com.vonage.client.stub.VonageStubServer;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class CallInfoIteratorTest {
+    final List<Integer> requestedIndexes = new CopyOnWriteArrayList<>();
+
+    static String uuid(int index) {
+        return new UUID(0x1452dad1b27b4e71L, index).toString();
+    }
+
+    /**
+     * Serves pages of calls synchronously, recording the index of each page requested.
+     */
+    Function<CallsFilter, CallInfoPage> pages(int totalCalls, boolean includeCount) {
+        return filter -> {
+            int start = filter.getRecordIndex(), end = Math.min(totalCalls, start + filter.getPageSize());
+            requestedIndexes.add(start);
+            StringJoiner calls = new StringJoiner(",", "[", "]");
+            for (int i = start; i < end; i++) {
+                calls.add("{\"uuid\":\"" + uuid(i) + "\"}");
+            }
+            return Jsonable.fromJson("{\"record_index\":" + start + (includeCount ? ",\"count\":" + totalCalls : "") +
+                    (end > start ? ",\"_embedded\":{\"calls\":" + calls + "}" : "") + "}", CallInfoPage.class
+            );
+        };
+    }
+
+    CallInfoIterator iterator(Function<CallsFilter, CallInfoPage> pages, CallsFilter filter) {
+        return new CallInfoIterator(pages, filter, Runnable::run);
+    }
+
+    static List<String> uuids(Iterator<CallInfo> iterator) {
+        List<String> uuids = new ArrayList<>();
+        iterator.forEachRemaining(call -> uuids.add(call.getUuid()));
+        return uuids;
+    }
+
+    @Test
+    public void testIteratesAllPagesWithOnePagePrefetched() {
+        var iterator = iterator(pages(7, true), CallsFilter.builder().pageSize(2).build());
+        assertEquals(List.of(0), requestedIndexes);
+        assertTrue(iterator.hasNext());
+        assertEquals(uuid(0), iterator.next().getUuid());
+        assertEquals(List.of(0, 2), requestedIndexes);
+        assertEquals(uuid(1), iterator.next().getUuid());
+        assertEquals(List.of(0, 2), requestedIndexes);
+        assertEquals(uuid(2), iterator.next().getUuid());
+        assertEquals(List.of(0, 2, 4), requestedIndexes);
+
+        assertEquals(List.of(uuid(3), uuid(4), uuid(5), uuid(6)), uuids(iterator));
+        assertEquals(List.of(0, 2, 4, 6), requestedIndexes);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testStartsFromRecordIndexAndStopsOnShortPageWithoutCount() {
+        var iterator = iterator(pages(10, false), CallsFilter.builder().pageSize(3).recordIndex(4).build());
+        assertEquals(List.of(uuid(4), uuid(5), uuid(6), uuid(7), uuid(8), uuid(9)), uuids(iterator));
+        assertEquals(List.of(4, 7, 10), requestedIndexes);
+
+        requestedIndexes.clear();
+        iterator = iterator(pages(6, false), CallsFilter.builder().pageSize(3).build());
+        assertEquals(6, uuids(iterator).size());
+        assertEquals(List.of(0, 3, 6), requestedIndexes);
+    }
+
+    @Test
+    public void testEmptyResultsAndDefaultPageSize() {
+        var iterator = iterator(pages(0, true), null);
+        assertFalse(iterator.hasNext());
+        assertEquals(List.of(0), requestedIndexes);
+
+        requestedIndexes.clear();
+        iterator = iterator(pages(250, true), null);
+        assertEquals(250, uuids(iterator).size());
+        assertEquals(List.of(0, 100, 200), requestedIndexes);
+    }
+
+    @Test
+    public void testStopsRequestingWhenConsumerStops() {
+        var iterator = iterator(pages(1000, true), CallsFilter.builder().pageSize(2).build());
+        var iterable = (Iterable<CallInfo>) () -> iterator;
+        var firstThree = StreamSupport.stream(iterable.spliterator(), false)
+                .limit(3).map(CallInfo::getUuid).collect(Collectors.toList());
+        assertEquals(List.of(uuid(0), uuid(1), uuid(2)), firstThree);
+        assertEquals(List.of(0, 2, 4), requestedIndexes);
+
+        iterator.close();
+        assertFalse(iterator.hasNext());
+        assertEquals(List.of(0, 2, 4), requestedIndexes);
+    }
+
+    @Test
+    public void testSharedPrefetchPoolIsBounded() {
+        var inFlight = new AtomicInteger();
+        var peak = new AtomicInteger();
+        var pages = pages(20, true);
+        Function<CallsFilter, CallInfoPage> slowPages = filter -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return pages.apply(filter);
+            }
+            catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            finally {
+                inFlight.decrementAndGet();
+            }
+        };
+        List<CallInfoIterator> iterators = new ArrayList<>();
+        for (int i = 0; i < CallInfoIterator.PREFETCH_THREADS * 3; i++) {
+            iterators.add(new CallInfoIterator(slowPages, CallsFilter.builder().pageSize(5).build()));
+        }
+        for (CallInfoIterator iterator : iterators) {
+            assertEquals(20, uuids(iterator).size());
+        }
+        assertTrue(peak.get() <= CallInfoIterator.PREFETCH_THREADS, () -> "Peak: " + peak);
+    }
+
+    @Test
+    public void testPageFailureIsThrownWhenReached() {
+        var failure = new VoiceResponseException();
+        var pages = pages(10, true);
+        var iterator = iterator(filter -> {
+            if (filter.getRecordIndex() == 6) throw failure;
+            return pages.apply(filter);
+        }, CallsFilter.builder().pageSize(3).build());
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(uuid(i), iterator.next().getUuid());
+        }
+        assertSame(failure, assertThrows(VoiceResponseException.class, iterator::hasNext));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIterateAndStreamCallsAgainstStubServer() {
+        try (var server = VonageStubServer.builder().totalCalls(250)
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(5))).start()) {
+            var voice = server.vonageClient().getVoiceClient();
+
+            List<String> uuids = new ArrayList<>();
+            for (CallInfo call : voice.iterateCalls(CallsFilter.builder().pageSize(40).build())) {
+                uuids.add(call.getUuid());
+            }
+            assertEquals(250, uuids.size());
+            assertEquals(uuid(0), uuids.getFirst());
+            assertEquals(uuid(249), uuids.getLast());
+            assertEquals(250, new HashSet<>(uuids).size());
+            assertEquals(7, server.getRouteCount("listCalls"));
+
+            try (var stream = voice.streamCalls(null)) {
+                assertEquals(250, stream.count());
+            }
+            assertEquals(10, server.getRouteCount("listCalls"));
+
+            try (var stream = voice.streamCalls(CallsFilter.builder().pageSize(10).recordIndex(245).build())) {
+                assertEquals(List.of(uuid(245), uuid(246)), stream.limit(2).map(CallInfo::getUuid).toList());
+            }
+            assertEquals(11, server.getRouteCount("listCalls"));
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice;
+
+import com.vonage.client.HttpWrapper;
+import com.vonage.client.TestUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RecordingDownloaderTest {
+    static final String BASE_URL = "https://api-us.nexmo.com/v1/files/";
+
+    final HttpWrapper wrapper = TestUtils.httpWrapperWithAllAuthMethods();
+    final VoiceClient client = new VoiceClient(wrapper);
+    final Map<String, byte[]> recordings = new ConcurrentHashMap<>();
+    final List<String> ranges = new CopyOnWriteArrayList<>();
+    final Map<String, Integer> failures = new ConcurrentHashMap<>(), truncations = new ConcurrentHashMap<>(),
+            ignoredRanges = new ConcurrentHashMap<>();
+    boolean supportsRanges = true;
+
+    @TempDir
+    Path directory;
+
+    static final class Response extends BasicHttpResponse implements CloseableHttpResponse {
+        Response(int status, byte[] body) {
+            this(status, new ByteArrayEntity(body));
+        }
+
+        Response(int status, HttpEntity entity) {
+            super(HttpVersion.HTTP_1_1, status, "Test");
+            setEntity(entity);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            HttpUriRequest request = invocation.getArgument(0);
+            String url = request.getURI().toString(), range = request.getFirstHeader("Range").getValue();
+            ranges.add(url.substring(BASE_URL.length()) + ' ' + range);
+            byte[] content = recordings.get(url);
+            if (content == null) {
+                return new Response(404, "{\"title\":\"Not Found\"}".getBytes());
+            }
+            String[] bounds = range.substring(6).split("-", -1);
+            long first = Long.parseLong(bounds[0]);
+            long last = bounds[1].isEmpty() ? content.length - 1 : Math.min(content.length - 1, Long.parseLong(bounds[1]));
+            if (take(failures, range)) {
+                return new Response(503, "{\"title\":\"Service Unavailable\"}".getBytes());
+            }
+            if (!supportsRanges || take(ignoredRanges, range)) {
+                if (take(truncations, range)) {
+                    // The connection drops part-way through the body
+                    return new Response(200, new InputStreamEntity(
+                            new ByteArrayInputStream(content, 0, content.length / 2), content.length
+                    ));
+                }
+                return new Response(200, content);
+            }
+            if (take(truncations, range)) {
+                last = (first + last) / 2;
+            }
+            Response response = new Response(206, Arrays.copyOfRange(content, (int) first, (int) last + 1));
+            response.setHeader("Content-Range", "bytes " + first + '-' + last + '/' + content.length);
+            return response;
+        });
+        wrapper.setHttpClient(httpClient);
+    }
+
+    static boolean take(Map<String, Integer> remaining, String range) {
+        boolean[] taken = {false};
+        remaining.computeIfPresent(range, (k, n) -> {
+            taken[0] = true;
+            return n > 1 ? n - 1 : null;
+        });
+        return taken[0];
+    }
+
+    String addRecording(String name, int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        recordings.put(BASE_URL + name, content);
+        return BASE_URL + name;
+    }
+
+    static String sha256(byte[] content) throws Exception {
+        return RecordingDownloader.toHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    RecordingDownloader.Builder builder() {
+        return RecordingDownloader.builder(client).directory(directory)
+                .segmentSize(1000).parallelism(4).retryBackoff(Duration.ZERO);
+    }
+
+    void assertSaved(String name) throws IOException {
+        assertArrayEquals(recordings.get(BASE_URL + name), Files.readAllBytes(directory.resolve(name)));
+        assertFalse(Files.exists(directory.resolve('.' + name + ".part")));
+        assertFalse(Files.exists(directory.resolve('.' + name + ".progress")));
+    }
+
+    @Test
+    public void testDownloadsLargeRecordingInSegmentsAndVerifiesChecksum() throws Exception {
+        String url = addRecording("large.mp3", 10_500);
+        AtomicLong maxProgress = new AtomicLong();
+        List<RecordingDownloadResult> completed = new CopyOnWriteArrayList<>();
+
+        try (RecordingDownloader downloader = builder().checksumAlgorithm("SHA-256")
+                .onProgress((u, saved, total) -> {
+                    assertEquals(url, u);
+                    assertEquals(10_500, total);
+                    maxProgress.accumulateAndGet(saved, Math::max);
+                })
+                .onComplete(completed::add).build()) {
+
+            String checksum = sha256(recordings.get(url));
+            RecordingDownloadResult result = downloader.download(url, checksum.toUpperCase()).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertNull(result.getException());
+            assertEquals(url, result.getRecordingUrl());
+            assertEquals(directory.resolve("large.mp3"), result.getPath());
+            assertEquals(10_500, result.getSize());
+            assertEquals(0, result.getResumedBytes());
+            assertEquals(checksum, result.getChecksum());
+            assertFalse(result.getDuration().isNegative());
+            assertSaved("large.mp3");
+
+            assertEquals(11, ranges.size());
+            assertEquals("large.mp3 bytes=0-999", ranges.getFirst());
+            assertTrue(ranges.contains("large.mp3 bytes=10000-10499"));
+            assertEquals(11, new HashSet<>(ranges).size());
+            assertEquals(10_500, maxProgress.get());
+            assertEquals(List.of(result), completed);
+            assertEquals(10_500, downloader.getBytesDownloaded());
+            assertEquals(1, downloader.getCompletedCount());
+            assertEquals(0, downloader.getFailedCount());
+            assertEquals(0, downloader.getRetryCount());
+            assertEquals(0, downloader.getPendingCount());
+            assertTrue(downloader.getThroughput() > 0);
+        }
+    }
+
+    @Test
+    public void testRetriesFailedAndTruncatedResponsesFromLastByte() throws Exception {
+        String url = addRecording("retried.wav", 3000);
+        failures.put("bytes=0-999", 1);
+        truncations.put("bytes=1000-1999", 1);
+        failures.put("bytes=2000-2999", 2);
+
+        try (RecordingDownloader downloader = builder().maxRetries(2).build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertSaved("retried.wav");
+            assertEquals(4, downloader.getRetryCount());
+            assertEquals(3000, downloader.getBytesDownloaded());
+            assertTrue(ranges.contains("retried.wav bytes=1500-1999"));
+        }
+    }
+
+    @Test
+    public void testResumesPartialDownloadAfterFailure() throws Exception {
+        String url = addRecording("resumed.mp3", 5000);
+        failures.put("bytes=3000-3999", 10);
+
+        try (RecordingDownloader downloader = builder().parallelism(1).maxRetries(1).build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertFalse(result.isSuccessful());
+            assertInstanceOf(VoiceResponseException.class, result.getException());
+            assertEquals(503, ((VoiceResponseException) result.getException()).getStatusCode());
+            assertEquals(-1, result.getSize());
+            assertEquals(1, downloader.getFailedCount());
+            assertFalse(Files.exists(directory.resolve("resumed.mp3")));
+            assertTrue(Files.exists(directory.resolve(".resumed.mp3.part")));
+            assertTrue(Files.exists(directory.resolve(".resumed.mp3.progress")));
+        }
+
+        failures.clear();
+        ranges.clear();
+        try (RecordingDownloader downloader = builder().build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(3000, result.getResumedBytes());
+            assertEquals(2000, downloader.getBytesDownloaded());
+            assertEquals(List.of("resumed.mp3 bytes=3000-3999", "resumed.mp3 bytes=4000-4999"), ranges);
+            assertSaved("resumed.mp3");
+        }
+    }
+
+    @Test
+    public void testRestartsWhenRecordingChangedSinceLastAttempt() throws Exception {
+        String url = addRecording("changed.mp3", 2500);
+        Files.write(directory.resolve(".changed.mp3.part"), new byte[1000]);
+        Files.write(directory.resolve(".changed.mp3.progress"), "1200 1000\n0\n".getBytes());
+
+        try (RecordingDownloader downloader = builder().build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(0, result.getResumedBytes());
+            assertEquals("changed.mp3 bytes=1000-1199", ranges.getFirst());
+            assertEquals("changed.mp3 bytes=0-999", ranges.get(1));
+            assertSaved("changed.mp3");
+        }
+    }
+
+    @Test
+    public void testDownloadsWholeRecordingIfRangesNotSupported() throws Exception {
+        supportsRanges = false;
+        String url = addRecording("whole.mp3", 4321);
+        Files.write(directory.resolve(".whole.mp3.part"), new byte[9999]);
+
+        try (RecordingDownloader downloader = builder().checksumAlgorithm("MD5").build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(4321, result.getSize());
+            assertEquals(32, result.getChecksum().length());
+            assertEquals(List.of("whole.mp3 bytes=0-999"), ranges);
+            assertSaved("whole.mp3");
+        }
+    }
+
+    @Test
+    public void testResumesInterruptedWholeRecordingResponse() throws Exception {
+        String url = addRecording("interrupted.mp3", 4321);
+        ignoredRanges.put("bytes=0-999", 1);
+        truncations.put("bytes=0-999", 1);
+
+        try (RecordingDownloader downloader = builder().checksumAlgorithm("SHA-256").build()) {
+            RecordingDownloadResult result = downloader.download(url, sha256(recordings.get(url))).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(4321, result.getSize());
+            assertEquals(List.of("interrupted.mp3 bytes=0-999", "interrupted.mp3 bytes=2160-"), ranges);
+            assertEquals(1, downloader.getRetryCount());
+            assertSaved("interrupted.mp3");
+        }
+    }
+
+    @Test
+    public void testRestartsInterruptedWholeRecordingIfRangeIgnored() throws Exception {
+        supportsRanges = false;
+        String url = addRecording("restarted.mp3", 4321);
+        truncations.put("bytes=0-999", 1);
+
+        try (RecordingDownloader downloader = builder().build()) {
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(4321, result.getSize());
+            assertEquals(List.of("restarted.mp3 bytes=0-999", "restarted.mp3 bytes=2160-"), ranges);
+            assertEquals(2160 + 4321, downloader.getBytesDownloaded());
+            assertSaved("restarted.mp3");
+        }
+    }
+
+    @Test
+    public void testChecksumMismatchDiscardsDownload() throws Exception {
+        String url = addRecording("corrupt.mp3", 1500);
+        Path existing = Files.write(directory.resolve("corrupt.mp3"), new byte[]{1, 2, 3});
+
+        try (RecordingDownloader downloader = builder().checksumAlgorithm("SHA-256").skipExisting(true).build()) {
+            RecordingDownloadResult result = downloader.download(url, sha256(new byte[1500])).join();
+            assertFalse(result.isSuccessful());
+            assertInstanceOf(IOException.class, result.getException());
+            assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(existing));
+            try (var files = Files.list(directory)) {
+                assertEquals(List.of(existing), files.toList());
+            }
+
+            ranges.clear();
+            result = downloader.download(url, sha256(new byte[]{1, 2, 3})).join();
+            assertTrue(result.isSuccessful(), result::toString);
+            assertEquals(3, result.getSize());
+            assertTrue(ranges.isEmpty());
+        }
+    }
+
+    @Test
+    public void testDownloadAllInOrderWithBoundedParallelism() throws Exception {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            urls.add(addRecording("recording-" + i + ".mp3", 100 + i * 250));
+        }
+        urls.add(BASE_URL + "missing.mp3");
+
+        try (RecordingDownloader downloader = builder().parallelism(3).build()) {
+            List<RecordingDownloadResult> results = downloader.downloadAll(urls);
+            assertEquals(21, results.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(urls.get(i), results.get(i).getRecordingUrl());
+                assertTrue(results.get(i).isSuccessful(), results.get(i)::toString);
+                assertSaved("recording-" + i + ".mp3");
+            }
+            RecordingDownloadResult missing = results.getLast();
+            assertEquals(404, ((VoiceResponseException) missing.getException()).getStatusCode());
+            assertEquals(20, downloader.getCompletedCount());
+            assertEquals(1, downloader.getFailedCount());
+            assertEquals(0, downloader.getRetryCount());
+            assertEquals(0, downloader.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testThroughputUsesClock() throws Exception {
+        String url = addRecording("timed.mp3", 2000);
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        try (RecordingDownloader downloader = builder().nanoTime(() -> now.getAndAdd(250_000_000L)).build()) {
+            assertEquals(0, downloader.getThroughput());
+            RecordingDownloadResult result = downloader.download(url).join();
+            assertTrue(result.isSuccessful());
+            assertEquals(Duration.ofMillis(250), result.getDuration());
+            assertEquals(8000, downloader.getThroughput());
+        }
+    }
+
+    @Test
+    public void testParseContentRange() throws Exception {
+        assertArrayEquals(new long[]{0, 999, 5000}, RecordingDownloader.parseContentRange("bytes 0-999/5000"));
+        assertArrayEquals(new long[]{10, 20, -1}, RecordingDownloader.parseContentRange("bytes 10-20/*"));
+        for (String invalid : new String[]{null, "", "bytes */5000", "items 0-1/2", "bytes 0-x/3", "bytes 0-1"}) {
+            assertThrows(IOException.class, () -> RecordingDownloader.parseContentRange(invalid));
+        }
+        assertEquals("00ff10", RecordingDownloader.toHex(new byte[]{0, -1, 16}));
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        assertThrows(NullPointerException.class, () -> RecordingDownloader.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> RecordingDownloader.builder(client).build());
+        assertThrows(IllegalArgumentException.class, () ->
+                RecordingDownloader.builder(client).directory(directory.resolve("missing")).build()
+        );
+        assertThrows(IllegalArgumentException.class, () -> builder().parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> builder().segmentSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder().maxRetries(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder().retryBackoff(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder().checksumAlgorithm("CRC-99"));
+
+        RecordingDownloader downloader = builder().build();
+        assertThrows(IllegalArgumentException.class, () -> downloader.download("https://example.com/files/abc"));
+        assertThrows(IllegalArgumentException.class, () -> downloader.download(BASE_URL));
+        assertThrows(IllegalStateException.class, () -> downloader.download(addRecording("a.mp3", 1), "00"));
+        downloader.close();
+        assertThrows(IllegalStateException.class, () -> downloader.download(addRecording("b.mp3", 1)));
+        assertEquals(0, downloader.getPendingCount());
+    }
+}
@@ -26,12 +26,17 @@ import com.vonage.client.voice.ncco.TalkAction;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 public class VoiceClientTest extends AbstractClientTest<VoiceClient> {
     static final UUID SAMPLE_CALL_UUID = UUID.randomUUID();
@@ -492,6 +497,64 @@ public class VoiceClientTest extends AbstractClientTest<VoiceClient> {
         );
     }
 
+    @Test
+    public void testStreamAndSaveLargeRecording(@TempDir Path directory) throws Exception {
+        String url = "https://api-eu.vonage.com/v1/files/" + UUID.randomUUID();
+        String content = "0123456789abcdef".repeat(VoiceClient.RECORDING_TRANSFER_BUFFER_SIZE / 8 + 3);
+
+        stubResponse(200, content);
+        try (InputStream body = client.streamRecording(url)) {
+            assertEquals(content, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        Path destination = directory.resolve("recording.mp3");
+        stubResponse(200, content);
+        client.saveRecording(url, destination);
+        assertEquals(content, Files.readString(destination));
+        stubResponse(200, "Overwritten");
+        client.saveRecording(url, destination);
+        assertEquals("Overwritten", Files.readString(destination));
+
+        assert401Response(() -> client.streamRecording(url));
+        assert401Response(() -> client.saveRecording(url, destination));
+        assertEquals("Overwritten", Files.readString(destination));
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(destination), files.toList());
+        }
+        assertThrows(IllegalArgumentException.class, () ->
+                client.streamRecording("https://example.com/v1/files/" + UUID.randomUUID())
+        );
+    }
+
+    @Test
+    public void testTransferHandlesPartialWrites() throws Exception {
+        byte[] content = new byte[VoiceClient.RECORDING_TRANSFER_BUFFER_SIZE * 2 + 17];
+        new Random(7).nextBytes(content);
+        var output = new ByteArrayOutputStream();
+        var channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                int n = Math.min(src.remaining(), 1000);
+                byte[] chunk = new byte[n];
+                src.get(chunk);
+                output.write(chunk, 0, n);
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertEquals(content.length, VoiceClient.transfer(new ByteArrayInputStream(content), channel));
+        assertArrayEquals(content, output.toByteArray());
+        assertEquals(0, VoiceClient.transfer(new ByteArrayInputStream(new byte[0]), channel));
+    }
+
     // ENDPOINT TESTS
 
     @Test
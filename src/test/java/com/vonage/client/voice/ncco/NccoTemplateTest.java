@@ -0,0 +1,170 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice.ncco;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.Jsonable;
+import com.vonage.client.voice.TextToSpeechLanguage;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NccoTemplateTest {
+
+    static Ncco answer(String name, String agent, String from) {
+        ConnectAction.Builder connect = ConnectAction.builder(PhoneEndpoint.builder(agent).build()).limit(3600);
+        if (from != null) connect.from(from);
+        return new Ncco(
+                TalkAction.builder("Hello " + name + ", connecting you now.")
+                        .language(TextToSpeechLanguage.UNITED_KINGDOM_ENGLISH).level(0.5).build(),
+                InputAction.builder()
+                        .dtmf(DtmfSettings.builder().maxDigits(1).timeOut(5).build())
+                        .eventUrl("https://example.com/webhooks/input").build(),
+                RecordAction.builder().format(RecordingFormat.MP3).beepStart(true).build(),
+                connect.build()
+        );
+    }
+
+    static NccoTemplate template() {
+        return NccoTemplate.builder(answer("{{name}}", "447700900000", "447700900001"))
+                .field("/3/endpoint/0/number", "agent").optionalField("/3/from", "from").build();
+    }
+
+    static Map<String, Object> values(String name, String agent, String from) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", name);
+        values.put("agent", agent);
+        values.put("from", from);
+        return values;
+    }
+
+    static void assertJsonEquals(String expected, String actual) throws Exception {
+        ObjectMapper mapper = Jsonable.createDefaultObjectMapper();
+        assertEquals(mapper.readTree(expected), mapper.readTree(actual));
+    }
+
+    static String render(NccoTemplate template, Map<String, ?> values) {
+        return new String(template.render(values), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRenderMatchesSerialisedNcco() throws Exception {
+        NccoTemplate template = template();
+        assertEquals(List.of("agent", "from", "name"), template.getVariableNames());
+        assertJsonEquals(
+                answer("Alex", "447700900123", "447700900456").toJson(),
+                render(template, values("Alex", "447700900123", "447700900456"))
+        );
+        assertEquals(
+                answer("Sam", "447700900789", null).toJson(),
+                render(template, values("Sam", "447700900789", null))
+        );
+    }
+
+    @Test
+    public void testValuesAreEscaped() throws Exception {
+        String name = "\"Ké\\vin\"\n😀 <b>";
+        String rendered = render(template(), values(name, "447700900123", "447700900456"));
+        assertEquals(answer(name, "447700900123", null).toJson(), render(template(), values(name, "447700900123", null)));
+        assertEquals("Hello " + name + ", connecting you now.",
+                Jsonable.createDefaultObjectMapper().readTree(rendered).get(0).get("text").textValue()
+        );
+    }
+
+    @Test
+    public void testWriteToMatchesRender() throws Exception {
+        NccoTemplate template = template();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Map<String, Object> first = values("A much longer name than the next one", "447700900123", "447700900456");
+        template.writeTo(first, out);
+        assertArrayEquals(template.render(first), out.toByteArray());
+        assertEquals(out.size(), template.computeSize(first));
+
+        out.reset();
+        Map<String, Object> second = values("Jo", "447700900789", null);
+        template.writeTo(second::get, out);
+        assertArrayEquals(template.render(second), out.toByteArray());
+        assertEquals(out.size(), template.computeSize(second::get));
+
+        out.reset();
+        assertThrows(IllegalArgumentException.class, () -> template.writeTo(values(null, "1", "2"), out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testConstantTemplate() throws Exception {
+        Ncco ncco = answer("everyone", "447700900000", null);
+        NccoTemplate template = NccoTemplate.of(ncco.getActions().toArray(new Action[0]));
+        assertTrue(template.getVariableNames().isEmpty());
+        byte[] rendered = template.render(Map.of());
+        assertEquals(ncco.toJson(), new String(rendered, StandardCharsets.UTF_8));
+        rendered[0] = 'x';
+        assertEquals(ncco.toJson(), render(template, Map.of()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        template.writeTo(Map.of(), out);
+        assertEquals(ncco.toJson(), out.toString(StandardCharsets.UTF_8));
+        assertEquals(out.size(), template.computeSize(Map.of()));
+        assertEquals(ncco.computeJsonSize(), template.computeSize(Map.of()));
+    }
+
+    @Test
+    public void testOptionalConnectFieldCombinations() throws Exception {
+        NccoTemplate template = NccoTemplate.builder(answer("{{name}}", "447700900000", null))
+                .optionalField("/3/from", "from")
+                .optionalField("/3/eventMethod", "method")
+                .optionalField("/3/ringbackTone", "tone").build();
+
+        for (int mask = 0; mask < 8; mask++) {
+            Map<String, Object> values = values("Alex", null, (mask & 1) != 0 ? "447700900001" : null);
+            ConnectAction.Builder connect = ConnectAction.builder(PhoneEndpoint.builder("447700900000").build())
+                    .limit(3600);
+            if ((mask & 1) != 0) connect.from("447700900001");
+            if ((mask & 2) != 0) {
+                values.put("method", "GET");
+                connect.eventMethod(EventMethod.GET);
+            }
+            if ((mask & 4) != 0) {
+                values.put("tone", "https://example.com/ringback.mp3");
+                connect.ringbackTone("https://example.com/ringback.mp3");
+            }
+            List<Action> actions = new ArrayList<>(answer("Alex", "447700900000", null).getActions());
+            actions.set(3, connect.build());
+
+            byte[] rendered = template.render(values);
+            assertJsonEquals(new Ncco(actions).toJson(), new String(rendered, StandardCharsets.UTF_8));
+            assertEquals(rendered.length, template.computeSize(values));
+        }
+    }
+
+    @Test
+    public void testInvalidTemplates() {
+        assertThrows(NullPointerException.class, () -> NccoTemplate.of((Ncco) null));
+        assertThrows(NullPointerException.class, () -> NccoTemplate.builder(null));
+        assertThrows(IllegalArgumentException.class, () ->
+                NccoTemplate.builder(answer("x", "1", null)).field("/3/from", "from").build()
+        );
+        assertThrows(IllegalArgumentException.class, () ->
+                NccoTemplate.builder(answer("x", "1", null)).field("/0", "action").build()
+        );
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.of(answer("{{name}}", "1", null)).render(Map.of()));
+    }
+}
@@ -18,8 +18,13 @@ package com.vonage.client.voice.ncco;
 import com.vonage.client.voice.TextToSpeechLanguage;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 public class NccoTest {
 
@@ -71,4 +76,35 @@ public class NccoTest {
         Ncco ncco = new Ncco(talk, input, record, connect);
         assertEquals(expectedJson, ncco.toJson());
     }
+
+    @Test
+    public void testWriteToStreamAndChannel() throws Exception {
+        List<Action> actions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            actions.add(TalkAction.builder("Step "+i+": \"quoted\" caf\u00e9 \uD83D\uDE00 "+"x".repeat(i)).build());
+            actions.add(InputAction.builder().dtmf(DtmfSettings.builder().maxDigits(1).build())
+                    .speech(SpeechSettings.builder().context("yes", "no").build()).build());
+        }
+        Ncco ncco = new Ncco(actions);
+        byte[] expected = ncco.toJson().getBytes(StandardCharsets.UTF_8);
+
+        var stream = new ByteArrayOutputStream() {
+            boolean closed;
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+        ncco.writeTo(stream);
+        assertArrayEquals(expected, stream.toByteArray());
+        assertFalse(stream.closed);
+        assertEquals(expected.length, ncco.computeJsonSize());
+
+        var channelStream = new ByteArrayOutputStream();
+        ncco.writeTo(Channels.newChannel(channelStream));
+        assertArrayEquals(expected, channelStream.toByteArray());
+
+        assertEquals(2, new Ncco().computeJsonSize());
+    }
 }